@@ -2,13 +2,29 @@ package com.marcinseweryn.visualizer.controller;
 
 import com.marcinseweryn.visualizer.Publisher;
 import com.marcinseweryn.visualizer.Subscriber;
+import com.marcinseweryn.visualizer.model.path.AStarHeuristic;
+import com.marcinseweryn.visualizer.model.path.BellmanFordMode;
+import com.marcinseweryn.visualizer.model.path.DirectionOptimizingSearch;
+import com.marcinseweryn.visualizer.model.path.DistanceListPool;
 import com.marcinseweryn.visualizer.model.path.GraphAlgorithm;
+import com.marcinseweryn.visualizer.model.path.GraphSnapshot;
+import com.marcinseweryn.visualizer.model.path.GraphVersion;
+import com.marcinseweryn.visualizer.model.path.algorithm.AStar;
+import com.marcinseweryn.visualizer.model.path.algorithm.BellmanFord;
+import com.marcinseweryn.visualizer.model.path.algorithm.ContractionHierarchies;
+import com.marcinseweryn.visualizer.model.path.algorithm.DeltaStepping;
+import com.marcinseweryn.visualizer.model.path.algorithm.DirectionOptimizingBFS;
+import com.marcinseweryn.visualizer.model.path.algorithm.EagerDijkstra;
+import com.marcinseweryn.visualizer.model.path.algorithm.FloydWarshall;
+import com.marcinseweryn.visualizer.model.path.algorithm.Johnson;
+import com.marcinseweryn.visualizer.model.path.algorithm.Prim;
 import com.marcinseweryn.visualizer.view.Edge;
 import com.marcinseweryn.visualizer.view.GraphNode;
 import com.marcinseweryn.visualizer.view.VertexSetup;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
+import javafx.concurrent.Task;
 import javafx.css.PseudoClass;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -22,6 +38,7 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.FileChooser;
 import javafx.stage.Window;
+import javafx.util.StringConverter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -59,6 +76,45 @@ public class GraphTabController implements Subscriber {
     @FXML
     private ListView<String> pseudoCodeListGraph;
 
+    @FXML
+    private ChoiceBox<Integer> heapArityChoiceBox;
+
+    @FXML
+    private ChoiceBox<AStarHeuristic> heuristicChoiceBox;
+
+    @FXML
+    private ChoiceBox<Double> heuristicScaleChoiceBox;
+
+    @FXML
+    private ChoiceBox<Integer> landmarkCountChoiceBox;
+
+    @FXML
+    private ChoiceBox<Double> deltaChoiceBox;
+
+    @FXML
+    private ChoiceBox<BellmanFordMode> bellmanFordModeChoiceBox;
+
+    @FXML
+    private ChoiceBox<Integer> tileSizeChoiceBox;
+
+    @FXML
+    private CheckBox nextHopCheckBox;
+
+    @FXML
+    private CheckBox showShortcutsCheckBox;
+
+    @FXML
+    private ChoiceBox<Integer> alphaChoiceBox;
+
+    @FXML
+    private ChoiceBox<Integer> betaChoiceBox;
+
+    @FXML
+    private CheckBox queryCacheCheckBox;
+
+    @FXML
+    private ListView<String> statisticsListGraph;
+
     // Internal state variables
     private Publisher eventPublisher;
 
@@ -68,6 +124,10 @@ public class GraphTabController implements Subscriber {
     private Edge connectingEdge; // Edge created between the starting node and the dragged node
     private boolean isNodeMarkedForDeletion = false; // // Flag to track node deletion requests
 
+    // Contraction hierarchy stored next to the imported graph file, and the id every imported node had in the file
+    private File storedHierarchyFile;
+    private final Map<GraphNode, String> importedNodeIds = new HashMap<>();
+
     // Starting Node for path finding algorithms
     private final SimpleObjectProperty<GraphNode> startNodeProperty = new SimpleObjectProperty<>(null);
 
@@ -77,6 +137,12 @@ public class GraphTabController implements Subscriber {
     // pseudo classes to activate - used for state visualization of the executing algorithm
     public static final PseudoClass currentNodeStyle = PseudoClass.getPseudoClass("current");
     public static final PseudoClass neighborNodeStyle = PseudoClass.getPseudoClass("neighbour");
+
+    // Incremented on every edit of the graph, cached query results are only served for the current version
+    private final GraphVersion graphVersion = new GraphVersion();
+
+    // Distance list reused by the runs of all algorithms, which are created anew for every run
+    private final DistanceListPool distancePool = new DistanceListPool();
     private MainController mainController;
     private AnchorPane algorithmSpace;
 
@@ -92,6 +158,45 @@ public class GraphTabController implements Subscriber {
         logger.info("PathFindingController initialized.");
     }
 
+    @FXML
+    public void initialize() {
+        heapArityChoiceBox.getItems().setAll(2, 3, 4, 8, 16);
+        heapArityChoiceBox.getSelectionModel().select(Integer.valueOf(4));
+
+        heuristicChoiceBox.getItems().setAll(AStarHeuristic.values());
+        heuristicChoiceBox.getSelectionModel().select(AStarHeuristic.EUCLIDEAN);
+        heuristicScaleChoiceBox.getItems().setAll(0.5, 1.0, 1.5, 2.0, 3.0);
+        heuristicScaleChoiceBox.getSelectionModel().select(1.0);
+        landmarkCountChoiceBox.getItems().setAll(1, 2, 4, 8);
+        landmarkCountChoiceBox.getSelectionModel().select(Integer.valueOf(4));
+
+        // Delta 0 lets the algorithm derive the bucket width from the graph
+        deltaChoiceBox.getItems().setAll(0.0, 1.0, 5.0, 10.0, 25.0, 50.0, 100.0);
+        deltaChoiceBox.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(Double delta) {
+                return delta == null ? "" : delta == 0 ? "auto" : String.valueOf(delta);
+            }
+
+            @Override
+            public Double fromString(String text) {
+                return "auto".equals(text) ? 0.0 : Double.valueOf(text);
+            }
+        });
+        deltaChoiceBox.getSelectionModel().select(0.0);
+
+        bellmanFordModeChoiceBox.getItems().setAll(BellmanFordMode.values());
+        bellmanFordModeChoiceBox.getSelectionModel().select(BellmanFordMode.ROUNDS);
+
+        tileSizeChoiceBox.getItems().setAll(2, 4, 8, 16, 32, 64);
+        tileSizeChoiceBox.getSelectionModel().select(Integer.valueOf(4));
+
+        alphaChoiceBox.getItems().setAll(2, 4, 8, 14, 24, 64);
+        alphaChoiceBox.getSelectionModel().select(Integer.valueOf(DirectionOptimizingSearch.DEFAULT_ALPHA));
+        betaChoiceBox.getItems().setAll(4, 8, 16, 24, 48, 96);
+        betaChoiceBox.getSelectionModel().select(Integer.valueOf(DirectionOptimizingSearch.DEFAULT_BETA));
+    }
+
     /**
      * Initializes the event subscriptions for the controller.
      */
@@ -128,6 +233,43 @@ public class GraphTabController implements Subscriber {
                             )
                             .newInstance(algorithmTab, pseudoCodeListGraph, startNodeProperty, destinationNodeProperty, algorithmSpace);
 
+                    algorithmInstance.bindStatisticsList(statisticsListGraph);
+                    algorithmInstance.setQueryCacheEnabled(queryCacheCheckBox.isSelected());
+                    algorithmInstance.setGraphVersion(graphVersion);
+                    algorithmInstance.setDistancePool(distancePool);
+                    if (algorithmInstance instanceof EagerDijkstra eagerDijkstra) {
+                        eagerDijkstra.setHeapArity(heapArityChoiceBox.getValue());
+                    }
+                    if (algorithmInstance instanceof Prim prim) {
+                        prim.setHeapArity(heapArityChoiceBox.getValue());
+                    }
+                    if (algorithmInstance instanceof AStar aStar) {
+                        aStar.setHeuristic(heuristicChoiceBox.getValue());
+                        aStar.setHeuristicScale(heuristicScaleChoiceBox.getValue());
+                        aStar.setLandmarkCount(landmarkCountChoiceBox.getValue());
+                    }
+                    if (algorithmInstance instanceof BellmanFord bellmanFord) {
+                        bellmanFord.setMode(bellmanFordModeChoiceBox.getValue());
+                    }
+                    if (algorithmInstance instanceof Johnson johnson) {
+                        johnson.setBellmanFordMode(bellmanFordModeChoiceBox.getValue());
+                    }
+                    if (algorithmInstance instanceof DeltaStepping deltaStepping) {
+                        deltaStepping.setDelta(deltaChoiceBox.getValue());
+                    }
+                    if (algorithmInstance instanceof FloydWarshall floydWarshall) {
+                        floydWarshall.setTileSize(tileSizeChoiceBox.getValue());
+                        floydWarshall.setNextHops(nextHopCheckBox.isSelected());
+                    }
+                    if (algorithmInstance instanceof DirectionOptimizingBFS directionOptimizingBFS) {
+                        directionOptimizingBFS.setAlpha(alphaChoiceBox.getValue());
+                        directionOptimizingBFS.setBeta(betaChoiceBox.getValue());
+                    }
+                    if (algorithmInstance instanceof ContractionHierarchies contractionHierarchies) {
+                        contractionHierarchies.setStoredHierarchy(storedHierarchyFile, importedNodeIds);
+                        contractionHierarchies.setShowShortcuts(showShortcutsCheckBox.isSelected());
+                    }
+
                     return Optional.of(algorithmInstance);  // Return the created algorithm instance
                 } else {
                     logger.error("Selected class {} is not a subclass of GraphAlgorithm", selectedClassName);
@@ -146,7 +288,10 @@ public class GraphTabController implements Subscriber {
     // remove all except pseudocode
     private void clearAlgorithmViews() {
         algorithmTab.getChildren().removeIf(
-                node -> !((Label) ((VBox) node).getChildren().get(0)).getText().equalsIgnoreCase("code"));
+                node -> {
+                    String label = ((Label) ((VBox) node).getChildren().get(0)).getText();
+                    return !label.equalsIgnoreCase("code") && !label.equalsIgnoreCase("statistics");
+                });
     }
 
     /**
@@ -243,6 +388,7 @@ public class GraphTabController implements Subscriber {
         GraphNode newNode = new GraphNode(x, y);
         addEventHandlersToNode(newNode);
         addNodeToUI(newNode);
+        bumpGraphVersion();
         return newNode;
     }
 
@@ -281,6 +427,12 @@ public class GraphTabController implements Subscriber {
         Edge edge = new Edge(node1, node2);
         bindEdgeProperties(edge);
         addEdgeToNodes(node1, node2, edge);
+
+        // Weight and direction are also edited through the VertexSetup of either node
+        edge.weightProperty().addListener((obs, oldValue, newValue) -> bumpGraphVersion());
+        edge.headAVisibleProperty().addListener((obs, oldValue, newValue) -> bumpGraphVersion());
+        edge.headBVisibleProperty().addListener((obs, oldValue, newValue) -> bumpGraphVersion());
+        bumpGraphVersion();
         return edge;
     }
 
@@ -323,6 +475,7 @@ public class GraphTabController implements Subscriber {
         algorithmSpace.getChildren().removeAll(this.draggedNode, this.connectingEdge);
         this.removeNodeFromAccordion(this.draggedNode);
         GraphNode.decrementCount();
+        bumpGraphVersion();
 
         this.draggedNode = this.hoveredNode;
         this.connectingEdge = createEdgeBetweenNodes(this.startingNode, this.draggedNode);
@@ -419,6 +572,7 @@ public class GraphTabController implements Subscriber {
             algorithmSpace.getChildren().remove(edge);
         }
         algorithmSpace.getChildren().remove(node);
+        bumpGraphVersion();
     }
 
     // Resets the interaction state by clearing references to the starting node, dragged node, and connecting edge.
@@ -576,6 +730,7 @@ public class GraphTabController implements Subscriber {
             case "removeEdge" -> {
                 logger.info("Removing edge");
                 algorithmSpace.getChildren().remove(node);
+                bumpGraphVersion();
             }
             default -> logger.info("Not supported");
         }
@@ -641,6 +796,12 @@ public class GraphTabController implements Subscriber {
                 edge.setWeight(scanner.nextDouble());
             }
 
+            graphNodes.forEach((id, node) -> importedNodeIds.put(node, String.valueOf(id)));
+            File hierarchyFile = new File(draggedFiles.get(0).getPath() + ContractionHierarchies.FILE_SUFFIX);
+            if (hierarchyFile.isFile()) {
+                storedHierarchyFile = hierarchyFile;
+                logger.info("Found stored contraction hierarchy {}", hierarchyFile);
+            }
 
         } catch (FileNotFoundException e) {
             throw new RuntimeException(e);
@@ -649,6 +810,7 @@ public class GraphTabController implements Subscriber {
     }
 
     public void resetGraphState() {
+        GraphAlgorithm.detachGraphEditListeners();
         for (Node n : algorithmSpace.getChildren()) {
             if (n instanceof GraphNode node) {
                 node.setParentNode(null);
@@ -656,6 +818,7 @@ public class GraphTabController implements Subscriber {
         }
 
         Platform.runLater(() -> {
+            algorithmSpace.getChildren().removeIf(n -> n.getStyleClass().contains("overlay"));
             for (Node n : algorithmSpace.getChildren()) {
                 if (n instanceof GraphNode node) {
                     node.pseudoClassStateChanged(GraphTabController.neighborNodeStyle, false);
@@ -664,7 +827,7 @@ public class GraphTabController implements Subscriber {
                 }
 
                 if (n instanceof Edge edge) {
-                    edge.removeStyleClass("path");
+                    edge.clearStyle();
                 }
 
 //                candidateNodeList.getItems().clear();
@@ -681,6 +844,7 @@ public class GraphTabController implements Subscriber {
     }
 
     public void clearAlgorithmSpace() {
+        GraphAlgorithm.detachGraphEditListeners();
         this.destinationNodeProperty.set(null);
         this.startNodeProperty.set(null);
         this.pseudoCodeListGraph.getItems().clear();
@@ -689,6 +853,14 @@ public class GraphTabController implements Subscriber {
         algorithmSpace.getChildren().clear();
         this.renderedNodes.getPanes().clear();
         GraphNode.setCount(0);
+        storedHierarchyFile = null;
+        importedNodeIds.clear();
+        bumpGraphVersion();
+    }
+
+    // Node positions are not part of the version, algorithms that depend on them include them in their cache name
+    private void bumpGraphVersion() {
+        graphVersion.increment();
     }
 
     // noNodes,start,destination,[node,x,y],[nodeA,nodeB,headAVisible,HeadBVisible,weight]
@@ -851,9 +1023,40 @@ public class GraphTabController implements Subscriber {
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
+
+            // The hierarchy is only valid for the exported graph, it is checked against it when read
+            List<GraphNode> graph = algorithmSpace.getChildren().stream()
+                    .filter(GraphNode.class::isInstance)
+                    .map(GraphNode.class::cast)
+                    .toList();
+            if (!graph.isEmpty()) {
+                storeHierarchy(GraphSnapshot.of(graph), file);
+            }
         }
     }
 
+    /**
+     * Writes the contraction hierarchy next to the exported graph in the background, since building it can take
+     * a while on large graphs. The snapshot is taken on the FX thread before.
+     */
+    private void storeHierarchy(GraphSnapshot snapshot, File file) {
+        Task<Void> storeTask = new Task<>() {
+            @Override
+            protected Void call() throws IOException {
+                ContractionHierarchies.store(snapshot, file);
+                return null;
+            }
+        };
+        storeTask.setOnFailed(event -> logger.error("Could not store the contraction hierarchy next to {}", file,
+                                                    storeTask.getException()));
+
+        // A daemon, so that a long build does not keep the application alive after its window is closed; the file
+        // is moved into place once complete, a build cut short leaves no file behind
+        Thread writer = new Thread(storeTask, "hierarchy-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
     @FXML
     private void onClearGraphButtonClick() {
         this.mainController.runningAlgorithmThreadProperty().set(null);
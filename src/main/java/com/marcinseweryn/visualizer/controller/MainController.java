@@ -168,7 +168,8 @@ public class MainController {
             if (directory.listFiles() != null) {
                 // Iterate over the files in the directory and find .class files
                 for (File file : Objects.requireNonNull(directory.listFiles())) {
-                    if (file != null && file.getName().endsWith(".class")) {
+                    // Compiler generated classes (e.g. enum switch maps) are not algorithms
+                    if (file != null && file.getName().endsWith(".class") && !file.getName().contains("$")) {
                         // Construct the full class name (package name + class name)
                         String className = resourcePath.replace('/', '.') + '.' + file.getName().replace(".class", "");
 
@@ -345,6 +346,31 @@ public class MainController {
         this.graphTabController.onAlgorithmSpaceDragDropped(dragEvent);
     }
 
+    /**
+     * Handles drag over events on the sorting pane, delegating to the SortTabController.
+     *
+     * @param dragEvent The drag event triggered when dragging over the sorting pane.
+     */
+    @FXML
+    private void onSortingPaneDragOver(DragEvent dragEvent) {
+        this.sortTabController.onAlgorithmSpaceDragOver(dragEvent);
+    }
+
+    /**
+     * Handles drag dropped events on the sorting pane, delegating to the SortTabController.
+     *
+     * @param dragEvent The drag event triggered on dropping a file on the sorting pane.
+     */
+    @FXML
+    private void onSortingPaneDragDropped(DragEvent dragEvent) {
+        this.runningAlgorithmThread.set(null);
+        // Enabled again once the dropped file is loaded, see SortTabController#onAlgorithmSpaceDragDropped
+        this.startButton.setDisable(true);
+        this.stepButton.setDisable(true);
+        this.resetButton.setDisable(true);
+        this.sortTabController.onAlgorithmSpaceDragDropped(dragEvent);
+    }
+
     public ChoiceBox<String> getAlgorithmChoiceBox() {
         return algorithmChoiceBox;
     }
@@ -353,6 +379,14 @@ public class MainController {
         return resetButton;
     }
 
+    public Button getStartButton() {
+        return startButton;
+    }
+
+    public Button getStepButton() {
+        return stepButton;
+    }
+
 
     public SimpleObjectProperty<AlgorithmThread> runningAlgorithmThreadProperty() {
         return runningAlgorithmThread;
@@ -1,19 +1,32 @@
 package com.marcinseweryn.visualizer.controller;
 
+import com.marcinseweryn.visualizer.model.sort.CacheSimulator;
+import com.marcinseweryn.visualizer.model.sort.GapSequence;
+import com.marcinseweryn.visualizer.model.sort.SortInputLoader;
+import com.marcinseweryn.visualizer.model.sort.SortInputParser;
 import com.marcinseweryn.visualizer.model.sort.SortingAlgorithm;
+import com.marcinseweryn.visualizer.model.sort.algorithm.ShellSort;
 import com.marcinseweryn.visualizer.view.SortingRectangles;
 import javafx.animation.PauseTransition;
 import javafx.beans.property.SimpleStringProperty;
+import javafx.concurrent.Task;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
 import javafx.scene.control.TabPane;
 import javafx.scene.control.TextField;
+import javafx.scene.input.DragEvent;
+import javafx.scene.input.TransferMode;
 import javafx.scene.layout.VBox;
 import javafx.util.Duration;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.stream.IntStream;
@@ -27,11 +40,33 @@ public class SortTabController {
     @FXML
     private ListView<SimpleStringProperty> pseudoCodeListSort;
     @FXML
+    private ListView<String> statisticsListSort;
+    @FXML
+    private ChoiceBox<GapSequence> gapSequenceChoiceBox;
+    @FXML
+    private CheckBox cacheSimulationCheckBox;
+    @FXML
+    private ChoiceBox<Integer> l1SizeChoiceBox;
+    @FXML
+    private ChoiceBox<Integer> l2SizeChoiceBox;
+    @FXML
+    private ChoiceBox<Integer> lineSizeChoiceBox;
+    @FXML
+    private ChoiceBox<Integer> associativityChoiceBox;
+    @FXML
     private TabPane sortTab;
     @FXML
     private TextField sortInput;
+    @FXML
+    private Label sortInputStatus;
 
-    private List<Integer> unsortedList;
+    private int[] unsortedList = new int[0];
+
+    // Reused across keystrokes so that parsing the text field does not allocate per token
+    private final SortInputParser sortInputParser = new SortInputParser();
+
+    // True while the rendered rectangles mirror unsortedList, false once an algorithm has rearranged them
+    private boolean renderedInSync = false;
 
     private final Random random = new Random();
 
@@ -48,6 +83,15 @@ public class SortTabController {
 
     @FXML
     public void initialize() {
+        gapSequenceChoiceBox.getItems().setAll(GapSequence.values());
+        gapSequenceChoiceBox.getSelectionModel().select(GapSequence.CIURA);
+
+        // The rendered lists are small, so the default cache is tiny enough to show capacity misses
+        initializeChoiceBox(l1SizeChoiceBox, 64, 32, 64, 128, 256, 512, 1024, 32768);
+        initializeChoiceBox(l2SizeChoiceBox, 256, 128, 256, 512, 1024, 4096, 262144);
+        initializeChoiceBox(lineSizeChoiceBox, 16, 4, 8, 16, 32, 64);
+        initializeChoiceBox(associativityChoiceBox, 2, 1, 2, 4, 8);
+
         sortInputProperty.bindBidirectional(sortInput.textProperty());
         sortInputProperty.addListener(((observable, oldValue, newValue) -> {
             pauseTransition.setOnFinished(event -> updateAlgorithmSpace(newValue));
@@ -55,40 +99,167 @@ public class SortTabController {
         }));
     }
 
+    private static void initializeChoiceBox(ChoiceBox<Integer> choiceBox, int selected, Integer... values) {
+        choiceBox.getItems().setAll(values);
+        choiceBox.getSelectionModel().select(Integer.valueOf(selected));
+    }
+
+    /**
+     * Applies the debounced content of the text field to the algorithm space.
+     * The previous and the new values are diffed by their common prefix and suffix, and only the
+     * rectangles in between are updated. Malformed tokens are skipped and reported below the text field.
+     *
+     * @param newVal The current content of the text field.
+     */
     private void updateAlgorithmSpace(String newVal) {
-        if (newVal.isEmpty() || newVal.isBlank()) return;
+        if (newVal.isBlank()) {
+            // Nothing left to parse, errors of the previous content no longer apply
+            sortInputStatus.setText("");
+            sortInput.getStyleClass().remove("invalid-input");
+            return;
+        }
 
-        // Clear previous rectangles
-        algorithmSpace.getChildren().clear();
+        int newSize = sortInputParser.parse(newVal);
+        showInputErrors(newVal);
 
-        // Parse CSV to list
-        String[] split = newVal.split(",");
-        unsortedList = Arrays.stream(split).map(Integer::parseInt).toList();
-        updateAlgorithmSpace();
+        if (newSize == 0) {
+            // Only malformed tokens, none of the previous values are left
+            clearAlgorithmSpace();
+            return;
+        }
+
+        // Nothing reusable on screen, render from scratch
+        if (!renderedInSync || sortingRectangles == null || unsortedList.length == 0) {
+            algorithmSpace.getChildren().clear();
+            unsortedList = sortInputParser.toArray();
+            updateAlgorithmSpace();
+            return;
+        }
+
+        int oldSize = unsortedList.length;
+        int shorter = Math.min(oldSize, newSize);
+
+        int prefix = 0;
+        while (prefix < shorter && unsortedList[prefix] == sortInputParser.get(prefix)) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        while (suffix < shorter - prefix
+                && unsortedList[oldSize - 1 - suffix] == sortInputParser.get(newSize - 1 - suffix)) {
+            suffix++;
+        }
+
+        if (prefix == oldSize && oldSize == newSize) {
+            return;  // Only separators or malformed tokens changed
+        }
+
+        logger.debug("Sort input changed in range [{}, {}) -> [{}, {})", prefix, oldSize - suffix, prefix, newSize - suffix);
+        unsortedList = sortInputParser.toArray();
+        sortingRectangles.replaceRange(unsortedList, prefix, oldSize - suffix, newSize - suffix);
+    }
+
+    private void showInputErrors(String input) {
+        if (sortInputParser.hasErrors()) {
+            sortInputStatus.setText(sortInputParser.describeErrors(input));
+            if (!sortInput.getStyleClass().contains("invalid-input")) {
+                sortInput.getStyleClass().add("invalid-input");
+            }
+        } else {
+            sortInputStatus.setText("");
+            sortInput.getStyleClass().remove("invalid-input");
+        }
     }
 
     private void updateAlgorithmSpace() {
-        if (unsortedList.isEmpty()) {
+        if (unsortedList.length == 0) {
             return;
         }
 
-        // Render list view
-        Optional<Integer> max = unsortedList.stream().max(Comparator.naturalOrder());
-        Optional<Integer> min = unsortedList.stream().min(Comparator.naturalOrder());
-
-        if (max.isEmpty()) {
-            throw new IllegalStateException();
+        // Render list view, min and max are found in a single pass over the primitive values
+        int max = Integer.MIN_VALUE;
+        int min = Integer.MAX_VALUE;
+        for (int value : unsortedList) {
+            max = Math.max(max, value);
+            min = Math.min(min, value);
         }
 
-        sortingRectangles = new SortingRectangles(unsortedList, max.get(), min.get(), algorithmSpace.getHeight(),
+        sortingRectangles = new SortingRectangles(unsortedList, max, min, algorithmSpace.getHeight(),
                                                   algorithmSpace.getWidth()
         );
         algorithmSpace.getChildren().add(sortingRectangles);
+        renderedInSync = true;
     }
 
     public void clearAlgorithmSpace() {
         algorithmSpace.getChildren().clear();
-        this.unsortedList = new ArrayList<>();
+        this.unsortedList = new int[0];
+        this.sortingRectangles = null;
+    }
+
+    /**
+     * Accepts files dragged over the sorting space.
+     *
+     * @param dragEvent The drag event triggered when dragging over the sorting space.
+     */
+    void onAlgorithmSpaceDragOver(DragEvent dragEvent) {
+        if (dragEvent.getDragboard().hasFiles()) {
+            dragEvent.acceptTransferModes(TransferMode.COPY);
+        }
+    }
+
+    /**
+     * Loads the dropped file as the new unsorted input. Text files are parsed as comma or whitespace
+     * separated integers, files with an {@code .i32} or {@code .bin} extension are read as raw
+     * little-endian int32 values. The file is read by a background task, so that loading millions of
+     * values does not block the FX thread, and the text field is left untouched so that large inputs are
+     * never turned into a String. Start and Step stay disabled until the task succeeded or failed.
+     *
+     * @param dragEvent The drag event triggered on dropping a file on the sorting space.
+     */
+    void onAlgorithmSpaceDragDropped(DragEvent dragEvent) {
+        List<File> droppedFiles = dragEvent.getDragboard().getFiles();
+        if (droppedFiles.isEmpty()) {
+            enableRunButtons();
+        } else {
+            loadInput(droppedFiles.get(0));
+        }
+
+        dragEvent.setDropCompleted(!droppedFiles.isEmpty());
+        dragEvent.consume();
+    }
+
+    private void loadInput(File file) {
+        Task<int[]> loadTask = new Task<>() {
+            @Override
+            protected int[] call() throws IOException {
+                return SortInputLoader.load(file.toPath());
+            }
+        };
+        loadTask.setOnSucceeded(event -> {
+            int[] values = loadTask.getValue();
+            clearAlgorithmSpace();
+            unsortedList = values;
+            updateAlgorithmSpace();
+            sortInputStatus.setText(String.format("Loaded %d values from %s", values.length, file.getName()));
+            logger.info("Loaded {} values from {}", values.length, file);
+            enableRunButtons();
+        });
+        loadTask.setOnFailed(event -> {
+            sortInputStatus.setText("Failed to load " + file.getName() + ": " + loadTask.getException().getMessage());
+            logger.error("Failed to load sort input from {}", file, loadTask.getException());
+            enableRunButtons();
+        });
+
+        sortInputStatus.setText("Loading " + file.getName() + "...");
+        Thread loader = new Thread(loadTask, "sort-input-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void enableRunButtons() {
+        mainController.getStartButton().setDisable(false);
+        mainController.getStepButton().setDisable(false);
     }
 
     public void generateUnsortedList(int noElements) {
@@ -122,6 +293,16 @@ public class SortTabController {
                             .getDeclaredConstructor(ListView.class, SortingRectangles.class)
                             .newInstance(pseudoCodeListSort, sortingRectangles);
 
+                    algorithmInstance.bindStatisticsList(statisticsListSort);
+                    if (algorithmInstance instanceof ShellSort shellSort) {
+                        shellSort.setGapSequence(gapSequenceChoiceBox.getValue());
+                    }
+                    if (cacheSimulationCheckBox.isSelected()) {
+                        algorithmInstance.setCacheSimulator(createCacheSimulator());
+                    }
+
+                    // The algorithm rearranges the rectangles, later edits have to render from scratch
+                    renderedInSync = false;
                     return Optional.of(algorithmInstance);  // Return the created algorithm instance
                 } else {
                     logger.error("Selected class {} is not a subclass of SortingAlgorithm", selectedClassName);
@@ -136,6 +317,22 @@ public class SortTabController {
         return Optional.empty();  // Return an empty Optional if no valid algorithm is selected
     }
 
+    /**
+     * Creates a cache model from the cache settings for the current list.
+     *
+     * @return The cache model, or null if the settings do not describe a valid cache.
+     */
+    private CacheSimulator createCacheSimulator() {
+        try {
+            return new CacheSimulator(sortingRectangles.getUnsortedList().length,
+                                      l1SizeChoiceBox.getValue(), l2SizeChoiceBox.getValue(),
+                                      lineSizeChoiceBox.getValue(), associativityChoiceBox.getValue()
+            );
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid cache settings, running without cache simulation", e);
+            return null;
+        }
+    }
 
     public void resetListState() {
         algorithmSpace.getChildren().clear();
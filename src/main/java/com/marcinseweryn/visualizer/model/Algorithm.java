@@ -97,13 +97,27 @@ public abstract class Algorithm {
         }
     }
 
+    /**
+     * Returns whether the steps of the algorithm are shown as they happen. If not, continuous mode skips the
+     * pseudocode highlighting and the delay between steps, since nothing on screen changes per step.
+     *
+     * @return True if every step is visualized.
+     */
+    protected boolean isAnimated() {
+        return true;
+    }
+
     /**
      * Pauses the algorithm at a specific step when in step-by-step mode.
-     * In continuous mode, a brief delay is introduced instead of pausing.
+     * In continuous mode, a brief delay is introduced instead of pausing, unless the algorithm is not animated.
      *
      * @param stepNumber The current step number where the algorithm is pausing.
      */
     protected void pauseAtStep(int stepNumber) {
+        if (isContinuousMode && !isAnimated()) {
+            return;
+        }
+
         // Scroll and select the current step in the UI's pseudocode ListView
         if (pseudocodeList != null) {
             Platform.runLater(() -> {
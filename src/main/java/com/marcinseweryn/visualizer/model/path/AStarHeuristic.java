@@ -0,0 +1,24 @@
+package com.marcinseweryn.visualizer.model.path;
+
+/**
+ * Heuristics available for A* search.
+ */
+public enum AStarHeuristic {
+
+    // Straight-line distance between the node layouts, scaled so that it never exceeds an edge weight
+    EUCLIDEAN("Euclidean"),
+
+    // Triangle inequality bounds from precomputed landmark distances, independent of the layout
+    LANDMARKS("Landmarks (ALT)");
+
+    private final String displayName;
+
+    AStarHeuristic(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,79 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Distance array for parallel relaxations. The distances are stored as double bits in an
+ * {@link AtomicLongArray} and lowered with a compare-and-set loop, so concurrent relaxations of the same vertex
+ * never lose the smaller value.
+ */
+public final class AtomicDistances {
+
+    private final AtomicLongArray bits;
+
+    /**
+     * Creates the array with every distance set to Double.POSITIVE_INFINITY.
+     *
+     * @param size The number of vertices.
+     */
+    public AtomicDistances(int size) {
+        bits = new AtomicLongArray(size);
+        long infinity = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        for (int v = 0; v < size; v++) {
+            bits.set(v, infinity);
+        }
+    }
+
+    /**
+     * @return The number of vertices.
+     */
+    public int size() {
+        return bits.length();
+    }
+
+    /**
+     * @param vertex A vertex.
+     * @return Its distance.
+     */
+    public double get(int vertex) {
+        return Double.longBitsToDouble(bits.get(vertex));
+    }
+
+    /**
+     * @param vertex   A vertex.
+     * @param distance Its new distance.
+     */
+    public void set(int vertex, double distance) {
+        bits.set(vertex, Double.doubleToRawLongBits(distance));
+    }
+
+    /**
+     * Atomically lowers the distance of a vertex.
+     *
+     * @param vertex    A vertex.
+     * @param candidate The candidate distance.
+     * @return True if the candidate was smaller than the distance and has been stored.
+     */
+    public boolean lowerTo(int vertex, double candidate) {
+        long current = bits.get(vertex);
+        while (candidate < Double.longBitsToDouble(current)) {
+            long witness = bits.compareAndExchange(vertex, current, Double.doubleToRawLongBits(candidate));
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    /**
+     * @return A copy of the distances.
+     */
+    public double[] toArray() {
+        double[] result = new double[bits.length()];
+        for (int v = 0; v < result.length; v++) {
+            result[v] = get(v);
+        }
+        return result;
+    }
+}
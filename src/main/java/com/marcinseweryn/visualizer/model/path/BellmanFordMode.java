@@ -0,0 +1,30 @@
+package com.marcinseweryn.visualizer.model.path;
+
+/**
+ * Strategies for scheduling the relaxations of the Bellman-Ford algorithm.
+ */
+public enum BellmanFordMode {
+
+    // Relaxes every edge in each of at most N - 1 rounds and stops after a round without a change
+    ROUNDS("Rounds with early exit"),
+
+    // Shortest Path Faster Algorithm: a FIFO queue of the vertices whose distance changed
+    QUEUE("Queue (SPFA)"),
+
+    // SPFA with the Small Label First and Large Label Last heuristics ordering the queue
+    QUEUE_SLF_LLL("Queue (SPFA) with SLF/LLL"),
+
+    // Rounds whose relaxations run in parallel on partitions of the edge list
+    PARALLEL_ROUNDS("Parallel rounds");
+
+    private final String displayName;
+
+    BellmanFordMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
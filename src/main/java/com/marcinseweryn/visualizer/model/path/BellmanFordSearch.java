@@ -0,0 +1,355 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Headless Bellman-Ford single-source shortest paths on a {@link CsrGraph}, in every {@link BellmanFordMode}.
+ * Vertices reachable from a negative cycle that is reachable from the source get the distance
+ * Double.NEGATIVE_INFINITY.
+ * <p>
+ * The round-based modes stop after a round without a change. Otherwise, after N - 1 rounds, each negative cycle
+ * has an arc that can still be relaxed, and every vertex reachable from the head of such an arc is marked.
+ * The queue-based modes record the number of arcs of the tentative path of each vertex; once it reaches N,
+ * the parent pointers are followed and a cycle among them is negative, so its reachable vertices are marked.
+ */
+public final class BellmanFordSearch {
+
+    /**
+     * The outcome of a search.
+     *
+     * @param distance      The distance of every vertex, infinite if unreachable, negative infinite if it is
+     *                      reachable from a negative cycle.
+     * @param parent        The parent of every vertex on a shortest path, or -1.
+     * @param negativeCycle True if a negative cycle is reachable from the source.
+     * @param rounds        The number of rounds, or of queue pops in the queue-based modes.
+     * @param relaxations   The number of relaxed arcs.
+     */
+    public record Result(double[] distance, int[] parent, boolean negativeCycle, int rounds, long relaxations) {
+    }
+
+    private BellmanFordSearch() {
+    }
+
+    /**
+     * Runs the search.
+     *
+     * @param graph  The graph.
+     * @param source The source vertex.
+     * @param mode   The relaxation strategy.
+     * @param pool   The pool running the parallel rounds, unused by the other modes.
+     * @return The result.
+     */
+    public static Result run(CsrGraph graph, int source, BellmanFordMode mode, ForkJoinPool pool) {
+        return switch (mode) {
+            case ROUNDS -> rounds(graph, source);
+            case QUEUE -> queue(graph, source, false);
+            case QUEUE_SLF_LLL -> queue(graph, source, true);
+            case PARALLEL_ROUNDS -> parallelRounds(graph, source, pool);
+        };
+    }
+
+    private static Result rounds(CsrGraph graph, int source) {
+        int n = graph.vertexCount();
+        double[] distance = new double[n];
+        int[] parent = new int[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(parent, -1);
+        distance[source] = 0;
+
+        int rounds = 0;
+        long relaxations = 0;
+        boolean changed = true;
+        while (changed && rounds < n - 1) {
+            changed = false;
+            rounds++;
+            for (int u = 0; u < n; u++) {
+                if (distance[u] == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                    relaxations++;
+                    int v = graph.target(arc);
+                    if (distance[u] + graph.weight(arc) < distance[v]) {
+                        distance[v] = distance[u] + graph.weight(arc);
+                        parent[v] = u;
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        boolean negativeCycle = changed && markNegativeCycles(graph, distance);
+        return new Result(distance, parent, negativeCycle, rounds, relaxations);
+    }
+
+    private static Result queue(CsrGraph graph, int source, boolean slfLll) {
+        int n = graph.vertexCount();
+        double[] distance = new double[n];
+        int[] parent = new int[n];
+        int[] length = new int[n];
+        boolean[] queued = new boolean[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(parent, -1);
+
+        // Every vertex is queued at most once, so a ring buffer of N entries suffices
+        int[] ring = new int[n];
+        int head = 0;
+        int size = 0;
+        double queuedSum = 0;
+
+        distance[source] = 0;
+        ring[0] = source;
+        size = 1;
+        queued[source] = true;
+
+        int pops = 0;
+        long relaxations = 0;
+        boolean negativeCycle = false;
+        while (size > 0) {
+            // Large Label Last: move vertices above the average key of the queue to its back
+            if (slfLll) {
+                double average = queuedSum / size;
+                for (int rotations = 0; rotations < size && distance[ring[head]] > average; rotations++) {
+                    ring[(head + size) % n] = ring[head];
+                    head = (head + 1) % n;
+                }
+            }
+
+            int u = ring[head];
+            head = (head + 1) % n;
+            size--;
+            queued[u] = false;
+            if (distance[u] == Double.NEGATIVE_INFINITY) {
+                continue;
+            }
+            queuedSum -= distance[u];
+            pops++;
+
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                relaxations++;
+                int v = graph.target(arc);
+                double candidate = distance[u] + graph.weight(arc);
+                if (!(candidate < distance[v])) {
+                    continue;
+                }
+
+                if (queued[v]) {
+                    queuedSum += candidate - distance[v];
+                }
+                distance[v] = candidate;
+                parent[v] = u;
+                length[v] = length[u] + 1;
+
+                if (length[v] >= n && hasParentCycle(parent, v, n)) {
+                    negativeCycle = true;
+                    boolean[] affected = ShortestPaths.reachableFrom(graph, v);
+                    for (int w = 0; w < n; w++) {
+                        if (affected[w] && distance[w] != Double.NEGATIVE_INFINITY) {
+                            if (queued[w]) {
+                                queuedSum -= distance[w];
+                            }
+                            distance[w] = Double.NEGATIVE_INFINITY;
+                        }
+                    }
+                } else if (!queued[v]) {
+                    queued[v] = true;
+                    queuedSum += candidate;
+                    // Small Label First: a vertex with a smaller key than the front goes to the front
+                    if (slfLll && size > 0 && candidate < distance[ring[head]]) {
+                        head = (head - 1 + n) % n;
+                        ring[head] = v;
+                    } else {
+                        ring[(head + size) % n] = v;
+                    }
+                    size++;
+                }
+            }
+        }
+
+        return new Result(distance, parent, negativeCycle, pops, relaxations);
+    }
+
+    private static Result parallelRounds(CsrGraph graph, int source, ForkJoinPool pool) {
+        int n = graph.vertexCount();
+        AtomicDistances distances = new AtomicDistances(n);
+        distances.set(source, 0);
+
+        int[] boundaries = partition(graph, pool.getParallelism() * 4);
+        LongAdder relaxations = new LongAdder();
+        int rounds = 0;
+        boolean changed = true;
+        while (changed && rounds < n - 1) {
+            rounds++;
+            changed = parallelRound(graph, distances, boundaries, pool, relaxations);
+        }
+
+        double[] distance = distances.toArray();
+        boolean negativeCycle = changed && markNegativeCycles(graph, distance);
+        return new Result(distance, parentsFromDistances(graph, distance, source), negativeCycle, rounds,
+                          relaxations.sum());
+    }
+
+    /**
+     * Splits the vertices into consecutive ranges with about the same number of outgoing arcs.
+     *
+     * @param graph The graph.
+     * @param parts The number of ranges.
+     * @return The first vertex of every range, followed by vertexCount.
+     */
+    public static int[] partition(CsrGraph graph, int parts) {
+        int n = graph.vertexCount();
+        parts = Math.max(1, Math.min(parts, n));
+        int[] boundaries = new int[parts + 1];
+        long arcs = graph.arcCount();
+        for (int p = 1; p < parts; p++) {
+            long first = arcs * p / parts;
+            int low = boundaries[p - 1];
+            int high = n;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (graph.firstArc(middle) < first) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            boundaries[p] = low;
+        }
+        boundaries[parts] = n;
+        return boundaries;
+    }
+
+    /**
+     * Relaxes the outgoing arcs of every vertex range in parallel. Distances are lowered in place, so a round
+     * never ends with larger distances than a round reading only the values of the previous round.
+     *
+     * @param graph       The graph.
+     * @param distances   The distances.
+     * @param boundaries  The vertex ranges, see {@link #partition(CsrGraph, int)}.
+     * @param pool        The pool running the ranges.
+     * @param relaxations Counts the relaxed arcs.
+     * @return True if any distance changed.
+     */
+    public static boolean parallelRound(CsrGraph graph, AtomicDistances distances, int[] boundaries,
+                                        ForkJoinPool pool, LongAdder relaxations) {
+        return pool.submit(() -> IntStream.range(0, boundaries.length - 1).parallel()
+                .map(p -> relaxRange(graph, distances, boundaries[p], boundaries[p + 1], relaxations) ? 1 : 0)
+                .sum() > 0).join();
+    }
+
+    private static boolean relaxRange(CsrGraph graph, AtomicDistances distances, int from, int to, LongAdder relaxations) {
+        boolean changed = false;
+        long relaxed = 0;
+        for (int u = from; u < to; u++) {
+            double base = distances.get(u);
+            if (base == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                relaxed++;
+                changed |= distances.lowerTo(graph.target(arc), base + graph.weight(arc));
+            }
+        }
+        relaxations.add(relaxed);
+        return changed;
+    }
+
+    /**
+     * Finds the vertices affected by negative cycles after N - 1 rounds: the heads of all arcs that can still be
+     * relaxed and everything reachable from them. Every reachable negative cycle contains such an arc.
+     *
+     * @param graph    The graph.
+     * @param distance The distances after N - 1 rounds.
+     * @return The affected vertices.
+     */
+    public static boolean[] negativeCycleVertices(CsrGraph graph, double[] distance) {
+        int[] heads = new int[graph.arcCount()];
+        int count = 0;
+        for (int u = 0; u < graph.vertexCount(); u++) {
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                if (distance[u] + graph.weight(arc) < distance[graph.target(arc)]) {
+                    heads[count++] = graph.target(arc);
+                }
+            }
+        }
+        return ShortestPaths.reachableFrom(graph, Arrays.copyOf(heads, count));
+    }
+
+    /**
+     * Sets the distance of every vertex affected by a negative cycle to Double.NEGATIVE_INFINITY.
+     *
+     * @return True if any vertex is affected.
+     */
+    private static boolean markNegativeCycles(CsrGraph graph, double[] distance) {
+        boolean[] affected = negativeCycleVertices(graph, distance);
+        boolean any = false;
+        for (int v = 0; v < distance.length; v++) {
+            if (affected[v]) {
+                distance[v] = Double.NEGATIVE_INFINITY;
+                any = true;
+            }
+        }
+        return any;
+    }
+
+    /**
+     * Checks whether following the parent pointers from a vertex leads back to it.
+     * Every cycle of parent pointers created by relaxations has a negative weight.
+     *
+     * @param parent The parent pointers.
+     * @param vertex The vertex.
+     * @param limit  The maximum number of pointers to follow.
+     * @return True if the vertex lies on a cycle of parent pointers.
+     */
+    public static boolean hasParentCycle(int[] parent, int vertex, int limit) {
+        int current = parent[vertex];
+        for (int steps = 0; steps < limit && current >= 0; steps++) {
+            if (current == vertex) {
+                return true;
+            }
+            current = parent[current];
+        }
+        return false;
+    }
+
+    /**
+     * Derives parent pointers from final distances, for searches whose parallel relaxations do not keep them
+     * consistent: a parent u of v satisfies distance[u] + weight(u, v) == distance[v]. Such tight arcs may form
+     * cycles of weight zero, so the parents are assigned by a breadth-first search from the source along tight
+     * arcs, which gives every vertex a parent discovered before it and therefore a tree.
+     *
+     * @param graph    The graph.
+     * @param distance The final distances.
+     * @param source   The source vertex.
+     * @return The parent of every finitely reachable vertex except the source, or -1.
+     */
+    public static int[] parentsFromDistances(CsrGraph graph, double[] distance, int source) {
+        int n = graph.vertexCount();
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        if (!Double.isFinite(distance[source])) {
+            return parent;
+        }
+
+        boolean[] reached = new boolean[n];
+        int[] queue = new int[n];
+        int tail = 0;
+        queue[tail++] = source;
+        reached[source] = true;
+        for (int head = 0; head < tail; head++) {
+            int u = queue[head];
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                int v = graph.target(arc);
+                if (!reached[v] && distance[u] + graph.weight(arc) == distance[v]) {
+                    reached[v] = true;
+                    parent[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return parent;
+    }
+}
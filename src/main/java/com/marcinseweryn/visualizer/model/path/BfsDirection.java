@@ -0,0 +1,24 @@
+package com.marcinseweryn.visualizer.model.path;
+
+/**
+ * Directions in which a breadth-first search can expand one level, see {@link DirectionOptimizingSearch}.
+ */
+public enum BfsDirection {
+
+    // Every frontier vertex inspects its outgoing arcs for undiscovered targets
+    TOP_DOWN("top-down"),
+
+    // Every undiscovered vertex inspects its incoming arcs until it finds a parent in the frontier
+    BOTTOM_UP("bottom-up");
+
+    private final String displayName;
+
+    BfsDirection(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,232 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Floyd-Warshall all-pairs shortest paths on a flat row-major distance matrix, in the blocked (tiled) loop
+ * order. The matrix is split into tiles of tileSize x tileSize entries; for every block of intermediate vertices
+ * k, first the diagonal tile (k, k) is updated, then the tiles of row k and column k, which only read the final
+ * diagonal tile, and last all remaining tiles (i, j), which only read the final tiles (i, k) and (k, j).
+ * The tiles of the second and third phase are independent and are processed in parallel, and every tile
+ * update touches three tiles that fit in the cache instead of streaming whole rows for each k.
+ * <p>
+ * The optional next-hop matrix stores for (i, j) the vertex following i on a shortest path to j.
+ * A negative diagonal entry after the run means the vertex lies on a negative cycle.
+ */
+public final class BlockedFloydWarshall {
+
+    private final int n;
+    private final int tileSize;
+    private final double[] distance;
+    private final int[] next;
+    private final ForkJoinPool pool;
+
+    /**
+     * Initializes the matrices from the arcs of the graph, keeping the lightest of parallel arcs.
+     *
+     * @param graph    The graph.
+     * @param tileSize The edge length of a tile, at least 1.
+     * @param nextHops True to maintain the next-hop matrix for path reconstruction.
+     * @param pool     The pool processing independent tiles.
+     */
+    public BlockedFloydWarshall(CsrGraph graph, int tileSize, boolean nextHops, ForkJoinPool pool) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be at least 1: " + tileSize);
+        }
+        this.n = graph.vertexCount();
+        this.tileSize = tileSize;
+        this.pool = pool;
+        this.distance = new double[n * n];
+        this.next = nextHops ? new int[n * n] : null;
+
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        if (next != null) {
+            Arrays.fill(next, -1);
+        }
+        for (int u = 0; u < n; u++) {
+            distance[u * n + u] = 0;
+            if (next != null) {
+                next[u * n + u] = u;
+            }
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                int v = graph.target(arc);
+                if (graph.weight(arc) < distance[u * n + v]) {
+                    distance[u * n + v] = graph.weight(arc);
+                    if (next != null) {
+                        next[u * n + v] = v;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs all phases of all blocks.
+     */
+    public void solve() {
+        for (int block = 0; block < blockCount(); block++) {
+            diagonalPhase(block);
+            crossPhase(block);
+            remainingPhase(block);
+        }
+    }
+
+    /**
+     * Reference implementation in the textbook k-i-j loop order on the same flat matrix, sequential and
+     * without tiling, used to measure the blocked version against.
+     *
+     * @param graph The graph.
+     * @return The row-major distance matrix.
+     */
+    public static double[] unblocked(CsrGraph graph) {
+        BlockedFloydWarshall search = new BlockedFloydWarshall(graph, Math.max(1, graph.vertexCount()), false, null);
+        search.updateTile(0, 0, 0);
+        return search.distance;
+    }
+
+    /**
+     * @return The number of tiles along one side of the matrix.
+     */
+    public int blockCount() {
+        return (n + tileSize - 1) / tileSize;
+    }
+
+    /**
+     * Phase 1: updates the diagonal tile of the block with its own intermediate vertices.
+     *
+     * @param block The block of intermediate vertices.
+     */
+    public void diagonalPhase(int block) {
+        updateTile(block, block, block);
+    }
+
+    /**
+     * Phase 2: updates the tiles in the row and the column of the block in parallel.
+     *
+     * @param block The block of intermediate vertices.
+     */
+    public void crossPhase(int block) {
+        int blocks = blockCount();
+        pool.submit(() -> IntStream.range(0, 2 * blocks).parallel().forEach(t -> {
+            int other = t % blocks;
+            if (other != block) {
+                if (t < blocks) {
+                    updateTile(block, other, block);
+                } else {
+                    updateTile(other, block, block);
+                }
+            }
+        })).join();
+    }
+
+    /**
+     * Phase 3: updates all tiles outside the row and the column of the block in parallel.
+     *
+     * @param block The block of intermediate vertices.
+     */
+    public void remainingPhase(int block) {
+        int blocks = blockCount();
+        pool.submit(() -> IntStream.range(0, blocks * blocks).parallel().forEach(t -> {
+            int rowBlock = t / blocks;
+            int columnBlock = t % blocks;
+            if (rowBlock != block && columnBlock != block) {
+                updateTile(rowBlock, columnBlock, block);
+            }
+        })).join();
+    }
+
+    /**
+     * Relaxes the tile (rowBlock, columnBlock) through the intermediate vertices of the given block.
+     */
+    private void updateTile(int rowBlock, int columnBlock, int block) {
+        int rowEnd = Math.min(n, (rowBlock + 1) * tileSize);
+        int columnStart = columnBlock * tileSize;
+        int columnEnd = Math.min(n, columnStart + tileSize);
+        int kEnd = Math.min(n, (block + 1) * tileSize);
+
+        for (int k = block * tileSize; k < kEnd; k++) {
+            int kRow = k * n;
+            for (int i = rowBlock * tileSize; i < rowEnd; i++) {
+                int iRow = i * n;
+                double throughK = distance[iRow + k];
+                if (throughK == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int j = columnStart; j < columnEnd; j++) {
+                    double candidate = throughK + distance[kRow + j];
+                    if (candidate < distance[iRow + j]) {
+                        distance[iRow + j] = candidate;
+                        if (next != null) {
+                            next[iRow + j] = next[iRow + k];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The number of vertices.
+     */
+    public int vertexCount() {
+        return n;
+    }
+
+    /**
+     * @return The row-major distance matrix, owned by this search.
+     */
+    public double[] matrix() {
+        return distance;
+    }
+
+    /**
+     * @param from The source vertex.
+     * @param to   The target vertex.
+     * @return The current distance.
+     */
+    public double distance(int from, int to) {
+        return distance[from * n + to];
+    }
+
+    /**
+     * @return True if any vertex lies on a negative cycle.
+     */
+    public boolean hasNegativeCycle() {
+        for (int v = 0; v < n; v++) {
+            if (distance[v * n + v] < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reconstructs a shortest path from the next-hop matrix.
+     *
+     * @param from The source vertex.
+     * @param to   The target vertex.
+     * @return The vertices of the path, empty if there is none or it runs through a negative cycle.
+     */
+    public int[] path(int from, int to) {
+        if (next == null) {
+            throw new IllegalStateException("The next-hop matrix is not maintained");
+        }
+        if (next[from * n + to] < 0) {
+            return new int[0];
+        }
+
+        int[] path = new int[n];
+        int length = 0;
+        for (int v = from; ; v = next[v * n + to]) {
+            if (length == n || distance[v * n + v] < 0) {
+                return new int[0];
+            }
+            path[length++] = v;
+            if (v == to) {
+                return Arrays.copyOf(path, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Renders the condensation of a graph: every strongly connected component as a disc at the centroid of its nodes,
+ * sized by the number of nodes and colored like the component-i style classes, and every arc between two
+ * components as an arrow.
+ */
+public final class CondensationChart {
+
+    // Same colors as the component-0 to component-7 style classes in Style.css
+    private static final Color[] PALETTE = {
+            Color.web("#E74C3C"), Color.web("#3498DB"), Color.web("#2ECC71"), Color.web("#9B59B6"),
+            Color.web("#F39C12"), Color.web("#1ABC9C"), Color.web("#E84393"), Color.web("#7F8C8D")
+    };
+    private static final double MARGIN = 16;
+    private static final double ARROW_HEAD = 6;
+
+    private CondensationChart() {
+    }
+
+    /**
+     * @param component A component number.
+     * @return The style class coloring the nodes of the component.
+     */
+    public static String styleClass(int component) {
+        return "component-" + component % PALETTE.length;
+    }
+
+    /**
+     * Draws the condensation, must be called on the JavaFX application thread.
+     *
+     * @param canvas       The canvas to draw on.
+     * @param condensation The condensation, one vertex per component.
+     * @param sizes        The number of nodes of every component.
+     * @param x            The x coordinate of the centroid of every component.
+     * @param y            The y coordinate of the centroid of every component.
+     */
+    public static void draw(Canvas canvas, CsrGraph condensation, int[] sizes, double[] x, double[] y) {
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        int count = condensation.vertexCount();
+        if (count == 0) {
+            return;
+        }
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        int largest = 1;
+        for (int c = 0; c < count; c++) {
+            minX = Math.min(minX, x[c]);
+            minY = Math.min(minY, y[c]);
+            maxX = Math.max(maxX, x[c]);
+            maxY = Math.max(maxY, y[c]);
+            largest = Math.max(largest, sizes[c]);
+        }
+        double scale = Math.min((canvas.getWidth() - 2 * MARGIN) / Math.max(1, maxX - minX),
+                                (canvas.getHeight() - 2 * MARGIN) / Math.max(1, maxY - minY));
+        double[] cx = new double[count];
+        double[] cy = new double[count];
+        double[] radius = new double[count];
+        for (int c = 0; c < count; c++) {
+            cx[c] = MARGIN + (x[c] - minX) * scale;
+            cy[c] = MARGIN + (y[c] - minY) * scale;
+            radius[c] = 4 + 8 * Math.sqrt((double) sizes[c] / largest);
+        }
+
+        graphics.setStroke(Color.BLACK);
+        graphics.setFill(Color.BLACK);
+        graphics.setLineWidth(1);
+        for (int c = 0; c < count; c++) {
+            for (int arc = condensation.firstArc(c); arc < condensation.endArc(c); arc++) {
+                int d = condensation.target(arc);
+                double length = Math.hypot(cx[d] - cx[c], cy[d] - cy[c]);
+                if (length <= radius[c] + radius[d]) {
+                    continue;
+                }
+                double ux = (cx[d] - cx[c]) / length;
+                double uy = (cy[d] - cy[c]) / length;
+                double tipX = cx[d] - ux * radius[d];
+                double tipY = cy[d] - uy * radius[d];
+                graphics.strokeLine(cx[c] + ux * radius[c], cy[c] + uy * radius[c], tipX, tipY);
+                graphics.fillPolygon(
+                        new double[]{tipX, tipX - ux * ARROW_HEAD - uy * ARROW_HEAD / 2, tipX - ux * ARROW_HEAD + uy * ARROW_HEAD / 2},
+                        new double[]{tipY, tipY - uy * ARROW_HEAD + ux * ARROW_HEAD / 2, tipY - uy * ARROW_HEAD - ux * ARROW_HEAD / 2},
+                        3
+                );
+            }
+        }
+
+        graphics.setTextAlign(TextAlignment.CENTER);
+        for (int c = 0; c < count; c++) {
+            graphics.setFill(PALETTE[c % PALETTE.length]);
+            graphics.fillOval(cx[c] - radius[c], cy[c] - radius[c], 2 * radius[c], 2 * radius[c]);
+            graphics.setFill(Color.BLACK);
+            graphics.fillText("C" + c, cx[c], cy[c] - radius[c] - 2);
+        }
+    }
+}
@@ -0,0 +1,723 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Contraction hierarchy of a {@link CsrGraph} with non-negative weights, for fast repeated point-to-point queries.
+ * <p>
+ * Preprocessing contracts the vertices one by one in the order of their edge difference (shortcuts a contraction
+ * would add minus arcs it removes, plus the number of already contracted neighbours, which spreads the
+ * contractions evenly). Contracting v adds a shortcut u -> w of weight w(u, v) + w(v, w) for each pair of remaining
+ * neighbours unless a bounded witness search finds a path at most as short that avoids v. The rank of a vertex is
+ * its position in this order, and every arc of the hierarchy leads from its lower ranked end point to the higher
+ * ranked one in either the forward graph or, reversed, in the backward graph.
+ * <p>
+ * A query runs Dijkstra's algorithm upwards from the source in the forward graph and upwards from the target in
+ * the backward graph; the shortest path consists of an upward and a downward part meeting at its highest ranked
+ * vertex, so both searches only visit a small part of the graph. Shortcuts on the found path are unpacked
+ * recursively through their middle vertex.
+ * <p>
+ * The hierarchy can be written next to an exported graph and read back, see {@link #write} and {@link #read}.
+ * {@link #query} reuses the internal arrays of one {@link Search}; threads sharing a hierarchy use a search each.
+ */
+public final class ContractionHierarchy {
+
+    /**
+     * The outcome of a query.
+     *
+     * @param distance The distance, Double.POSITIVE_INFINITY if the target is unreachable.
+     * @param settled  The number of vertices settled by both searches together.
+     * @param path     The vertices of a shortest path with all shortcuts unpacked, empty if there is none.
+     */
+    public record Query(double distance, int settled, int[] path) {
+    }
+
+    // Vertices a witness search may settle before the shortcut is added anyway
+    private static final int WITNESS_SETTLE_LIMIT = 64;
+
+    private static final String HEADER = "ch";
+
+    private final int[] rank;
+
+    // Arcs of the hierarchy, the middle vertex of a shortcut or -1 for an arc of the graph
+    private final int[] arcFrom;
+    private final int[] arcTo;
+    private final double[] arcWeight;
+    private final int[] arcMiddle;
+
+    // Upward arcs from the lower ranked end point, edge ids are indices into the hierarchy arcs
+    private final CsrGraph forward;
+    private final CsrGraph backward;
+
+    // Search used by query(source, target)
+    private final Search search;
+
+    private ContractionHierarchy(int[] rank, int[] arcFrom, int[] arcTo, double[] arcWeight, int[] arcMiddle) {
+        int n = rank.length;
+        this.rank = rank;
+        this.arcFrom = arcFrom;
+        this.arcTo = arcTo;
+        this.arcWeight = arcWeight;
+        this.arcMiddle = arcMiddle;
+
+        int arcs = arcFrom.length;
+        boolean[] upward = new boolean[arcs];
+        int upwardCount = 0;
+        for (int i = 0; i < arcs; i++) {
+            upward[i] = rank[arcTo[i]] > rank[arcFrom[i]];
+            upwardCount += upward[i] ? 1 : 0;
+        }
+        this.forward = upwardGraph(n, upward, true, upwardCount);
+        this.backward = upwardGraph(n, upward, false, arcs - upwardCount);
+        this.search = new Search();
+    }
+
+    /**
+     * Builds the forward graph from the upward arcs or the backward graph from the reversed downward arcs.
+     * The weight of an arc of the result is the weight of the hierarchy arc, its edge id the hierarchy arc index.
+     */
+    private CsrGraph upwardGraph(int n, boolean[] upward, boolean isForward, int count) {
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < upward.length; i++) {
+            if (upward[i] == isForward) {
+                offsets[(isForward ? arcFrom[i] : arcTo[i]) + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] next = Arrays.copyOf(offsets, n);
+        int[] targets = new int[count];
+        double[] weights = new double[count];
+        byte[] flags = new byte[count];
+        int[] edgeIds = new int[count];
+        for (int i = 0; i < upward.length; i++) {
+            if (upward[i] == isForward) {
+                int slot = next[isForward ? arcFrom[i] : arcTo[i]]++;
+                targets[slot] = isForward ? arcTo[i] : arcFrom[i];
+                weights[slot] = arcWeight[i];
+                flags[slot] = isForward ? CsrGraph.FORWARD : 0;
+                edgeIds[slot] = i;
+            }
+        }
+        return new CsrGraph(offsets, targets, weights, flags, edgeIds, arcFrom.length);
+    }
+
+    /**
+     * Contracts all vertices of the graph.
+     *
+     * @param graph The graph, with non-negative weights.
+     * @return The hierarchy.
+     */
+    public static ContractionHierarchy build(CsrGraph graph) {
+        if (ShortestPaths.hasNegativeWeights(graph)) {
+            throw new IllegalArgumentException("Contraction hierarchies require non-negative weights");
+        }
+        return new Contraction(graph).run();
+    }
+
+    /**
+     * Contraction state: the remaining graph as adjacency maps in both directions, with the middle vertex of
+     * every shortcut among them.
+     */
+    private static final class Contraction {
+
+        private final int n;
+        private final List<Map<Integer, Double>> out;
+        private final List<Map<Integer, Double>> in;
+        private final Map<Long, Integer> middle = new HashMap<>();
+        private final int[] contractedNeighbours;
+
+        // Witness search state
+        private final double[] witness;
+        private final int[] witnessTouched;
+        private final IndexedDaryHeap witnessHeap;
+        private int witnessCount;
+
+        // Hierarchy arcs collected during the contraction
+        private int[] from = new int[16];
+        private int[] to = new int[16];
+        private double[] weight = new double[16];
+        private int[] via = new int[16];
+        private int arcs;
+
+        Contraction(CsrGraph graph) {
+            n = graph.vertexCount();
+            out = new ArrayList<>(n);
+            in = new ArrayList<>(n);
+            for (int v = 0; v < n; v++) {
+                out.add(new HashMap<>());
+                in.add(new HashMap<>());
+            }
+            for (int u = 0; u < n; u++) {
+                for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                    int v = graph.target(arc);
+                    if (u != v && graph.weight(arc) < out.get(u).getOrDefault(v, Double.POSITIVE_INFINITY)) {
+                        out.get(u).put(v, graph.weight(arc));
+                        in.get(v).put(u, graph.weight(arc));
+                    }
+                }
+            }
+            contractedNeighbours = new int[n];
+            witness = new double[n];
+            witnessTouched = new int[n];
+            Arrays.fill(witness, Double.POSITIVE_INFINITY);
+            witnessHeap = new IndexedDaryHeap(4, n);
+        }
+
+        ContractionHierarchy run() {
+            IndexedDaryHeap queue = new IndexedDaryHeap(4, Math.max(1, n));
+            for (int v = 0; v < n; v++) {
+                queue.insert(v, priority(v));
+            }
+
+            int[] rank = new int[n];
+            int order = 0;
+            while (!queue.isEmpty()) {
+                int v = queue.poll();
+
+                // Lazy update: a vertex whose priority has grown is postponed
+                double priority = priority(v);
+                if (!queue.isEmpty() && priority > queue.keyOf(queue.peek())) {
+                    queue.insert(v, priority);
+                    continue;
+                }
+
+                // Contracting v removes its arcs, so its neighbours are collected first; their priorities
+                // usually grow, since they gain a contracted neighbour
+                rank[v] = order++;
+                int[] neighbours = neighbours(v);
+                contract(v);
+                for (int neighbour : neighbours) {
+                    if (queue.contains(neighbour)) {
+                        queue.updateKey(neighbour, priority(neighbour));
+                    }
+                }
+            }
+
+            return new ContractionHierarchy(rank, Arrays.copyOf(from, arcs), Arrays.copyOf(to, arcs),
+                                            Arrays.copyOf(weight, arcs), Arrays.copyOf(via, arcs));
+        }
+
+        private int[] neighbours(int v) {
+            return IntStream.concat(
+                    out.get(v).keySet().stream().mapToInt(Integer::intValue),
+                    in.get(v).keySet().stream().mapToInt(Integer::intValue)).distinct().toArray();
+        }
+
+        /**
+         * Edge difference of contracting the vertex, plus its contracted neighbours.
+         */
+        private double priority(int v) {
+            return shortcuts(v, false) - out.get(v).size() - in.get(v).size() + contractedNeighbours[v];
+        }
+
+        /**
+         * Counts the shortcuts contracting the vertex requires, and inserts them if requested.
+         */
+        private int shortcuts(int v, boolean insert) {
+            int count = 0;
+            double maxOut = 0;
+            for (double w : out.get(v).values()) {
+                maxOut = Math.max(maxOut, w);
+            }
+
+            for (Map.Entry<Integer, Double> incoming : in.get(v).entrySet()) {
+                int u = incoming.getKey();
+                double viaV = incoming.getValue();
+                witnessSearch(u, v, viaV + maxOut);
+
+                for (Map.Entry<Integer, Double> outgoing : out.get(v).entrySet()) {
+                    int w = outgoing.getKey();
+                    double length = viaV + outgoing.getValue();
+                    if (w == u || witness[w] <= length) {
+                        continue;
+                    }
+                    count++;
+                    if (insert && length < out.get(u).getOrDefault(w, Double.POSITIVE_INFINITY)) {
+                        out.get(u).put(w, length);
+                        in.get(w).put(u, length);
+                        middle.put(key(u, w), v);
+                    }
+                }
+                resetWitness();
+            }
+            return count;
+        }
+
+        /**
+         * Bounded Dijkstra search from the source in the remaining graph without the excluded vertex.
+         */
+        private void witnessSearch(int source, int excluded, double bound) {
+            witness[source] = 0;
+            witnessTouched[witnessCount++] = source;
+            witnessHeap.insert(source, 0);
+            int settled = 0;
+            while (!witnessHeap.isEmpty() && settled < WITNESS_SETTLE_LIMIT) {
+                int u = witnessHeap.poll();
+                settled++;
+                if (witness[u] > bound) {
+                    break;
+                }
+                for (Map.Entry<Integer, Double> arc : out.get(u).entrySet()) {
+                    int w = arc.getKey();
+                    double candidate = witness[u] + arc.getValue();
+                    if (w != excluded && candidate < witness[w]) {
+                        if (witness[w] == Double.POSITIVE_INFINITY) {
+                            witnessTouched[witnessCount++] = w;
+                        }
+                        witness[w] = candidate;
+                        witnessHeap.insertOrDecrease(w, candidate);
+                    }
+                }
+            }
+            witnessHeap.clear();
+        }
+
+        private void resetWitness() {
+            for (int i = 0; i < witnessCount; i++) {
+                witness[witnessTouched[i]] = Double.POSITIVE_INFINITY;
+            }
+            witnessCount = 0;
+        }
+
+        /**
+         * Inserts the required shortcuts, records the arcs of the vertex as hierarchy arcs and removes it.
+         */
+        private void contract(int v) {
+            shortcuts(v, true);
+            for (Map.Entry<Integer, Double> arc : out.get(v).entrySet()) {
+                record(v, arc.getKey(), arc.getValue());
+                in.get(arc.getKey()).remove(v);
+                contractedNeighbours[arc.getKey()]++;
+            }
+            for (Map.Entry<Integer, Double> arc : in.get(v).entrySet()) {
+                record(arc.getKey(), v, arc.getValue());
+                out.get(arc.getKey()).remove(v);
+                contractedNeighbours[arc.getKey()]++;
+            }
+            out.get(v).clear();
+            in.get(v).clear();
+        }
+
+        private void record(int u, int w, double length) {
+            if (arcs == from.length) {
+                from = Arrays.copyOf(from, arcs * 2);
+                to = Arrays.copyOf(to, arcs * 2);
+                weight = Arrays.copyOf(weight, arcs * 2);
+                via = Arrays.copyOf(via, arcs * 2);
+            }
+            from[arcs] = u;
+            to[arcs] = w;
+            weight[arcs] = length;
+            via[arcs] = middle.getOrDefault(key(u, w), -1);
+            arcs++;
+        }
+    }
+
+    /**
+     * Packs an arc into a map key. The lower half mixes both end points, since Long.hashCode folds the two halves
+     * together and plain (from, to) pairs of nearby vertices would collide.
+     */
+    private static long key(int from, int to) {
+        return ((long) from << 32) | ((to ^ from * 0x9E3779B9) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Computes the shortest path between two vertices with the search of the hierarchy.
+     *
+     * @param source The source vertex.
+     * @param target The target vertex.
+     * @return The result.
+     */
+    public Query query(int source, int target) {
+        return search.query(source, target, null);
+    }
+
+    /**
+     * Creates a search with its own query state, so that several threads can query the hierarchy at once.
+     *
+     * @return The search.
+     */
+    public Search newSearch() {
+        return new Search();
+    }
+
+    /**
+     * Receives the steps of a query, so that it can be visualized.
+     */
+    public interface Listener {
+
+        /**
+         * Called when a vertex is settled, before its upward arcs are relaxed.
+         *
+         * @param vertex  The vertex.
+         * @param forward True for the search from the source, false for the one from the target.
+         */
+        default void settled(int vertex, boolean forward) {
+        }
+
+        /**
+         * Called when the distance of a vertex is lowered.
+         *
+         * @param vertex   The vertex.
+         * @param distance Its new distance in the direction of the search.
+         * @param forward  True for the search from the source, false for the one from the target.
+         */
+        default void relaxed(int vertex, double distance, boolean forward) {
+        }
+
+        /**
+         * Called when all upward arcs of a settled vertex were relaxed.
+         *
+         * @param vertex  The vertex.
+         * @param forward True for the search from the source, false for the one from the target.
+         */
+        default void scanned(int vertex, boolean forward) {
+        }
+    }
+
+    /**
+     * Query state of both directions, reset through the list of touched vertices after every query. A search
+     * can be reused for any number of queries, but by one thread at a time.
+     */
+    public final class Search {
+
+        private final double[] forwardDistance;
+        private final double[] backwardDistance;
+        private final int[] forwardParent;
+        private final int[] backwardParent;
+        private final int[] touched;
+        private final IndexedDaryHeap forwardHeap;
+        private final IndexedDaryHeap backwardHeap;
+
+        private Search() {
+            int n = rank.length;
+            forwardDistance = new double[n];
+            backwardDistance = new double[n];
+            forwardParent = new int[n];
+            backwardParent = new int[n];
+            touched = new int[2 * n];
+            Arrays.fill(forwardDistance, Double.POSITIVE_INFINITY);
+            Arrays.fill(backwardDistance, Double.POSITIVE_INFINITY);
+            forwardHeap = new IndexedDaryHeap(4, Math.max(1, n));
+            backwardHeap = new IndexedDaryHeap(4, Math.max(1, n));
+        }
+
+        /**
+         * Computes the shortest path between two vertices.
+         *
+         * @param source   The source vertex.
+         * @param target   The target vertex.
+         * @param listener Receives the steps of the query, or null.
+         * @return The result.
+         */
+        public Query query(int source, int target, Listener listener) {
+            int touchedCount = 0;
+            forwardDistance[source] = 0;
+            forwardParent[source] = -1;
+            backwardDistance[target] = 0;
+            backwardParent[target] = -1;
+            touched[touchedCount++] = source;
+            touched[touchedCount++] = target;
+            forwardHeap.insert(source, 0);
+            backwardHeap.insert(target, 0);
+
+            double best = Double.POSITIVE_INFINITY;
+            int meeting = -1;
+            int settled = 0;
+            while (!forwardHeap.isEmpty() || !backwardHeap.isEmpty()) {
+                double forwardMin = forwardHeap.isEmpty() ? Double.POSITIVE_INFINITY : forwardHeap.keyOf(forwardHeap.peek());
+                double backwardMin = backwardHeap.isEmpty() ? Double.POSITIVE_INFINITY : backwardHeap.keyOf(backwardHeap.peek());
+                if (Math.min(forwardMin, backwardMin) >= best) {
+                    break;
+                }
+
+                boolean isForward = forwardMin <= backwardMin;
+                CsrGraph graph = isForward ? forward : backward;
+                IndexedDaryHeap heap = isForward ? forwardHeap : backwardHeap;
+                double[] distance = isForward ? forwardDistance : backwardDistance;
+                double[] other = isForward ? backwardDistance : forwardDistance;
+                int[] parent = isForward ? forwardParent : backwardParent;
+
+                int u = heap.poll();
+                settled++;
+                if (listener != null) {
+                    listener.settled(u, isForward);
+                }
+                if (distance[u] + other[u] < best) {
+                    best = distance[u] + other[u];
+                    meeting = u;
+                }
+                for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                    int v = graph.target(arc);
+                    double candidate = distance[u] + graph.weight(arc);
+                    if (candidate < distance[v]) {
+                        if (forwardDistance[v] == Double.POSITIVE_INFINITY && backwardDistance[v] == Double.POSITIVE_INFINITY) {
+                            touched[touchedCount++] = v;
+                        }
+                        distance[v] = candidate;
+                        parent[v] = u;
+                        heap.insertOrDecrease(v, candidate);
+                        if (listener != null) {
+                            listener.relaxed(v, candidate, isForward);
+                        }
+                    }
+                }
+                if (listener != null) {
+                    listener.scanned(u, isForward);
+                }
+            }
+
+            int[] path = meeting < 0 ? new int[0] : unpack(hierarchyPath(meeting));
+
+            for (int i = 0; i < touchedCount; i++) {
+                forwardDistance[touched[i]] = Double.POSITIVE_INFINITY;
+                backwardDistance[touched[i]] = Double.POSITIVE_INFINITY;
+            }
+            forwardHeap.clear();
+            backwardHeap.clear();
+            return new Query(best, settled, path);
+        }
+
+        /**
+         * Joins the forward parents up to the meeting vertex and the backward parents down from it.
+         */
+        private int[] hierarchyPath(int meeting) {
+            int upward = 0;
+            for (int v = meeting; v >= 0; v = forwardParent[v]) {
+                upward++;
+            }
+            int downward = 0;
+            for (int v = backwardParent[meeting]; v >= 0; v = backwardParent[v]) {
+                downward++;
+            }
+
+            int[] path = new int[upward + downward];
+            int i = upward - 1;
+            for (int v = meeting; v >= 0; v = forwardParent[v]) {
+                path[i--] = v;
+            }
+            i = upward;
+            for (int v = backwardParent[meeting]; v >= 0; v = backwardParent[v]) {
+                path[i++] = v;
+            }
+            return path;
+        }
+    }
+
+    /**
+     * Replaces every shortcut between consecutive vertices of a path in the hierarchy by the arcs it stands for.
+     *
+     * @param hierarchyPath Consecutive vertices connected by arcs of the hierarchy.
+     * @return The path in the original graph.
+     */
+    public int[] unpack(int[] hierarchyPath) {
+        if (hierarchyPath.length == 0) {
+            return hierarchyPath;
+        }
+
+        int[] path = new int[hierarchyPath.length];
+        int length = 0;
+        path[length++] = hierarchyPath[0];
+        Deque<long[]> pending = new ArrayDeque<>();
+        for (int i = 1; i < hierarchyPath.length; i++) {
+            pending.push(new long[]{hierarchyPath[i - 1], hierarchyPath[i]});
+            while (!pending.isEmpty()) {
+                long[] arc = pending.pop();
+                int middle = middleOf((int) arc[0], (int) arc[1]);
+                if (middle < 0) {
+                    if (length == path.length) {
+                        path = Arrays.copyOf(path, length * 2);
+                    }
+                    path[length++] = (int) arc[1];
+                } else {
+                    pending.push(new long[]{middle, arc[1]});
+                    pending.push(new long[]{arc[0], middle});
+                }
+            }
+        }
+        return Arrays.copyOf(path, length);
+    }
+
+    /**
+     * Finds the middle vertex of the hierarchy arc between two vertices in the adjacency list of its lower ranked
+     * end point, which is short, since the lowest ranked vertices are contracted first.
+     */
+    private int middleOf(int from, int to) {
+        int arc = rank[from] < rank[to] ? forward.findArc(from, to) : backward.findArc(to, from);
+        return arcMiddle[(rank[from] < rank[to] ? forward : backward).edgeId(arc)];
+    }
+
+    /**
+     * @param vertex A vertex.
+     * @return Its position in the contraction order.
+     */
+    public int rank(int vertex) {
+        return rank[vertex];
+    }
+
+    /**
+     * @return The graph of upward arcs searched from the source; edge ids are hierarchy arc indices.
+     */
+    public CsrGraph forwardGraph() {
+        return forward;
+    }
+
+    /**
+     * @return The graph of reversed downward arcs searched from the target; edge ids are hierarchy arc indices.
+     */
+    public CsrGraph backwardGraph() {
+        return backward;
+    }
+
+    /**
+     * @return The number of arcs of the hierarchy, shortcuts included.
+     */
+    public int arcCount() {
+        return arcFrom.length;
+    }
+
+    /**
+     * @return The number of shortcuts.
+     */
+    public int shortcutCount() {
+        int count = 0;
+        for (int middle : arcMiddle) {
+            count += middle >= 0 ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * @return Every shortcut as {from, to, middle}.
+     */
+    public int[][] shortcuts() {
+        int[][] shortcuts = new int[shortcutCount()][];
+        int next = 0;
+        for (int i = 0; i < arcFrom.length; i++) {
+            if (arcMiddle[i] >= 0) {
+                shortcuts[next++] = new int[]{arcFrom[i], arcTo[i], arcMiddle[i]};
+            }
+        }
+        return shortcuts;
+    }
+
+    /**
+     * Computes a fingerprint of the graph that does not depend on the order of the vertices or arcs, so that a
+     * stored hierarchy can be matched against a graph that was exported and imported again.
+     *
+     * @param graph     The graph.
+     * @param vertexIds The persistent id of every vertex.
+     * @return The fingerprint.
+     */
+    public static long fingerprint(CsrGraph graph, String[] vertexIds) {
+        long fingerprint = graph.vertexCount();
+        for (int u = 0; u < graph.vertexCount(); u++) {
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                long hash = 31L * (31L * vertexIds[u].hashCode() + vertexIds[graph.target(arc)].hashCode())
+                        + Double.hashCode(graph.weight(arc));
+                fingerprint += hash * 0x9E3779B97F4A7C15L ^ (hash >>> 29);
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Writes the hierarchy as three comma-separated lines: the header with the vertex count and the graph
+     * fingerprint, the rank of every vertex id, and the arcs as from, to, weight and middle vertex id.
+     *
+     * @param writer      The destination.
+     * @param vertexIds   The persistent id of every vertex.
+     * @param fingerprint The fingerprint of the graph, see {@link #fingerprint}.
+     * @throws IOException If writing fails.
+     */
+    public void write(Writer writer, String[] vertexIds, long fingerprint) throws IOException {
+        StringBuilder text = new StringBuilder();
+        text.append(HEADER).append(',').append(rank.length).append(',').append(fingerprint).append('\n');
+        for (int v = 0; v < rank.length; v++) {
+            text.append(vertexIds[v]).append(',').append(rank[v]).append(',');
+        }
+        text.append('\n');
+        for (int i = 0; i < arcFrom.length; i++) {
+            text.append(vertexIds[arcFrom[i]]).append(',').append(vertexIds[arcTo[i]]).append(',')
+                    .append(arcWeight[i]).append(',').append(arcMiddle[i] < 0 ? "-" : vertexIds[arcMiddle[i]]).append(',');
+        }
+        text.append('\n');
+        writer.write(text.toString());
+    }
+
+    /**
+     * Reads a hierarchy written by {@link #write}.
+     *
+     * @param reader      The source.
+     * @param indexOfId   The vertex index of every persistent vertex id of the current graph.
+     * @param fingerprint The fingerprint of the current graph.
+     * @return The hierarchy.
+     * @throws IOException              If reading fails.
+     * @throws IllegalArgumentException If the hierarchy is malformed or was built for a different graph.
+     */
+    public static ContractionHierarchy read(Reader reader, Map<String, Integer> indexOfId, long fingerprint)
+            throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        String[] header = split(lines.readLine());
+        if (header.length != 3 || !HEADER.equals(header[0])
+                || Integer.parseInt(header[1]) != indexOfId.size() || Long.parseLong(header[2]) != fingerprint) {
+            throw new IllegalArgumentException("The hierarchy was built for a different graph");
+        }
+
+        int n = indexOfId.size();
+        int[] rank = new int[n];
+        String[] ranks = split(lines.readLine());
+        if (ranks.length != 2 * n) {
+            throw new IllegalArgumentException("Expected " + n + " ranks");
+        }
+        for (int i = 0; i < ranks.length; i += 2) {
+            rank[indexOf(indexOfId, ranks[i])] = Integer.parseInt(ranks[i + 1]);
+        }
+
+        String[] arcs = split(lines.readLine());
+        if (arcs.length % 4 != 0) {
+            throw new IllegalArgumentException("Malformed hierarchy arcs");
+        }
+        int count = arcs.length / 4;
+        int[] from = new int[count];
+        int[] to = new int[count];
+        double[] weight = new double[count];
+        int[] middle = new int[count];
+        for (int i = 0; i < count; i++) {
+            from[i] = indexOf(indexOfId, arcs[4 * i]);
+            to[i] = indexOf(indexOfId, arcs[4 * i + 1]);
+            weight[i] = Double.parseDouble(arcs[4 * i + 2]);
+            middle[i] = "-".equals(arcs[4 * i + 3]) ? -1 : indexOf(indexOfId, arcs[4 * i + 3]);
+        }
+        return new ContractionHierarchy(rank, from, to, weight, middle);
+    }
+
+    private static String[] split(String line) {
+        if (line == null || line.isEmpty()) {
+            return new String[0];
+        }
+        return line.split(",");
+    }
+
+    private static int indexOf(Map<String, Integer> indexOfId, String id) {
+        Integer index = indexOfId.get(id);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown vertex id: " + id);
+        }
+        return index;
+    }
+}
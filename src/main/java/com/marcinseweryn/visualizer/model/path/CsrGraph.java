@@ -0,0 +1,285 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+
+/**
+ * Immutable directed graph in compressed sparse row form. The outgoing arcs of vertex v are the arc indices
+ * {@code firstArc(v)} (inclusive) to {@code endArc(v)} (exclusive), and every arc stores its target, weight,
+ * direction flags and the id of the edge it was derived from in parallel primitive arrays.
+ * A vertex costs one int and an arc about 17 bytes, independently of any scene graph objects, so graphs with
+ * millions of edges fit in tens of MB and a traversal reads each adjacency list sequentially.
+ */
+public final class CsrGraph {
+
+    // The arc follows its edge from node A to node B, otherwise from node B to node A
+    public static final byte FORWARD = 1;
+
+    // The edge can be traversed in both directions, so the reverse arc exists as well
+    public static final byte BIDIRECTIONAL = 2;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final byte[] flags;
+    private final int[] edgeIds;
+    private final int edgeCount;
+
+    /**
+     * Creates a graph over the given arrays, which are owned by the graph afterwards.
+     *
+     * @param offsets   Arc offsets of length vertexCount + 1, non-decreasing, the last one equal to the arc count.
+     * @param targets   Target vertex of every arc.
+     * @param weights   Weight of every arc.
+     * @param flags     Direction flags of every arc.
+     * @param edgeIds   Id of the edge every arc was derived from.
+     * @param edgeCount Number of distinct edge ids.
+     */
+    CsrGraph(int[] offsets, int[] targets, double[] weights, byte[] flags, int[] edgeIds, int edgeCount) {
+        int arcs = offsets[offsets.length - 1];
+        if (targets.length != arcs || weights.length != arcs || flags.length != arcs || edgeIds.length != arcs) {
+            throw new IllegalArgumentException("Arc arrays must have exactly " + arcs + " entries");
+        }
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.flags = flags;
+        this.edgeIds = edgeIds;
+        this.edgeCount = edgeCount;
+    }
+
+    /**
+     * Builds a graph from a list of directed arcs, e.g. for generated benchmark graphs. Every arc is its own
+     * forward edge, with the arc's position in the input as edge id.
+     *
+     * @param vertexCount The number of vertices.
+     * @param sources     The source vertex of every arc.
+     * @param targets     The target vertex of every arc.
+     * @param weights     The weight of every arc.
+     * @return The graph.
+     */
+    public static CsrGraph fromArcs(int vertexCount, int[] sources, int[] targets, double[] weights) {
+        int arcs = sources.length;
+        if (targets.length != arcs || weights.length != arcs) {
+            throw new IllegalArgumentException("Arc arrays must have the same length");
+        }
+
+        int[] offsets = new int[vertexCount + 1];
+        for (int source : sources) {
+            offsets[source + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] next = Arrays.copyOf(offsets, vertexCount);
+        int[] sortedTargets = new int[arcs];
+        double[] sortedWeights = new double[arcs];
+        byte[] flags = new byte[arcs];
+        int[] edgeIds = new int[arcs];
+        for (int i = 0; i < arcs; i++) {
+            int slot = next[sources[i]]++;
+            sortedTargets[slot] = targets[i];
+            sortedWeights[slot] = weights[i];
+            flags[slot] = FORWARD;
+            edgeIds[slot] = i;
+        }
+        return new CsrGraph(offsets, sortedTargets, sortedWeights, flags, edgeIds, arcs);
+    }
+
+    /**
+     * @return The number of vertices.
+     */
+    public int vertexCount() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @return The number of arcs, a bidirectional edge contributes two.
+     */
+    public int arcCount() {
+        return targets.length;
+    }
+
+    /**
+     * @return The number of edges the arcs were derived from.
+     */
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * @param vertex A vertex index.
+     * @return The index of the first outgoing arc of the vertex.
+     */
+    public int firstArc(int vertex) {
+        return offsets[vertex];
+    }
+
+    /**
+     * @param vertex A vertex index.
+     * @return The index after the last outgoing arc of the vertex.
+     */
+    public int endArc(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    /**
+     * @param vertex A vertex index.
+     * @return The number of outgoing arcs of the vertex.
+     */
+    public int outDegree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * @param arc An arc index.
+     * @return The vertex the arc points to.
+     */
+    public int target(int arc) {
+        return targets[arc];
+    }
+
+    /**
+     * @param arc An arc index.
+     * @return The weight of the arc.
+     */
+    public double weight(int arc) {
+        return weights[arc];
+    }
+
+    /**
+     * @param arc An arc index.
+     * @return The direction flags of the arc, see {@link #FORWARD} and {@link #BIDIRECTIONAL}.
+     */
+    public byte flags(int arc) {
+        return flags[arc];
+    }
+
+    /**
+     * @param arc An arc index.
+     * @return The id of the edge the arc was derived from, shared by both arcs of a bidirectional edge.
+     */
+    public int edgeId(int arc) {
+        return edgeIds[arc];
+    }
+
+    /**
+     * Finds the first arc from one vertex to another by scanning the adjacency list of the source.
+     *
+     * @param from The source vertex.
+     * @param to   The target vertex.
+     * @return The arc index, or -1 if there is no such arc.
+     */
+    public int findArc(int from, int to) {
+        for (int arc = offsets[from]; arc < offsets[from + 1]; arc++) {
+            if (targets[arc] == to) {
+                return arc;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Builds the graph with every arc reversed, e.g. for searches running backwards from a destination.
+     * Arc i of the transposed graph keeps the weight, edge id and bidirectional flag of the arc it reverses,
+     * while its forward flag is inverted.
+     *
+     * @return The transposed graph.
+     */
+    public CsrGraph transpose() {
+        int n = vertexCount();
+        int arcs = arcCount();
+        int[] reverseOffsets = new int[n + 1];
+        for (int arc = 0; arc < arcs; arc++) {
+            reverseOffsets[targets[arc] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            reverseOffsets[v + 1] += reverseOffsets[v];
+        }
+
+        int[] next = Arrays.copyOf(reverseOffsets, n);
+        int[] reverseTargets = new int[arcs];
+        double[] reverseWeights = new double[arcs];
+        byte[] reverseFlags = new byte[arcs];
+        int[] reverseEdgeIds = new int[arcs];
+        for (int v = 0; v < n; v++) {
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                int slot = next[targets[arc]]++;
+                reverseTargets[slot] = v;
+                reverseWeights[slot] = weights[arc];
+                reverseFlags[slot] = (byte) (flags[arc] ^ FORWARD);
+                reverseEdgeIds[slot] = edgeIds[arc];
+            }
+        }
+        return new CsrGraph(reverseOffsets, reverseTargets, reverseWeights, reverseFlags, reverseEdgeIds, edgeCount);
+    }
+
+    /**
+     * Builds the graph with one additional vertex, numbered vertexCount, that has an arc of weight 0 to every
+     * other vertex. The arcs of the additional vertex get the edge ids following the existing ones.
+     *
+     * @return The graph with the virtual source.
+     */
+    public CsrGraph withVirtualSource() {
+        int n = vertexCount();
+        int arcs = arcCount();
+        int[] extendedOffsets = Arrays.copyOf(offsets, n + 2);
+        extendedOffsets[n + 1] = arcs + n;
+
+        int[] extendedTargets = Arrays.copyOf(targets, arcs + n);
+        double[] extendedWeights = Arrays.copyOf(weights, arcs + n);
+        byte[] extendedFlags = Arrays.copyOf(flags, arcs + n);
+        int[] extendedEdgeIds = Arrays.copyOf(edgeIds, arcs + n);
+        for (int v = 0; v < n; v++) {
+            extendedTargets[arcs + v] = v;
+            extendedFlags[arcs + v] = FORWARD;
+            extendedEdgeIds[arcs + v] = edgeCount + v;
+        }
+        return new CsrGraph(extendedOffsets, extendedTargets, extendedWeights, extendedFlags, extendedEdgeIds,
+                            edgeCount + n);
+    }
+
+    /**
+     * Builds the graph with the weight of every arc (u, v) replaced by w(u, v) + potential[u] - potential[v].
+     * The weight of every path changes by the same amount for fixed end points, so shortest paths are kept.
+     * The structure arrays are shared, as neither graph modifies them.
+     *
+     * @param potential The potential of every vertex.
+     * @return The reweighted graph.
+     */
+    public CsrGraph reweighted(double[] potential) {
+        double[] reducedWeights = new double[arcCount()];
+        for (int u = 0; u < vertexCount(); u++) {
+            for (int arc = offsets[u]; arc < offsets[u + 1]; arc++) {
+                reducedWeights[arc] = weights[arc] + potential[u] - potential[targets[arc]];
+            }
+        }
+        return new CsrGraph(offsets, targets, reducedWeights, flags, edgeIds, edgeCount);
+    }
+
+    /**
+     * Builds the graph with the given arc weights, e.g. after edits of single weights. The structure arrays are
+     * shared, as neither graph modifies them.
+     *
+     * @param arcWeights The weight of every arc, copied.
+     * @return The graph with the given weights.
+     */
+    public CsrGraph withWeights(double[] arcWeights) {
+        if (arcWeights.length != arcCount()) {
+            throw new IllegalArgumentException("Expected " + arcCount() + " weights, got " + arcWeights.length);
+        }
+        return new CsrGraph(offsets, targets, arcWeights.clone(), flags, edgeIds, edgeCount);
+    }
+
+    /**
+     * @return The approximate size of the arrays in bytes.
+     */
+    public long sizeInBytes() {
+        return 4L * offsets.length + (4L + 8L + 1L + 4L) * targets.length;
+    }
+
+    @Override
+    public String toString() {
+        return "CsrGraph[vertices=" + vertexCount() + ", arcs=" + arcCount() + ", edges=" + edgeCount + "]";
+    }
+}
@@ -1,5 +1,5 @@
 package com.marcinseweryn.visualizer.model.path;
 
 public enum DataStructureType {
-    QUEUE,STACK, PRIORITY_QUEUE, LIST
+    QUEUE,STACK, PRIORITY_QUEUE, LIST, INDEXED_HEAP
 }
@@ -0,0 +1,300 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Delta-stepping single-source shortest paths (Meyer and Sanders), running the relaxations of a phase in
+ * parallel on a {@link ForkJoinPool}. Vertices are kept in buckets of width delta by tentative distance.
+ * The smallest non-empty bucket is emptied repeatedly by relaxing the light edges (weight at most delta) of its
+ * vertices, which may refill it, and afterwards the heavy edges of all vertices it contained are relaxed once.
+ * Distances are lowered with the compare-and-set minimum of {@link AtomicDistances}, so concurrent
+ * relaxations of the same vertex never lose the smaller value.
+ * <p>
+ * The search is exposed phase by phase so that it can be animated, see {@link #solve()} for a complete run.
+ * Weights must be non-negative.
+ */
+public final class DeltaSteppingSearch {
+
+    // Fewest vertices relaxed by one task of a phase
+    private static final int MIN_SLICE = 256;
+
+    private final CsrGraph graph;
+    private final double delta;
+    private final ForkJoinPool pool;
+
+    private final AtomicDistances distance;
+
+    // Bucket every vertex was last placed in, -1 once it has been removed from its bucket
+    private final long[] bucketOf;
+    private final TreeMap<Long, Bucket> buckets = new TreeMap<>();
+
+    // Vertices removed from the current bucket by its light phases, relaxed once more by the heavy phase
+    private int[] removed = new int[16];
+    private int removedCount;
+
+    private final LongAdder relaxations = new LongAdder();
+    private int phases;
+    private long currentBucket = -1;
+
+    /**
+     * @param graph  The graph, with non-negative weights.
+     * @param source The source vertex.
+     * @param delta  The bucket width, greater than zero.
+     * @param pool   The pool running the relaxations.
+     */
+    public DeltaSteppingSearch(CsrGraph graph, int source, double delta, ForkJoinPool pool) {
+        if (!(delta > 0)) {
+            throw new IllegalArgumentException("Delta must be greater than zero: " + delta);
+        }
+        this.graph = graph;
+        this.delta = delta;
+        this.pool = pool;
+
+        int n = graph.vertexCount();
+        distance = new AtomicDistances(n);
+        bucketOf = new long[n];
+        Arrays.fill(bucketOf, -1);
+
+        distance.set(source, 0);
+        place(source);
+    }
+
+    /**
+     * Chooses a bucket width from the graph: the maximum weight divided by the average out-degree,
+     * so that a vertex has about one light edge per unit of the maximum weight.
+     *
+     * @param graph The graph.
+     * @return The bucket width, greater than zero.
+     */
+    public static double defaultDelta(CsrGraph graph) {
+        double maxWeight = 0;
+        for (int arc = 0; arc < graph.arcCount(); arc++) {
+            maxWeight = Math.max(maxWeight, graph.weight(arc));
+        }
+        double averageDegree = Math.max(1.0, (double) graph.arcCount() / Math.max(1, graph.vertexCount()));
+        return maxWeight > 0 ? maxWeight / averageDegree : 1.0;
+    }
+
+    /**
+     * Runs the search to completion.
+     *
+     * @return The distances, Double.POSITIVE_INFINITY for unreachable vertices.
+     */
+    public double[] solve() {
+        while (nextBucket()) {
+            while (hasCurrentVertices()) {
+                relaxLightEdges();
+            }
+            relaxHeavyEdges();
+        }
+        return distances();
+    }
+
+    /**
+     * Selects the smallest non-empty bucket as the current one.
+     *
+     * @return False if all buckets are empty and the search is complete.
+     */
+    public boolean nextBucket() {
+        while (!buckets.isEmpty()) {
+            Map.Entry<Long, Bucket> first = buckets.firstEntry();
+            if (first.getValue().live > 0) {
+                currentBucket = first.getKey();
+                return true;
+            }
+            buckets.pollFirstEntry();
+        }
+        currentBucket = -1;
+        return false;
+    }
+
+    /**
+     * @return True if the current bucket still contains vertices.
+     */
+    public boolean hasCurrentVertices() {
+        Bucket bucket = buckets.get(currentBucket);
+        return bucket != null && bucket.live > 0;
+    }
+
+    /**
+     * Empties the current bucket and relaxes the light edges of its vertices in parallel.
+     * Vertices whose distance drops below the end of the current bucket are placed in it again.
+     * The removed vertices are also kept for {@link #relaxHeavyEdges()}.
+     *
+     * @return The vertices removed from the bucket.
+     */
+    public int[] relaxLightEdges() {
+        int[] frontier = buckets.remove(currentBucket).liveVertices(currentBucket, bucketOf);
+        if (removedCount + frontier.length > removed.length) {
+            removed = Arrays.copyOf(removed, Math.max(2 * removed.length, removedCount + frontier.length));
+        }
+        for (int v : frontier) {
+            bucketOf[v] = -1;
+            removed[removedCount++] = v;
+        }
+        relax(frontier, frontier.length, true);
+        return frontier;
+    }
+
+    /**
+     * Relaxes the heavy edges of all vertices removed from the current bucket in parallel.
+     */
+    public void relaxHeavyEdges() {
+        relax(removed, removedCount, false);
+        removedCount = 0;
+    }
+
+    /**
+     * Relaxes either the light or the heavy edges of the first count given vertices in parallel and places every
+     * vertex whose distance decreased in its new bucket. Every task collects the improved vertices of its slice
+     * in its own buffer.
+     */
+    private void relax(int[] vertices, int count, boolean light) {
+        if (count == 0) {
+            return;
+        }
+        phases++;
+        int tasks = (int) Math.max(1, Math.min(4L * pool.getParallelism(), (count + MIN_SLICE - 1) / MIN_SLICE));
+        int[][] buffers = new int[tasks][];
+        int[] counts = new int[tasks];
+        pool.submit(() -> IntStream.range(0, tasks).parallel().forEach(task -> {
+            int from = (int) ((long) count * task / tasks);
+            int to = (int) ((long) count * (task + 1) / tasks);
+            int[] buffer = new int[16];
+            int improved = 0;
+            long relaxed = 0;
+            for (int i = from; i < to; i++) {
+                int u = vertices[i];
+                double base = distance.get(u);
+                for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                    double weight = graph.weight(arc);
+                    if ((weight <= delta) != light) {
+                        continue;
+                    }
+                    relaxed++;
+                    if (distance.lowerTo(graph.target(arc), base + weight)) {
+                        if (improved == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, 2 * improved);
+                        }
+                        buffer[improved++] = graph.target(arc);
+                    }
+                }
+            }
+            relaxations.add(relaxed);
+            buffers[task] = buffer;
+            counts[task] = improved;
+        })).join();
+
+        // Bucket placement is sequential, the requests of one phase are few compared to their relaxations
+        for (int task = 0; task < tasks; task++) {
+            for (int i = 0; i < counts[task]; i++) {
+                place(buffers[task][i]);
+            }
+        }
+    }
+
+    private void place(int vertex) {
+        long index = (long) (distanceOf(vertex) / delta);
+        long old = bucketOf[vertex];
+        if (old == index) {
+            return;
+        }
+        if (old >= 0) {
+            buckets.get(old).live--;
+        }
+        bucketOf[vertex] = index;
+        buckets.computeIfAbsent(index, k -> new Bucket()).add(vertex);
+    }
+
+    /**
+     * @param vertex A vertex.
+     * @return Its current tentative distance.
+     */
+    public double distanceOf(int vertex) {
+        return distance.get(vertex);
+    }
+
+    /**
+     * @return A copy of the current tentative distances.
+     */
+    public double[] distances() {
+        return distance.toArray();
+    }
+
+    /**
+     * @return The index of the current bucket, -1 before the first and after the last one.
+     */
+    public long currentBucket() {
+        return currentBucket;
+    }
+
+    /**
+     * @return The vertices of every non-empty bucket by bucket index, in ascending order.
+     */
+    public Map<Long, int[]> bucketContents() {
+        Map<Long, int[]> contents = new TreeMap<>();
+        for (Map.Entry<Long, Bucket> entry : buckets.entrySet()) {
+            if (entry.getValue().live > 0) {
+                contents.put(entry.getKey(), entry.getValue().liveVertices(entry.getKey(), bucketOf));
+            }
+        }
+        return contents;
+    }
+
+    /**
+     * @return The bucket width.
+     */
+    public double delta() {
+        return delta;
+    }
+
+    /**
+     * @return The number of edges relaxed by all phases.
+     */
+    public long relaxations() {
+        return relaxations.sum();
+    }
+
+    /**
+     * @return The number of parallel relaxation phases.
+     */
+    public int phases() {
+        return phases;
+    }
+
+    /**
+     * Growable list of vertices with lazy deletion: a vertex that moved to another bucket stays in the
+     * list, and only the entries whose bucket still matches are live. The live entries are counted, so that
+     * checking a bucket for vertices does not scan it.
+     */
+    private static final class Bucket {
+
+        private int[] vertices = new int[8];
+        private int size;
+        private int live;
+
+        void add(int vertex) {
+            if (size == vertices.length) {
+                vertices = Arrays.copyOf(vertices, size * 2);
+            }
+            vertices[size++] = vertex;
+            live++;
+        }
+
+        int[] liveVertices(long index, long[] bucketOf) {
+            int[] result = new int[live];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (bucketOf[vertices[i]] == index) {
+                    result[count++] = vertices[i];
+                }
+            }
+            return result;
+        }
+    }
+}
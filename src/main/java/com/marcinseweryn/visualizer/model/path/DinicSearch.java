@@ -0,0 +1,165 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+
+/**
+ * Dinic's maximum flow algorithm on a {@link FlowNetwork}. Every phase labels the vertices with their breadth-first
+ * level from the source in the residual network and then augments along level-increasing paths until none is left
+ * (a blocking flow). The depth-first search for these paths keeps its path in an int array instead of recursing,
+ * and every vertex keeps the position of its next arc to try, so that dead ends are never scanned twice in a phase.
+ * At most n phases are needed.
+ * <p>
+ * Phases are run one at a time with {@link #phase()}, so that they can be visualized.
+ */
+public final class DinicSearch {
+
+    /**
+     * Summary of one phase.
+     *
+     * @param number    The number of the phase, from 1.
+     * @param sinkLevel The length of the augmenting paths of the phase.
+     * @param paths     The number of paths augmented in the phase.
+     * @param flow      The flow added in the phase.
+     */
+    public record Phase(int number, int sinkLevel, int paths, double flow) {
+    }
+
+    private final FlowNetwork network;
+    private final int source;
+    private final int sink;
+    private final int[] level;
+    private final int[] nextArc;
+    private final int[] queue;
+    private final int[] path;
+
+    private double flow;
+    private int phases;
+
+    /**
+     * Prepares the search, the network may already carry flow.
+     *
+     * @param network The residual network.
+     * @param source  The source vertex.
+     * @param sink    The sink vertex, different from the source.
+     */
+    public DinicSearch(FlowNetwork network, int source, int sink) {
+        if (source == sink) {
+            throw new IllegalArgumentException("Source and sink must differ: " + source);
+        }
+        int n = network.vertexCount();
+        this.network = network;
+        this.source = source;
+        this.sink = sink;
+        this.level = new int[n];
+        this.nextArc = new int[n];
+        this.queue = new int[n];
+        this.path = new int[n];
+    }
+
+    /**
+     * Runs one phase: computes the levels and augments a blocking flow.
+     *
+     * @return The summary of the phase, or null if the sink is no longer reachable and the flow is maximal.
+     */
+    public Phase phase() {
+        if (!computeLevels()) {
+            return null;
+        }
+
+        for (int v = 0; v < network.vertexCount(); v++) {
+            nextArc[v] = network.firstArc(v);
+        }
+        int paths = 0;
+        double added = 0;
+        int depth = 0;
+        int u = source;
+        while (true) {
+            if (u == sink) {
+                double bottleneck = Double.POSITIVE_INFINITY;
+                for (int i = 0; i < depth; i++) {
+                    bottleneck = Math.min(bottleneck, network.residual(path[i]));
+                }
+                for (int i = 0; i < depth; i++) {
+                    network.push(path[i], bottleneck);
+                }
+                paths++;
+                added += bottleneck;
+
+                // Retreat to the tail of the first saturated arc
+                int saturated = 0;
+                while (network.residual(path[saturated]) > FlowNetwork.EPSILON) {
+                    saturated++;
+                }
+                depth = saturated;
+                u = depth == 0 ? source : network.target(path[depth - 1]);
+                continue;
+            }
+
+            int arc = nextArc[u];
+            while (arc < network.endArc(u) && (network.residual(arc) <= FlowNetwork.EPSILON
+                    || level[network.target(arc)] != level[u] + 1)) {
+                arc++;
+            }
+            nextArc[u] = arc;
+            if (arc < network.endArc(u)) {
+                path[depth++] = arc;
+                u = network.target(arc);
+            } else if (u == source) {
+                break;
+            } else {
+                // Dead end, no path to the sink leads through u in this phase
+                level[u] = -1;
+                u = --depth == 0 ? source : network.target(path[depth - 1]);
+                nextArc[u]++;
+            }
+        }
+
+        flow += added;
+        phases++;
+        return new Phase(phases, level[sink], paths, added);
+    }
+
+    private boolean computeLevels() {
+        Arrays.fill(level, -1);
+        int tail = 0;
+        queue[tail++] = source;
+        level[source] = 0;
+        for (int head = 0; head < tail && level[sink] < 0; head++) {
+            int u = queue[head];
+            for (int arc = network.firstArc(u); arc < network.endArc(u); arc++) {
+                int v = network.target(arc);
+                if (level[v] < 0 && network.residual(arc) > FlowNetwork.EPSILON) {
+                    level[v] = level[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return level[sink] >= 0;
+    }
+
+    /**
+     * Runs all remaining phases.
+     *
+     * @return The value of the maximum flow.
+     */
+    public double run() {
+        while (phase() != null) {
+            // Run the next phase
+        }
+        return flow;
+    }
+
+    /**
+     * @return The flow augmented so far.
+     */
+    public double flow() {
+        return flow;
+    }
+
+    /**
+     * @return The number of phases run so far.
+     */
+    public int phases() {
+        return phases;
+    }
+}
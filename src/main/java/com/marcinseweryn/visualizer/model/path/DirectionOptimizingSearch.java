@@ -0,0 +1,241 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+
+/**
+ * Breadth-first search that chooses the direction of every level with Beamer's heuristics.
+ * Top-down expansion inspects the outgoing arcs of the frontier; bottom-up expansion lets every undiscovered
+ * vertex inspect its incoming arcs until it finds a parent in the frontier, which is cheaper once the frontier
+ * holds a large share of the remaining arcs, as it does in the middle levels of low-diameter graphs.
+ * <ul>
+ *     <li>Top-down switches to bottom-up when the arcs of the frontier m_f exceed m_u / alpha, m_u being the
+ *     arcs of the undiscovered vertices.</li>
+ *     <li>Bottom-up switches back to top-down when the frontier shrinks below n / beta vertices.</li>
+ * </ul>
+ * The frontier, the next frontier and the discovered vertices are bitmaps over the vertex indices.
+ * Levels are expanded one at a time with {@link #step()}, so that they can be visualized.
+ */
+public final class DirectionOptimizingSearch {
+
+    public static final int DEFAULT_ALPHA = 14;
+    public static final int DEFAULT_BETA = 24;
+
+    /**
+     * Summary of one expanded level.
+     *
+     * @param depth        The number of edges from the source to the vertices discovered in this level.
+     * @param direction    The direction the level was expanded in.
+     * @param discovered   The number of vertices discovered in this level.
+     * @param inspected    The number of arcs inspected while expanding the level.
+     */
+    public record Level(int depth, BfsDirection direction, int discovered, long inspected) {
+    }
+
+    private final CsrGraph graph;
+    private final CsrGraph transpose;
+    private final int alpha;
+    private final int beta;
+    private final int n;
+
+    private long[] frontier;
+    private long[] next;
+    private final long[] discovered;
+    private final int[] parent;
+    private final int[] level;
+
+    private BfsDirection direction = BfsDirection.TOP_DOWN;
+    private int depth;
+    private int frontierSize;
+    private long frontierArcs;
+    private long unexploredArcs;
+    private long inspected;
+
+    /**
+     * Prepares a search from the source; the source itself is the first frontier.
+     *
+     * @param graph     The graph, weights are ignored.
+     * @param transpose The transposed graph, for the bottom-up levels.
+     * @param source    The source vertex.
+     * @param alpha     The top-down to bottom-up threshold, see the class documentation.
+     * @param beta      The bottom-up to top-down threshold, see the class documentation.
+     */
+    public DirectionOptimizingSearch(CsrGraph graph, CsrGraph transpose, int source, int alpha, int beta) {
+        if (alpha < 1 || beta < 1) {
+            throw new IllegalArgumentException("alpha and beta must be positive: " + alpha + ", " + beta);
+        }
+        this.graph = graph;
+        this.transpose = transpose;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.n = graph.vertexCount();
+
+        int words = (n + 63) >>> 6;
+        this.frontier = new long[words];
+        this.next = new long[words];
+        this.discovered = new long[words];
+        this.parent = new int[n];
+        this.level = new int[n];
+        Arrays.fill(parent, -1);
+        Arrays.fill(level, -1);
+
+        // The bits past the last vertex count as discovered, so that bottom-up levels never visit them
+        if ((n & 63) != 0) {
+            discovered[words - 1] = -1L << (n & 63);
+        }
+
+        unexploredArcs = graph.arcCount();
+        setBit(frontier, source);
+        setBit(discovered, source);
+        level[source] = 0;
+        frontierSize = 1;
+        frontierArcs = graph.outDegree(source);
+        unexploredArcs -= frontierArcs;
+    }
+
+    /**
+     * Expands the frontier by one level.
+     *
+     * @return The summary of the level, or null if the frontier is empty and the search is finished.
+     */
+    public Level step() {
+        if (frontierSize == 0) {
+            return null;
+        }
+
+        if (direction == BfsDirection.TOP_DOWN && frontierArcs > unexploredArcs / alpha) {
+            direction = BfsDirection.BOTTOM_UP;
+        } else if (direction == BfsDirection.BOTTOM_UP && frontierSize < n / beta) {
+            direction = BfsDirection.TOP_DOWN;
+        }
+
+        long before = inspected;
+        depth++;
+        int nextSize = 0;
+        long nextArcs = 0;
+        if (direction == BfsDirection.TOP_DOWN) {
+            for (int word = 0; word < frontier.length; word++) {
+                for (long bits = frontier[word]; bits != 0; bits &= bits - 1) {
+                    int u = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                        inspected++;
+                        int v = graph.target(arc);
+                        if (!hasBit(discovered, v)) {
+                            discover(v, u);
+                            nextSize++;
+                            nextArcs += graph.outDegree(v);
+                        }
+                    }
+                }
+            }
+        } else {
+            for (int word = 0; word < discovered.length; word++) {
+                for (long bits = ~discovered[word]; bits != 0; bits &= bits - 1) {
+                    int v = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    for (int arc = transpose.firstArc(v); arc < transpose.endArc(v); arc++) {
+                        inspected++;
+                        int u = transpose.target(arc);
+                        if (hasBit(frontier, u)) {
+                            discover(v, u);
+                            nextSize++;
+                            nextArcs += graph.outDegree(v);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        long[] swap = frontier;
+        frontier = next;
+        next = swap;
+        Arrays.fill(next, 0);
+        frontierSize = nextSize;
+        frontierArcs = nextArcs;
+        unexploredArcs -= nextArcs;
+        return new Level(depth, direction, nextSize, inspected - before);
+    }
+
+    private void discover(int v, int u) {
+        setBit(discovered, v);
+        setBit(next, v);
+        parent[v] = u;
+        level[v] = depth;
+    }
+
+    /**
+     * Expands all remaining levels.
+     *
+     * @return The total number of inspected arcs.
+     */
+    public long run() {
+        while (step() != null) {
+            // Expand the next level
+        }
+        return inspected;
+    }
+
+    /**
+     * @return The vertices discovered in the last expanded level, in increasing order.
+     */
+    public int[] frontier() {
+        int[] vertices = new int[frontierSize];
+        int count = 0;
+        for (int word = 0; word < frontier.length; word++) {
+            for (long bits = frontier[word]; bits != 0; bits &= bits - 1) {
+                vertices[count++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return vertices;
+    }
+
+    /**
+     * @param vertex A vertex.
+     * @return The vertex it was discovered from, or -1 for the source and undiscovered vertices.
+     */
+    public int parent(int vertex) {
+        return parent[vertex];
+    }
+
+    /**
+     * @param vertex A vertex.
+     * @return The number of edges from the source, or -1 if the vertex was not discovered.
+     */
+    public int level(int vertex) {
+        return level[vertex];
+    }
+
+    /**
+     * @return The number of arcs inspected so far.
+     */
+    public long inspected() {
+        return inspected;
+    }
+
+    /**
+     * Counts the arcs a plain top-down search inspects from the source, i.e. the outgoing arcs of every
+     * reachable vertex, as done by the queue based breadth-first search.
+     *
+     * @param graph  The graph.
+     * @param source The source vertex.
+     * @return The number of inspected arcs.
+     */
+    public static long topDownInspections(CsrGraph graph, int source) {
+        int[] levels = new int[graph.vertexCount()];
+        ShortestPaths.breadthFirstSearch(graph, source, -1, levels);
+        long arcs = 0;
+        for (int v = 0; v < levels.length; v++) {
+            if (levels[v] >= 0) {
+                arcs += graph.outDegree(v);
+            }
+        }
+        return arcs;
+    }
+
+    private static boolean hasBit(long[] bitmap, int v) {
+        return (bitmap[v >>> 6] & (1L << v)) != 0;
+    }
+
+    private static void setBit(long[] bitmap, int v) {
+        bitmap[v >>> 6] |= 1L << v;
+    }
+}
@@ -1,70 +1,86 @@
 package com.marcinseweryn.visualizer.model.path;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
- * A utility class to store and manage distances of nodes in a graph.
- * This class uses an internal list to dynamically manage distances,
- * returning Double.POSITIVE_INFINITY for uninitialized indices.
+ * Stores the distances of the vertices of a graph, indexed by their dense vertex index.
+ * Distances are kept in a primitive array together with a generation stamp per vertex: a distance is only
+ * valid if its stamp equals the current generation, otherwise it reads as Double.POSITIVE_INFINITY.
+ * Resetting therefore just increments the generation, so the same instance can be reused across runs
+ * without clearing the array and a run only pays for the vertices it touches.
  */
 public class DistanceList {
 
-    private static final Logger logger = LogManager.getLogger(DistanceList.class);
-
-    // Internal list to store distances
-    private final ArrayList<Double> list;
+    private double[] distances;
+    private int[] stamps;
+    private int generation = 1;
+    private int size;
 
     /**
-     * Constructor to initialize the DistanceList with an empty list.
+     * Constructor to initialize an empty DistanceList, see {@link #reset(int)}.
      */
     public DistanceList() {
-        list = new ArrayList<>();
-        logger.debug("DistanceList initialized with an empty list.");
+        this(0);
     }
 
     /**
-     * Sets the distance value at the specified index.
-     * If the index is greater than the current size of the list, it expands the list
-     * and fills uninitialized positions with null.
+     * Constructor to initialize a DistanceList for the given number of vertices.
      *
-     * @param index The index at which the distance value will be set.
-     * @param value The distance value to set.
+     * @param size The number of vertices.
      */
-    public void set(int index, Double value) {
-        while (list.size() <= index) {
-            list.add(null); // Expand the list and fill with null
-            logger.debug("Expanded list size to {} and filled with null.", list.size());
-        }
-        list.set(index, value);
-        logger.debug("Set distance at index {} to {}", index, value);
+    public DistanceList(int size) {
+        this.distances = new double[size];
+        this.stamps = new int[size];
+        this.size = size;
     }
 
     /**
-     * Gets the distance value at the specified index.
-     * If the index is out of bounds or the value at the index is null, it returns Double.POSITIVE_INFINITY.
+     * Forgets all distances and prepares the list for the given number of vertices.
+     * The arrays are only reallocated if they are too small.
      *
-     * @param index The index from which to get the distance value.
-     * @return The distance value at the index, or Double.POSITIVE_INFINITY if uninitialized.
+     * @param size The number of vertices.
      */
-    public Double get(int index) {
-        if (index >= list.size() || list.get(index) == null) {
-            logger.debug("Returning POSITIVE_INFINITY for uninitialized index: {}", index);
-            return Double.POSITIVE_INFINITY;
+    public void reset(int size) {
+        if (size > distances.length) {
+            distances = new double[size];
+            stamps = new int[size];
+            generation = 1;
+        } else if (++generation == Integer.MAX_VALUE) {
+            // Stamps of earlier generations could be mistaken for the current one after wrapping around
+            Arrays.fill(stamps, 0);
+            generation = 1;
         }
-        logger.debug("Returning distance at index {}: {}", index, list.get(index));
-        return list.get(index);
+        this.size = size;
+    }
+
+    /**
+     * Sets the distance of the vertex with the specified index.
+     *
+     * @param index The vertex index.
+     * @param value The distance.
+     */
+    public void set(int index, double value) {
+        distances[index] = value;
+        stamps[index] = generation;
     }
 
     /**
-     * Gets the current size of the distance list.
+     * Gets the distance of the vertex with the specified index.
+     *
+     * @param index The vertex index.
+     * @return The distance, or Double.POSITIVE_INFINITY if it was not set since the last reset.
+     */
+    public double get(int index) {
+        return stamps[index] == generation ? distances[index] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Gets the number of vertices.
      *
      * @return The size of the list.
      */
     public int size() {
-        return list.size();
+        return size;
     }
 
     /**
@@ -74,6 +90,13 @@ public class DistanceList {
      */
     @Override
     public String toString() {
-        return list.toString();
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(get(i));
+        }
+        return builder.append(']').toString();
     }
 }
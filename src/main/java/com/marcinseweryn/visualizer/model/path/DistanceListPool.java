@@ -0,0 +1,39 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps one idle {@link DistanceList} for the algorithms running on a graph, so that consecutive runs reuse its
+ * arrays and only pay the O(1) generation reset. The view creates a new algorithm for every run and hands all of
+ * them the same pool.
+ * A run takes the list out of the pool and puts it back when it ends. A run that is abandoned while paused keeps
+ * its list until its thread finishes, and the run started meanwhile gets a new list instead of sharing it.
+ */
+public final class DistanceListPool {
+
+    private final AtomicReference<DistanceList> idle = new AtomicReference<>(new DistanceList());
+
+    /**
+     * Takes the idle list out of the pool, or creates a new one if another run holds it.
+     *
+     * @param vertexCount The number of vertices of the graph.
+     * @return A list reset to Double.POSITIVE_INFINITY for the given number of vertices.
+     */
+    public DistanceList acquire(int vertexCount) {
+        DistanceList distances = idle.getAndSet(null);
+        if (distances == null) {
+            distances = new DistanceList();
+        }
+        distances.reset(vertexCount);
+        return distances;
+    }
+
+    /**
+     * Returns a list taken by {@link #acquire(int)}, it is kept unless the pool already holds an idle list.
+     *
+     * @param distances The list, no longer used by its run.
+     */
+    public void release(DistanceList distances) {
+        idle.compareAndSet(null, distances);
+    }
+}
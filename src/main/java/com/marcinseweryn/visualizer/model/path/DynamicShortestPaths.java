@@ -0,0 +1,320 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+
+/**
+ * Single-source shortest paths on a {@link CsrGraph} whose arc weights change after the initial computation,
+ * repaired incrementally in the manner of Ramalingam and Reps instead of being recomputed.
+ * <ul>
+ *     <li>A weight decrease on arc (u, v) only matters if it improves v; the improvement is propagated by a
+ *     Dijkstra search that only visits vertices whose distance actually decreases.</li>
+ *     <li>A weight increase only matters if the arc is the parent arc of v in the shortest path tree. Then the
+ *     subtree of v is the affected set: every vertex outside of it keeps its tree path. The affected vertices
+ *     get their best distance through arcs from unaffected vertices, and a Dijkstra search restricted to
+ *     them settles the rest.</li>
+ * </ul>
+ * Deleting an arc is an increase to Double.POSITIVE_INFINITY, so the structure of the graph stays fixed.
+ * Weights must be non-negative.
+ */
+public final class DynamicShortestPaths {
+
+    /**
+     * Outcome of a weight change.
+     *
+     * @param changed The vertices whose distance or parent changed.
+     * @param settled The number of vertices the repair settled.
+     * @param scanned The number of arcs the repair scanned.
+     */
+    public record Update(int[] changed, int settled, int scanned) {
+    }
+
+    private final CsrGraph graph;
+    private final int source;
+    private final double[] weight;
+
+    // Incoming arcs of every vertex and the source of every arc, for the affected vertices of an increase
+    private final int[] inOffsets;
+    private final int[] inArcs;
+    private final int[] arcSource;
+
+    // Arcs of every edge id, both arcs of a bidirectional edge change together
+    private final int[] edgeOffsets;
+    private final int[] edgeArcs;
+
+    private final double[] distance;
+    private final int[] parentArc;
+    private final IndexedDaryHeap queue;
+
+    // Scratch state of the current update
+    private final boolean[] affected;
+    private final boolean[] touched;
+    private final double[] oldDistance;
+    private final int[] oldParentArc;
+    private int[] touchedList;
+    private int touchedCount;
+    private int settled;
+    private int scanned;
+
+    /**
+     * Builds the incoming arc index and computes the initial shortest path tree from the source.
+     *
+     * @param graph  The graph, with non-negative weights.
+     * @param source The source vertex.
+     */
+    public DynamicShortestPaths(CsrGraph graph, int source) {
+        if (ShortestPaths.hasNegativeWeights(graph)) {
+            throw new IllegalArgumentException("Dynamic shortest paths require non-negative weights");
+        }
+        int n = graph.vertexCount();
+        int m = graph.arcCount();
+        this.graph = graph;
+        this.source = source;
+        this.weight = new double[m];
+        this.arcSource = new int[m];
+        this.inOffsets = new int[n + 1];
+        this.inArcs = new int[m];
+        this.edgeOffsets = new int[graph.edgeCount() + 1];
+        this.edgeArcs = new int[m];
+
+        // Counting sort of the arcs by target and by edge id
+        for (int u = 0; u < n; u++) {
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                weight[arc] = graph.weight(arc);
+                arcSource[arc] = u;
+                inOffsets[graph.target(arc) + 1]++;
+                edgeOffsets[graph.edgeId(arc) + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            inOffsets[v + 1] += inOffsets[v];
+        }
+        for (int e = 0; e < graph.edgeCount(); e++) {
+            edgeOffsets[e + 1] += edgeOffsets[e];
+        }
+        int[] inNext = Arrays.copyOf(inOffsets, n);
+        int[] edgeNext = Arrays.copyOf(edgeOffsets, graph.edgeCount());
+        for (int arc = 0; arc < m; arc++) {
+            inArcs[inNext[graph.target(arc)]++] = arc;
+            edgeArcs[edgeNext[graph.edgeId(arc)]++] = arc;
+        }
+
+        this.distance = new double[n];
+        this.parentArc = new int[n];
+        this.queue = new IndexedDaryHeap(4, n);
+        this.affected = new boolean[n];
+        this.touched = new boolean[n];
+        this.oldDistance = new double[n];
+        this.oldParentArc = new int[n];
+        this.touchedList = new int[16];
+        recompute();
+    }
+
+    /**
+     * Recomputes the shortest path tree from scratch with the current weights.
+     *
+     * @return The number of settled vertices.
+     */
+    public int recompute() {
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(parentArc, -1);
+        queue.clear();
+        beginUpdate();
+        distance[source] = 0;
+        queue.insert(source, 0);
+        propagate();
+        endUpdate();
+        return settled;
+    }
+
+    /**
+     * Changes the weight of every arc of an edge and repairs the shortest path tree.
+     *
+     * @param edgeId The edge id, see {@link CsrGraph#edgeId(int)}.
+     * @param w      The new non-negative weight, Double.POSITIVE_INFINITY to delete the edge.
+     * @return The vertices that changed and the work of the repair.
+     */
+    public Update setEdgeWeight(int edgeId, double w) {
+        if (w < 0 || Double.isNaN(w)) {
+            throw new IllegalArgumentException("Weight must be non-negative: " + w);
+        }
+        beginUpdate();
+        for (int i = edgeOffsets[edgeId]; i < edgeOffsets[edgeId + 1]; i++) {
+            changeArc(edgeArcs[i], w);
+        }
+        return endUpdate();
+    }
+
+    /**
+     * Deletes every arc of an edge and repairs the shortest path tree.
+     *
+     * @param edgeId The edge id, see {@link CsrGraph#edgeId(int)}.
+     * @return The vertices that changed and the work of the repair.
+     */
+    public Update removeEdge(int edgeId) {
+        return setEdgeWeight(edgeId, Double.POSITIVE_INFINITY);
+    }
+
+    private void changeArc(int arc, double w) {
+        double old = weight[arc];
+        weight[arc] = w;
+        int u = arcSource[arc];
+        int v = graph.target(arc);
+
+        if (w < old) {
+            if (distance[u] + w < distance[v]) {
+                update(v, distance[u] + w, arc);
+                propagate();
+            }
+        } else if (w > old && parentArc[v] == arc) {
+            increase(v);
+        }
+    }
+
+    /**
+     * Repairs the subtree of v after the weight of its parent arc increased.
+     */
+    private void increase(int root) {
+        // Collect the subtree of the root: the children of x are the targets whose parent arc leaves x
+        int[] subtree = new int[16];
+        int size = 0;
+        subtree[size++] = root;
+        affected[root] = true;
+        for (int i = 0; i < size; i++) {
+            int x = subtree[i];
+            for (int arc = graph.firstArc(x); arc < graph.endArc(x); arc++) {
+                scanned++;
+                int y = graph.target(arc);
+                if (parentArc[y] == arc && !affected[y]) {
+                    affected[y] = true;
+                    if (size == subtree.length) {
+                        subtree = Arrays.copyOf(subtree, 2 * size);
+                    }
+                    subtree[size++] = y;
+                }
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            int x = subtree[i];
+            touch(x);
+            distance[x] = Double.POSITIVE_INFINITY;
+            parentArc[x] = -1;
+        }
+
+        // Best distance of every affected vertex through an arc from the unaffected part of the tree
+        for (int i = 0; i < size; i++) {
+            int x = subtree[i];
+            for (int j = inOffsets[x]; j < inOffsets[x + 1]; j++) {
+                scanned++;
+                int arc = inArcs[j];
+                int y = arcSource[arc];
+                if (!affected[y] && distance[y] + weight[arc] < distance[x]) {
+                    distance[x] = distance[y] + weight[arc];
+                    parentArc[x] = arc;
+                }
+            }
+            if (distance[x] < Double.POSITIVE_INFINITY) {
+                queue.insertOrDecrease(x, distance[x]);
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            affected[subtree[i]] = false;
+        }
+        propagate();
+    }
+
+    /**
+     * Dijkstra's algorithm from the queued vertices, only visiting vertices whose distance decreases.
+     */
+    private void propagate() {
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            settled++;
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                scanned++;
+                int v = graph.target(arc);
+                double candidate = distance[u] + weight[arc];
+                if (candidate < distance[v]) {
+                    update(v, candidate, arc);
+                }
+            }
+        }
+    }
+
+    private void update(int v, double d, int arc) {
+        touch(v);
+        distance[v] = d;
+        parentArc[v] = arc;
+        queue.insertOrDecrease(v, d);
+    }
+
+    /**
+     * Remembers the distance and parent of a vertex before the current update first modifies them.
+     */
+    private void touch(int v) {
+        if (!touched[v]) {
+            touched[v] = true;
+            oldDistance[v] = distance[v];
+            oldParentArc[v] = parentArc[v];
+            if (touchedCount == touchedList.length) {
+                touchedList = Arrays.copyOf(touchedList, 2 * touchedCount);
+            }
+            touchedList[touchedCount++] = v;
+        }
+    }
+
+    private void beginUpdate() {
+        touchedCount = 0;
+        settled = 0;
+        scanned = 0;
+    }
+
+    /**
+     * Reports the touched vertices that ended up with a different distance or parent, e.g. a vertex of an
+     * affected subtree with an alternative path of the same length and parent is not reported.
+     */
+    private Update endUpdate() {
+        int[] changed = new int[touchedCount];
+        int count = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int v = touchedList[i];
+            touched[v] = false;
+            if (distance[v] != oldDistance[v] || parentArc[v] != oldParentArc[v]) {
+                changed[count++] = v;
+            }
+        }
+        return new Update(Arrays.copyOf(changed, count), settled, scanned);
+    }
+
+    public int source() {
+        return source;
+    }
+
+    public double distance(int vertex) {
+        return distance[vertex];
+    }
+
+    /**
+     * @param vertex A vertex.
+     * @return The parent of the vertex in the shortest path tree, or -1 for the source and unreachable vertices.
+     */
+    public int parent(int vertex) {
+        return parentArc[vertex] == -1 ? -1 : arcSource[parentArc[vertex]];
+    }
+
+    /**
+     * @param arc An arc index.
+     * @return The current weight of the arc, Double.POSITIVE_INFINITY if it was deleted.
+     */
+    public double weight(int arc) {
+        return weight[arc];
+    }
+
+    /**
+     * @return The graph with the current weights, e.g. to verify a repair against a full recomputation.
+     */
+    public CsrGraph currentGraph() {
+        return graph.withWeights(weight);
+    }
+}
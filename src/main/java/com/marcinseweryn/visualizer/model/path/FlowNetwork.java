@@ -0,0 +1,197 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+
+/**
+ * Residual network of a {@link CsrGraph} whose arc weights are capacities. Every arc of the graph becomes a
+ * forward residual arc with its capacity and a reverse residual arc with capacity 0, both stored in compressed
+ * sparse row form: the residual arcs of v are {@code firstArc(v)} to {@code endArc(v)}, and target, residual
+ * capacity, paired reverse arc and original arc live in parallel primitive arrays. Pushing flow along a residual
+ * arc lowers its residual capacity and raises the one of its pair, so no other flow bookkeeping is needed.
+ * <p>
+ * The flow algorithms working on the network are {@link DinicSearch} and {@link PushRelabelSearch}.
+ */
+public final class FlowNetwork {
+
+    // Residual capacities below this are treated as saturated, against rounding of fractional capacities
+    static final double EPSILON = 1e-9;
+
+    private final CsrGraph graph;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] reverse;
+    private final int[] original;
+    private final double[] capacity;
+    private final double[] residual;
+
+    // Residual arc of every arc of the graph
+    private final int[] forward;
+
+    private FlowNetwork(CsrGraph graph) {
+        this.graph = graph;
+        int n = graph.vertexCount();
+        int arcs = graph.arcCount();
+
+        offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            offsets[u + 1] += graph.outDegree(u);
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                offsets[graph.target(arc) + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] next = Arrays.copyOf(offsets, n);
+        targets = new int[2 * arcs];
+        reverse = new int[2 * arcs];
+        original = new int[2 * arcs];
+        capacity = new double[2 * arcs];
+        forward = new int[arcs];
+        for (int u = 0; u < n; u++) {
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                int v = graph.target(arc);
+                int out = next[u]++;
+                int back = next[v]++;
+                targets[out] = v;
+                targets[back] = u;
+                reverse[out] = back;
+                reverse[back] = out;
+                original[out] = arc;
+                original[back] = -1;
+                capacity[out] = graph.weight(arc);
+                forward[arc] = out;
+            }
+        }
+        residual = capacity.clone();
+    }
+
+    /**
+     * Builds the residual network with zero flow.
+     *
+     * @param graph The graph, its weights are the capacities and must not be negative.
+     * @return The network.
+     */
+    public static FlowNetwork of(CsrGraph graph) {
+        if (ShortestPaths.hasNegativeWeights(graph)) {
+            throw new IllegalArgumentException("Capacities must not be negative");
+        }
+        return new FlowNetwork(graph);
+    }
+
+    /**
+     * @return The graph the network was built from.
+     */
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    /**
+     * @return The number of vertices.
+     */
+    public int vertexCount() {
+        return offsets.length - 1;
+    }
+
+    int firstArc(int vertex) {
+        return offsets[vertex];
+    }
+
+    int endArc(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    int target(int residualArc) {
+        return targets[residualArc];
+    }
+
+    int reverse(int residualArc) {
+        return reverse[residualArc];
+    }
+
+    double residual(int residualArc) {
+        return residual[residualArc];
+    }
+
+    void push(int residualArc, double amount) {
+        residual[residualArc] -= amount;
+        residual[reverse[residualArc]] += amount;
+    }
+
+    /**
+     * @param arc An arc of the graph.
+     * @return The flow along the arc.
+     */
+    public double flow(int arc) {
+        int out = forward[arc];
+        return capacity[out] - residual[out];
+    }
+
+    /**
+     * @param arc An arc of the graph.
+     * @return True if the arc carries its full, positive capacity.
+     */
+    public boolean isSaturated(int arc) {
+        return graph.weight(arc) > 0 && residual[forward[arc]] <= EPSILON;
+    }
+
+    /**
+     * @param source A vertex.
+     * @return The net flow out of the vertex.
+     */
+    public double outflow(int source) {
+        double total = 0;
+        for (int arc = firstArc(source); arc < endArc(source); arc++) {
+            total += original[arc] >= 0 ? capacity[arc] - residual[arc] : -residual[arc];
+        }
+        return total;
+    }
+
+    /**
+     * Finds the source side of a minimum cut once the flow is maximal: the vertices still reachable from the
+     * source along residual arcs. The arcs from the source side to the other side are saturated, and their
+     * capacities add up to the flow value.
+     *
+     * @param source The source vertex.
+     * @return For every vertex, whether it is on the source side.
+     */
+    public boolean[] minCutSourceSide(int source) {
+        int n = vertexCount();
+        boolean[] reached = new boolean[n];
+        int[] queue = new int[n];
+        int tail = 0;
+        queue[tail++] = source;
+        reached[source] = true;
+        for (int head = 0; head < tail; head++) {
+            int u = queue[head];
+            for (int arc = firstArc(u); arc < endArc(u); arc++) {
+                int v = targets[arc];
+                if (!reached[v] && residual[arc] > EPSILON) {
+                    reached[v] = true;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * @param sourceSide The source side of a cut, see {@link #minCutSourceSide(int)}.
+     * @return The total capacity of the arcs leaving the source side.
+     */
+    public double cutCapacity(boolean[] sourceSide) {
+        double total = 0;
+        for (int u = 0; u < graph.vertexCount(); u++) {
+            if (!sourceSide[u]) {
+                continue;
+            }
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                if (!sourceSide[graph.target(arc)]) {
+                    total += graph.weight(arc);
+                }
+            }
+        }
+        return total;
+    }
+}
@@ -7,11 +7,18 @@ import com.marcinseweryn.visualizer.view.GraphNode;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
+import javafx.scene.shape.Line;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -30,10 +37,24 @@ public abstract class GraphAlgorithm extends Algorithm {
 
     private static final Logger logger = LogManager.getLogger(GraphAlgorithm.class);
 
+    // Pool of the distance list reused across runs, replaced by the one of the graph view, and the list of this run
+    private DistanceListPool distancePool = new DistanceListPool();
+    private DistanceList distances;
+
+    // Results of the most recent queries, shared by all algorithms
+    private static final int QUERY_CACHE_CAPACITY = 32;
+    private static final QueryCache queryCache = new QueryCache(QUERY_CACHE_CAPACITY);
+
+    // Removes the graph edit listeners an algorithm keeps after its execution, only used on the JavaFX thread
+    private static final List<Runnable> graphEditListenerRemovals = new ArrayList<>();
+
     // Starting and destination nodes for the graph traversal
     protected final SimpleObjectProperty<GraphNode> startNode = new SimpleObjectProperty<>();
     protected final SimpleObjectProperty<GraphNode> destinationNode = new SimpleObjectProperty<>();
 
+    // Observable list of statistics lines reported by the algorithm (e.g. settled nodes)
+    protected final ObservableList<String> statistics = FXCollections.observableArrayList();
+
     // List to store the nodes that form the path
     private final List<GraphNode> path = new ArrayList<>();
 
@@ -45,6 +66,9 @@ public abstract class GraphAlgorithm extends Algorithm {
     private GraphNode currentNode;
     private GraphNode neighborNode;
 
+    private boolean queryCacheEnabled = true;
+    private GraphVersion graphVersion;
+
     /**
      * Constructor for initializing the GraphAlgorithm class with necessary visual elements and bindings.
      *
@@ -68,6 +92,163 @@ public abstract class GraphAlgorithm extends Algorithm {
         logger.debug("GraphAlgorithm initialized with startNode: {} and destinationNode: {}", startNode, destinationNode);
     }
 
+    /**
+     * Sets whether a run started in continuous mode on an unchanged graph is served from the query cache
+     * instead of executing the algorithm again. Results are cached either way; runs in step-by-step mode are
+     * always executed.
+     *
+     * @param queryCacheEnabled True to serve repeated queries from the cache.
+     */
+    public void setQueryCacheEnabled(boolean queryCacheEnabled) {
+        this.queryCacheEnabled = queryCacheEnabled;
+    }
+
+    /**
+     * Sets the pool the distance list of a run is taken from, shared by the algorithms running on one graph.
+     *
+     * @param distancePool The pool of the graph view.
+     */
+    public void setDistancePool(DistanceListPool distancePool) {
+        this.distancePool = distancePool;
+    }
+
+    /**
+     * Sets the version of the graph the algorithm runs on, which keys its results in the query cache. Without
+     * a version, results are neither cached nor served from the cache.
+     *
+     * @param graphVersion The version of the graph, incremented by the view on every edit.
+     */
+    public void setGraphVersion(GraphVersion graphVersion) {
+        this.graphVersion = graphVersion;
+    }
+
+    /**
+     * Starts the algorithm, or shows the cached result if the same query already ran on the current version
+     * of the graph. After an execution that was not interrupted, the distance and parent of every node are cached.
+     *
+     * @param continuousMode If true, the algorithm will run continuously without pauses.
+     */
+    @Override
+    public void start(boolean continuousMode) {
+        detachGraphEditListeners();
+
+        QueryCache.Key key = queryKey();
+        if (key == null) {
+            execute(continuousMode);
+            return;
+        }
+
+        if (continuousMode && queryCacheEnabled) {
+            QueryCache.Result cached = queryCache.get(key);
+            if (cached != null) {
+                logger.info("Serving {} from the query cache.", key);
+                Platform.runLater(this::setPseudocode);
+                showCachedResult(cached);
+                return;
+            }
+        }
+
+        execute(continuousMode);
+        if (Thread.currentThread().isInterrupted()) {
+            logger.debug("Execution was interrupted, not caching its result.");
+            return;
+        }
+        queryCache.put(key, captureResult());
+    }
+
+    /**
+     * Executes the algorithm and returns its distance list to the pool afterwards.
+     */
+    private void execute(boolean continuousMode) {
+        try {
+            super.start(continuousMode);
+        } finally {
+            if (distances != null) {
+                distancePool.release(distances);
+                distances = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the name under which results of this algorithm are cached. Algorithms whose result depends on
+     * their settings (e.g. an inadmissible heuristic) include these settings.
+     *
+     * @return The cache name of the algorithm.
+     */
+    protected String queryCacheName() {
+        return getClass().getName();
+    }
+
+    /**
+     * Returns whether the result of this algorithm can be served from the query cache. Algorithms that keep
+     * working on the graph after their execution are not cacheable.
+     *
+     * @return True if the algorithm is cacheable.
+     */
+    protected boolean isQueryCacheable() {
+        return true;
+    }
+
+    private QueryCache.Key queryKey() {
+        if (graphVersion == null || startNode.get() == null || !isQueryCacheable()) {
+            return null;
+        }
+
+        GraphNode destination = destinationNode.get();
+        return new QueryCache.Key(graphVersion.get(), queryCacheName(), startNode.get().getId(),
+                                  destination == null ? null : destination.getId());
+    }
+
+    /**
+     * Copies the distance and parent of every node after an execution.
+     */
+    private QueryCache.Result captureResult() {
+        GraphSnapshot snapshot = getGraphSnapshot();
+        int n = snapshot.csr().vertexCount();
+        double[] distance = new double[n];
+        int[] parent = new int[n];
+        for (int v = 0; v < n; v++) {
+            GraphNode node = snapshot.node(v);
+            distance[v] = node.getDistance();
+            parent[v] = node.getParentNode() == null ? -1 : snapshot.indexOf(node.getParentNode());
+        }
+        return new QueryCache.Result(distance, parent);
+    }
+
+    /**
+     * Restores the distances and parents of a cached result and visualizes the path to the destination.
+     */
+    private void showCachedResult(QueryCache.Result result) {
+        GraphSnapshot snapshot = getGraphSnapshot();
+        int n = snapshot.csr().vertexCount();
+        for (int v = 0; v < n; v++) {
+            GraphNode node = snapshot.node(v);
+            node.setDistance(result.distance()[v]);
+            node.setParentNode(result.parent()[v] == -1 ? null : snapshot.node(result.parent()[v]));
+            if (result.distance()[v] == Double.NEGATIVE_INFINITY) {
+                Platform.runLater(() -> node.setPrimaryClass("negative-cycle"));
+            }
+        }
+        reportStatistic(String.format("served from the query cache (graph version %d, %d of %d entries, %d hits, %d misses)",
+                                      graphVersion.get(), queryCache.size(), queryCache.capacity(),
+                                      queryCache.hits(), queryCache.misses()));
+
+        // Parents only form a path if the cached run found one, and may form a cycle around a negative cycle
+        GraphNode node = destinationNode.get();
+        for (int steps = 0; node != null && node != startNode.get() && steps < n; steps++) {
+            node = node.getParentNode();
+        }
+        if (node != null && node == startNode.get()) {
+            for (node = destinationNode.get(); node != startNode.get(); node = node.getParentNode()) {
+                addToPath(node);
+            }
+            startNode.get().setParentNode(null);
+            addToPath(startNode.get());
+            visualizePath();
+        }
+    }
+
     /**
      * Adds a node to the current path being traversed.
      *
@@ -78,6 +259,29 @@ public abstract class GraphAlgorithm extends Algorithm {
         logger.debug("Added node to path: {}", node);
     }
 
+    /**
+     * Removes the path style from the nodes and connections of the current path and empties it, e.g. before
+     * visualizing a changed path. Must be called before the parents of the path nodes change.
+     *
+     * @return The nodes that were on the path.
+     */
+    protected List<GraphNode> clearPath() {
+        List<GraphNode> nodes = new ArrayList<>(path);
+        List<Edge> connections = new ArrayList<>();
+        for (GraphNode node : nodes) {
+            if (node.getParentNode() != null && node.getConnection(node.getParentNode()) != null) {
+                connections.add(node.getConnection(node.getParentNode()));
+            }
+        }
+        path.clear();
+
+        Platform.runLater(() -> {
+            nodes.forEach(node -> node.getStyleClass().remove("path"));
+            connections.forEach(connection -> connection.removeStyleClass("path"));
+        });
+        return nodes;
+    }
+
     /**
      * Visualizes the path by updating the style of each node and connection to indicate it belongs to the path.
      */
@@ -159,6 +363,73 @@ public abstract class GraphAlgorithm extends Algorithm {
     }
 
 
+    /**
+     * Draws a line between two nodes behind the graph, for connections that are not edges of the graph
+     * (e.g. shortcuts). The line carries the "overlay" style class and is removed when the graph state is reset;
+     * it is neither part of graph snapshots nor of exported graphs.
+     *
+     * @param from       The node at the start of the line.
+     * @param to         The node at the end of the line.
+     * @param styleClass The style class of the line.
+     */
+    protected void drawOverlayLine(GraphNode from, GraphNode to, String styleClass) {
+        Platform.runLater(() -> {
+            Line line = new Line();
+            line.startXProperty().bind(from.layoutXProperty());
+            line.startYProperty().bind(from.layoutYProperty());
+            line.endXProperty().bind(to.layoutXProperty());
+            line.endYProperty().bind(to.layoutYProperty());
+            line.setMouseTransparent(true);
+            line.getStyleClass().addAll("overlay", styleClass);
+            algorithmSpace.getChildren().add(0, line);
+        });
+    }
+
+    /**
+     * Keeps listening to the weight of an edge after the execution, until the next algorithm starts or the
+     * graph is reset, see {@link #detachGraphEditListeners()}. The listener is called on the JavaFX thread.
+     *
+     * @param edge     The edge.
+     * @param listener The listener of the weight.
+     */
+    protected void addEdgeWeightListener(Edge edge, ChangeListener<Number> listener) {
+        Platform.runLater(() -> {
+            edge.weightProperty().addListener(listener);
+            graphEditListenerRemovals.add(() -> edge.weightProperty().removeListener(listener));
+        });
+    }
+
+    /**
+     * Keeps listening to nodes and edges added to or removed from the algorithm space after the execution, until
+     * the next algorithm starts or the graph is reset, see {@link #detachGraphEditListeners()}.
+     * The listener is called on the JavaFX thread.
+     *
+     * @param listener The listener of the algorithm space children.
+     */
+    protected void addGraphElementListener(ListChangeListener<Node> listener) {
+        Platform.runLater(() -> {
+            algorithmSpace.getChildren().addListener(listener);
+            graphEditListenerRemovals.add(() -> algorithmSpace.getChildren().removeListener(listener));
+        });
+    }
+
+    /**
+     * Detaches all graph edit listeners kept by an earlier execution.
+     */
+    public static void detachGraphEditListeners() {
+        // On the JavaFX thread, e.g. before clearing the graph, the listeners must be gone before returning
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(GraphAlgorithm::detachGraphEditListeners);
+            return;
+        }
+
+        if (!graphEditListenerRemovals.isEmpty()) {
+            logger.debug("Detaching {} graph edit listeners.", graphEditListenerRemovals.size());
+            graphEditListenerRemovals.forEach(Runnable::run);
+            graphEditListenerRemovals.clear();
+        }
+    }
+
     /**
      * Retrieves all the GraphNode elements currently present in the algorithm space.
      *
@@ -171,6 +442,91 @@ public abstract class GraphAlgorithm extends Algorithm {
                 .toList();
     }
 
+    /**
+     * Builds a compressed sparse row snapshot of the graph currently present in the algorithm space.
+     * The snapshot does not follow later edits of the graph.
+     *
+     * @return The graph snapshot.
+     */
+    protected GraphSnapshot getGraphSnapshot() {
+        return GraphSnapshot.of(getGraph());
+    }
+
+    /**
+     * Returns the distance list of this run, reset to Double.POSITIVE_INFINITY for the given number of vertices.
+     * The list is taken from the pool of the graph view and resetting is O(1), so the same arrays serve the runs
+     * of every algorithm on graphs of up to the largest size seen so far. It is returned to the pool once the run ends.
+     *
+     * @param vertexCount The number of vertices of the graph.
+     * @return The distance list indexed by vertex index.
+     */
+    protected DistanceList resetDistances(int vertexCount) {
+        if (distances == null) {
+            distances = distancePool.acquire(vertexCount);
+        } else {
+            distances.reset(vertexCount);
+        }
+        return distances;
+    }
+
+    /**
+     * Binds the given ListView to the statistics reported by this algorithm.
+     *
+     * @param statisticsList The ListView displaying algorithm statistics.
+     */
+    public void bindStatisticsList(ListView<String> statisticsList) {
+        Platform.runLater(() -> statisticsList.setItems(statistics));
+    }
+
+    /**
+     * Appends a line to the statistics displayed for this algorithm.
+     *
+     * @param line The statistics line to display.
+     */
+    protected void reportStatistic(String line) {
+        logger.info("{}: {}", getClass().getSimpleName(), line);
+        Platform.runLater(() -> statistics.add(line));
+    }
+
+    /**
+     * Adds a titled list of plain text lines to the algorithm tab, for algorithm state that is not a
+     * collection of nodes (e.g. buckets or levels).
+     *
+     * @param title The title displayed above the list.
+     * @return The lines of the list, to be modified on the JavaFX application thread.
+     */
+    protected ObservableList<String> initializeTextView(String title) {
+        VBox algorithmView = new VBox();
+        Label label = new Label(title);
+        label.setContentDisplay(ContentDisplay.RIGHT);
+        label.getStyleClass().add("list-view-label");
+        ObservableList<String> lines = FXCollections.observableArrayList();
+        ListView<String> view = new ListView<>(lines);
+        algorithmView.getChildren().addAll(label, view);
+
+        Platform.runLater(() -> this.algorithmTab.getChildren().add(algorithmView));
+        return lines;
+    }
+
+    /**
+     * Adds a titled canvas to the algorithm tab, for algorithm state drawn as an image (e.g. a matrix).
+     *
+     * @param title The title displayed above the canvas.
+     * @param size  The width and height of the canvas.
+     * @return The canvas, to be drawn on the JavaFX application thread.
+     */
+    protected Canvas initializeCanvasView(String title, double size) {
+        VBox algorithmView = new VBox();
+        Label label = new Label(title);
+        label.setContentDisplay(ContentDisplay.RIGHT);
+        label.getStyleClass().add("list-view-label");
+        Canvas canvas = new Canvas(size, size);
+        algorithmView.getChildren().addAll(label, canvas);
+
+        Platform.runLater(() -> this.algorithmTab.getChildren().add(algorithmView));
+        return canvas;
+    }
+
     /**
      * Initializes the GraphNode visualizer for different data structure types (e.g., stack, queue).
      *
@@ -190,6 +546,8 @@ public abstract class GraphAlgorithm extends Algorithm {
             case VISITED -> label.setText("Visited");
             case DISTANCE -> label.setText("Distance");
             case CANDIDATE_NODES -> label.setText("Candidate Nodes");
+            case BACKWARD_VISITED -> label.setText("Backward Visited");
+            case BACKWARD_CANDIDATE_NODES -> label.setText("Backward Candidate Nodes");
             default -> throw new RuntimeException("Unsupported visualizer type: " + viewType);
         }
 
@@ -200,6 +558,7 @@ public abstract class GraphAlgorithm extends Algorithm {
             case QUEUE -> new GraphNodeQueue(viewType, view);
             case PRIORITY_QUEUE -> new GraphNodePriorityQueue(viewType, view);
             case LIST -> new GraphNodeList(viewType, view);
+            case INDEXED_HEAP -> new GraphNodeIndexedHeap(viewType, view);
             default -> throw new RuntimeException("Unsupported data structure type: " + dsType);
         };
     }
@@ -19,6 +19,9 @@ public abstract class GraphNodeDeque extends GraphNodeVisualizer {
     // Internal deque to store pending graph nodes
     private final ArrayDeque<GraphNode> pendingNodes = new ArrayDeque<>();
 
+    // Counts of the pending nodes, for membership checks without scanning the deque
+    private final NodeMembership<GraphNode> members = new NodeMembership<>(GraphNode::getIndex);
+
     /**
      * Constructor to initialize the deque visualizer with a ListType and a ListView for visualization.
      *
@@ -38,6 +41,7 @@ public abstract class GraphNodeDeque extends GraphNodeVisualizer {
     public void push(GraphNode node) {
         logger.debug("Pushing node onto deque: {}", node);
         pendingNodes.push(node);
+        members.add(node);
     }
 
     /**
@@ -47,7 +51,9 @@ public abstract class GraphNodeDeque extends GraphNodeVisualizer {
      */
     public GraphNode pop() {
         logger.debug("Popping node from deque.");
-        return pendingNodes.pop();
+        GraphNode node = pendingNodes.pop();
+        members.remove(node);
+        return node;
     }
 
     /**
@@ -58,6 +64,7 @@ public abstract class GraphNodeDeque extends GraphNodeVisualizer {
     public void enqueue(GraphNode node) {
         logger.debug("Enqueuing node into deque: {}", node);
         pendingNodes.add(node);
+        members.add(node);
     }
 
     /**
@@ -67,6 +74,7 @@ public abstract class GraphNodeDeque extends GraphNodeVisualizer {
      */
     public GraphNode dequeue() {
         GraphNode node = pendingNodes.remove();
+        members.remove(node);
         logger.debug("Dequeuing node and removing style: {}", node);
         super.removeNodeFromListAndClearStyle(node);
         return node;
@@ -74,7 +82,7 @@ public abstract class GraphNodeDeque extends GraphNodeVisualizer {
 
     @Override
     public boolean containsNode(GraphNode node) {
-        return pendingNodes.contains(node);
+        return members.contains(node);
     }
 
     @Override
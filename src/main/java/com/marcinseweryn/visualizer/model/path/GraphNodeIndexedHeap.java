@@ -0,0 +1,154 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.scene.control.ListView;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class representing an indexed d-ary min-heap of graph nodes keyed by their distance.
+ * Adding a node that is already queued decreases its key instead of adding a duplicate.
+ * Instead of the node infos, the ListView shows the heap array itself, one line per heap position.
+ * Nodes are addressed by their vertex index, see {@link GraphNode#getIndex()}.
+ */
+public class GraphNodeIndexedHeap extends GraphNodeVisualizer {
+
+    private static final Logger logger = LogManager.getLogger(GraphNodeIndexedHeap.class);
+
+    private IndexedDaryHeap heap = new IndexedDaryHeap(2, 16);
+
+    // Nodes by vertex index, to map polled vertices back to nodes
+    private GraphNode[] nodes = new GraphNode[16];
+
+    /**
+     * Constructor to initialize the heap visualizer with a ListType and a ListView.
+     *
+     * @param listType The type of the list (e.g., CANDIDATE_NODES, VISITED) to apply relevant styles.
+     * @param list     The ListView in which the heap array will be displayed.
+     */
+    protected GraphNodeIndexedHeap(ViewType listType, ListView<SimpleStringProperty> list) {
+        super(listType, list);
+        logger.debug("GraphNodeIndexedHeap initialized with list type: {}", listType);
+    }
+
+    /**
+     * Sets the arity of the heap. Only allowed while the heap is empty.
+     *
+     * @param arity The number of children of every heap node, at least 2.
+     */
+    public void setArity(int arity) {
+        if (!heap.isEmpty()) {
+            throw new IllegalStateException("Cannot change the arity of a non-empty heap");
+        }
+        heap = new IndexedDaryHeap(arity, nodes.length);
+    }
+
+    /**
+     * Inserts the node with its current distance as key, or decreases its key if it is already queued.
+     *
+     * @param node The GraphNode to be added.
+     */
+    @Override
+    public void addNode(GraphNode node) {
+        addNode(node, node.getDistance());
+    }
+
+    /**
+     * Inserts the node with the given key, or decreases its key if it is already queued.
+     *
+     * @param node The GraphNode to be added.
+     * @param key  The priority of the node, e.g. distance plus heuristic estimate.
+     */
+    public void addNode(GraphNode node, double key) {
+        int vertex = node.getIndex();
+        if (vertex >= nodes.length) {
+            nodes = Arrays.copyOf(nodes, Math.max(vertex + 1, nodes.length * 2));
+        }
+        nodes[vertex] = node;
+
+        boolean inserted = heap.insertOrDecrease(vertex, key);
+        logger.debug("{} node {} with key {}", inserted ? "Inserted" : "Decreased key of", node.getId(), key);
+        showHeap();
+    }
+
+    /**
+     * Inserts the node with the given key or decreases its key, and applies the visual style of this list.
+     *
+     * @param node The GraphNode to be added.
+     * @param key  The priority of the node.
+     */
+    public void addNodeAndVisualize(GraphNode node, double key) {
+        addNode(node, key);
+        applyVisualStyleOnNode(node);
+    }
+
+    @Override
+    public GraphNode removeNode() {
+        GraphNode node = nodes[heap.poll()];
+        logger.debug("Polled node {} from the heap.", node.getId());
+        showHeap();
+        return node;
+    }
+
+    /**
+     * @return The smallest key in the heap, or Double.POSITIVE_INFINITY if the heap is empty.
+     */
+    public double minKey() {
+        return heap.isEmpty() ? Double.POSITIVE_INFINITY : heap.keyOf(heap.peek());
+    }
+
+    @Override
+    public boolean containsNode(GraphNode node) {
+        return heap.contains(node.getIndex());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    /**
+     * The heap array is rendered as a whole by {@link #showHeap()}, so single node infos are not appended.
+     *
+     * @param node The GraphNode that was added.
+     */
+    @Override
+    public void addNodeInfoToList(GraphNode node) {
+        // The heap array is rendered as a whole
+    }
+
+    /**
+     * Renders the heap array, one line per position with the vertex id, its key and its parent position.
+     */
+    private void showHeap() {
+        List<SimpleStringProperty> lines = new ArrayList<>(heap.size());
+        for (int i = 0; i < heap.size(); i++) {
+            int vertex = heap.vertexAt(i);
+            String parent = i == 0 ? "root" : "parent [" + (i - 1) / heap.arity() + "]";
+            lines.add(new HeapEntry("[" + i + "] ID: " + nodes[vertex].getId()
+                                            + " | Key: " + heap.keyOf(vertex) + " | " + parent));
+        }
+        Platform.runLater(() -> visualizedNodes.setAll(lines));
+    }
+
+    /**
+     * A line of the rendered heap array, displayed by the ListView through its toString.
+     */
+    private static class HeapEntry extends SimpleStringProperty {
+
+        HeapEntry(String line) {
+            super(line);
+        }
+
+        @Override
+        public String toString() {
+            return get();
+        }
+    }
+}
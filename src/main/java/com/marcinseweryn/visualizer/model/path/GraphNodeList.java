@@ -20,6 +20,9 @@ public class GraphNodeList extends GraphNodeVisualizer {
     // List to store graph nodes
     private final List<GraphNode> graphNodeList = new ArrayList<>();
 
+    // Counts of the listed nodes, for membership checks without scanning the list
+    private final NodeMembership<GraphNode> members = new NodeMembership<>(GraphNode::getIndex);
+
     /**
      * Constructor to initialize the list visualizer with a ListType and a ListView.
      *
@@ -36,6 +39,7 @@ public class GraphNodeList extends GraphNodeVisualizer {
         logger.debug("Adding node to list: {}", node);
         super.addNodeInfoToList(node);
         graphNodeList.add(node);
+        members.add(node);
     }
 
     @Override
@@ -46,7 +50,7 @@ public class GraphNodeList extends GraphNodeVisualizer {
 
     @Override
     public boolean containsNode(GraphNode node) {
-        return graphNodeList.contains(node);
+        return members.contains(node);
     }
 
     @Override
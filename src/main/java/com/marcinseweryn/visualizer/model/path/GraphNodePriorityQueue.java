@@ -20,6 +20,9 @@ public class GraphNodePriorityQueue extends GraphNodeVisualizer {
     // Priority queue based on node distance
     private final PriorityQueue<GraphNode> priorityQueue = new PriorityQueue<>(Comparator.comparing(GraphNode::getDistance));
 
+    // Counts of the queued nodes, a node is queued again on every improvement of its distance
+    private final NodeMembership<GraphNode> members = new NodeMembership<>(GraphNode::getIndex);
+
     /**
      * Constructor to initialize the priority queue visualizer with a ListType and a ListView.
      *
@@ -35,17 +38,20 @@ public class GraphNodePriorityQueue extends GraphNodeVisualizer {
     public void addNode(GraphNode node) {
         logger.debug("Adding node to priority queue: {}", node);
         this.priorityQueue.add(node);
+        this.members.add(node);
     }
 
     @Override
     public GraphNode removeNode() {
         logger.debug("Removing node from priority queue.");
-        return this.priorityQueue.remove();
+        GraphNode node = this.priorityQueue.remove();
+        this.members.remove(node);
+        return node;
     }
 
     @Override
     public boolean containsNode(GraphNode node) {
-        return this.priorityQueue.contains(node);
+        return this.members.contains(node);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.marcinseweryn.visualizer.model.path;
 
 import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.scene.control.ListView;
 import org.apache.logging.log4j.LogManager;
@@ -36,4 +37,17 @@ public class GraphNodeQueue extends GraphNodeDeque {
         logger.debug("Removing node from queue.");
         return super.dequeue();
     }
+
+    /**
+     * Inserts a node at the front of the queue instead of the back, e.g. for the Small Label First heuristic,
+     * and applies the visual style of this list.
+     *
+     * @param node The GraphNode to be added.
+     */
+    public void addNodeFirstAndVisualize(GraphNode node) {
+        logger.debug("Adding node to the front of the queue: {}", node);
+        super.push(node);
+        Platform.runLater(() -> visualizedNodes.add(0, node.getGeneralInfo()));
+        applyVisualStyleOnNode(node);
+    }
 }
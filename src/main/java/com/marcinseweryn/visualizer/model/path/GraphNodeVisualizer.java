@@ -81,6 +81,12 @@ public abstract class GraphNodeVisualizer {
                 case NEGATIVE_CYCLE:
                     node.getStyleClass().add("negative-cycle");
                     break;
+                case BACKWARD_CANDIDATE_NODES:
+                    node.getStyleClass().add("backward-candidate-nodes");
+                    break;
+                case BACKWARD_VISITED:
+                    node.getStyleClass().add("backward-visited");
+                    break;
                 default:
                     logger.warn("Unknown list type: {}", listType);
                     break;
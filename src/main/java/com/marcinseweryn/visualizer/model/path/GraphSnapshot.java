@@ -0,0 +1,129 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import com.marcinseweryn.visualizer.view.Edge;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link CsrGraph} built from the nodes and edges drawn in the UI, together with the mapping between
+ * vertex and edge indices and the JavaFX objects they were built from. Algorithms run on the CSR arrays
+ * and only go through the mapping to visualize their progress.
+ */
+public final class GraphSnapshot {
+
+    private static final Logger logger = LogManager.getLogger(GraphSnapshot.class);
+
+    private final CsrGraph csr;
+    private final GraphNode[] nodes;
+    private final Edge[] edges;
+
+    private GraphSnapshot(CsrGraph csr, GraphNode[] nodes, Edge[] edges) {
+        this.csr = csr;
+        this.nodes = nodes;
+        this.edges = edges;
+    }
+
+    /**
+     * Builds the snapshot in a single pass over the adjacency lists of the given nodes. The vertices are
+     * indexed in the order of the list and every node is assigned its index, see {@link GraphNode#getIndex()}.
+     * An arc from a node to its neighbour is created for every edge whose arrow head at the neighbour is visible.
+     *
+     * @param graph The nodes of the graph.
+     * @return The snapshot.
+     */
+    public static GraphSnapshot of(List<GraphNode> graph) {
+        int n = graph.size();
+        GraphNode[] nodes = graph.toArray(new GraphNode[0]);
+        int maxArcs = 0;
+        for (int v = 0; v < n; v++) {
+            nodes[v].setIndex(v);
+            maxArcs += nodes[v].getAllEdges().size();
+        }
+
+        // Every edge is listed by both of its nodes, so the summed edge list sizes bound the arc count
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[maxArcs];
+        double[] weights = new double[maxArcs];
+        byte[] flags = new byte[maxArcs];
+        int[] edgeIds = new int[maxArcs];
+        Map<Edge, Integer> edgeIndices = new IdentityHashMap<>(maxArcs);
+        Edge[] edges = new Edge[maxArcs];
+
+        int arcs = 0;
+        for (int v = 0; v < n; v++) {
+            GraphNode node = nodes[v];
+            offsets[v] = arcs;
+            for (Edge edge : node.getAllEdges()) {
+                if (!edge.isOppositeArrowHeadVisible(node)) {
+                    continue;
+                }
+                GraphNode neighbour = edge.getNeighbor(node);
+                int target = neighbour.getIndex();
+                if (target < 0 || target >= n || nodes[target] != neighbour) {
+                    continue;  // The neighbour is not part of the graph
+                }
+
+                Integer edgeId = edgeIndices.get(edge);
+                if (edgeId == null) {
+                    edgeId = edgeIndices.size();
+                    edgeIndices.put(edge, edgeId);
+                    edges[edgeId] = edge;
+                }
+
+                targets[arcs] = target;
+                weights[arcs] = edge.getWeight();
+                flags[arcs] = (byte) ((edge.getNodeA() == node ? CsrGraph.FORWARD : 0)
+                        | (edge.isArrowHeadVisible(node) ? CsrGraph.BIDIRECTIONAL : 0));
+                edgeIds[arcs] = edgeId;
+                arcs++;
+            }
+        }
+        offsets[n] = arcs;
+
+        CsrGraph csr = new CsrGraph(offsets,
+                                    Arrays.copyOf(targets, arcs), Arrays.copyOf(weights, arcs),
+                                    Arrays.copyOf(flags, arcs), Arrays.copyOf(edgeIds, arcs),
+                                    edgeIndices.size()
+        );
+        logger.debug("Built {} ({} bytes)", csr, csr.sizeInBytes());
+        return new GraphSnapshot(csr, nodes, Arrays.copyOf(edges, edgeIndices.size()));
+    }
+
+    /**
+     * @return The graph in compressed sparse row form.
+     */
+    public CsrGraph csr() {
+        return csr;
+    }
+
+    /**
+     * @param vertex A vertex index.
+     * @return The node the vertex was built from.
+     */
+    public GraphNode node(int vertex) {
+        return nodes[vertex];
+    }
+
+    /**
+     * @param arc An arc index.
+     * @return The edge the arc was built from.
+     */
+    public Edge edge(int arc) {
+        return edges[csr.edgeId(arc)];
+    }
+
+    /**
+     * @param node A node of the graph.
+     * @return The vertex index of the node, or -1 if it is not part of the snapshot.
+     */
+    public int indexOf(GraphNode node) {
+        int index = node.getIndex();
+        return index >= 0 && index < nodes.length && nodes[index] == node ? index : -1;
+    }
+}
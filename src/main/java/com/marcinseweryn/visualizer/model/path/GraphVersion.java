@@ -0,0 +1,27 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of an edited graph, incremented on every edit that can change the result of a query.
+ * The view that edits the graph owns the instance and hands it to the algorithms running on it, which key
+ * their cached results by the version they were computed on.
+ */
+public final class GraphVersion {
+
+    private final AtomicLong value = new AtomicLong();
+
+    /**
+     * @return The current version.
+     */
+    public long get() {
+        return value.get();
+    }
+
+    /**
+     * Increments the version after an edit of the graph.
+     */
+    public void increment() {
+        value.incrementAndGet();
+    }
+}
@@ -0,0 +1,247 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+
+/**
+ * Indexed d-ary min-heap of int vertex indices ordered by a double key.
+ * Every vertex is contained at most once and its position in the heap array is tracked, so its key can be
+ * decreased in O(log_d n) instead of inserting a duplicate entry. The memory is therefore O(V) regardless of
+ * the number of relaxed edges. A larger arity makes the heap shallower, which speeds up decrease-key at the
+ * cost of comparing more children per level when polling.
+ */
+public final class IndexedDaryHeap {
+
+    private final int arity;
+
+    // heap[i] is the vertex at heap position i, position[v] is the heap position of vertex v or -1
+    private int[] heap;
+    private int[] position;
+    private double[] keys;
+    private int size;
+
+    /**
+     * @param arity    The number of children of every heap node, at least 2.
+     * @param capacity The initial number of vertices, the heap grows when larger indices are inserted.
+     */
+    public IndexedDaryHeap(int arity, int capacity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2, was " + arity);
+        }
+        this.arity = arity;
+        this.heap = new int[Math.max(capacity, 1)];
+        this.position = new int[Math.max(capacity, 1)];
+        this.keys = new double[Math.max(capacity, 1)];
+        Arrays.fill(position, -1);
+    }
+
+    /**
+     * @return The number of children of every heap node.
+     */
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * @return The number of vertices in the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return True if the heap contains no vertices.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param vertex A vertex index.
+     * @return True if the vertex is in the heap.
+     */
+    public boolean contains(int vertex) {
+        return vertex < position.length && position[vertex] >= 0;
+    }
+
+    /**
+     * @param vertex A vertex in the heap.
+     * @return The key of the vertex.
+     */
+    public double keyOf(int vertex) {
+        return keys[vertex];
+    }
+
+    /**
+     * @param heapPosition A position in the heap array, between 0 and {@link #size()}.
+     * @return The vertex stored at that position.
+     */
+    public int vertexAt(int heapPosition) {
+        return heap[heapPosition];
+    }
+
+    /**
+     * Inserts a vertex that is not in the heap yet.
+     *
+     * @param vertex The vertex index.
+     * @param key    The key of the vertex.
+     */
+    public void insert(int vertex, double key) {
+        ensureCapacity(vertex);
+        if (position[vertex] >= 0) {
+            throw new IllegalStateException("Vertex " + vertex + " is already in the heap");
+        }
+        heap[size] = vertex;
+        position[vertex] = size;
+        keys[vertex] = key;
+        siftUp(size++);
+    }
+
+    /**
+     * Lowers the key of a vertex in the heap.
+     *
+     * @param vertex The vertex index.
+     * @param key    The new key, not greater than the current one.
+     */
+    public void decreaseKey(int vertex, double key) {
+        if (!contains(vertex)) {
+            throw new IllegalStateException("Vertex " + vertex + " is not in the heap");
+        }
+        if (key > keys[vertex]) {
+            throw new IllegalArgumentException("Key of vertex " + vertex + " cannot increase from "
+                                                       + keys[vertex] + " to " + key);
+        }
+        keys[vertex] = key;
+        siftUp(position[vertex]);
+    }
+
+    /**
+     * Inserts the vertex, or decreases its key if it is already in the heap with a greater key.
+     *
+     * @param vertex The vertex index.
+     * @param key    The key of the vertex.
+     * @return True if the vertex was inserted, false if it was already in the heap.
+     */
+    public boolean insertOrDecrease(int vertex, double key) {
+        if (contains(vertex)) {
+            if (key < keys[vertex]) {
+                decreaseKey(vertex, key);
+            }
+            return false;
+        }
+        insert(vertex, key);
+        return true;
+    }
+
+    /**
+     * Sets the key of a vertex in the heap, which may lower or raise it.
+     *
+     * @param vertex The vertex index.
+     * @param key    The new key.
+     */
+    public void updateKey(int vertex, double key) {
+        if (!contains(vertex)) {
+            throw new IllegalStateException("Vertex " + vertex + " is not in the heap");
+        }
+        double old = keys[vertex];
+        keys[vertex] = key;
+        if (key < old) {
+            siftUp(position[vertex]);
+        } else {
+            siftDown(position[vertex]);
+        }
+    }
+
+    /**
+     * @return The vertex with the smallest key, without removing it.
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes the vertex with the smallest key.
+     *
+     * @return The removed vertex.
+     */
+    public int poll() {
+        int min = peek();
+        int last = heap[--size];
+        position[min] = -1;
+        if (size > 0) {
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Removes all vertices.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i) {
+        int vertex = heap[i];
+        double key = keys[vertex];
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            int parentVertex = heap[parent];
+            if (keys[parentVertex] <= key) {
+                break;
+            }
+            heap[i] = parentVertex;
+            position[parentVertex] = i;
+            i = parent;
+        }
+        heap[i] = vertex;
+        position[vertex] = i;
+    }
+
+    private void siftDown(int i) {
+        int vertex = heap[i];
+        double key = keys[vertex];
+        while (true) {
+            int firstChild = i * arity + 1;
+            if (firstChild >= size) {
+                break;
+            }
+
+            // Find the smallest of up to arity children
+            int smallest = firstChild;
+            int lastChild = Math.min(firstChild + arity, size);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (keys[heap[child]] < keys[heap[smallest]]) {
+                    smallest = child;
+                }
+            }
+
+            if (keys[heap[smallest]] >= key) {
+                break;
+            }
+            heap[i] = heap[smallest];
+            position[heap[i]] = i;
+            i = smallest;
+        }
+        heap[i] = vertex;
+        position[vertex] = i;
+    }
+
+    private void ensureCapacity(int vertex) {
+        if (vertex >= position.length) {
+            int capacity = Math.max(vertex + 1, position.length * 2);
+            int oldLength = position.length;
+            heap = Arrays.copyOf(heap, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            position = Arrays.copyOf(position, capacity);
+            Arrays.fill(position, oldLength, capacity, -1);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Johnson's all-pairs shortest paths on a {@link CsrGraph} with negative weights.
+ * A virtual source with arcs of weight 0 to every vertex is added and {@link BellmanFordSearch} computes
+ * the potential h(v) as the distance from it, detecting every negative cycle on the way. With the reduced
+ * weights w(u, v) + h(u) - h(v), which are non-negative, one Dijkstra search per source computes the distances
+ * d'(s, v), and d(s, v) = d'(s, v) - h(s) + h(v).
+ * <p>
+ * The searches are independent and submitted as one task per source to a work-stealing {@link ForkJoinPool},
+ * which balances sources with large and small reachable sets between the threads. In O(N M log N) instead of
+ * O(N^3) it beats Floyd-Warshall on sparse graphs.
+ */
+public final class JohnsonSearch {
+
+    private final CsrGraph graph;
+    private final ForkJoinPool pool;
+    private final double[] distance;
+    private double[] potential;
+    private boolean[] negativeCycleVertices;
+    private CsrGraph reduced;
+    private BellmanFordSearch.Result potentialSearch;
+
+    /**
+     * @param graph The graph.
+     * @param pool  The pool running the Bellman-Ford rounds in parallel mode and the Dijkstra searches.
+     */
+    public JohnsonSearch(CsrGraph graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+        this.distance = new double[graph.vertexCount() * graph.vertexCount()];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Computes the potentials with Bellman-Ford from the virtual source and reweights the graph.
+     *
+     * @param mode The relaxation strategy of Bellman-Ford.
+     * @return False if the graph contains a negative cycle, in which case there are no potentials.
+     */
+    public boolean computePotentials(BellmanFordMode mode) {
+        int n = graph.vertexCount();
+        potentialSearch = BellmanFordSearch.run(graph.withVirtualSource(), n, mode, pool);
+        if (potentialSearch.negativeCycle()) {
+            negativeCycleVertices = new boolean[n];
+            for (int v = 0; v < n; v++) {
+                negativeCycleVertices[v] = potentialSearch.distance()[v] == Double.NEGATIVE_INFINITY;
+            }
+            return false;
+        }
+
+        potential = Arrays.copyOf(potentialSearch.distance(), n);
+        reduced = graph.reweighted(potential);
+        return true;
+    }
+
+    /**
+     * Computes the rows of the given sources, one task per source.
+     *
+     * @param from The first source.
+     * @param to   The source after the last one.
+     */
+    public void solveSources(int from, int to) {
+        if (reduced == null) {
+            throw new IllegalStateException("Potentials have not been computed");
+        }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(to - from);
+        for (int source = from; source < to; source++) {
+            int s = source;
+            tasks.add(ForkJoinTask.adapt(() -> solveSource(s)));
+        }
+        pool.submit(() -> ForkJoinTask.invokeAll(tasks)).join();
+    }
+
+    /**
+     * Computes all rows.
+     */
+    public void solve() {
+        solveSources(0, graph.vertexCount());
+    }
+
+    private void solveSource(int source) {
+        int n = graph.vertexCount();
+        double[] row = new double[n];
+        ShortestPaths.dijkstra(reduced, source, -1, row, null);
+        for (int v = 0; v < n; v++) {
+            distance[source * n + v] = row[v] - potential[source] + potential[v];
+        }
+    }
+
+    /**
+     * Runs Dijkstra's algorithm on the reweighted graph from one source and records the parents.
+     *
+     * @param source The source vertex.
+     * @return The parent of every reached vertex on a shortest path, or -1.
+     */
+    public int[] parentsFrom(int source) {
+        int[] parent = new int[graph.vertexCount()];
+        ShortestPaths.dijkstra(reduced, source, -1, new double[graph.vertexCount()], parent);
+        return parent;
+    }
+
+    /**
+     * @return The Bellman-Ford run from the virtual source, null before {@link #computePotentials}.
+     */
+    public BellmanFordSearch.Result potentialSearch() {
+        return potentialSearch;
+    }
+
+    /**
+     * @return The potential of every vertex, null if there is a negative cycle.
+     */
+    public double[] potential() {
+        return potential;
+    }
+
+    /**
+     * @return The vertices on or reachable from a negative cycle, null if there is none.
+     */
+    public boolean[] negativeCycleVertices() {
+        return negativeCycleVertices;
+    }
+
+    /**
+     * @return The graph with reduced weights, null before the potentials are computed.
+     */
+    public CsrGraph reducedGraph() {
+        return reduced;
+    }
+
+    /**
+     * @return The row-major distance matrix, owned by this search.
+     */
+    public double[] matrix() {
+        return distance;
+    }
+
+    /**
+     * @param from The source vertex.
+     * @param to   The target vertex.
+     * @return The distance, Double.POSITIVE_INFINITY if unreachable or not computed yet.
+     */
+    public double distance(int from, int to) {
+        return distance[from * graph.vertexCount() + to];
+    }
+}
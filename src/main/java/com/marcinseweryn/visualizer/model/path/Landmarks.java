@@ -0,0 +1,98 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Landmark distances for the ALT (A*, landmarks, triangle inequality) heuristic.
+ * For every landmark L the distances from L and to L are precomputed, and by the triangle inequality
+ * d(v, t) >= d(L, t) - d(L, v) and d(v, t) >= d(v, L) - d(t, L). The maximum of these bounds over all
+ * landmarks is an admissible estimate that does not depend on any geometric layout. It is consistent on every arc
+ * into a vertex that can reach the target, vertices that cannot are estimated as 0.
+ */
+public final class Landmarks {
+
+    private static final Logger logger = LogManager.getLogger(Landmarks.class);
+
+    private final int[] landmarks;
+
+    // fromLandmark[i][v] = d(landmark i, v), toLandmark[i][v] = d(v, landmark i)
+    private final double[][] fromLandmark;
+    private final double[][] toLandmark;
+
+    private Landmarks(int[] landmarks, double[][] fromLandmark, double[][] toLandmark) {
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    /**
+     * Selects landmarks by farthest-point selection and precomputes their distances. The first landmark is the
+     * vertex farthest from vertex 0, every further one the vertex farthest from the landmarks chosen so far.
+     *
+     * @param graph The graph, with non-negative weights.
+     * @param count The number of landmarks.
+     * @return The landmarks.
+     */
+    public static Landmarks select(CsrGraph graph, int count) {
+        int n = graph.vertexCount();
+        CsrGraph reverse = graph.transpose();
+        count = Math.min(count, n);
+
+        int[] chosen = new int[count];
+        double[][] from = new double[count][];
+        double[][] to = new double[count][];
+
+        // Minimum distance of every vertex to the chosen landmarks, in either direction
+        double[] closest = ShortestPaths.distancesFrom(graph, 0);
+        for (int i = 0; i < count; i++) {
+            int farthest = 0;
+            for (int v = 0; v < n; v++) {
+                if (Double.isFinite(closest[v]) && (!Double.isFinite(closest[farthest]) || closest[v] > closest[farthest])) {
+                    farthest = v;
+                }
+            }
+
+            chosen[i] = farthest;
+            from[i] = ShortestPaths.distancesFrom(graph, farthest);
+            to[i] = ShortestPaths.distancesFrom(reverse, farthest);
+            for (int v = 0; v < n; v++) {
+                closest[v] = i == 0 ? Math.min(from[i][v], to[i][v]) : Math.min(closest[v], Math.min(from[i][v], to[i][v]));
+            }
+        }
+
+        logger.debug("Selected landmarks {}", Arrays.toString(chosen));
+        return new Landmarks(chosen, from, to);
+    }
+
+    /**
+     * @return The landmark vertices.
+     */
+    public int[] vertices() {
+        return landmarks.clone();
+    }
+
+    /**
+     * Estimates the distance from a vertex to the target.
+     *
+     * @param vertex The vertex.
+     * @param target The target vertex.
+     * @return A lower bound on d(vertex, target), 0 if no landmark gives a finite bound.
+     */
+    public double estimate(int vertex, int target) {
+        double bound = 0;
+        for (int i = 0; i < landmarks.length; i++) {
+            double forward = fromLandmark[i][target] - fromLandmark[i][vertex];
+            double backward = toLandmark[i][vertex] - toLandmark[i][target];
+            if (Double.isFinite(forward) && forward > bound) {
+                bound = forward;
+            }
+            if (Double.isFinite(backward) && backward > bound) {
+                bound = backward;
+            }
+        }
+        return bound;
+    }
+}
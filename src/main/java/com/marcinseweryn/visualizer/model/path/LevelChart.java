@@ -0,0 +1,64 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.util.List;
+
+/**
+ * Renders the levels of a {@link ParallelBfsSearch} as a chart: one blue bar per level for the size of the expanded
+ * frontier and an orange line for the time the level took, both scaled to their own maximum.
+ */
+public final class LevelChart {
+
+    private static final Color FRONTIER = Color.web("#5DADE2");
+    private static final Color TIME = Color.web("#E67E22");
+    private static final double MARGIN = 4;
+
+    private LevelChart() {
+    }
+
+    /**
+     * Draws the levels, must be called on the JavaFX application thread.
+     *
+     * @param canvas The canvas to draw on.
+     * @param levels The expanded levels in the order of their depth.
+     */
+    public static void draw(Canvas canvas, List<ParallelBfsSearch.Level> levels) {
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (levels.isEmpty()) {
+            return;
+        }
+
+        int maxFrontier = 1;
+        long maxNanos = 1;
+        for (ParallelBfsSearch.Level level : levels) {
+            maxFrontier = Math.max(maxFrontier, level.frontier());
+            maxNanos = Math.max(maxNanos, level.nanos());
+        }
+
+        double height = canvas.getHeight() - 2 * MARGIN;
+        double width = (canvas.getWidth() - 2 * MARGIN) / levels.size();
+        graphics.setFill(FRONTIER);
+        for (int i = 0; i < levels.size(); i++) {
+            double bar = height * levels.get(i).frontier() / maxFrontier;
+            graphics.fillRect(MARGIN + i * width + 1, MARGIN + height - bar, Math.max(1, width - 2), bar);
+        }
+
+        graphics.setStroke(TIME);
+        graphics.setLineWidth(2);
+        graphics.beginPath();
+        for (int i = 0; i < levels.size(); i++) {
+            double x = MARGIN + (i + 0.5) * width;
+            double y = MARGIN + height - height * levels.get(i).nanos() / maxNanos;
+            if (i == 0) {
+                graphics.moveTo(x, y);
+            } else {
+                graphics.lineTo(x, y);
+            }
+        }
+        graphics.stroke();
+    }
+}
@@ -0,0 +1,87 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Renders a square row-major distance matrix as a heatmap: short distances blue, long distances red,
+ * missing entries grey and negative diagonal entries (negative cycles) black. Matrices with more rows than
+ * the canvas has pixels are sampled, either while drawing or beforehand with {@link #sample}, so that a running
+ * algorithm only hands a small copy to the application thread.
+ */
+public final class MatrixHeatmap {
+
+    private static final Color UNREACHABLE = Color.web("#DDDDDD");
+
+    private MatrixHeatmap() {
+    }
+
+    /**
+     * Copies every k-th row and column of the matrix, so that the copy has at most the given number of rows.
+     * Diagonal entries of the matrix stay on the diagonal of the copy.
+     *
+     * @param matrix The row-major matrix.
+     * @param size   The number of rows and columns.
+     * @param cells  The maximum number of rows and columns of the copy, usually the canvas size in pixels.
+     * @return The row-major copy with min(size, cells) rows and columns.
+     */
+    public static double[] sample(double[] matrix, int size, int cells) {
+        int rows = Math.min(size, cells);
+        double[] sampled = new double[rows * rows];
+        for (int row = 0; row < rows; row++) {
+            int i = (int) ((long) row * size / rows);
+            for (int column = 0; column < rows; column++) {
+                int j = (int) ((long) column * size / rows);
+                sampled[row * rows + column] = matrix[i * size + j];
+            }
+        }
+        return sampled;
+    }
+
+    /**
+     * Draws the matrix, must be called on the JavaFX application thread.
+     *
+     * @param canvas The canvas to draw on.
+     * @param matrix The row-major matrix.
+     * @param size   The number of rows and columns.
+     */
+    public static void draw(Canvas canvas, double[] matrix, int size) {
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (size == 0) {
+            return;
+        }
+
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : matrix) {
+            if (Double.isFinite(value)) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+
+        int cells = (int) Math.min(size, Math.min(canvas.getWidth(), canvas.getHeight()));
+        double cellSize = Math.min(canvas.getWidth(), canvas.getHeight()) / cells;
+        for (int row = 0; row < cells; row++) {
+            int i = (int) ((long) row * size / cells);
+            for (int column = 0; column < cells; column++) {
+                int j = (int) ((long) column * size / cells);
+                graphics.setFill(colorOf(matrix[i * size + j], i == j, min, max));
+                graphics.fillRect(column * cellSize, row * cellSize, cellSize, cellSize);
+            }
+        }
+    }
+
+    private static Color colorOf(double value, boolean diagonal, double min, double max) {
+        if (diagonal && value < 0) {
+            return Color.BLACK;
+        }
+        if (!Double.isFinite(value)) {
+            return UNREACHABLE;
+        }
+        double ratio = max > min ? (value - min) / (max - min) : 0;
+        return Color.hsb(240 * (1 - ratio), 0.8, 0.9);
+    }
+}
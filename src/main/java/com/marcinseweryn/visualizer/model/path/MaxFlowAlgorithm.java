@@ -0,0 +1,183 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import com.marcinseweryn.visualizer.view.Edge;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class of the maximum flow visualizations. Edge weights are capacities, the start node is the source and
+ * the destination node the sink; edges count in the direction of their arrow heads, so an edge with both heads
+ * can carry its capacity either way. The flow is computed on a {@link FlowNetwork} by the subclass, which calls
+ * {@link #showFlow(GraphSnapshot, FlowNetwork)} to label every edge with its flow and capacity. Finally, the
+ * minimum cut is highlighted.
+ */
+public abstract class MaxFlowAlgorithm extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(MaxFlowAlgorithm.class);
+
+    // Phases or discharges of the algorithm
+    private final ObservableList<String> stepLines;
+
+    /**
+     * Constructor to initialize a maximum flow algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The source of the flow.
+     * @param destinationNode The sink of the flow.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     * @param stepTitle       The title of the list of steps.
+     */
+    protected MaxFlowAlgorithm(VBox algorithmTab,
+                               ListView<String> pseudocodeList,
+                               SimpleObjectProperty<GraphNode> startNode,
+                               SimpleObjectProperty<GraphNode> destinationNode,
+                               AnchorPane algorithmSpace,
+                               String stepTitle) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        stepLines = initializeTextView(stepTitle);
+    }
+
+    /**
+     * Computes the maximum flow with the algorithm of the subclass.
+     *
+     * @param snapshot The graph.
+     * @param network  The residual network without flow.
+     * @param source   The source vertex.
+     * @param sink     The sink vertex.
+     * @return The value of the maximum flow.
+     */
+    protected abstract double computeFlow(GraphSnapshot snapshot, FlowNetwork network, int source, int sink);
+
+    /**
+     * @return The pseudocode line of the minimum cut.
+     */
+    protected abstract int cutStep();
+
+    @Override
+    protected boolean isQueryCacheable() {
+        return false;
+    }
+
+    /**
+     * Computes the maximum flow from the start node to the destination and highlights the minimum cut.
+     */
+    @Override
+    public void executeAlgorithm() {
+        if (destinationNode.get() == null || destinationNode.get() == startNode.get()) {
+            logger.warn("Maximum flow requires a destination node different from the start node.");
+            reportStatistic("no sink selected, select a destination node");
+            return;
+        }
+
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        if (ShortestPaths.hasNegativeWeights(graph)) {
+            logger.warn("Maximum flow requires non-negative capacities.");
+            reportStatistic("negative capacities are not supported");
+            return;
+        }
+        int source = snapshot.indexOf(startNode.get());
+        int sink = snapshot.indexOf(destinationNode.get());
+        logger.info("Starting {} from {} to {}.", getClass().getSimpleName(), startNode.get(), destinationNode.get());
+
+        FlowNetwork network = FlowNetwork.of(graph);
+        double flow = computeFlow(snapshot, network, source, sink);
+        showFlow(snapshot, network);
+
+        pauseAtStep(cutStep());
+        boolean[] sourceSide = network.minCutSourceSide(source);
+        int cutEdges = showMinCut(snapshot, sourceSide);
+        reportStatistic(String.format("maximum flow: %s, minimum cut: %d edges of capacity %s",
+                                      flow, cutEdges, network.cutCapacity(sourceSide)));
+    }
+
+    /**
+     * Adds a line to the list of steps.
+     *
+     * @param line The line.
+     */
+    protected void addStepLine(String line) {
+        logger.debug(line);
+        Platform.runLater(() -> stepLines.add(line));
+    }
+
+    /**
+     * Labels every edge with its net flow and capacity, and styles edges carrying flow, or their full capacity.
+     *
+     * @param snapshot The graph.
+     * @param network  The residual network carrying the flow.
+     */
+    protected void showFlow(GraphSnapshot snapshot, FlowNetwork network) {
+        CsrGraph graph = snapshot.csr();
+        double[] net = new double[graph.edgeCount()];
+        double[] capacity = new double[graph.edgeCount()];
+        Edge[] edges = new Edge[graph.edgeCount()];
+        for (int arc = 0; arc < graph.arcCount(); arc++) {
+            int id = graph.edgeId(arc);
+            boolean forward = (graph.flags(arc) & CsrGraph.FORWARD) != 0;
+            net[id] += forward ? network.flow(arc) : -network.flow(arc);
+            capacity[id] = graph.weight(arc);
+            edges[id] = snapshot.edge(arc);
+        }
+
+        Platform.runLater(() -> {
+            for (int id = 0; id < edges.length; id++) {
+                double flow = Math.abs(net[id]);
+                Edge edge = edges[id];
+                edge.setFlowText("f:[" + flow + "/" + capacity[id] + "]");
+                edge.removeStyleClass("flow");
+                edge.removeStyleClass("saturated");
+                if (capacity[id] > 0 && flow >= capacity[id] - FlowNetwork.EPSILON) {
+                    edge.setStyleClass("saturated");
+                } else if (flow > FlowNetwork.EPSILON) {
+                    edge.setStyleClass("flow");
+                }
+            }
+        });
+    }
+
+    /**
+     * Styles the nodes on the source side of the cut as visited and the edges crossing the cut.
+     *
+     * @return The number of edges crossing the cut.
+     */
+    private int showMinCut(GraphSnapshot snapshot, boolean[] sourceSide) {
+        CsrGraph graph = snapshot.csr();
+        List<GraphNode> nodes = new ArrayList<>();
+        List<Edge> cut = new ArrayList<>();
+        for (int u = 0; u < graph.vertexCount(); u++) {
+            if (!sourceSide[u]) {
+                continue;
+            }
+            if (snapshot.node(u) != startNode.get()) {
+                nodes.add(snapshot.node(u));
+            }
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                if (!sourceSide[graph.target(arc)] && !cut.contains(snapshot.edge(arc))) {
+                    cut.add(snapshot.edge(arc));
+                }
+            }
+        }
+
+        Platform.runLater(() -> {
+            nodes.forEach(node -> node.setPrimaryClass("visited"));
+            cut.forEach(edge -> {
+                edge.removeStyleClass("saturated");
+                edge.setStyleClass("min-cut");
+            });
+        });
+        return cut.size();
+    }
+}
@@ -0,0 +1,71 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import com.marcinseweryn.visualizer.view.GraphNode;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Multiset of graph nodes with O(1) membership checks, kept next to the structures of the
+ * {@link GraphNodeVisualizer} implementations, whose own contains methods are linear scans.
+ * Nodes are counted in an array indexed by their vertex index, see {@link GraphNode#getIndex()}, so a node
+ * added twice (e.g. by a lazy priority queue) stays a member until it was removed twice. Nodes without an index,
+ * or whose index is already used by another node because it is left over from an older snapshot, are counted
+ * in an identity map instead.
+ *
+ * @param <T> The type of the nodes, compared by identity.
+ */
+final class NodeMembership<T> {
+
+    private final ToIntFunction<? super T> indexOf;
+
+    private int[] counts = new int[0];
+    private Object[] nodes = new Object[0];
+    private final Map<T, Integer> unindexed = new IdentityHashMap<>();
+
+    /**
+     * @param indexOf Returns the vertex index of a node, or -1 if it has none.
+     */
+    NodeMembership(ToIntFunction<? super T> indexOf) {
+        this.indexOf = indexOf;
+    }
+
+    void add(T node) {
+        int index = indexOf.applyAsInt(node);
+        if (index < 0) {
+            unindexed.merge(node, 1, Integer::sum);
+            return;
+        }
+
+        if (index >= counts.length) {
+            int capacity = Math.max(index + 1, 2 * counts.length);
+            counts = Arrays.copyOf(counts, capacity);
+            nodes = Arrays.copyOf(nodes, capacity);
+        }
+        if (nodes[index] == null || nodes[index] == node || counts[index] == 0) {
+            nodes[index] = node;
+            counts[index]++;
+        } else {
+            unindexed.merge(node, 1, Integer::sum);
+        }
+    }
+
+    void remove(T node) {
+        int index = indexOf.applyAsInt(node);
+        if (index >= 0 && index < counts.length && nodes[index] == node && counts[index] > 0) {
+            counts[index]--;
+        } else {
+            unindexed.computeIfPresent(node, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    boolean contains(T node) {
+        int index = indexOf.applyAsInt(node);
+        if (index >= 0 && index < counts.length && nodes[index] == node && counts[index] > 0) {
+            return true;
+        }
+        return unindexed.containsKey(node);
+    }
+}
@@ -0,0 +1,162 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Level-synchronous breadth-first search expanding every frontier in parallel on a {@link ForkJoinPool}.
+ * The frontier is split into one slice per task; every task collects the vertices it discovers in its own
+ * buffer and claims a vertex by a compare-and-set of its parent from -1, so every vertex is discovered by
+ * exactly one task. The buffers are then merged into the next frontier: a prefix sum over the buffer sizes
+ * gives every buffer its offset, and the buffers are copied to their offsets in parallel.
+ * <p>
+ * Levels are expanded one at a time with {@link #step()}, so that they can be visualized.
+ */
+public final class ParallelBfsSearch {
+
+    // Frontiers below this size are expanded by a single task
+    private static final int MIN_SLICE = 1024;
+
+    /**
+     * Summary of one expanded level.
+     *
+     * @param depth      The number of edges from the source to the vertices discovered in this level.
+     * @param frontier   The size of the frontier that was expanded.
+     * @param discovered The number of vertices discovered in this level.
+     * @param tasks      The number of tasks the frontier was split into.
+     * @param nanos      The time the expansion and the merge took.
+     */
+    public record Level(int depth, int frontier, int discovered, int tasks, long nanos) {
+    }
+
+    private final CsrGraph graph;
+    private final ForkJoinPool pool;
+    private final AtomicIntegerArray parent;
+    private final int[] level;
+    private final int source;
+
+    private int[] frontier;
+    private int frontierSize;
+    private int[] next;
+    private int depth;
+
+    /**
+     * Prepares a search from the source; the source itself is the first frontier.
+     *
+     * @param graph  The graph, weights are ignored.
+     * @param source The source vertex.
+     * @param pool   The pool expanding the levels.
+     */
+    public ParallelBfsSearch(CsrGraph graph, int source, ForkJoinPool pool) {
+        int n = graph.vertexCount();
+        this.graph = graph;
+        this.pool = pool;
+        this.source = source;
+        this.parent = new AtomicIntegerArray(n);
+        this.level = new int[n];
+        this.frontier = new int[n];
+        this.next = new int[n];
+        for (int v = 0; v < n; v++) {
+            parent.set(v, -1);
+        }
+        Arrays.fill(level, -1);
+
+        // The source is its own parent while searching, so that no task claims it
+        parent.set(source, source);
+        level[source] = 0;
+        frontier[0] = source;
+        frontierSize = 1;
+    }
+
+    /**
+     * Expands the frontier by one level.
+     *
+     * @return The summary of the level, or null if the frontier is empty and the search is finished.
+     */
+    public Level step() {
+        if (frontierSize == 0) {
+            return null;
+        }
+
+        long begin = System.nanoTime();
+        depth++;
+        int size = frontierSize;
+        int tasks = (int) Math.max(1, Math.min(4L * pool.getParallelism(), (size + MIN_SLICE - 1) / MIN_SLICE));
+        int[][] buffers = new int[tasks][];
+        int[] counts = new int[tasks];
+
+        pool.submit(() -> IntStream.range(0, tasks).parallel().forEach(task -> {
+            int from = (int) ((long) size * task / tasks);
+            int to = (int) ((long) size * (task + 1) / tasks);
+            int[] buffer = new int[Math.max(16, to - from)];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                int u = frontier[i];
+                for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                    int v = graph.target(arc);
+                    if (parent.get(v) == -1 && parent.compareAndSet(v, -1, u)) {
+                        level[v] = depth;
+                        if (count == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, 2 * count);
+                        }
+                        buffer[count++] = v;
+                    }
+                }
+            }
+            buffers[task] = buffer;
+            counts[task] = count;
+        })).join();
+
+        // Prefix sum of the buffer sizes, then every buffer is copied to its offset
+        int[] offsets = new int[tasks + 1];
+        for (int task = 0; task < tasks; task++) {
+            offsets[task + 1] = offsets[task] + counts[task];
+        }
+        pool.submit(() -> IntStream.range(0, tasks).parallel().forEach(
+                task -> System.arraycopy(buffers[task], 0, next, offsets[task], counts[task])
+        )).join();
+
+        int[] swap = frontier;
+        frontier = next;
+        next = swap;
+        frontierSize = offsets[tasks];
+        return new Level(depth, size, frontierSize, tasks, System.nanoTime() - begin);
+    }
+
+    /**
+     * Expands all remaining levels.
+     *
+     * @return The number of expanded levels, the last of which discovers no vertex.
+     */
+    public int run() {
+        while (step() != null) {
+            // Expand the next level
+        }
+        return depth;
+    }
+
+    /**
+     * @return A copy of the vertices discovered in the last expanded level.
+     */
+    public int[] frontier() {
+        return Arrays.copyOf(frontier, frontierSize);
+    }
+
+    /**
+     * @param vertex A vertex.
+     * @return The vertex it was discovered from, or -1 for the source and undiscovered vertices.
+     */
+    public int parent(int vertex) {
+        return vertex == source ? -1 : parent.get(vertex);
+    }
+
+    /**
+     * @param vertex A vertex.
+     * @return The number of edges from the source, or -1 if the vertex was not discovered.
+     */
+    public int level(int vertex) {
+        return level[vertex];
+    }
+}
@@ -0,0 +1,256 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+
+/**
+ * FIFO push-relabel maximum flow algorithm on a {@link FlowNetwork}. The source saturates all its arcs, then
+ * active vertices (with excess) are discharged in first-in first-out order: excess is pushed along admissible
+ * residual arcs, which lead exactly one height down, and a vertex without admissible arc is relabeled to one
+ * above its lowest residual neighbour. Heights start as the residual distances to the sink.
+ * <p>
+ * Gap heuristic: the number of vertices per height is counted, and when relabeling empties a height h below n,
+ * no vertex above h can reach the sink any more, so all of them are lifted above the source at once instead of
+ * being relabeled one unit at a time.
+ * <p>
+ * Vertices are discharged one at a time with {@link #discharge()}, so that they can be visualized.
+ */
+public final class PushRelabelSearch {
+
+    /**
+     * Summary of the discharge of one vertex.
+     *
+     * @param vertex   The discharged vertex.
+     * @param pushes   The number of pushes.
+     * @param relabels The number of relabels.
+     * @param lifted   The number of vertices lifted by the gap heuristic.
+     * @param height   The height of the vertex afterwards.
+     */
+    public record Discharge(int vertex, int pushes, int relabels, int lifted, int height) {
+    }
+
+    private final FlowNetwork network;
+    private final int source;
+    private final int sink;
+    private final int n;
+    private final int[] height;
+    private final int[] count;
+    private final double[] excess;
+    private final int[] nextArc;
+
+    // Active vertices in a ring buffer, every vertex is queued at most once
+    private final int[] queue;
+    private final boolean[] queued;
+    private int head;
+    private int size;
+
+    private long pushes;
+    private long relabels;
+    private long gaps;
+
+    /**
+     * Prepares the search on a network without flow: saturates the arcs of the source and sets the heights to
+     * the residual distances to the sink.
+     *
+     * @param network The residual network.
+     * @param source  The source vertex.
+     * @param sink    The sink vertex, different from the source.
+     */
+    public PushRelabelSearch(FlowNetwork network, int source, int sink) {
+        if (source == sink) {
+            throw new IllegalArgumentException("Source and sink must differ: " + source);
+        }
+        this.network = network;
+        this.source = source;
+        this.sink = sink;
+        this.n = network.vertexCount();
+        this.height = new int[n];
+        this.count = new int[2 * n + 1];
+        this.excess = new double[n];
+        this.nextArc = new int[n];
+        this.queue = new int[n];
+        this.queued = new boolean[n];
+
+        for (int arc = network.firstArc(source); arc < network.endArc(source); arc++) {
+            double amount = network.residual(arc);
+            if (amount > FlowNetwork.EPSILON) {
+                int v = network.target(arc);
+                network.push(arc, amount);
+                excess[v] += amount;
+                excess[source] -= amount;
+            }
+        }
+        computeHeights();
+        for (int v = 0; v < n; v++) {
+            nextArc[v] = network.firstArc(v);
+            count[height[v]]++;
+            if (v != source && v != sink && excess[v] > FlowNetwork.EPSILON) {
+                enqueue(v);
+            }
+        }
+    }
+
+    // Breadth-first search from the sink along residual arcs in reverse, the source stays at n
+    private void computeHeights() {
+        Arrays.fill(height, n);
+        int[] order = new int[n];
+        int tail = 0;
+        order[tail++] = sink;
+        height[sink] = 0;
+        for (int i = 0; i < tail; i++) {
+            int v = order[i];
+            for (int arc = network.firstArc(v); arc < network.endArc(v); arc++) {
+                int u = network.target(arc);
+                if (u != source && height[u] == n && network.residual(network.reverse(arc)) > FlowNetwork.EPSILON) {
+                    height[u] = height[v] + 1;
+                    order[tail++] = u;
+                }
+            }
+        }
+    }
+
+    /**
+     * Discharges the next active vertex until its excess is gone or it was lifted above all vertices that can
+     * still reach the sink.
+     *
+     * @return The summary of the discharge, or null if no vertex is active and the flow is maximal.
+     */
+    public Discharge discharge() {
+        if (size == 0) {
+            return null;
+        }
+        int u = queue[head];
+        head = (head + 1) % n;
+        size--;
+        queued[u] = false;
+
+        int pushed = 0;
+        int relabeled = 0;
+        int lifted = 0;
+        while (excess[u] > FlowNetwork.EPSILON) {
+            if (nextArc[u] == network.endArc(u)) {
+                lifted += relabel(u);
+                relabeled++;
+                continue;
+            }
+
+            int arc = nextArc[u];
+            int v = network.target(arc);
+            double residual = network.residual(arc);
+            if (residual > FlowNetwork.EPSILON && height[u] == height[v] + 1) {
+                double amount = Math.min(excess[u], residual);
+                network.push(arc, amount);
+                excess[u] -= amount;
+                excess[v] += amount;
+                pushed++;
+                if (v != source && v != sink && !queued[v]) {
+                    enqueue(v);
+                }
+                if (network.residual(arc) > FlowNetwork.EPSILON) {
+                    continue;
+                }
+            }
+            nextArc[u]++;
+        }
+        pushes += pushed;
+        relabels += relabeled;
+        return new Discharge(u, pushed, relabeled, lifted, height[u]);
+    }
+
+    /**
+     * Relabels u to one above its lowest residual neighbour, applying the gap heuristic if its old height
+     * is left empty.
+     *
+     * @return The number of vertices lifted by the gap heuristic.
+     */
+    private int relabel(int u) {
+        int old = height[u];
+        int lowest = 2 * n - 1;
+        for (int arc = network.firstArc(u); arc < network.endArc(u); arc++) {
+            if (network.residual(arc) > FlowNetwork.EPSILON) {
+                lowest = Math.min(lowest, height[network.target(arc)] + 1);
+            }
+        }
+
+        int lifted = 0;
+        count[old]--;
+        if (count[old] == 0 && old < n) {
+            gaps++;
+            for (int v = 0; v < n; v++) {
+                if (v != source && height[v] > old && height[v] < n) {
+                    count[height[v]]--;
+                    height[v] = n + 1;
+                    count[n + 1]++;
+                    nextArc[v] = network.firstArc(v);
+                    lifted++;
+                }
+            }
+            lowest = Math.max(lowest, n + 1);
+        }
+        height[u] = Math.min(lowest, 2 * n - 1);
+        count[height[u]]++;
+        nextArc[u] = network.firstArc(u);
+        return lifted;
+    }
+
+    private void enqueue(int v) {
+        queue[(head + size) % n] = v;
+        size++;
+        queued[v] = true;
+    }
+
+    /**
+     * Discharges active vertices until none is left.
+     *
+     * @return The value of the maximum flow.
+     */
+    public double run() {
+        while (discharge() != null) {
+            // Discharge the next vertex
+        }
+        return excess[sink];
+    }
+
+    /**
+     * @return The flow that reached the sink so far.
+     */
+    public double flow() {
+        return excess[sink];
+    }
+
+    /**
+     * @param vertex A vertex.
+     * @return The height of the vertex.
+     */
+    public int height(int vertex) {
+        return height[vertex];
+    }
+
+    /**
+     * @param vertex A vertex.
+     * @return The excess of the vertex.
+     */
+    public double excess(int vertex) {
+        return excess[vertex];
+    }
+
+    /**
+     * @return The number of pushes so far.
+     */
+    public long pushes() {
+        return pushes;
+    }
+
+    /**
+     * @return The number of relabels so far.
+     */
+    public long relabels() {
+        return relabels;
+    }
+
+    /**
+     * @return The number of times the gap heuristic lifted vertices.
+     */
+    public long gaps() {
+        return gaps;
+    }
+}
@@ -0,0 +1,103 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of shortest path query results with least recently used eviction.
+ * Results are keyed by the graph version they were computed on, so any edit of the graph, which increments
+ * the version, makes all earlier entries unreachable; they are evicted as new results are stored.
+ * A result holds the distance and the parent of every vertex, indexed by the dense vertex index of the graph
+ * snapshot the query ran on.
+ */
+public final class QueryCache {
+
+    /**
+     * Identifies a query.
+     *
+     * @param graphVersion The version of the graph the query ran on.
+     * @param algorithm    The algorithm and the settings that influence its result.
+     * @param start        The id of the start node.
+     * @param destination  The id of the destination node, or null if there is none.
+     */
+    public record Key(long graphVersion, String algorithm, String start, String destination) {
+    }
+
+    /**
+     * Result of a query.
+     *
+     * @param distance The distance of every vertex.
+     * @param parent   The parent of every vertex, -1 if it has none.
+     */
+    public record Result(double[] distance, int[] parent) {
+    }
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Result> entries;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructor to initialize an empty cache.
+     *
+     * @param capacity The maximum number of results kept.
+     */
+    public QueryCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Result> eldest) {
+                return size() > QueryCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result of a query and marks it as most recently used.
+     *
+     * @param key The query.
+     * @return The result, or null if it is not cached.
+     */
+    public synchronized Result get(Key key) {
+        Result result = entries.get(key);
+        if (result == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return result;
+    }
+
+    /**
+     * Stores the result of a query, evicting the least recently used result if the cache is full.
+     *
+     * @param key    The query.
+     * @param result The result.
+     */
+    public synchronized void put(Key key, Result result) {
+        entries.put(key, result);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,287 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+
+/**
+ * Headless shortest path routines on a {@link CsrGraph}, used for preprocessing and for measuring the
+ * visualized algorithms against a plain reference without any pauses or UI updates.
+ */
+public final class ShortestPaths {
+
+    private ShortestPaths() {
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from the source until the target is settled, or until all reachable
+     * vertices are settled if the target is -1. Weights are expected to be non-negative.
+     *
+     * @param graph    The graph.
+     * @param source   The source vertex.
+     * @param target   The target vertex, or -1 to compute all distances.
+     * @param distance Receives the distances, must have vertexCount entries.
+     * @param parent   Receives the parent vertex of every reached vertex or -1, may be null.
+     * @return The number of settled vertices.
+     */
+    public static int dijkstra(CsrGraph graph, int source, int target, double[] distance, int[] parent) {
+        int n = graph.vertexCount();
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        if (parent != null) {
+            Arrays.fill(parent, -1);
+        }
+
+        boolean[] settled = new boolean[n];
+        IndexedDaryHeap heap = new IndexedDaryHeap(4, n);
+        distance[source] = 0;
+        heap.insert(source, 0);
+
+        int settledCount = 0;
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            settled[u] = true;
+            settledCount++;
+            if (u == target) {
+                break;
+            }
+
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                int v = graph.target(arc);
+                double candidate = distance[u] + graph.weight(arc);
+                if (!settled[v] && candidate < distance[v]) {
+                    distance[v] = candidate;
+                    if (parent != null) {
+                        parent[v] = u;
+                    }
+                    heap.insertOrDecrease(v, candidate);
+                }
+            }
+        }
+        return settledCount;
+    }
+
+    /**
+     * Runs A* search with the landmark heuristic from the source until the target is settled, the headless
+     * counterpart of the visualized A* with {@link AStarHeuristic#LANDMARKS}. A scale above 1 may overestimate,
+     * vertices that are reached again with a shorter distance are then reopened.
+     *
+     * @param graph     The graph, with non-negative weights.
+     * @param source    The source vertex.
+     * @param target    The target vertex.
+     * @param landmarks The landmarks selected for the graph.
+     * @param scale     The non-negative factor the estimate is multiplied with.
+     * @param distance  Receives the distances, must have vertexCount entries.
+     * @return The number of settled vertices, counting reopened vertices again.
+     */
+    public static int aStar(CsrGraph graph, int source, int target, Landmarks landmarks, double scale,
+                            double[] distance) {
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        IndexedDaryHeap heap = new IndexedDaryHeap(4, graph.vertexCount());
+        distance[source] = 0;
+        heap.insert(source, scale * landmarks.estimate(source, target));
+
+        int settledCount = 0;
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            settledCount++;
+            if (u == target) {
+                break;
+            }
+
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                int v = graph.target(arc);
+                double candidate = distance[u] + graph.weight(arc);
+                if (candidate < distance[v]) {
+                    distance[v] = candidate;
+                    heap.insertOrDecrease(v, candidate + scale * landmarks.estimate(v, target));
+                }
+            }
+        }
+        return settledCount;
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from the source and, on the transposed graph, from the target, alternating
+     * between both directions until the smallest keys of both heaps add up to the best meeting distance.
+     * This is the headless counterpart of the visualized bidirectional Dijkstra.
+     *
+     * @param graph   The graph, with non-negative weights.
+     * @param reverse The transposed graph, see {@link CsrGraph#transpose()}.
+     * @param source  The source vertex.
+     * @param target  The target vertex.
+     * @return The distance from the source to the target, Double.POSITIVE_INFINITY if it is unreachable.
+     */
+    public static double bidirectionalDijkstra(CsrGraph graph, CsrGraph reverse, int source, int target) {
+        int n = graph.vertexCount();
+        double[][] distance = {new double[n], new double[n]};
+        boolean[][] settled = {new boolean[n], new boolean[n]};
+        IndexedDaryHeap[] heap = {new IndexedDaryHeap(4, n), new IndexedDaryHeap(4, n)};
+        CsrGraph[] graphs = {graph, reverse};
+        Arrays.fill(distance[0], Double.POSITIVE_INFINITY);
+        Arrays.fill(distance[1], Double.POSITIVE_INFINITY);
+        distance[0][source] = 0;
+        distance[1][target] = 0;
+        heap[0].insert(source, 0);
+        heap[1].insert(target, 0);
+
+        double mu = source == target ? 0 : Double.POSITIVE_INFINITY;
+        int side = 0;
+        while (!heap[0].isEmpty() && !heap[1].isEmpty()
+                && heap[0].keyOf(heap[0].peek()) + heap[1].keyOf(heap[1].peek()) < mu) {
+            int u = heap[side].poll();
+            settled[side][u] = true;
+
+            CsrGraph current = graphs[side];
+            for (int arc = current.firstArc(u); arc < current.endArc(u); arc++) {
+                int v = current.target(arc);
+                double candidate = distance[side][u] + current.weight(arc);
+                if (!settled[side][v] && candidate < distance[side][v]) {
+                    distance[side][v] = candidate;
+                    heap[side].insertOrDecrease(v, candidate);
+                    mu = Math.min(mu, candidate + distance[1 - side][v]);
+                }
+            }
+            side = 1 - side;
+        }
+        return mu;
+    }
+
+    /**
+     * Runs a breadth-first search from the source and, on the transposed graph, from the target, expanding one
+     * whole level per direction in turn until the searches meet. This is the headless counterpart of the
+     * visualized bidirectional breadth-first search.
+     *
+     * @param graph   The graph, weights are ignored.
+     * @param reverse The transposed graph, see {@link CsrGraph#transpose()}.
+     * @param source  The source vertex.
+     * @param target  The target vertex.
+     * @return The number of edges on a shortest path from the source to the target, or -1 if it is unreachable.
+     */
+    public static int bidirectionalBreadthFirstSearch(CsrGraph graph, CsrGraph reverse, int source, int target) {
+        int n = graph.vertexCount();
+        int[][] level = {new int[n], new int[n]};
+        int[][] queue = {new int[n], new int[n]};
+        int[] head = {0, 0};
+        int[] tail = {1, 1};
+        int[] depth = {0, 0};
+        CsrGraph[] graphs = {graph, reverse};
+        Arrays.fill(level[0], -1);
+        Arrays.fill(level[1], -1);
+        level[0][source] = 0;
+        level[1][target] = 0;
+        queue[0][0] = source;
+        queue[1][0] = target;
+
+        int mu = source == target ? 0 : Integer.MAX_VALUE;
+        int side = 0;
+        while (head[0] < tail[0] && head[1] < tail[1] && (mu == Integer.MAX_VALUE || depth[0] + depth[1] + 1 < mu)) {
+            CsrGraph current = graphs[side];
+            int levelEnd = tail[side];
+            while (head[side] < levelEnd) {
+                int u = queue[side][head[side]++];
+                for (int arc = current.firstArc(u); arc < current.endArc(u); arc++) {
+                    int v = current.target(arc);
+                    if (level[side][v] >= 0) {
+                        continue;
+                    }
+                    level[side][v] = level[side][u] + 1;
+                    queue[side][tail[side]++] = v;
+                    if (level[1 - side][v] >= 0) {
+                        mu = Math.min(mu, level[side][v] + level[1 - side][v]);
+                    }
+                }
+            }
+            depth[side]++;
+            side = 1 - side;
+        }
+        return mu == Integer.MAX_VALUE ? -1 : mu;
+    }
+
+    /**
+     * Runs a breadth-first search from the source until the target is discovered, or until all reachable
+     * vertices are discovered if the target is -1.
+     *
+     * @param graph  The graph, weights are ignored.
+     * @param source The source vertex.
+     * @param target The target vertex, or -1 to visit all reachable vertices.
+     * @param level  Receives the number of edges from the source or -1, must have vertexCount entries.
+     * @return The number of discovered vertices, including the source.
+     */
+    public static int breadthFirstSearch(CsrGraph graph, int source, int target, int[] level) {
+        Arrays.fill(level, -1);
+        int[] queue = new int[graph.vertexCount()];
+        int head = 0;
+        int tail = 0;
+        level[source] = 0;
+        queue[tail++] = source;
+
+        while (head < tail && (target < 0 || level[target] < 0)) {
+            int u = queue[head++];
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                int v = graph.target(arc);
+                if (level[v] < 0) {
+                    level[v] = level[u] + 1;
+                    queue[tail++] = v;
+                    if (v == target) {
+                        break;
+                    }
+                }
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Computes the distances from the source to every vertex.
+     *
+     * @param graph  The graph, with non-negative weights.
+     * @param source The source vertex.
+     * @return The distances, Double.POSITIVE_INFINITY for unreachable vertices.
+     */
+    public static double[] distancesFrom(CsrGraph graph, int source) {
+        double[] distance = new double[graph.vertexCount()];
+        dijkstra(graph, source, -1, distance, null);
+        return distance;
+    }
+
+    /**
+     * Marks every vertex reachable from any of the given vertices, including the vertices themselves.
+     *
+     * @param graph   The graph.
+     * @param sources The vertices to start from.
+     * @return The reachable vertices.
+     */
+    public static boolean[] reachableFrom(CsrGraph graph, int... sources) {
+        boolean[] reached = new boolean[graph.vertexCount()];
+        int[] stack = new int[graph.vertexCount()];
+        int size = 0;
+        for (int source : sources) {
+            if (!reached[source]) {
+                reached[source] = true;
+                stack[size++] = source;
+            }
+        }
+        while (size > 0) {
+            int u = stack[--size];
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                int v = graph.target(arc);
+                if (!reached[v]) {
+                    reached[v] = true;
+                    stack[size++] = v;
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * @param graph The graph.
+     * @return True if any arc has a negative weight.
+     */
+    public static boolean hasNegativeWeights(CsrGraph graph) {
+        for (int arc = 0; arc < graph.arcCount(); arc++) {
+            if (graph.weight(arc) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
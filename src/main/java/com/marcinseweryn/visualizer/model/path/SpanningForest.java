@@ -0,0 +1,362 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Minimum spanning forests of the undirected view of a {@link CsrGraph}: every edge id becomes one undirected
+ * edge between the end points of its arcs, whatever its arrow heads, and self-loops are left out. The edges are
+ * kept in primitive arrays together with an undirected adjacency, and the forest is computed by
+ * <ul>
+ *     <li>Kruskal's algorithm: the edges sorted by weight with a radix sort and merged with {@link UnionFind},</li>
+ *     <li>Prim's algorithm: one tree grown at a time from an {@link IndexedDaryHeap} keyed by the cheapest edge
+ *     into the tree,</li>
+ *     <li>Borůvka's algorithm: in every round, the cheapest edge leaving every component is found in parallel and
+ *     all of them are added at once, so at most log n rounds are needed.</li>
+ * </ul>
+ * Kruskal and Borůvka order edges of equal weight by their index and find the same forest, Prim's heap may pick
+ * another edge of the same weight, which yields a forest of the same total weight.
+ */
+public final class SpanningForest {
+
+    // Edges scanned by one Borůvka task
+    private static final int MIN_SLICE = 4096;
+
+    /**
+     * The decisions of one algorithm in the order they were taken.
+     *
+     * @param steps     The accepted edges, and the rejected edges e stored as ~e.
+     * @param roundEnds The number of steps at the end of every Borůvka round, empty for the other algorithms.
+     * @param weight    The total weight of the forest.
+     * @param treeEdges The number of edges in the forest.
+     * @param trees     The number of trees, one per connected component.
+     */
+    public record Result(int[] steps, int[] roundEnds, double weight, int treeEdges, int trees) {
+    }
+
+    private final int n;
+    private final int[] from;
+    private final int[] to;
+    private final double[] weight;
+    private final int[] arc;
+
+    // Undirected adjacency: the edges incident to v are incident[offsets[v]] to incident[offsets[v + 1] - 1]
+    private final int[] offsets;
+    private final int[] incident;
+
+    private SpanningForest(int n, int[] from, int[] to, double[] weight, int[] arc) {
+        this.n = n;
+        this.from = from;
+        this.to = to;
+        this.weight = weight;
+        this.arc = arc;
+
+        int m = from.length;
+        offsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            offsets[from[e] + 1]++;
+            offsets[to[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] next = Arrays.copyOf(offsets, n);
+        incident = new int[2 * m];
+        for (int e = 0; e < m; e++) {
+            incident[next[from[e]]++] = e;
+            incident[next[to[e]]++] = e;
+        }
+    }
+
+    /**
+     * Collects the undirected edges of the graph, one for every edge id.
+     *
+     * @param graph The graph.
+     * @return The edges of the graph, ready for the spanning forest algorithms.
+     */
+    public static SpanningForest of(CsrGraph graph) {
+        int n = graph.vertexCount();
+        int[] from = new int[graph.edgeCount()];
+        int[] to = new int[graph.edgeCount()];
+        double[] weight = new double[graph.edgeCount()];
+        int[] arc = new int[graph.edgeCount()];
+        boolean[] seen = new boolean[graph.edgeCount()];
+        int m = 0;
+        for (int u = 0; u < n; u++) {
+            for (int a = graph.firstArc(u); a < graph.endArc(u); a++) {
+                int id = graph.edgeId(a);
+                if (seen[id] || graph.target(a) == u) {
+                    continue;
+                }
+                seen[id] = true;
+                from[m] = u;
+                to[m] = graph.target(a);
+                weight[m] = graph.weight(a);
+                arc[m] = a;
+                m++;
+            }
+        }
+        return new SpanningForest(n, Arrays.copyOf(from, m), Arrays.copyOf(to, m), Arrays.copyOf(weight, m),
+                                  Arrays.copyOf(arc, m));
+    }
+
+    /**
+     * @return The number of undirected edges.
+     */
+    public int edgeCount() {
+        return from.length;
+    }
+
+    /**
+     * @param edge An edge index.
+     * @return An arc of the graph the edge was built from, see {@link GraphSnapshot#edge(int)}.
+     */
+    public int arc(int edge) {
+        return arc[edge];
+    }
+
+    /**
+     * @param edge An edge index.
+     * @return One end point of the edge.
+     */
+    public int from(int edge) {
+        return from[edge];
+    }
+
+    /**
+     * @param edge An edge index.
+     * @return The other end point of the edge.
+     */
+    public int to(int edge) {
+        return to[edge];
+    }
+
+    /**
+     * @param edge An edge index.
+     * @return The weight of the edge.
+     */
+    public double weight(int edge) {
+        return weight[edge];
+    }
+
+    /**
+     * Kruskal's algorithm: scans the edges by increasing weight and accepts every edge joining two trees.
+     * The scan stops once the forest spans every vertex it can.
+     *
+     * @return The forest, with every scanned edge as a step.
+     */
+    public Result kruskal() {
+        int[] order = sortByWeight();
+        UnionFind trees = new UnionFind(n);
+        int[] steps = new int[order.length];
+        int count = 0;
+        int accepted = 0;
+        double total = 0;
+        for (int i = 0; i < order.length && accepted < n - 1; i++) {
+            int e = order[i];
+            if (trees.union(from[e], to[e])) {
+                steps[count++] = e;
+                accepted++;
+                total += weight[e];
+            } else {
+                steps[count++] = ~e;
+            }
+        }
+        return new Result(Arrays.copyOf(steps, count), new int[0], total, accepted, n - accepted);
+    }
+
+    /**
+     * Prim's algorithm: grows a tree from the root by always adding the cheapest edge leaving it, then grows a new
+     * tree from the next vertex that is not spanned yet. An edge is rejected once both of its end points are spanned
+     * without it.
+     *
+     * @param arity The arity of the heap.
+     * @param root  The vertex the first tree is grown from.
+     * @return The forest, with the edges in the order they were accepted or rejected.
+     */
+    public Result prim(int arity, int root) {
+        IndexedDaryHeap heap = new IndexedDaryHeap(arity, n);
+        boolean[] spanned = new boolean[n];
+        int[] via = new int[n];
+        Arrays.fill(via, -1);
+        int[] steps = new int[from.length];
+        int count = 0;
+        int accepted = 0;
+        int trees = 0;
+        double total = 0;
+
+        for (int i = 0; i < n; i++) {
+            int start = (root + i) % n;
+            if (spanned[start]) {
+                continue;
+            }
+            trees++;
+            heap.insert(start, 0);
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                spanned[u] = true;
+                if (via[u] >= 0) {
+                    steps[count++] = via[u];
+                    accepted++;
+                    total += weight[via[u]];
+                }
+                for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                    int e = incident[k];
+                    int v = from[e] == u ? to[e] : from[e];
+                    if (spanned[v]) {
+                        if (e != via[u]) {
+                            steps[count++] = ~e;
+                        }
+                    } else if (!heap.contains(v)) {
+                        heap.insert(v, weight[e]);
+                        via[v] = e;
+                    } else if (lighter(e, via[v])) {
+                        heap.decreaseKey(v, weight[e]);
+                        via[v] = e;
+                    }
+                }
+            }
+        }
+        return new Result(Arrays.copyOf(steps, count), new int[0], total, accepted, trees);
+    }
+
+    /**
+     * Borůvka's algorithm: every round first rejects the edges inside a component, then finds the cheapest edge
+     * leaving every component on the pool, every task scanning a slice of the remaining edges and lowering the
+     * per-component minimum by compare-and-set, and finally accepts these edges.
+     *
+     * @param pool The pool scanning the edges.
+     * @return The forest, with the rejected and accepted edges of every round.
+     */
+    public Result boruvka(ForkJoinPool pool) {
+        UnionFind trees = new UnionFind(n);
+        int[] component = new int[n];
+        for (int v = 0; v < n; v++) {
+            component[v] = v;
+        }
+        int[] live = new int[from.length];
+        for (int e = 0; e < live.length; e++) {
+            live[e] = e;
+        }
+        int liveCount = live.length;
+        AtomicIntegerArray cheapest = new AtomicIntegerArray(n);
+        boolean[] accepted = new boolean[from.length];
+        int[] steps = new int[from.length];
+        int[] roundEnds = new int[32];
+        int rounds = 0;
+        int count = 0;
+        double total = 0;
+
+        while (true) {
+            // Edges inside a component can never be accepted any more
+            int kept = 0;
+            for (int i = 0; i < liveCount; i++) {
+                int e = live[i];
+                if (component[from[e]] == component[to[e]]) {
+                    if (!accepted[e]) {
+                        steps[count++] = ~e;
+                    }
+                } else {
+                    live[kept++] = e;
+                }
+            }
+            liveCount = kept;
+            if (liveCount == 0) {
+                break;
+            }
+
+            for (int v = 0; v < n; v++) {
+                cheapest.set(v, -1);
+            }
+            int size = liveCount;
+            int tasks = Math.max(1, Math.min(4 * pool.getParallelism(), (size + MIN_SLICE - 1) / MIN_SLICE));
+            pool.submit(() -> IntStream.range(0, tasks).parallel().forEach(task -> {
+                int end = (int) ((long) size * (task + 1) / tasks);
+                for (int i = (int) ((long) size * task / tasks); i < end; i++) {
+                    int e = live[i];
+                    lowerCheapest(cheapest, component[from[e]], e);
+                    lowerCheapest(cheapest, component[to[e]], e);
+                }
+            })).join();
+
+            for (int c = 0; c < n; c++) {
+                int e = cheapest.get(c);
+                if (e >= 0 && trees.union(from[e], to[e])) {
+                    accepted[e] = true;
+                    steps[count++] = e;
+                    total += weight[e];
+                }
+            }
+            for (int v = 0; v < n; v++) {
+                component[v] = trees.find(v);
+            }
+            if (rounds == roundEnds.length) {
+                roundEnds = Arrays.copyOf(roundEnds, 2 * rounds);
+            }
+            roundEnds[rounds++] = count;
+        }
+        return new Result(Arrays.copyOf(steps, count), Arrays.copyOf(roundEnds, rounds), total,
+                          n - trees.sets(), trees.sets());
+    }
+
+    private void lowerCheapest(AtomicIntegerArray cheapest, int component, int edge) {
+        while (true) {
+            int current = cheapest.get(component);
+            if (current >= 0 && !lighter(edge, current)) {
+                return;
+            }
+            if (cheapest.compareAndSet(component, current, edge)) {
+                return;
+            }
+        }
+    }
+
+    // Orders the edges by weight, then by index, so that no two edges are equally light
+    private boolean lighter(int e, int f) {
+        return weight[e] < weight[f] || (weight[e] == weight[f] && e < f);
+    }
+
+    /**
+     * Sorts the edge indices by weight with a least significant digit radix sort over the bits of the weights,
+     * flipped so that they order like the weights. The sort is stable, so equal weights keep their index order.
+     */
+    private int[] sortByWeight() {
+        int m = from.length;
+        long[] keys = new long[m];
+        for (int e = 0; e < m; e++) {
+            long bits = Double.doubleToLongBits(weight[e] == 0 ? 0.0 : weight[e]);
+            keys[e] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+
+        int[] order = new int[m];
+        int[] buffer = new int[m];
+        for (int e = 0; e < m; e++) {
+            order[e] = e;
+        }
+        int[] counts = new int[1 << 11];
+        for (int shift = 0; shift < 64; shift += 11) {
+            Arrays.fill(counts, 0);
+            for (int e = 0; e < m; e++) {
+                counts[(int) (keys[e] >>> shift) & 0x7FF]++;
+            }
+            if (m == 0 || counts[(int) (keys[0] >>> shift) & 0x7FF] == m) {
+                continue;  // All keys share this digit
+            }
+            for (int d = 0, sum = 0; d < counts.length; d++) {
+                int c = counts[d];
+                counts[d] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < m; i++) {
+                int e = order[i];
+                buffer[counts[(int) (keys[e] >>> shift) & 0x7FF]++] = e;
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,130 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import com.marcinseweryn.visualizer.view.Edge;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Base class of the minimum spanning tree visualizations. The forest is computed on the undirected view of the
+ * graph by {@link SpanningForest}, then its decisions are replayed: accepted edges are highlighted with the
+ * "mst-accepted" style class and rejected edges with "mst-rejected".
+ * <p>
+ * The forest does not depend on the destination, so spanning tree algorithms are not served from the query cache.
+ */
+public abstract class SpanningTreeAlgorithm extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(SpanningTreeAlgorithm.class);
+
+    // Accepted and rejected edges in the order of the decisions
+    private final ObservableList<String> decisionLines;
+
+    /**
+     * Constructor to initialize a spanning tree algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node, the root of the first tree where the algorithm has one.
+     * @param destinationNode The destination node, not used.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    protected SpanningTreeAlgorithm(VBox algorithmTab,
+                                    ListView<String> pseudocodeList,
+                                    SimpleObjectProperty<GraphNode> startNode,
+                                    SimpleObjectProperty<GraphNode> destinationNode,
+                                    AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        decisionLines = initializeTextView("Decisions");
+    }
+
+    /**
+     * Computes the forest with the algorithm of the subclass.
+     *
+     * @param forest The undirected edges of the graph.
+     * @param root   The vertex of the start node.
+     * @return The forest and the decisions taken.
+     */
+    protected abstract SpanningForest.Result computeForest(SpanningForest forest, int root);
+
+    /**
+     * @return The pseudocode line accepting an edge.
+     */
+    protected abstract int acceptStep();
+
+    /**
+     * @return The pseudocode line rejecting an edge.
+     */
+    protected abstract int rejectStep();
+
+    /**
+     * @return The pseudocode line starting a round, or -1 if the algorithm has no rounds.
+     */
+    protected int roundStep() {
+        return -1;
+    }
+
+    @Override
+    protected boolean isQueryCacheable() {
+        return false;
+    }
+
+    /**
+     * Computes the minimum spanning forest and replays the decisions of the algorithm.
+     */
+    @Override
+    public void executeAlgorithm() {
+        GraphSnapshot snapshot = getGraphSnapshot();
+        SpanningForest forest = SpanningForest.of(snapshot.csr());
+        int root = startNode.get() == null ? 0 : Math.max(0, snapshot.indexOf(startNode.get()));
+        logger.info("Starting {} on {} undirected edges.", getClass().getSimpleName(), forest.edgeCount());
+        if (snapshot.csr().vertexCount() == 0) {
+            return;
+        }
+
+        pauseAtStep(1);
+        SpanningForest.Result result = computeForest(forest, root);
+
+        int[] steps = result.steps();
+        int round = 0;
+        for (int i = 0; i < steps.length; i++) {
+            // The edges rejected after the last round are listed with it
+            if (roundStep() >= 0 && round < result.roundEnds().length && (i == 0 || i == result.roundEnds()[round - 1])) {
+                pauseAtStep(roundStep());
+                String line = "round " + ++round;
+                Platform.runLater(() -> decisionLines.add(line));
+            }
+
+            int edge = steps[i] >= 0 ? steps[i] : ~steps[i];
+            pauseAtStep(steps[i] >= 0 ? acceptStep() : rejectStep());
+            showDecision(snapshot, forest, edge, steps[i] >= 0);
+        }
+
+        reportStatistic(String.format("forest: %d edges in %d trees, total weight %s",
+                                      result.treeEdges(), result.trees(), result.weight()));
+    }
+
+    private void showDecision(GraphSnapshot snapshot, SpanningForest forest, int edge, boolean accepted) {
+        Edge connection = snapshot.edge(forest.arc(edge));
+        GraphNode from = snapshot.node(forest.from(edge));
+        GraphNode to = snapshot.node(forest.to(edge));
+        String line = String.format("%s %s - %s (w %s)", accepted ? "accept" : "reject",
+                                    from.getId(), to.getId(), forest.weight(edge));
+        logger.debug(line);
+
+        Platform.runLater(() -> {
+            decisionLines.add(line);
+            connection.setStyleClass(accepted ? "mst-accepted" : "mst-rejected");
+            if (accepted) {
+                from.setPrimaryClass("visited");
+                to.setPrimaryClass("visited");
+            }
+        });
+    }
+}
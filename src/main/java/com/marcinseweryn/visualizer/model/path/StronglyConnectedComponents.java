@@ -0,0 +1,162 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Arrays;
+
+/**
+ * Strongly connected components of a {@link CsrGraph}, found by Tarjan's algorithm. The depth-first search keeps
+ * its own stack of vertices with the position of the next arc to scan, instead of recursing, so a path of
+ * millions of vertices needs a few int arrays rather than millions of stack frames.
+ * <p>
+ * Components are numbered in the order they are completed, which is a reverse topological order of the
+ * condensation: every arc between two components leads from a higher to a lower number.
+ */
+public final class StronglyConnectedComponents {
+
+    private final int[] component;
+    private final int count;
+
+    private StronglyConnectedComponents(int[] component, int count) {
+        this.component = component;
+        this.count = count;
+    }
+
+    /**
+     * Finds the strongly connected components with an iterative Tarjan search.
+     *
+     * @param graph The graph, weights are ignored.
+     * @return The components.
+     */
+    public static StronglyConnectedComponents tarjan(CsrGraph graph) {
+        int n = graph.vertexCount();
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] nextArc = new int[n];
+        int[] component = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int[] callStack = new int[n];
+        Arrays.fill(index, -1);
+
+        int counter = 0;
+        int count = 0;
+        int stackSize = 0;
+        for (int root = 0; root < n; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+
+            int depth = 0;
+            callStack[depth++] = root;
+            index[root] = low[root] = counter++;
+            nextArc[root] = graph.firstArc(root);
+            stack[stackSize++] = root;
+            onStack[root] = true;
+
+            while (depth > 0) {
+                int v = callStack[depth - 1];
+                if (nextArc[v] < graph.endArc(v)) {
+                    int w = graph.target(nextArc[v]++);
+                    if (index[w] < 0) {
+                        // Descend into w, as the recursive search would
+                        index[w] = low[w] = counter++;
+                        nextArc[w] = graph.firstArc(w);
+                        stack[stackSize++] = w;
+                        onStack[w] = true;
+                        callStack[depth++] = w;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+
+                // All arcs of v are scanned, return to its caller
+                depth--;
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack[--stackSize];
+                        onStack[w] = false;
+                        component[w] = count;
+                    } while (w != v);
+                    count++;
+                }
+                if (depth > 0) {
+                    int caller = callStack[depth - 1];
+                    low[caller] = Math.min(low[caller], low[v]);
+                }
+            }
+        }
+        return new StronglyConnectedComponents(component, count);
+    }
+
+    /**
+     * @return The number of components.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @param vertex A vertex.
+     * @return The component of the vertex.
+     */
+    public int component(int vertex) {
+        return component[vertex];
+    }
+
+    /**
+     * @return The number of vertices of every component.
+     */
+    public int[] sizes() {
+        int[] sizes = new int[count];
+        for (int c : component) {
+            sizes[c]++;
+        }
+        return sizes;
+    }
+
+    /**
+     * Builds the condensation: one vertex per component and one arc per pair of components joined by at least
+     * one arc of the graph. The condensation is acyclic.
+     *
+     * @param graph The graph the components were found in.
+     * @return The condensation, with zero weights.
+     */
+    public CsrGraph condensation(CsrGraph graph) {
+        int n = graph.vertexCount();
+
+        // The vertices grouped by component, so that the arcs of a component are collected in one go
+        int[] offsets = new int[count + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[component[v] + 1]++;
+        }
+        for (int c = 0; c < count; c++) {
+            offsets[c + 1] += offsets[c];
+        }
+        int[] next = Arrays.copyOf(offsets, count);
+        int[] members = new int[n];
+        for (int v = 0; v < n; v++) {
+            members[next[component[v]]++] = v;
+        }
+
+        int[] lastSource = new int[count];
+        Arrays.fill(lastSource, -1);
+        int[] sources = new int[graph.arcCount()];
+        int[] targets = new int[graph.arcCount()];
+        int arcs = 0;
+        for (int c = 0; c < count; c++) {
+            for (int i = offsets[c]; i < offsets[c + 1]; i++) {
+                int u = members[i];
+                for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                    int d = component[graph.target(arc)];
+                    if (d != c && lastSource[d] != c) {
+                        lastSource[d] = c;
+                        sources[arcs] = c;
+                        targets[arcs++] = d;
+                    }
+                }
+            }
+        }
+        return CsrGraph.fromArcs(count, Arrays.copyOf(sources, arcs), Arrays.copyOf(targets, arcs), new double[arcs]);
+    }
+}
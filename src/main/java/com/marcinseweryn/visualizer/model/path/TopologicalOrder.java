@@ -0,0 +1,51 @@
+package com.marcinseweryn.visualizer.model.path;
+
+/**
+ * A topological order of the vertices of a {@link CsrGraph}, as far as one exists: every vertex is listed after
+ * all vertices with an arc to it. Vertices on or behind a cycle are never sorted.
+ *
+ * @param order  The sorted vertices, followed by unused entries.
+ * @param sorted The number of sorted vertices, equal to the vertex count if and only if the graph is acyclic.
+ */
+public record TopologicalOrder(int[] order, int sorted) {
+
+    /**
+     * Sorts the vertices with Kahn's algorithm: vertices without incoming arcs are sorted first, and removing
+     * their arcs frees the next ones. The int array of the order doubles as the queue of free vertices.
+     *
+     * @param graph The graph, weights are ignored.
+     * @return The order.
+     */
+    public static TopologicalOrder kahn(CsrGraph graph) {
+        int n = graph.vertexCount();
+        int[] inDegree = new int[n];
+        for (int arc = 0; arc < graph.arcCount(); arc++) {
+            inDegree[graph.target(arc)]++;
+        }
+
+        int[] order = new int[n];
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                order[tail++] = v;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int u = order[head];
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                int v = graph.target(arc);
+                if (--inDegree[v] == 0) {
+                    order[tail++] = v;
+                }
+            }
+        }
+        return new TopologicalOrder(order, tail);
+    }
+
+    /**
+     * @return True if every vertex is sorted, i.e. the graph is acyclic.
+     */
+    public boolean isComplete() {
+        return sorted == order.length;
+    }
+}
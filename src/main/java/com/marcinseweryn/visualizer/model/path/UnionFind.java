@@ -0,0 +1,77 @@
+package com.marcinseweryn.visualizer.model.path;
+
+/**
+ * Disjoint sets over the vertex indices 0..n-1 in two int arrays. Sets are merged by size and every find
+ * compresses the path it walked, so that a sequence of operations runs in nearly constant amortized time.
+ */
+public final class UnionFind {
+
+    private final int[] parent;
+    private final int[] size;
+    private int sets;
+
+    /**
+     * Creates n singleton sets.
+     *
+     * @param n The number of elements.
+     */
+    public UnionFind(int n) {
+        parent = new int[n];
+        size = new int[n];
+        for (int v = 0; v < n; v++) {
+            parent[v] = v;
+            size[v] = 1;
+        }
+        sets = n;
+    }
+
+    /**
+     * Finds the representative of the set of an element and points every element on the way directly to it.
+     *
+     * @param v An element.
+     * @return The representative of its set.
+     */
+    public int find(int v) {
+        int root = v;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        while (parent[v] != root) {
+            int next = parent[v];
+            parent[v] = root;
+            v = next;
+        }
+        return root;
+    }
+
+    /**
+     * Merges the sets of two elements, the smaller set is attached below the root of the larger one.
+     *
+     * @param u An element.
+     * @param v An element.
+     * @return True if the elements were in different sets.
+     */
+    public boolean union(int u, int v) {
+        int ru = find(u);
+        int rv = find(v);
+        if (ru == rv) {
+            return false;
+        }
+        if (size[ru] < size[rv]) {
+            int swap = ru;
+            ru = rv;
+            rv = swap;
+        }
+        parent[rv] = ru;
+        size[ru] += size[rv];
+        sets--;
+        return true;
+    }
+
+    /**
+     * @return The number of disjoint sets.
+     */
+    public int sets() {
+        return sets;
+    }
+}
@@ -2,6 +2,6 @@ package com.marcinseweryn.visualizer.model.path;
 
 public enum ViewType {
 
-    CANDIDATE_NODES, VISITED, NEGATIVE_CYCLE, DISTANCE
+    CANDIDATE_NODES, VISITED, NEGATIVE_CYCLE, DISTANCE, BACKWARD_CANDIDATE_NODES, BACKWARD_VISITED
 
 }
@@ -0,0 +1,338 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Implementation of the A* search algorithm on an indexed d-ary heap keyed by distance plus heuristic estimate.
+ * The Euclidean heuristic uses the layout coordinates of the nodes, multiplied by the largest factor for which
+ * no edge is shorter in weight than in length, so the estimate stays admissible for any weights. The landmark
+ * heuristic (ALT) bounds the remaining distance by precomputed landmark distances instead and works on graphs
+ * whose weights are unrelated to the layout. An additional scale above 1 trades optimality for fewer settled
+ * nodes (weighted A*); settled nodes are reopened if a shorter path to them is found.
+ * After the search, the number of settled nodes is compared with a plain Dijkstra run on the same query.
+ */
+public class AStar extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(AStar.class);
+
+    // Visualizers for the open set, closed set, and distance list
+    private final GraphNodeIndexedHeap candidateNodeHeap;
+    private final GraphNodeVisualizer visitedNodeList;
+    private final GraphNodeVisualizer distanceNodeList;
+
+    private AStarHeuristic heuristic = AStarHeuristic.EUCLIDEAN;
+    private double heuristicScale = 1.0;
+    private int landmarkCount = 4;
+
+    // Heuristic state for the current execution
+    private double[] x;
+    private double[] y;
+    private double euclideanFactor;
+    private Landmarks landmarks;
+
+    /**
+     * Constructor to initialize the AStar algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public AStar(VBox algorithmTab,
+                 ListView<String> pseudocodeList,
+                 SimpleObjectProperty<GraphNode> startNode,
+                 SimpleObjectProperty<GraphNode> destinationNode,
+                 AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        candidateNodeHeap = (GraphNodeIndexedHeap) initializeGraphNodeVisualizer(ViewType.CANDIDATE_NODES,
+                                                                                 DataStructureType.INDEXED_HEAP);
+        visitedNodeList = initializeGraphNodeVisualizer(ViewType.VISITED, DataStructureType.STACK);
+        distanceNodeList = initializeGraphNodeVisualizer(ViewType.DISTANCE, DataStructureType.LIST);
+
+        logger.debug("AStar algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    /**
+     * Sets the heuristic used by the next execution.
+     *
+     * @param heuristic The heuristic.
+     */
+    public void setHeuristic(AStarHeuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    /**
+     * Sets the factor the heuristic estimate is multiplied with. Values above 1 may overestimate and
+     * return a path that is not the shortest one.
+     *
+     * @param heuristicScale The non-negative scale.
+     */
+    public void setHeuristicScale(double heuristicScale) {
+        this.heuristicScale = heuristicScale;
+    }
+
+    /**
+     * Sets the number of landmarks selected for the landmark heuristic.
+     *
+     * @param landmarkCount The number of landmarks, at least 1.
+     */
+    public void setLandmarkCount(int landmarkCount) {
+        this.landmarkCount = landmarkCount;
+    }
+
+    /**
+     * Includes the heuristic settings, a scaled heuristic may return a different path. The Euclidean heuristic
+     * also depends on the node positions, which are not part of the graph version, so a hash of them is included.
+     */
+    @Override
+    protected String queryCacheName() {
+        String name = super.queryCacheName() + "/" + heuristic + "/" + heuristicScale + "/" + landmarkCount;
+        if (heuristic != AStarHeuristic.EUCLIDEAN) {
+            return name;
+        }
+
+        GraphSnapshot snapshot = getGraphSnapshot();
+        long positions = 1;
+        for (int v = 0; v < snapshot.csr().vertexCount(); v++) {
+            positions = 31 * positions + Double.hashCode(snapshot.node(v).getLayoutX());
+            positions = 31 * positions + Double.hashCode(snapshot.node(v).getLayoutY());
+        }
+        return name + "/" + Long.toHexString(positions);
+    }
+
+    /**
+     * Executes the A* search from the start node to the destination node.
+     */
+    @Override
+    public void executeAlgorithm() {
+        if (destinationNode.get() == null) {
+            logger.warn("A* requires a destination node.");
+            reportStatistic("no destination node selected");
+            return;
+        }
+
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        int n = graph.vertexCount();
+        for (int v = 0; v < n; v++) {
+            distanceNodeList.addNode(snapshot.node(v));
+        }
+
+        int start = startNode.get().getIndex();
+        int destination = snapshot.indexOf(destinationNode.get());
+
+        logger.info("Starting A* execution with the {} heuristic scaled by {}.", heuristic, heuristicScale);
+        if (ShortestPaths.hasNegativeWeights(graph)) {
+            logger.warn("The graph has negative edges, A* distances may be wrong.");
+        }
+
+        // Initialization steps
+        pauseAtStep(1);  // Step: Prepare the heuristic
+        prepareHeuristic(snapshot);
+
+        DistanceList distance = resetDistances(n);
+        boolean[] closed = new boolean[n];
+        candidateNodeHeap.setArity(4);
+
+        pauseAtStep(2);  // Step: Set distance to zero
+        distance.set(start, 0.0);
+        startNode.get().setDistance(0.0);
+        startNode.get().setParentNode(null);
+
+        pauseAtStep(3);  // Step: Insert start node into the open set
+        candidateNodeHeap.addNodeAndVisualize(startNode.get(), estimate(start, destination));
+
+        int settledCount = 0;
+        int reopenedCount = 0;
+
+        // Main loop
+        pauseAtStep(4);
+        while (!candidateNodeHeap.isEmpty()) {
+            pauseAtStep(5);  // Step: Poll the node with the smallest distance plus estimate
+            setCurrentNode(candidateNodeHeap.removeNode());
+            int current = getCurrentNode().getIndex();
+            closed[current] = true;
+            settledCount++;
+
+            pauseAtStep(6);  // Step: Move node to the closed set
+            visitedNodeList.addNodeAndVisualize(getCurrentNode());
+
+            pauseAtStep(7);  // Step: Check if destination
+            if (current == destination) {
+                pauseAtStep(8);
+                break;
+            }
+
+            pauseAtStep(9);  // Step: Explore outgoing edges
+            for (int arc = graph.firstArc(current); arc < graph.endArc(current); arc++) {
+                int neighbor = graph.target(arc);
+                setNeighborNode(snapshot.node(neighbor));
+
+                pauseAtStep(10);  // Step: Calculate new distance
+                double newDistance = distance.get(current) + graph.weight(arc);
+
+                pauseAtStep(11);  // Step: Relaxation
+                if (newDistance < distance.get(neighbor)) {
+                    pauseAtStep(12);
+                    distance.set(neighbor, newDistance);
+                    getNeighborNode().setParentNode(getCurrentNode());
+                    getNeighborNode().setDistance(newDistance);
+
+                    // Only an inconsistent (overestimating) heuristic reaches closed nodes again
+                    pauseAtStep(13);
+                    if (closed[neighbor]) {
+                        closed[neighbor] = false;
+                        reopenedCount++;
+                    }
+
+                    pauseAtStep(14);
+                    candidateNodeHeap.addNodeAndVisualize(getNeighborNode(), newDistance + estimate(neighbor, destination));
+                }
+            }
+            setNeighborNode(null);
+        }
+
+        reportSettledNodes(graph, start, destination, settledCount, reopenedCount);
+        shortestPath(distance.get(destination));
+    }
+
+    /**
+     * Precomputes the state of the selected heuristic for the given graph.
+     *
+     * @param snapshot The graph snapshot.
+     */
+    private void prepareHeuristic(GraphSnapshot snapshot) {
+        CsrGraph graph = snapshot.csr();
+        int n = graph.vertexCount();
+
+        if (heuristic == AStarHeuristic.LANDMARKS) {
+            landmarks = Landmarks.select(graph, landmarkCount);
+            StringBuilder ids = new StringBuilder();
+            for (int landmark : landmarks.vertices()) {
+                ids.append(ids.isEmpty() ? "" : ", ").append(snapshot.node(landmark).getId());
+            }
+            reportStatistic("landmarks: " + ids);
+            return;
+        }
+
+        x = new double[n];
+        y = new double[n];
+        for (int v = 0; v < n; v++) {
+            x[v] = snapshot.node(v).getLayoutX();
+            y[v] = snapshot.node(v).getLayoutY();
+        }
+
+        // The largest factor with factor * length <= weight on every edge keeps the estimate admissible
+        euclideanFactor = Double.POSITIVE_INFINITY;
+        for (int u = 0; u < n; u++) {
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                double length = Math.hypot(x[graph.target(arc)] - x[u], y[graph.target(arc)] - y[u]);
+                if (length > 0) {
+                    euclideanFactor = Math.min(euclideanFactor, Math.max(0, graph.weight(arc) / length));
+                }
+            }
+        }
+        if (Double.isInfinite(euclideanFactor)) {
+            euclideanFactor = 0;
+        }
+        reportStatistic(String.format("weight per unit of length: %.4f", euclideanFactor));
+        if (euclideanFactor == 0) {
+            logger.warn("An edge has zero weight, the Euclidean heuristic degenerates to Dijkstra's algorithm.");
+        }
+    }
+
+    /**
+     * Estimates the remaining distance from a vertex to the destination.
+     *
+     * @param vertex      The vertex.
+     * @param destination The destination vertex.
+     * @return The scaled heuristic estimate.
+     */
+    private double estimate(int vertex, int destination) {
+        double estimate = heuristic == AStarHeuristic.LANDMARKS
+                ? landmarks.estimate(vertex, destination)
+                : euclideanFactor * Math.hypot(x[destination] - x[vertex], y[destination] - y[vertex]);
+        return heuristicScale * estimate;
+    }
+
+    /**
+     * Reports the number of settled nodes next to the number settled by Dijkstra's algorithm on the same query.
+     */
+    private void reportSettledNodes(CsrGraph graph, int start, int destination, int settledCount, int reopenedCount) {
+        int dijkstraCount = ShortestPaths.dijkstra(graph, start, destination, new double[graph.vertexCount()], null);
+        int saved = dijkstraCount - settledCount;
+
+        reportStatistic(String.format("settled nodes: %d of %d", settledCount, graph.vertexCount()));
+        reportStatistic(String.format("Dijkstra settled nodes: %d (%d %s, %.1f%%)", dijkstraCount, Math.abs(saved),
+                                      saved >= 0 ? "fewer" : "more",
+                                      dijkstraCount == 0 ? 0.0 : 100.0 * saved / dijkstraCount));
+        if (reopenedCount > 0) {
+            reportStatistic("reopened nodes: " + reopenedCount);
+        }
+    }
+
+    /**
+     * Visualizes the shortest path once it has been found.
+     *
+     * @param distance The distance of the shortest path.
+     */
+    private void shortestPath(double distance) {
+        pauseAtStep(15);
+
+        pauseAtStep(16);
+        if (Double.isInfinite(distance)) {
+            logger.info("No path found to the destination.");
+            return;
+        }
+
+        logger.info("Path found with distance: {}", distance);
+
+        pauseAtStep(17);
+        for (GraphNode node = destinationNode.get(); node != null; node = node.getParentNode()) {
+            addToPath(node);
+            pauseAtStep(18);
+        }
+
+        pauseAtStep(19);
+        visualizePath();
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "AStar(start, end, h):",
+                "\tprepare h (Euclidean factor or landmark distances)",
+                "\tinitialize distances with Double.POSITIVE_INFINITY, set distance[start] = 0",
+                "\topen.insert(start, h(start))",
+
+                "\twhile open is not empty do:",
+                "\t\tnode = open.poll()",
+                "\t\tmove node to closed",
+
+                "\t\tif node == end then:",
+                "\t\t\tbreak",
+
+                "\t\tfor each edge (node, neighbor) do:",
+                "\t\t\tnewDistance = distance[node] + edge.weight",
+                "\t\t\tif newDistance < distance[neighbor] then:",
+                "\t\t\t\tdistance[neighbor] = newDistance, parent[neighbor] = node",
+                "\t\t\t\tremove neighbor from closed",
+                "\t\t\t\topen.insert or open.decreaseKey(neighbor, newDistance + h(neighbor))",
+
+                "\nShortestPath(distance):",
+                "\tif distance is infinite then: return",
+                "\tfor N = destination; N != null; N = N.parent:",
+                "\t\tadd N to path",
+                "\tvisualize path"
+        );
+    }
+}
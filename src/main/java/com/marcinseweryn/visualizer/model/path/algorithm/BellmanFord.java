@@ -1,8 +1,8 @@
 package com.marcinseweryn.visualizer.model.path.algorithm;
 
 import com.marcinseweryn.visualizer.model.path.*;
-import com.marcinseweryn.visualizer.view.Edge;
 import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.AnchorPane;
@@ -10,11 +10,16 @@ import javafx.scene.layout.VBox;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Implementation of Bellman-Ford algorithm for finding shortest paths in a weighted graph.
  * This class visualizes the process of detecting shortest paths and potential negative cycles.
+ * The relaxations are scheduled by the selected {@link BellmanFordMode}: rounds over all edges that stop after a
+ * round without a change, a work queue of the nodes whose distance changed (SPFA) optionally ordered by the
+ * SLF/LLL heuristics, or rounds relaxing partitions of the edge list in parallel, see {@link BellmanFordSearch}.
  */
 public class BellmanFord extends GraphAlgorithm {
 
@@ -23,6 +28,12 @@ public class BellmanFord extends GraphAlgorithm {
     // Visualizer for the distance list during the algorithm's execution
     private final GraphNodeVisualizer distanceNodeList;
 
+    private BellmanFordMode mode = BellmanFordMode.ROUNDS;
+
+    // Counters reported after the execution
+    private int rounds;
+    private long relaxations;
+
     /**
      * Constructor for initializing the Bellman-Ford algorithm with required components.
      *
@@ -44,90 +55,299 @@ public class BellmanFord extends GraphAlgorithm {
         );
     }
 
+    /**
+     * Sets the relaxation strategy used by the next execution.
+     *
+     * @param mode The relaxation strategy.
+     */
+    public void setMode(BellmanFordMode mode) {
+        this.mode = mode;
+    }
+
     /**
      * Executes the Bellman-Ford algorithm.
      * The algorithm finds the shortest paths and detects negative weight cycles.
      */
     @Override
     public void executeAlgorithm() {
-        logger.info("Starting Bellman-Ford execution.");
+        logger.info("Starting Bellman-Ford execution in mode {}.", mode);
 
         // Initialize distances and set the distance for the start node
         pauseAtStep(0);  // Initialize
-        int start = Integer.parseInt(startNode.get().getId());
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        int start = startNode.get().getIndex();
 
         pauseAtStep(1);
-        List<GraphNode> graph = getGraph();
-        graph.forEach(distanceNodeList::addNode);
+        int N = graph.vertexCount();
+        for (int v = 0; v < N; v++) {
+            distanceNodeList.addNode(snapshot.node(v));
+        }
 
-        int N = graph.size();
-        DistanceList distanceList = new DistanceList();
+        DistanceList distance = resetDistances(N);
+        rounds = 0;
+        relaxations = 0;
+
+        switch (mode) {
+            case ROUNDS -> relaxInRounds(snapshot, distance, start);
+            case PARALLEL_ROUNDS -> relaxInParallelRounds(snapshot, distance, start);
+            case QUEUE -> relaxWithQueue(snapshot, distance, start, false);
+            case QUEUE_SLF_LLL -> relaxWithQueue(snapshot, distance, start, true);
+        }
+
+        reportStatistic(String.format("%s: %d %s, %d relaxations (full N - 1 rounds: %d)", mode, rounds,
+                                      mode == BellmanFordMode.QUEUE || mode == BellmanFordMode.QUEUE_SLF_LLL
+                                              ? "queue pops" : "rounds",
+                                      relaxations, (long) Math.max(0, N - 1) * graph.arcCount()));
+        logger.info("Bellman-Ford execution completed. Final distances: {}", distance);
+    }
+
+    /**
+     * Relaxes every edge in rounds until a round changes nothing or N - 1 rounds have passed.
+     */
+    private void relaxInRounds(GraphSnapshot snapshot, DistanceList distance, int start) {
+        CsrGraph graph = snapshot.csr();
+        int N = graph.vertexCount();
 
         pauseAtStep(2);  // Step after initializing distances
         startNode.get().setDistance(0.0);
-        distanceList.set(start, 0.0);
+        distance.set(start, 0.0);
 
         logger.debug("Set start node distance to 0. Start node: {}", startNode.get());
 
-
-        // Main loop: Relaxation step (N-1 times)
+        // Main loop: Relaxation step (at most N-1 times)
+        boolean changed = true;
         pauseAtStep(3);
-        for (int i = 0; i < N - 1; i++) {
-            logger.debug("Relaxation iteration {}", i + 1);
+        while (changed && rounds < N - 1) {
+            rounds++;
+            changed = false;
+            logger.debug("Relaxation iteration {}", rounds);
 
             pauseAtStep(4);
-            for (GraphNode graphNode : graph) {
-                int from = Integer.parseInt(graphNode.getId());
-                setCurrentNode(graphNode);
+            for (int from = 0; from < N; from++) {
+                setCurrentNode(snapshot.node(from));
 
+                // Nodes that have not been reached yet cannot relax any edge
                 pauseAtStep(5);  // Process current node
-                for (GraphNode neighbor : graphNode.getNeighbors()) {
-                    setNeighborNode(neighbor);
-                    Edge edge = graphNode.getConnection(neighbor);
-                    int to = Integer.parseInt(neighbor.getId());
+                if (distance.get(from) == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int arc = graph.firstArc(from); arc < graph.endArc(from); arc++) {
+                    int to = graph.target(arc);
+                    setNeighborNode(snapshot.node(to));
+                    relaxations++;
 
                     pauseAtStep(6);  // Check edge weight
-                    if (distanceList.get(from) + edge.getWeight() < distanceList.get(to)) {
+                    double newDistance = distance.get(from) + graph.weight(arc);
+                    if (newDistance < distance.get(to)) {
                         pauseAtStep(7);  // Relaxation step: Update distance
-                        distanceList.set(to, distanceList.get(from) + edge.getWeight());
-                        getNeighborNode().setDistance(distanceList.get(from) + edge.getWeight());
-                        logger.debug("Updated distance of node {}: {}", neighbor.getId(), distanceList.get(to));
+                        distance.set(to, newDistance);
+                        getNeighborNode().setDistance(newDistance);
+                        changed = true;
+                        logger.debug("Updated distance of node {}: {}", getNeighborNode().getId(), newDistance);
                     }
 
                     setNeighborNode(null);  // Reset neighbor after processing
                 }
             }
+
+            pauseAtStep(8);  // Step: Early exit
         }
+        setCurrentNode(null);
 
-        // Detect negative weight cycles
-        pauseAtStep(9);  // Step before checking for negative cycles
-        logger.debug("Checking for negative weight cycles.");
-        for (int i = 0; i < N - 1; i++) {
-            pauseAtStep(10);
-            for (GraphNode graphNode : graph) {
-                int from = Integer.parseInt(graphNode.getId());
+        if (changed) {
+            detectNegativeCycles(snapshot, distance);
+        } else {
+            logger.info("Round {} changed no distance, there is no reachable negative cycle.", rounds);
+        }
+    }
 
-                pauseAtStep(11);
-                for (GraphNode neighbor : graphNode.getNeighbors()) {
-                    Edge edge = graphNode.getConnection(neighbor);
-                    int to = Integer.parseInt(neighbor.getId());
+    /**
+     * Relaxes every edge in rounds, with partitions of the edge list relaxed in parallel, until a round
+     * changes nothing or N - 1 rounds have passed.
+     */
+    private void relaxInParallelRounds(GraphSnapshot snapshot, DistanceList distance, int start) {
+        CsrGraph graph = snapshot.csr();
+        int N = graph.vertexCount();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
 
-                    pauseAtStep(12);
-                    if (distanceList.get(from) + edge.getWeight() < distanceList.get(to)) {
-                        pauseAtStep(13);
-                        distanceList.set(to, Double.NEGATIVE_INFINITY);
-                        neighbor.setDistance(Double.NEGATIVE_INFINITY);
+        pauseAtStep(2);
+        AtomicDistances distances = new AtomicDistances(N);
+        distances.set(start, 0.0);
+        distance.set(start, 0.0);
+        startNode.get().setDistance(0.0);
 
-                        neighbor.clearStyle();
-                        neighbor.setPrimaryClass("negative-cycle");
+        int[] boundaries = BellmanFordSearch.partition(graph, pool.getParallelism() * 4);
+        LongAdder relaxed = new LongAdder();
+        logger.debug("Partitioned the edge list into {} slices.", boundaries.length - 1);
+
+        boolean changed = true;
+        pauseAtStep(3);
+        while (changed && rounds < N - 1) {
+            rounds++;
 
-                        logger.warn("Detected negative cycle at node: {}", neighbor.getId());
+            pauseAtStep(4);  // Step: Relax all slices in parallel
+            changed = BellmanFordSearch.parallelRound(graph, distances, boundaries, pool, relaxed);
+            for (int v = 0; v < N; v++) {
+                distance.set(v, distances.get(v));
+                snapshot.node(v).setDistance(distances.get(v));
+            }
+
+            pauseAtStep(8);  // Step: Early exit
+        }
+        relaxations = relaxed.sum();
+
+        if (changed) {
+            detectNegativeCycles(snapshot, distance);
+        } else {
+            logger.info("Round {} changed no distance, there is no reachable negative cycle.", rounds);
+        }
+    }
+
+    /**
+     * Relaxes the edges of the nodes whose distance changed, using a queue (SPFA). With SLF/LLL enabled, a node
+     * with a smaller distance than the front is queued at the front, and nodes above the average distance of the
+     * queue are moved to the back before polling. A negative cycle is detected as soon as the tentative path of
+     * a node has N edges and its parents form a cycle.
+     */
+    private void relaxWithQueue(GraphSnapshot snapshot, DistanceList distance, int start, boolean slfLll) {
+        CsrGraph graph = snapshot.csr();
+        int N = graph.vertexCount();
+        GraphNodeQueue queue = (GraphNodeQueue) initializeGraphNodeVisualizer(ViewType.CANDIDATE_NODES,
+                                                                             DataStructureType.QUEUE);
+
+        // The ring buffer mirrors the visualized queue, every node is queued at most once
+        int[] ring = new int[N];
+        int head = 0;
+        int size = 0;
+        double queuedSum = 0;
+        boolean[] queued = new boolean[N];
+        int[] parent = new int[N];
+        int[] length = new int[N];
+        Arrays.fill(parent, -1);
+
+        pauseAtStep(2);
+        distance.set(start, 0.0);
+        startNode.get().setDistance(0.0);
+        startNode.get().setParentNode(null);
+        ring[0] = start;
+        size = 1;
+        queued[start] = true;
+        queue.addNodeAndVisualize(startNode.get());
+
+        pauseAtStep(3);
+        while (size > 0) {
+            if (slfLll) {
+                pauseAtStep(4);  // Step: Large Label Last
+                double average = queuedSum / size;
+                for (int rotations = 0; rotations < size && distance.get(ring[head]) > average; rotations++) {
+                    ring[(head + size) % N] = ring[head];
+                    head = (head + 1) % N;
+                    queue.addNodeAndVisualize(queue.removeNode());
+                }
+            }
+
+            pauseAtStep(5);  // Step: Dequeue
+            int current = ring[head];
+            head = (head + 1) % N;
+            size--;
+            queued[current] = false;
+            setCurrentNode(queue.removeNode());
+            if (distance.get(current) == Double.NEGATIVE_INFINITY) {
+                markNegativeCycleNode(getCurrentNode());
+                continue;
+            }
+            queuedSum -= distance.get(current);
+            rounds++;
+
+            pauseAtStep(6);
+            for (int arc = graph.firstArc(current); arc < graph.endArc(current); arc++) {
+                int neighbor = graph.target(arc);
+                setNeighborNode(snapshot.node(neighbor));
+                relaxations++;
+
+                pauseAtStep(7);
+                double newDistance = distance.get(current) + graph.weight(arc);
+                if (!(newDistance < distance.get(neighbor))) {
+                    continue;
+                }
+
+                pauseAtStep(8);  // Step: Update distance, parent and path length
+                if (queued[neighbor]) {
+                    queuedSum += newDistance - distance.get(neighbor);
+                }
+                distance.set(neighbor, newDistance);
+                getNeighborNode().setDistance(newDistance);
+                getNeighborNode().setParentNode(getCurrentNode());
+                parent[neighbor] = current;
+                length[neighbor] = length[current] + 1;
+
+                pauseAtStep(9);  // Step: Negative cycle check
+                if (length[neighbor] >= N && BellmanFordSearch.hasParentCycle(parent, neighbor, N)) {
+                    pauseAtStep(10);
+                    logger.warn("Detected negative cycle through node: {}", getNeighborNode().getId());
+                    boolean[] affected = ShortestPaths.reachableFrom(graph, neighbor);
+                    for (int v = 0; v < N; v++) {
+                        if (affected[v] && distance.get(v) != Double.NEGATIVE_INFINITY) {
+                            if (queued[v]) {
+                                queuedSum -= distance.get(v);
+                            }
+                            distance.set(v, Double.NEGATIVE_INFINITY);
+                            markNegativeCycleNode(snapshot.node(v));
+                        }
                     }
+                } else if (!queued[neighbor]) {
+                    pauseAtStep(11);
+                    queued[neighbor] = true;
+                    queuedSum += newDistance;
+                    if (slfLll && size > 0 && newDistance < distance.get(ring[head])) {
+                        pauseAtStep(12);  // Step: Small Label First
+                        head = (head - 1 + N) % N;
+                        ring[head] = neighbor;
+                        queue.addNodeFirstAndVisualize(getNeighborNode());
+                    } else {
+                        pauseAtStep(13);
+                        ring[(head + size) % N] = neighbor;
+                        queue.addNodeAndVisualize(getNeighborNode());
+                    }
+                    size++;
                 }
             }
+            setNeighborNode(null);
         }
+        setCurrentNode(null);
+    }
 
-        logger.info("Bellman-Ford execution completed. Final distances: {}", distanceList);
+    /**
+     * Marks every node affected by a negative cycle after N - 1 rounds with a changing last round: the targets
+     * of all edges that can still be relaxed and every node reachable from them.
+     */
+    private void detectNegativeCycles(GraphSnapshot snapshot, DistanceList distance) {
+        CsrGraph graph = snapshot.csr();
+        int N = graph.vertexCount();
+
+        pauseAtStep(9);  // Step before checking for negative cycles
+        logger.debug("Checking for negative weight cycles.");
+        double[] distances = new double[N];
+        for (int v = 0; v < N; v++) {
+            distances[v] = distance.get(v);
+        }
+        boolean[] affected = BellmanFordSearch.negativeCycleVertices(graph, distances);
+
+        pauseAtStep(10);
+        for (int v = 0; v < N; v++) {
+            if (affected[v]) {
+                pauseAtStep(11);
+                distance.set(v, Double.NEGATIVE_INFINITY);
+                markNegativeCycleNode(snapshot.node(v));
+                logger.warn("Detected negative cycle at node: {}", snapshot.node(v).getId());
+            }
+        }
+    }
+
+    private void markNegativeCycleNode(GraphNode node) {
+        node.setDistance(Double.NEGATIVE_INFINITY);
+        Platform.runLater(() -> node.setPrimaryClass("negative-cycle"));
     }
 
     /**
@@ -135,24 +355,57 @@ public class BellmanFord extends GraphAlgorithm {
      */
     @Override
     public void setPseudocode() {
-        logger.debug("Setting pseudocode for Bellman-Ford algorithm.");
-        this.pseudocode.addAll(
-                "Bellman-Ford(start):",
-                "\tinitialize distances with Double.POSITIVE_INFINITY",
-                "\tset distance[start] = 0",
-
-                "\tfor i = 0 to N - 1 do:",                  // Loop N-1 times for relaxation
-                "\t\tfor each node in graph do:",
-                "\t\t\tfor each edge of node do:",
-                "\t\t\t\tif distance[edge.from] + edge.weight < distance[edge.to] then:",
-                "\t\t\t\t\tupdate distance[edge.to]",
-
-                "\nDetectNegativeCycles():",
-                "\tfor i = 0 to N - 1 do:",
-                "\t\tfor each node in graph do:",
-                "\t\t\tfor each edge of node do:",
-                "\t\t\t\tif distance[edge.from] + edge.weight < distance[edge.to] then:",
-                "\t\t\t\t\tmark distance[edge.to] as Double.NEGATIVE_INFINITY"
-        );
+        logger.debug("Setting pseudocode for Bellman-Ford algorithm in mode {}.", mode);
+        switch (mode) {
+            case ROUNDS -> this.pseudocode.addAll(
+                    "Bellman-Ford(start):",
+                    "\tinitialize distances with Double.POSITIVE_INFINITY",
+                    "\tset distance[start] = 0",
+
+                    "\tfor i = 1 to N - 1 do:",                  // Loop at most N-1 times for relaxation
+                    "\t\tchanged = false, for each node in graph do:",
+                    "\t\t\tfor each edge of node do:",
+                    "\t\t\t\tif distance[edge.from] + edge.weight < distance[edge.to] then:",
+                    "\t\t\t\t\tupdate distance[edge.to], changed = true",
+                    "\t\tif not changed then: return (no negative cycle)",
+
+                    "\nDetectNegativeCycles():",
+                    "\tfor each edge with distance[edge.from] + edge.weight < distance[edge.to] do:",
+                    "\t\tmark edge.to and every node reachable from it as Double.NEGATIVE_INFINITY"
+            );
+            case PARALLEL_ROUNDS -> this.pseudocode.addAll(
+                    "ParallelBellman-Ford(start):",
+                    "\tinitialize distances with Double.POSITIVE_INFINITY",
+                    "\tset distance[start] = 0, split the edge list into slices of equal size",
+
+                    "\tfor i = 1 to N - 1 do:",
+                    "\t\tparallel for each slice do:",
+                    "\t\t\tfor each edge in slice do:",
+                    "\t\t\t\tif distance[edge.from] + edge.weight < distance[edge.to] then:",
+                    "\t\t\t\t\tatomic distance[edge.to] = min(distance[edge.to], ...), changed = true",
+                    "\t\tif not changed then: return (no negative cycle)",
+
+                    "\nDetectNegativeCycles():",
+                    "\tfor each edge with distance[edge.from] + edge.weight < distance[edge.to] do:",
+                    "\t\tmark edge.to and every node reachable from it as Double.NEGATIVE_INFINITY"
+            );
+            case QUEUE, QUEUE_SLF_LLL -> this.pseudocode.addAll(
+                    "SPFA(start):",
+                    "\tinitialize distances with Double.POSITIVE_INFINITY",
+                    "\tset distance[start] = 0, queue.enqueue(start)",
+
+                    "\twhile the queue is not empty do:",
+                    "\t\tLLL: while distance[queue.front] > average distance in queue do: move front to back",
+                    "\t\tnode = queue.dequeue()",
+                    "\t\tfor each edge (node, neighbor) do:",
+                    "\t\t\tif distance[node] + edge.weight < distance[neighbor] then:",
+                    "\t\t\t\tupdate distance[neighbor], parent[neighbor], length[neighbor] = length[node] + 1",
+                    "\t\t\t\tif length[neighbor] >= N and the parents of neighbor form a cycle then:",
+                    "\t\t\t\t\tmark neighbor and every node reachable from it as Double.NEGATIVE_INFINITY",
+                    "\t\t\t\telse if neighbor is not queued then:",
+                    "\t\t\t\t\tSLF: if distance[neighbor] < distance[queue.front] then queue.pushFront(neighbor)",
+                    "\t\t\t\t\telse queue.enqueue(neighbor)"
+            );
+        }
     }
 }
@@ -0,0 +1,233 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of bidirectional Breadth-First Search for point-to-point queries in unweighted graphs.
+ * The forward frontier grows from the start node, the backward frontier from the destination node on the
+ * transposed graph, alternating one whole level at a time. Discovering a vertex already labelled by the other
+ * search updates mu, the number of edges of the best path found so far; once the depths of both frontiers
+ * add up to at least mu - 1, no shorter path can be discovered and the search stops.
+ * The two frontiers are colored differently, and the discovered nodes are compared with a unidirectional run.
+ */
+public class BidirectionalBFS extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(BidirectionalBFS.class);
+
+    // Visualizers for the forward and backward queues and visited nodes
+    private final GraphNodeVisualizer forwardQueue;
+    private final GraphNodeVisualizer backwardQueue;
+    private final GraphNodeVisualizer forwardVisitedList;
+    private final GraphNodeVisualizer backwardVisitedList;
+
+    /**
+     * Constructor to initialize the BidirectionalBFS algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public BidirectionalBFS(VBox algorithmTab,
+                            ListView<String> pseudocodeList,
+                            SimpleObjectProperty<GraphNode> startNode,
+                            SimpleObjectProperty<GraphNode> destinationNode,
+                            AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        forwardQueue = initializeGraphNodeVisualizer(ViewType.CANDIDATE_NODES, DataStructureType.QUEUE);
+        backwardQueue = initializeGraphNodeVisualizer(ViewType.BACKWARD_CANDIDATE_NODES, DataStructureType.QUEUE);
+        forwardVisitedList = initializeGraphNodeVisualizer(ViewType.VISITED, DataStructureType.LIST);
+        backwardVisitedList = initializeGraphNodeVisualizer(ViewType.BACKWARD_VISITED, DataStructureType.LIST);
+
+        logger.debug("BidirectionalBFS algorithm initialized with startNode: {} and destinationNode: {}", startNode, destinationNode);
+    }
+
+    /**
+     * Executes bidirectional Breadth-First Search between the start and destination node.
+     */
+    @Override
+    public void executeAlgorithm() {
+        if (destinationNode.get() == null) {
+            logger.warn("Bidirectional BFS requires a destination node.");
+            reportStatistic("no destination node selected");
+            return;
+        }
+
+        logger.info("Starting Bidirectional Breadth-First Search execution.");
+
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph forwardGraph = snapshot.csr();
+        CsrGraph backwardGraph = forwardGraph.transpose();
+        int n = forwardGraph.vertexCount();
+
+        int start = startNode.get().getIndex();
+        int destination = snapshot.indexOf(destinationNode.get());
+
+        // Initialization steps
+        pauseAtStep(1);
+        int[] forwardLevel = new int[n];
+        int[] backwardLevel = new int[n];
+        int[] forwardParent = new int[n];
+        int[] backwardParent = new int[n];
+        Arrays.fill(forwardLevel, -1);
+        Arrays.fill(backwardLevel, -1);
+        Arrays.fill(forwardParent, -1);
+        Arrays.fill(backwardParent, -1);
+
+        pauseAtStep(2);
+        forwardLevel[start] = 0;
+        backwardLevel[destination] = 0;
+        startNode.get().setParentNode(null);
+        forwardQueue.addNodeAndVisualize(startNode.get());
+        backwardQueue.addNodeAndVisualize(destinationNode.get());
+
+        int mu = start == destination ? 0 : Integer.MAX_VALUE;
+        int meeting = start == destination ? start : -1;
+        int[] frontierSize = {1, 1};
+        int[] depth = {0, 0};
+        int[] discovered = {1, 1};
+        boolean forward = true;
+
+        // Main loop, one whole level per iteration
+        pauseAtStep(3);
+        while (frontierSize[0] > 0 && frontierSize[1] > 0) {
+            pauseAtStep(4);  // Step: Stopping criterion
+            if (mu != Integer.MAX_VALUE && depth[0] + depth[1] + 1 >= mu) {
+                logger.info("Stopping criterion reached, depth_f + depth_b + 1 >= mu = {}", mu);
+                break;
+            }
+
+            pauseAtStep(5);  // Step: Alternate the direction
+            int side = forward ? 0 : 1;
+            CsrGraph graph = forward ? forwardGraph : backwardGraph;
+            GraphNodeVisualizer queue = forward ? forwardQueue : backwardQueue;
+            GraphNodeVisualizer visitedList = forward ? forwardVisitedList : backwardVisitedList;
+            int[] level = forward ? forwardLevel : backwardLevel;
+            int[] otherLevel = forward ? backwardLevel : forwardLevel;
+            int[] parent = forward ? forwardParent : backwardParent;
+
+            int levelSize = frontierSize[side];
+            frontierSize[side] = 0;
+            for (int i = 0; i < levelSize; i++) {
+                pauseAtStep(6);  // Step: Dequeue a node of the current level
+                setCurrentNode(queue.removeNode());
+                int current = getCurrentNode().getIndex();
+                visitedList.addNodeAndVisualize(getCurrentNode());
+
+                pauseAtStep(7);  // Step: Explore edges of this direction
+                for (int arc = graph.firstArc(current); arc < graph.endArc(current); arc++) {
+                    int neighbor = graph.target(arc);
+                    setNeighborNode(snapshot.node(neighbor));
+
+                    pauseAtStep(8);
+                    if (level[neighbor] >= 0) {
+                        continue;
+                    }
+
+                    pauseAtStep(9);  // Step: Discover the neighbor
+                    level[neighbor] = level[current] + 1;
+                    parent[neighbor] = current;
+                    if (forward) {
+                        getNeighborNode().setParentNode(getCurrentNode());
+                    }
+                    queue.addNodeAndVisualize(getNeighborNode());
+                    frontierSize[side]++;
+                    discovered[side]++;
+
+                    // Step: The searches meet in the neighbor
+                    pauseAtStep(10);
+                    if (otherLevel[neighbor] >= 0 && level[neighbor] + otherLevel[neighbor] < mu) {
+                        mu = level[neighbor] + otherLevel[neighbor];
+                        meeting = neighbor;
+                        logger.debug("Searches meet at node {}, mu = {}", getNeighborNode().getId(), mu);
+                    }
+                }
+                setNeighborNode(null);
+            }
+
+            depth[side]++;
+            forward = !forward;
+        }
+
+        reportDiscoveredNodes(forwardGraph, start, destination, discovered[0], discovered[1]);
+        shortestPath(snapshot, mu, meeting, forwardParent, backwardParent);
+    }
+
+    /**
+     * Reports the discovered nodes of both directions next to the number discovered by a unidirectional BFS.
+     */
+    private void reportDiscoveredNodes(CsrGraph graph, int start, int destination, int forwardCount, int backwardCount) {
+        int unidirectional = ShortestPaths.breadthFirstSearch(graph, start, destination, new int[graph.vertexCount()]);
+        int discovered = forwardCount + backwardCount;
+
+        reportStatistic(String.format("discovered nodes: %d (forward %d, backward %d)", discovered, forwardCount, backwardCount));
+        reportStatistic(String.format("unidirectional BFS discovered nodes: %d (search space %.1f%%)", unidirectional,
+                                      unidirectional == 0 ? 100.0 : 100.0 * discovered / unidirectional));
+    }
+
+    /**
+     * Joins the forward path to the meeting node with the backward path from it and visualizes the result.
+     */
+    private void shortestPath(GraphSnapshot snapshot, int mu, int meeting, int[] forwardParent, int[] backwardParent) {
+        pauseAtStep(11);
+
+        pauseAtStep(12);
+        if (meeting < 0) {
+            logger.info("No path found to the destination.");
+            return;
+        }
+
+        logger.info("Shortest path found with {} edges through node {}", mu, snapshot.node(meeting).getId());
+
+        // Parents of the backward half point towards the destination, so they are reversed
+        pauseAtStep(13);
+        for (int v = meeting; forwardParent[v] >= 0; v = forwardParent[v]) {
+            snapshot.node(v).setParentNode(snapshot.node(forwardParent[v]));
+        }
+        for (int v = meeting; backwardParent[v] >= 0; v = backwardParent[v]) {
+            snapshot.node(backwardParent[v]).setParentNode(snapshot.node(v));
+        }
+        startNode.get().setParentNode(null);
+        for (GraphNode node = destinationNode.get(); node != null; node = node.getParentNode()) {
+            addToPath(node);
+        }
+
+        pauseAtStep(14);
+        visualizePath();
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "BidirectionalBFS(start, end):",
+                "\tinitialize levelF and levelB with -1, mu = infinity",
+                "\tlevelF[start] = 0, queueF.enqueue(start), levelB[end] = 0, queueB.enqueue(end)",
+
+                "\twhile queueF and queueB are not empty do:",
+                "\t\tif depthF + depthB + 1 >= mu then: break",
+                "\t\tside = the direction not expanded last, expand its whole level:",
+                "\t\t\tnode = queue[side].dequeue()",
+
+                "\t\t\tfor each edge (node, neighbor) of side (reversed edges for B) do:",
+                "\t\t\t\tif neighbor was discovered by side then: continue",
+                "\t\t\t\tlevel[side][neighbor] = level[side][node] + 1, parent, queue[side].enqueue(neighbor)",
+                "\t\t\t\tif neighbor was discovered by the other side then: mu = min(mu, levelF + levelB)",
+
+                "\nShortestPath(meeting node):",
+                "\tif no meeting node then: return",
+                "\tjoin start -> meeting node (parentF) with meeting node -> end (parentB)",
+                "\tvisualize path"
+        );
+    }
+}
@@ -0,0 +1,243 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of bidirectional Dijkstra's algorithm for point-to-point queries.
+ * A forward search from the start node on the graph and a backward search from the destination node on the
+ * transposed graph are expanded alternately. Every relaxation that reaches a vertex labelled by the other
+ * search updates mu, the length of the best path found so far; the search stops as soon as the smallest keys
+ * of both heaps add up to at least mu, since no shorter path can be found anymore.
+ * The two frontiers are colored differently, and the settled nodes are compared with a unidirectional run.
+ */
+public class BidirectionalDijkstra extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(BidirectionalDijkstra.class);
+
+    // Visualizers for the forward and backward heaps and settled nodes
+    private final GraphNodeIndexedHeap forwardHeap;
+    private final GraphNodeIndexedHeap backwardHeap;
+    private final GraphNodeVisualizer forwardVisitedList;
+    private final GraphNodeVisualizer backwardVisitedList;
+
+    /**
+     * Constructor to initialize the BidirectionalDijkstra algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public BidirectionalDijkstra(VBox algorithmTab,
+                                 ListView<String> pseudocodeList,
+                                 SimpleObjectProperty<GraphNode> startNode,
+                                 SimpleObjectProperty<GraphNode> destinationNode,
+                                 AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        forwardHeap = (GraphNodeIndexedHeap) initializeGraphNodeVisualizer(ViewType.CANDIDATE_NODES,
+                                                                           DataStructureType.INDEXED_HEAP);
+        backwardHeap = (GraphNodeIndexedHeap) initializeGraphNodeVisualizer(ViewType.BACKWARD_CANDIDATE_NODES,
+                                                                            DataStructureType.INDEXED_HEAP);
+        forwardVisitedList = initializeGraphNodeVisualizer(ViewType.VISITED, DataStructureType.LIST);
+        backwardVisitedList = initializeGraphNodeVisualizer(ViewType.BACKWARD_VISITED, DataStructureType.LIST);
+
+        logger.debug("BidirectionalDijkstra algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    /**
+     * Executes bidirectional Dijkstra's algorithm between the start and destination node.
+     */
+    @Override
+    public void executeAlgorithm() {
+        if (destinationNode.get() == null) {
+            logger.warn("Bidirectional Dijkstra requires a destination node.");
+            reportStatistic("no destination node selected");
+            return;
+        }
+
+        logger.info("Starting Bidirectional Dijkstra execution.");
+
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph forwardGraph = snapshot.csr();
+        CsrGraph backwardGraph = forwardGraph.transpose();
+        int n = forwardGraph.vertexCount();
+        if (ShortestPaths.hasNegativeWeights(forwardGraph)) {
+            logger.warn("The graph has negative edges, Dijkstra's distances may be wrong.");
+        }
+
+        int start = startNode.get().getIndex();
+        int destination = snapshot.indexOf(destinationNode.get());
+
+        // Initialization steps
+        pauseAtStep(1);
+        double[] forwardDistance = new double[n];
+        double[] backwardDistance = new double[n];
+        int[] forwardParent = new int[n];
+        int[] backwardParent = new int[n];
+        Arrays.fill(forwardDistance, Double.POSITIVE_INFINITY);
+        Arrays.fill(backwardDistance, Double.POSITIVE_INFINITY);
+        Arrays.fill(forwardParent, -1);
+        Arrays.fill(backwardParent, -1);
+        boolean[] forwardSettled = new boolean[n];
+        boolean[] backwardSettled = new boolean[n];
+
+        pauseAtStep(2);
+        forwardDistance[start] = 0;
+        backwardDistance[destination] = 0;
+        startNode.get().setParentNode(null);
+        forwardHeap.addNodeAndVisualize(startNode.get(), 0);
+        backwardHeap.addNodeAndVisualize(destinationNode.get(), 0);
+
+        double mu = start == destination ? 0 : Double.POSITIVE_INFINITY;
+        int meeting = start == destination ? start : -1;
+        int forwardCount = 0;
+        int backwardCount = 0;
+        boolean forward = true;
+
+        // Main loop
+        pauseAtStep(3);
+        while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()) {
+            pauseAtStep(4);  // Step: Stopping criterion
+            if (forwardHeap.minKey() + backwardHeap.minKey() >= mu) {
+                logger.info("Stopping criterion reached, top_f + top_b >= mu = {}", mu);
+                break;
+            }
+
+            pauseAtStep(5);  // Step: Alternate the direction
+            CsrGraph graph = forward ? forwardGraph : backwardGraph;
+            GraphNodeIndexedHeap heap = forward ? forwardHeap : backwardHeap;
+            double[] distance = forward ? forwardDistance : backwardDistance;
+            double[] otherDistance = forward ? backwardDistance : forwardDistance;
+            int[] parent = forward ? forwardParent : backwardParent;
+            boolean[] settled = forward ? forwardSettled : backwardSettled;
+
+            pauseAtStep(6);  // Step: Poll and settle
+            setCurrentNode(heap.removeNode());
+            int current = getCurrentNode().getIndex();
+            settled[current] = true;
+            if (forward) {
+                forwardCount++;
+                forwardVisitedList.addNodeAndVisualize(getCurrentNode());
+            } else {
+                backwardCount++;
+                backwardVisitedList.addNodeAndVisualize(getCurrentNode());
+            }
+
+            pauseAtStep(7);  // Step: Explore edges of this direction
+            for (int arc = graph.firstArc(current); arc < graph.endArc(current); arc++) {
+                int neighbor = graph.target(arc);
+                setNeighborNode(snapshot.node(neighbor));
+
+                pauseAtStep(8);
+                if (settled[neighbor]) {
+                    continue;
+                }
+
+                pauseAtStep(9);  // Step: Relaxation
+                double newDistance = distance[current] + graph.weight(arc);
+                if (newDistance < distance[neighbor]) {
+                    pauseAtStep(10);
+                    distance[neighbor] = newDistance;
+                    parent[neighbor] = current;
+                    if (forward) {
+                        getNeighborNode().setParentNode(getCurrentNode());
+                        getNeighborNode().setDistance(newDistance);
+                    }
+                    heap.addNodeAndVisualize(getNeighborNode(), newDistance);
+
+                    // Step: The searches meet in the neighbor
+                    pauseAtStep(11);
+                    if (newDistance + otherDistance[neighbor] < mu) {
+                        mu = newDistance + otherDistance[neighbor];
+                        meeting = neighbor;
+                        logger.debug("Searches meet at node {}, mu = {}", getNeighborNode().getId(), mu);
+                    }
+                }
+            }
+            setNeighborNode(null);
+            forward = !forward;
+        }
+
+        reportSettledNodes(forwardGraph, start, destination, forwardCount, backwardCount);
+        shortestPath(snapshot, mu, meeting, forwardParent, backwardParent);
+    }
+
+    /**
+     * Reports the settled nodes of both directions next to the number settled by a unidirectional Dijkstra.
+     */
+    private void reportSettledNodes(CsrGraph graph, int start, int destination, int forwardCount, int backwardCount) {
+        int unidirectional = ShortestPaths.dijkstra(graph, start, destination, new double[graph.vertexCount()], null);
+        int settled = forwardCount + backwardCount;
+
+        reportStatistic(String.format("settled nodes: %d (forward %d, backward %d)", settled, forwardCount, backwardCount));
+        reportStatistic(String.format("unidirectional Dijkstra settled nodes: %d (search space %.1f%%)", unidirectional,
+                                      unidirectional == 0 ? 100.0 : 100.0 * settled / unidirectional));
+    }
+
+    /**
+     * Joins the forward path to the meeting node with the backward path from it and visualizes the result.
+     */
+    private void shortestPath(GraphSnapshot snapshot, double mu, int meeting, int[] forwardParent, int[] backwardParent) {
+        pauseAtStep(12);
+
+        pauseAtStep(13);
+        if (Double.isInfinite(mu)) {
+            logger.info("No path found to the destination.");
+            return;
+        }
+
+        logger.info("Shortest path found with distance {} through node {}", mu, snapshot.node(meeting).getId());
+
+        // Parents of the backward half point towards the destination, so they are reversed
+        pauseAtStep(14);
+        for (int v = meeting; forwardParent[v] >= 0; v = forwardParent[v]) {
+            snapshot.node(v).setParentNode(snapshot.node(forwardParent[v]));
+        }
+        for (int v = meeting; backwardParent[v] >= 0; v = backwardParent[v]) {
+            snapshot.node(backwardParent[v]).setParentNode(snapshot.node(v));
+        }
+        startNode.get().setParentNode(null);
+        for (GraphNode node = destinationNode.get(); node != null; node = node.getParentNode()) {
+            addToPath(node);
+        }
+
+        pauseAtStep(15);
+        visualizePath();
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "BidirectionalDijkstra(start, end):",
+                "\tinitialize distanceF and distanceB with Double.POSITIVE_INFINITY, mu = Double.POSITIVE_INFINITY",
+                "\tdistanceF[start] = 0, heapF.insert(start), distanceB[end] = 0, heapB.insert(end)",
+
+                "\twhile heapF and heapB are not empty do:",
+                "\t\tif heapF.minKey + heapB.minKey >= mu then: break",
+                "\t\tside = the direction not expanded last",
+                "\t\tnode = heap[side].poll(), mark node as settled in side",
+
+                "\t\tfor each edge (node, neighbor) of side (reversed edges for B) do:",
+                "\t\t\tif neighbor is settled in side then: continue",
+                "\t\t\tif distance[side][node] + edge.weight < distance[side][neighbor] then:",
+                "\t\t\t\tupdate distance[side][neighbor], parent[side][neighbor] and heap[side]",
+                "\t\t\t\tmu = min(mu, distanceF[neighbor] + distanceB[neighbor])",
+
+                "\nShortestPath(meeting node):",
+                "\tif mu is infinite then: return",
+                "\tjoin start -> meeting node (parentF) with meeting node -> end (parentB)",
+                "\tvisualize path"
+        );
+    }
+}
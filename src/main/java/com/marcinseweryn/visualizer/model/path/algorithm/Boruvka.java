@@ -0,0 +1,74 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.SpanningForest;
+import com.marcinseweryn.visualizer.model.path.SpanningTreeAlgorithm;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Visualization of Borůvka's minimum spanning tree algorithm, see {@link SpanningForest#boruvka(ForkJoinPool)}.
+ * Every round finds the cheapest edge leaving every component in parallel on the common ForkJoinPool and accepts
+ * all of them at once; the decisions are listed per round.
+ */
+public class Boruvka extends SpanningTreeAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(Boruvka.class);
+
+    /**
+     * Constructor to initialize the Boruvka algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public Boruvka(VBox algorithmTab,
+                   ListView<String> pseudocodeList,
+                   SimpleObjectProperty<GraphNode> startNode,
+                   SimpleObjectProperty<GraphNode> destinationNode,
+                   AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        logger.debug("Boruvka algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    @Override
+    protected SpanningForest.Result computeForest(SpanningForest forest, int root) {
+        return forest.boruvka(ForkJoinPool.commonPool());
+    }
+
+    @Override
+    protected int roundStep() {
+        return 2;
+    }
+
+    @Override
+    protected int acceptStep() {
+        return 5;
+    }
+
+    @Override
+    protected int rejectStep() {
+        return 3;
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "Boruvka(graph):",
+                "\tevery node is a component",
+                "\twhile an edge joins two components do:",
+                "\t\treject the edges inside a component",
+                "\t\tin parallel for each edge (u, v): lower cheapest[comp(u)] and cheapest[comp(v)] by CAS",
+                "\t\tfor each component c: accept cheapest[c] if its end points are still in different components"
+        );
+    }
+}
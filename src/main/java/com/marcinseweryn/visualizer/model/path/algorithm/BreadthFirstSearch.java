@@ -56,6 +56,9 @@ public class BreadthFirstSearch extends GraphAlgorithm {
     public void executeAlgorithm() {
         logger.info("Starting Breadth-First Search execution.");
 
+        // Assigns the current vertex indices to the nodes, the visited checks are indexed by them
+        getGraphSnapshot();
+
         // Add the start node to the candidate list and visualize
         pauseAtStep(0);  // Initialize
         logger.debug("Adding start node to the candidate list: {}", startNode.get());
@@ -0,0 +1,330 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Visualization of a point-to-point query on a contraction hierarchy, see {@link ContractionHierarchy}.
+ * The hierarchy is kept together with the fingerprint of the graph it was built for, so that further queries on
+ * an unchanged graph skip the preprocessing, also after nodes were only dragged; otherwise it is read from the file stored next to the imported graph if that still
+ * matches the graph, and built if not. Its shortcuts are listed and can be drawn as dashed lines. The query runs Dijkstra's algorithm
+ * upwards from the start node (forward) and from the destination (backward), alternating by the smaller key, and
+ * stops once neither queue can improve the best meeting distance.
+ * After the run, the settled nodes are compared with a Dijkstra search stopped at the destination, as done by
+ * {@link LazyDijkstra}.
+ */
+public class ContractionHierarchies extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(ContractionHierarchies.class);
+
+    /**
+     * Suffix appended to the name of an exported graph file to get the name of its hierarchy file.
+     */
+    public static final String FILE_SUFFIX = ".ch";
+
+    // Hierarchy of the graph it was built or read for, replaced once a query or export runs on another graph
+    private static CachedHierarchy cachedHierarchy;
+
+    private record CachedHierarchy(long fingerprint, String[] ids, ContractionHierarchy hierarchy) {
+    }
+
+    // Visualizers for the shortcut list and the nodes settled in both directions
+    private final ObservableList<String> shortcutLines;
+    private final GraphNodeVisualizer visitedNodeList;
+    private final GraphNodeVisualizer backwardVisitedNodeList;
+
+    // Hierarchy stored next to the imported graph and the ids the nodes had in the exported file
+    private File storedHierarchy;
+    private Map<GraphNode, String> storedIds = Map.of();
+    private boolean showShortcuts = true;
+
+    /**
+     * Constructor to initialize the ContractionHierarchies algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public ContractionHierarchies(VBox algorithmTab,
+                                  ListView<String> pseudocodeList,
+                                  SimpleObjectProperty<GraphNode> startNode,
+                                  SimpleObjectProperty<GraphNode> destinationNode,
+                                  AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        shortcutLines = initializeTextView("Shortcuts");
+        visitedNodeList = initializeGraphNodeVisualizer(ViewType.VISITED, DataStructureType.LIST);
+        backwardVisitedNodeList = initializeGraphNodeVisualizer(ViewType.BACKWARD_VISITED, DataStructureType.LIST);
+
+        logger.debug("ContractionHierarchies algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    /**
+     * Sets the hierarchy file stored next to the imported graph.
+     *
+     * @param file The hierarchy file, or null if there is none.
+     * @param ids  The id every imported node had in the exported graph file.
+     */
+    public void setStoredHierarchy(File file, Map<GraphNode, String> ids) {
+        this.storedHierarchy = file;
+        this.storedIds = ids;
+    }
+
+    /**
+     * Sets whether the shortcuts are drawn into the graph.
+     *
+     * @param showShortcuts True to draw the shortcuts.
+     */
+    public void setShowShortcuts(boolean showShortcuts) {
+        this.showShortcuts = showShortcuts;
+    }
+
+    /**
+     * Writes the hierarchy of the graph next to an exported graph file, building it unless it is cached for the
+     * same graph. Called off the FX thread, since building takes a while on large graphs. The file is written
+     * under a temporary name and moved into place, so that it is either complete or missing.
+     *
+     * @param snapshot  The graph, with node ids as written to the graph file.
+     * @param graphFile The exported graph file.
+     * @throws IOException If writing fails.
+     */
+    public static void store(GraphSnapshot snapshot, File graphFile) throws IOException {
+        if (ShortestPaths.hasNegativeWeights(snapshot.csr())) {
+            logger.info("Graph has negative weights, no contraction hierarchy is stored.");
+            return;
+        }
+
+        String[] ids = nodeIds(snapshot);
+        long fingerprint = ContractionHierarchy.fingerprint(snapshot.csr(), ids);
+        ContractionHierarchy hierarchy = cachedHierarchy(fingerprint, ids);
+        if (hierarchy == null) {
+            hierarchy = ContractionHierarchy.build(snapshot.csr());
+            cacheHierarchy(fingerprint, ids, hierarchy);
+        }
+
+        Path target = Path.of(graphFile.getPath() + FILE_SUFFIX);
+        Path temporary = Path.of(target + ".tmp");
+        try (Writer writer = new FileWriter(temporary.toFile())) {
+            hierarchy.write(writer, ids, fingerprint);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        logger.info("Stored contraction hierarchy with {} shortcuts next to {}", hierarchy.shortcutCount(), graphFile);
+    }
+
+    private static String[] nodeIds(GraphSnapshot snapshot) {
+        String[] ids = new String[snapshot.csr().vertexCount()];
+        for (int v = 0; v < ids.length; v++) {
+            ids[v] = snapshot.node(v).getId();
+        }
+        return ids;
+    }
+
+    /**
+     * @return The cached hierarchy, or null if it was built for a different graph or vertex order.
+     */
+    private static synchronized ContractionHierarchy cachedHierarchy(long fingerprint, String[] ids) {
+        if (cachedHierarchy == null || cachedHierarchy.fingerprint() != fingerprint
+                || !Arrays.equals(cachedHierarchy.ids(), ids)) {
+            return null;
+        }
+        return cachedHierarchy.hierarchy();
+    }
+
+    private static synchronized void cacheHierarchy(long fingerprint, String[] ids, ContractionHierarchy hierarchy) {
+        cachedHierarchy = new CachedHierarchy(fingerprint, ids, hierarchy);
+    }
+
+    /**
+     * Executes a query from the start node to the destination on the hierarchy.
+     */
+    @Override
+    public void executeAlgorithm() {
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        if (ShortestPaths.hasNegativeWeights(graph)) {
+            logger.warn("Contraction hierarchies require non-negative edge weights.");
+            reportStatistic("negative edge weights are not supported");
+            return;
+        }
+        if (destinationNode.get() == null) {
+            reportStatistic("a destination node is required");
+            return;
+        }
+        int start = snapshot.indexOf(startNode.get());
+        int destination = snapshot.indexOf(destinationNode.get());
+
+        // Preprocessing, unless the hierarchy of this graph is cached or stored
+        pauseAtStep(1);
+        String[] ids = nodeIds(snapshot);
+        long fingerprint = ContractionHierarchy.fingerprint(graph, ids);
+        ContractionHierarchy hierarchy = cachedHierarchy(fingerprint, ids);
+        if (hierarchy != null) {
+            reportStatistic(String.format("hierarchy of the unchanged graph reused, %d shortcuts",
+                                          hierarchy.shortcutCount()));
+        } else if ((hierarchy = loadStoredHierarchy(snapshot)) != null) {
+            reportStatistic(String.format("hierarchy read from %s, %d shortcuts", storedHierarchy.getName(),
+                                          hierarchy.shortcutCount()));
+        } else {
+            long begin = System.nanoTime();
+            hierarchy = ContractionHierarchy.build(graph);
+            reportStatistic(String.format("preprocessing: %.3f ms, %d shortcuts",
+                                          (System.nanoTime() - begin) / 1e6, hierarchy.shortcutCount()));
+        }
+        cacheHierarchy(fingerprint, ids, hierarchy);
+
+        pauseAtStep(2);
+        showShortcuts(snapshot, hierarchy);
+
+        // Bidirectional upward search, a search of its own keeps the cached hierarchy usable by other runs
+        pauseAtStep(3);
+        startNode.get().setDistance(0.0);
+        pauseAtStep(4);
+        ContractionHierarchy.Query query = hierarchy.newSearch().query(start, destination, new ContractionHierarchy.Listener() {
+            @Override
+            public void settled(int vertex, boolean forward) {
+                pauseAtStep(5);
+                setCurrentNode(snapshot.node(vertex));
+                (forward ? visitedNodeList : backwardVisitedNodeList).addNodeAndVisualize(snapshot.node(vertex));
+                pauseAtStep(6);
+                pauseAtStep(7);
+            }
+
+            @Override
+            public void relaxed(int vertex, double distance, boolean forward) {
+                setNeighborNode(snapshot.node(vertex));
+                if (forward) {
+                    snapshot.node(vertex).setDistance(distance);
+                }
+            }
+
+            @Override
+            public void scanned(int vertex, boolean forward) {
+                setNeighborNode(null);
+                pauseAtStep(4);
+            }
+        });
+        resetCurrentNodeStyle();
+
+        reportComparison(graph, start, destination, query.settled());
+
+        pauseAtStep(8);
+        if (query.distance() == Double.POSITIVE_INFINITY) {
+            logger.info("No path found to the destination.");
+            return;
+        }
+
+        logger.info("Shortest path found with distance: {}", query.distance());
+
+        pauseAtStep(9);
+        int[] path = query.path();
+        startNode.get().setParentNode(null);
+        for (int i = 1; i < path.length; i++) {
+            snapshot.node(path[i]).setParentNode(snapshot.node(path[i - 1]));
+        }
+        destinationNode.get().setDistance(query.distance());
+        for (GraphNode node = destinationNode.get(); node != null; node = node.getParentNode()) {
+            addToPath(node);
+        }
+        visualizePath();
+    }
+
+    /**
+     * Reads the stored hierarchy if there is one and it was built for the current graph.
+     *
+     * @return The hierarchy, or null if it has to be built.
+     */
+    private ContractionHierarchy loadStoredHierarchy(GraphSnapshot snapshot) {
+        if (storedHierarchy == null || !storedHierarchy.isFile()) {
+            return null;
+        }
+
+        int n = snapshot.csr().vertexCount();
+        String[] ids = new String[n];
+        Map<String, Integer> indexOfId = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            ids[v] = storedIds.get(snapshot.node(v));
+            if (ids[v] == null) {
+                logger.info("Node {} was added after the import, rebuilding the hierarchy.", snapshot.node(v).getId());
+                return null;
+            }
+            indexOfId.put(ids[v], v);
+        }
+
+        try (Reader reader = new FileReader(storedHierarchy)) {
+            return ContractionHierarchy.read(reader, indexOfId, ContractionHierarchy.fingerprint(snapshot.csr(), ids));
+        } catch (IOException | IllegalArgumentException e) {
+            logger.info("Stored hierarchy {} is not usable ({}), rebuilding it.", storedHierarchy, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Lists the shortcuts and draws them into the graph if enabled.
+     */
+    private void showShortcuts(GraphSnapshot snapshot, ContractionHierarchy hierarchy) {
+        List<String> lines = new ArrayList<>();
+        for (int[] shortcut : hierarchy.shortcuts()) {
+            GraphNode from = snapshot.node(shortcut[0]);
+            GraphNode to = snapshot.node(shortcut[1]);
+            lines.add(String.format("%s -> %s via %s", from.getId(), to.getId(), snapshot.node(shortcut[2]).getId()));
+            if (showShortcuts) {
+                drawOverlayLine(from, to, "shortcut");
+            }
+        }
+        Platform.runLater(() -> shortcutLines.setAll(lines));
+    }
+
+    /**
+     * Reports the settled nodes against Dijkstra's algorithm stopped at the destination.
+     */
+    private void reportComparison(CsrGraph graph, int start, int destination, int settled) {
+        double[] distance = new double[graph.vertexCount()];
+        int dijkstraSettled = ShortestPaths.dijkstra(graph, start, destination, distance, null);
+        reportStatistic(String.format("settled nodes: contraction hierarchy %d, LazyDijkstra %d", settled, dijkstraSettled));
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "ContractionHierarchies(start, destination):",
+                "\tif the stored hierarchy does not match the graph then: contract all vertices",
+                "\tshow the shortcuts",
+                "\tdf[start] = 0, db[destination] = 0, mu = Double.POSITIVE_INFINITY",
+                "\twhile min(Qf.minKey, Qb.minKey) < mu do:",
+                "\t\tu = poll the queue with the smaller minimum key",
+                "\t\tmu = min(mu, df[u] + db[u])",
+                "\t\trelax the upward arcs of u in the direction of its queue",
+                "\tif mu is infinite then: return",
+                "\tunpack the shortcuts on the path through the meeting node and visualize it",
+
+                "\nContract(), in the order of the edge difference:",
+                "\tfor each pair of neighbours (u, w) of v without a witness path: add shortcut u -> w via v",
+                "\tremove v, its rank is the number of vertices contracted before it"
+        );
+    }
+}
@@ -0,0 +1,220 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Visualization of delta-stepping, a parallel single-source shortest path algorithm.
+ * Vertices are grouped in buckets of width delta by tentative distance; the smallest bucket is emptied by
+ * relaxing light edges in parallel until it stays empty, and then the heavy edges of its former vertices are
+ * relaxed in one more parallel phase. The relaxations run on the common {@link ForkJoinPool}, see
+ * {@link DeltaSteppingSearch}; the bucket contents are shown after every phase.
+ */
+public class DeltaStepping extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(DeltaStepping.class);
+
+    // Visualizers for the current bucket, removed nodes, distance list and bucket contents
+    private final GraphNodeVisualizer candidateNodeList;
+    private final GraphNodeVisualizer visitedNodeList;
+    private final GraphNodeVisualizer distanceNodeList;
+    private final ObservableList<String> bucketLines;
+
+    // Bucket width, 0 chooses it from the graph
+    private double delta;
+
+    /**
+     * Constructor to initialize the DeltaStepping algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public DeltaStepping(VBox algorithmTab,
+                         ListView<String> pseudocodeList,
+                         SimpleObjectProperty<GraphNode> startNode,
+                         SimpleObjectProperty<GraphNode> destinationNode,
+                         AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        bucketLines = initializeTextView("Buckets");
+        candidateNodeList = initializeGraphNodeVisualizer(ViewType.CANDIDATE_NODES, DataStructureType.LIST);
+        visitedNodeList = initializeGraphNodeVisualizer(ViewType.VISITED, DataStructureType.LIST);
+        distanceNodeList = initializeGraphNodeVisualizer(ViewType.DISTANCE, DataStructureType.LIST);
+
+        logger.debug("DeltaStepping algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    /**
+     * Sets the bucket width used by the next execution.
+     *
+     * @param delta The bucket width, or 0 to derive it from the maximum weight and the average degree.
+     */
+    public void setDelta(double delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * Executes delta-stepping from the start node.
+     */
+    @Override
+    public void executeAlgorithm() {
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        int n = graph.vertexCount();
+        if (ShortestPaths.hasNegativeWeights(graph)) {
+            logger.warn("Delta-stepping requires non-negative edge weights.");
+            reportStatistic("negative edge weights are not supported");
+            return;
+        }
+        for (int v = 0; v < n; v++) {
+            distanceNodeList.addNode(snapshot.node(v));
+        }
+
+        int start = startNode.get().getIndex();
+        double bucketWidth = delta > 0 ? delta : DeltaSteppingSearch.defaultDelta(graph);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        logger.info("Starting Delta-Stepping execution with delta {} on {} threads.", bucketWidth, pool.getParallelism());
+
+        // Initialization steps
+        pauseAtStep(1);
+        DeltaSteppingSearch search = new DeltaSteppingSearch(graph, start, bucketWidth, pool);
+        startNode.get().setDistance(0.0);
+        startNode.get().setParentNode(null);
+
+        pauseAtStep(2);
+        showBuckets(snapshot, search);
+
+        // Main loop
+        pauseAtStep(3);
+        while (search.nextBucket()) {
+            pauseAtStep(4);  // Step: Smallest non-empty bucket
+            showBuckets(snapshot, search);
+
+            pauseAtStep(5);
+            while (search.hasCurrentVertices()) {
+                pauseAtStep(6);  // Step: Empty the bucket and relax light edges in parallel
+                int[] frontier = search.relaxLightEdges();
+                for (int v : frontier) {
+                    if (!visitedNodeList.containsNode(snapshot.node(v))) {
+                        visitedNodeList.addNodeAndVisualize(snapshot.node(v));
+                    }
+                }
+                updateDistances(snapshot, search);
+                showBuckets(snapshot, search);
+                pauseAtStep(5);
+            }
+
+            pauseAtStep(7);  // Step: Relax heavy edges in parallel
+            search.relaxHeavyEdges();
+            updateDistances(snapshot, search);
+            showBuckets(snapshot, search);
+        }
+
+        reportStatistic(String.format("delta: %.4f, parallel phases: %d, relaxations: %d",
+                                      bucketWidth, search.phases(), search.relaxations()));
+
+        shortestPath(snapshot, search.distances(), start);
+    }
+
+    /**
+     * Copies the tentative distances to the nodes.
+     */
+    private void updateDistances(GraphSnapshot snapshot, DeltaSteppingSearch search) {
+        for (int v = 0; v < snapshot.csr().vertexCount(); v++) {
+            snapshot.node(v).setDistance(search.distanceOf(v));
+        }
+    }
+
+    /**
+     * Renders the non-empty buckets and highlights the vertices of the current one.
+     */
+    private void showBuckets(GraphSnapshot snapshot, DeltaSteppingSearch search) {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<Long, int[]> bucket : search.bucketContents().entrySet()) {
+            StringBuilder line = new StringBuilder();
+            line.append(bucket.getKey() == search.currentBucket() ? "> " : "  ")
+                    .append("B[").append(bucket.getKey()).append("] ")
+                    .append(String.format("[%.2f, %.2f):", bucket.getKey() * search.delta(), (bucket.getKey() + 1) * search.delta()));
+            for (int v : bucket.getValue()) {
+                line.append(' ').append(snapshot.node(v).getId());
+                if (bucket.getKey() == search.currentBucket()) {
+                    candidateNodeList.applyVisualStyleOnNode(snapshot.node(v));
+                }
+            }
+            lines.add(line.toString());
+        }
+        Platform.runLater(() -> bucketLines.setAll(lines));
+    }
+
+    /**
+     * Reconstructs the path to the destination from the distances, since parallel relaxations do not keep
+     * consistent parent pointers, see {@link BellmanFordSearch#parentsFromDistances}.
+     */
+    private void shortestPath(GraphSnapshot snapshot, double[] distances, int start) {
+        pauseAtStep(9);
+        if (destinationNode.get() == null) {
+            return;
+        }
+
+        int destination = snapshot.indexOf(destinationNode.get());
+        pauseAtStep(10);
+        if (Double.isInfinite(distances[destination])) {
+            logger.info("No path found to the destination.");
+            return;
+        }
+
+        logger.info("Shortest path found with distance: {}", distances[destination]);
+
+        pauseAtStep(11);
+        int[] parent = BellmanFordSearch.parentsFromDistances(snapshot.csr(), distances, start);
+        startNode.get().setParentNode(null);
+        for (int v = destination; v != start; v = parent[v]) {
+            snapshot.node(v).setParentNode(snapshot.node(parent[v]));
+        }
+
+        for (GraphNode node = destinationNode.get(); node != null; node = node.getParentNode()) {
+            addToPath(node);
+        }
+
+        pauseAtStep(12);
+        visualizePath();
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "DeltaStepping(start, delta):",
+                "\tinitialize distances with Double.POSITIVE_INFINITY, distance[start] = 0",
+                "\tB[0] = {start}",
+
+                "\twhile some bucket is not empty do:",
+                "\t\ti = index of the smallest non-empty bucket",
+                "\t\twhile B[i] is not empty do:",
+                "\t\t\tR += B[i], parallel for each light edge (u, v), u in B[i], B[i] = {}: relax(v, distance[u] + w)",
+                "\t\tparallel for each heavy edge (u, v), u in R: relax(v, distance[u] + w)",
+
+                "\nrelax(v, d): atomic distance[v] = min(distance[v], d), move v to B[distance[v] / delta]",
+
+                "\nShortestPath():",
+                "\tif distance[destination] is infinite then: return",
+                "\tparents from a BFS from the start along arcs with distance[u] + w(u, v) == distance[v]",
+                "\tvisualize path"
+        );
+    }
+}
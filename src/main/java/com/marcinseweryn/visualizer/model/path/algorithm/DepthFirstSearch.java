@@ -61,6 +61,9 @@ public class DepthFirstSearch extends GraphAlgorithm {
     public void executeAlgorithm() {
         logger.info("Starting Depth-First Search execution.");
 
+        // Assigns the current vertex indices to the nodes, the visited checks are indexed by them
+        getGraphSnapshot();
+
         // Add the start node to the candidate list (stack) and visualize
         pauseAtStep(0);  // Initialize
         logger.debug("Adding start node to the candidate stack: {}", startNode.get());
@@ -0,0 +1,74 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.DinicSearch;
+import com.marcinseweryn.visualizer.model.path.FlowNetwork;
+import com.marcinseweryn.visualizer.model.path.GraphSnapshot;
+import com.marcinseweryn.visualizer.model.path.MaxFlowAlgorithm;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Visualization of Dinic's maximum flow algorithm, see {@link DinicSearch}. Every phase augments a blocking flow
+ * along the shortest residual paths, after which the flow of every edge is shown.
+ */
+public class Dinic extends MaxFlowAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(Dinic.class);
+
+    /**
+     * Constructor to initialize the Dinic algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public Dinic(VBox algorithmTab,
+                 ListView<String> pseudocodeList,
+                 SimpleObjectProperty<GraphNode> startNode,
+                 SimpleObjectProperty<GraphNode> destinationNode,
+                 AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace, "Phases");
+
+        logger.debug("Dinic algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    @Override
+    protected double computeFlow(GraphSnapshot snapshot, FlowNetwork network, int source, int sink) {
+        DinicSearch search = new DinicSearch(network, source, sink);
+
+        pauseAtStep(1);
+        for (DinicSearch.Phase phase = search.phase(); phase != null; phase = search.phase()) {
+            pauseAtStep(4);
+            addStepLine(String.format("phase %d: paths of length %d, %d augmenting paths, flow +%s",
+                                      phase.number(), phase.sinkLevel(), phase.paths(), phase.flow()));
+            showFlow(snapshot, network);
+            pauseAtStep(1);
+        }
+        logger.info("Maximum flow {} found in {} phases", search.flow(), search.phases());
+        return search.flow();
+    }
+
+    @Override
+    protected int cutStep() {
+        return 5;
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "Dinic(source, sink):",
+                "\twhile the BFS levels from the source in the residual network reach the sink do:",
+                "\t\tnextArc[v] = first residual arc of v, for every node v",
+                "\t\tadvance along residual arcs one level up, retreat from dead ends",
+                "\t\taugment the bottleneck of every path reaching the sink, until none is left",
+                "\tminimum cut: the nodes reachable from the source in the residual network"
+        );
+    }
+}
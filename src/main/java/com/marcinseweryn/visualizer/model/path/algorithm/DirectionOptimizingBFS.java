@@ -0,0 +1,149 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Visualization of the direction-optimizing Breadth-First Search, see {@link DirectionOptimizingSearch}.
+ * The search expands one whole level per step, either top-down from the frontier or bottom-up from the
+ * undiscovered nodes, as chosen by Beamer's alpha and beta heuristics (selectable in the Settings tab).
+ * Every level is listed with its direction, and the inspected arcs are compared with the top-down search
+ * of {@link BreadthFirstSearch}.
+ */
+public class DirectionOptimizingBFS extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(DirectionOptimizingBFS.class);
+
+    // Levels with their direction, and the nodes in the order of their discovery
+    private final ObservableList<String> levelLines;
+    private final GraphNodeVisualizer visitedNodeList;
+
+    private int alpha = DirectionOptimizingSearch.DEFAULT_ALPHA;
+    private int beta = DirectionOptimizingSearch.DEFAULT_BETA;
+
+    /**
+     * Constructor to initialize the DirectionOptimizingBFS algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public DirectionOptimizingBFS(VBox algorithmTab,
+                                  ListView<String> pseudocodeList,
+                                  SimpleObjectProperty<GraphNode> startNode,
+                                  SimpleObjectProperty<GraphNode> destinationNode,
+                                  AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        levelLines = initializeTextView("Levels");
+        visitedNodeList = initializeGraphNodeVisualizer(ViewType.VISITED, DataStructureType.LIST);
+
+        logger.debug("DirectionOptimizingBFS algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    /**
+     * Sets the top-down to bottom-up threshold: bottom-up once the frontier arcs exceed the unexplored arcs / alpha.
+     *
+     * @param alpha The positive threshold.
+     */
+    public void setAlpha(int alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * Sets the bottom-up to top-down threshold: top-down once the frontier holds fewer than n / beta nodes.
+     *
+     * @param beta The positive threshold.
+     */
+    public void setBeta(int beta) {
+        this.beta = beta;
+    }
+
+    /**
+     * Executes the direction-optimizing Breadth-First Search from the start node.
+     */
+    @Override
+    public void executeAlgorithm() {
+        logger.info("Starting Direction-Optimizing Breadth-First Search execution with alpha {} and beta {}.", alpha, beta);
+
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        int start = snapshot.indexOf(startNode.get());
+
+        pauseAtStep(1);
+        DirectionOptimizingSearch search = new DirectionOptimizingSearch(graph, graph.transpose(), start, alpha, beta);
+        startNode.get().setParentNode(null);
+        visitedNodeList.addNodeAndVisualize(startNode.get());
+
+        pauseAtStep(2);
+        for (DirectionOptimizingSearch.Level level = search.step(); level != null; level = search.step()) {
+            pauseAtStep(level.direction() == BfsDirection.TOP_DOWN ? 4 : 6);
+
+            String line = String.format("level %d: %s, %d discovered, %d arcs inspected",
+                                        level.depth(), level.direction(), level.discovered(), level.inspected());
+            logger.debug(line);
+            Platform.runLater(() -> levelLines.add(line));
+
+            pauseAtStep(8);
+            for (int v : search.frontier()) {
+                GraphNode node = snapshot.node(v);
+                node.setParentNode(snapshot.node(search.parent(v)));
+                node.setDistance(level.depth());
+                visitedNodeList.addNodeAndVisualize(node);
+            }
+            pauseAtStep(2);
+        }
+
+        long topDown = DirectionOptimizingSearch.topDownInspections(graph, start);
+        reportStatistic(String.format("arcs inspected: %d, top-down BFS %d (%.1f%%)", search.inspected(), topDown,
+                                      topDown == 0 ? 100.0 : 100.0 * search.inspected() / topDown));
+
+        shortestPath(snapshot, search);
+    }
+
+    /**
+     * Visualizes the path from the start node to the destination along the discovery parents.
+     */
+    private void shortestPath(GraphSnapshot snapshot, DirectionOptimizingSearch search) {
+        pauseAtStep(9);
+        if (destinationNode.get() == null || search.level(snapshot.indexOf(destinationNode.get())) < 0) {
+            logger.info("No path found to the destination.");
+            return;
+        }
+
+        logger.info("Shortest path found with {} edges", search.level(snapshot.indexOf(destinationNode.get())));
+
+        pauseAtStep(10);
+        for (GraphNode node = destinationNode.get(); node != null; node = node.getParentNode()) {
+            addToPath(node);
+        }
+        visualizePath();
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "DirectionOptimizingBFS(start):",
+                "\tfrontier = {start}, visited = {start}",
+                "\twhile frontier is not empty do:",
+                "\t\tif top-down and m_f > m_u / alpha then: switch to bottom-up",
+                "\t\tif top-down: for each u in frontier, for each arc (u, v) with v not visited: parent[v] = u",
+                "\t\tif bottom-up and |frontier| < n / beta then: switch to top-down",
+                "\t\tif bottom-up: for each v not visited, for each arc (u, v):",
+                "\t\t\tif u in frontier then: parent[v] = u and stop scanning the arcs of v",
+                "\t\tfrontier = the nodes discovered in this level",
+                "\tif the destination was not discovered then: return",
+                "\tfollow the parents from the destination and visualize the path"
+        );
+    }
+}
@@ -0,0 +1,252 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.Edge;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Dijkstra's algorithm that keeps its shortest path tree up to date after the execution, see
+ * {@link DynamicShortestPaths}. Until the next algorithm starts or the graph is reset, every weight change made
+ * in the node setup and every deleted edge is repaired incrementally: only the nodes whose distance or parent
+ * changed are updated and highlighted, and the path to the destination is redrawn.
+ * Every repair is timed and reported with the number of nodes it settled; the comparison with a full rerun is
+ * left to DynamicShortestPathsBenchmark, since a rerun per edit would stall the JavaFX thread on large graphs.
+ * Edges added after the execution are not part of the tree; the algorithm has to be run again for them.
+ */
+public class DynamicDijkstra extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(DynamicDijkstra.class);
+
+    // Distances of all nodes and the log of the repairs
+    private final GraphNodeVisualizer distanceNodeList;
+    private final ObservableList<String> repairLines;
+
+    private GraphSnapshot snapshot;
+    private DynamicShortestPaths paths;
+    private Map<Edge, Integer> edgeIds;
+
+    // Nodes highlighted by the last repair
+    private List<GraphNode> repairedNodes = List.of();
+
+    /**
+     * Constructor to initialize the DynamicDijkstra algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public DynamicDijkstra(VBox algorithmTab,
+                           ListView<String> pseudocodeList,
+                           SimpleObjectProperty<GraphNode> startNode,
+                           SimpleObjectProperty<GraphNode> destinationNode,
+                           AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        distanceNodeList = initializeGraphNodeVisualizer(ViewType.DISTANCE, DataStructureType.LIST);
+        repairLines = initializeTextView("Repairs");
+
+        logger.debug("DynamicDijkstra algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    /**
+     * The tree is repaired after the execution, so a cached result would not be kept up to date.
+     */
+    @Override
+    protected boolean isQueryCacheable() {
+        return false;
+    }
+
+    /**
+     * Computes the shortest path tree and starts listening to weight changes and edge deletions.
+     */
+    @Override
+    public void executeAlgorithm() {
+        snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        if (ShortestPaths.hasNegativeWeights(graph)) {
+            logger.warn("Dynamic Dijkstra requires non-negative edge weights.");
+            reportStatistic("negative edge weights are not supported");
+            return;
+        }
+
+        pauseAtStep(1);
+        int start = snapshot.indexOf(startNode.get());
+        paths = new DynamicShortestPaths(graph, start);
+        reportStatistic(String.format("initial shortest path tree: %d nodes reached", countReached()));
+
+        pauseAtStep(2);
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            GraphNode node = snapshot.node(v);
+            node.setDistance(paths.distance(v));
+            node.setParentNode(paths.parent(v) == -1 ? null : snapshot.node(paths.parent(v)));
+            if (paths.distance(v) < Double.POSITIVE_INFINITY) {
+                Platform.runLater(() -> node.setPrimaryClass("visited"));
+            }
+            distanceNodeList.addNode(node);
+        }
+        showPath();
+
+        pauseAtStep(3);
+        listenToEdits();
+        reportStatistic("repairing weight changes and edge deletions until the next run or reset");
+    }
+
+    private int countReached() {
+        int reached = 0;
+        for (int v = 0; v < snapshot.csr().vertexCount(); v++) {
+            if (paths.distance(v) < Double.POSITIVE_INFINITY) {
+                reached++;
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Attaches the listeners that repair the tree after weight changes and edge deletions.
+     */
+    private void listenToEdits() {
+        edgeIds = new IdentityHashMap<>();
+        CsrGraph graph = snapshot.csr();
+        for (int arc = 0; arc < graph.arcCount(); arc++) {
+            edgeIds.putIfAbsent(snapshot.edge(arc), graph.edgeId(arc));
+        }
+
+        for (Map.Entry<Edge, Integer> entry : edgeIds.entrySet()) {
+            Edge edge = entry.getKey();
+            int edgeId = entry.getValue();
+            addEdgeWeightListener(edge, (obs, oldValue, newValue) -> {
+                double weight = newValue.doubleValue();
+                if (weight < 0) {
+                    reportStatistic("negative weight " + weight + ", repairs stopped");
+                    detachGraphEditListeners();
+                    return;
+                }
+                repair(String.format("w(%s) %s -> %s", describe(edge), oldValue, newValue),
+                       () -> paths.setEdgeWeight(edgeId, weight));
+            });
+        }
+
+        addGraphElementListener((ListChangeListener<Node>) change -> {
+            while (change.next()) {
+                for (Node removed : change.getRemoved()) {
+                    if (removed instanceof Edge edge && edgeIds.containsKey(edge)) {
+                        repair("deleted " + describe(edge), () -> paths.removeEdge(edgeIds.remove(edge)));
+                    }
+                    if (removed == startNode.get()) {
+                        reportStatistic("start node deleted, repairs stopped");
+                        detachGraphEditListeners();
+                    }
+                }
+                if (change.getAddedSubList().stream().anyMatch(Edge.class::isInstance)) {
+                    reportStatistic("added edges are not part of the tree, run the algorithm again");
+                }
+            }
+        });
+    }
+
+    private static String describe(Edge edge) {
+        return edge.getNodeA().getId() + "-" + edge.getNodeB().getId();
+    }
+
+    /**
+     * Applies a change and updates the nodes it changed. Runs on the JavaFX thread.
+     */
+    private void repair(String change, Supplier<DynamicShortestPaths.Update> action) {
+        long begin = System.nanoTime();
+        DynamicShortestPaths.Update update = action.get();
+        long repair = System.nanoTime() - begin;
+
+        // The old path is cleared before the parents change, its nodes are restyled below
+        List<GraphNode> previousPath = clearPath();
+        List<GraphNode> previousRepaired = repairedNodes;
+        List<GraphNode> changed = new ArrayList<>();
+        for (int v : update.changed()) {
+            GraphNode node = snapshot.node(v);
+            node.setDistance(paths.distance(v));
+            node.setParentNode(paths.parent(v) == -1 ? null : snapshot.node(paths.parent(v)));
+            changed.add(node);
+        }
+        repairedNodes = changed;
+
+        Platform.runLater(() -> {
+            for (GraphNode node : previousPath) {
+                restyle(node);
+            }
+            for (GraphNode node : previousRepaired) {
+                restyle(node);
+            }
+            for (GraphNode node : changed) {
+                node.setPrimaryClass("repaired");
+            }
+            if (startNode.get() != null) {
+                startNode.get().setPrimaryClass("start");
+            }
+        });
+        showPath();
+
+        String line = String.format("%s: %d changed, %d settled, %d arcs, %.1f us (of %d nodes)",
+                                    change, update.changed().length, update.settled(), update.scanned(),
+                                    repair / 1e3, snapshot.csr().vertexCount());
+        logger.info(line);
+        repairLines.add(line);
+    }
+
+    private void restyle(GraphNode node) {
+        node.setPrimaryClass(node.getDistance() < Double.POSITIVE_INFINITY ? "visited" : "vertex");
+    }
+
+    /**
+     * Adds the path to the destination and visualizes it, if the destination is reachable.
+     */
+    private void showPath() {
+        GraphNode destination = destinationNode.get();
+        if (destination == null || snapshot.indexOf(destination) == -1
+                || paths.distance(snapshot.indexOf(destination)) == Double.POSITIVE_INFINITY) {
+            logger.info("No path found to the destination.");
+            return;
+        }
+
+        for (GraphNode node = destination; node != null; node = node.getParentNode()) {
+            addToPath(node);
+        }
+        visualizePath();
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "DynamicDijkstra(start):",
+                "\tcompute the shortest path tree from start with Dijkstra",
+                "\tshow the distances and the path to the destination",
+                "\trepair the tree after every weight change or edge deletion",
+
+                "\nDecrease(u, v, w):",
+                "\tif d[u] + w < d[v] then: d[v] = d[u] + w, parent[v] = u",
+                "\t\tDijkstra from v, only visiting vertices whose distance decreases",
+
+                "\nIncrease(u, v, w), deletions have w = Double.POSITIVE_INFINITY:",
+                "\tif parent[v] != u then: return",
+                "\tA = subtree of v in the shortest path tree",
+                "\tfor x in A: d[x] = min of d[y] + w(y, x) over arcs (y, x) with y not in A",
+                "\tDijkstra restricted to A from these distances"
+        );
+    }
+}
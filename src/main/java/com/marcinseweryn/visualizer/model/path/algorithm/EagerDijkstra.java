@@ -0,0 +1,215 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Implementation of Dijkstra's algorithm with eager updates on an indexed d-ary heap.
+ * Every vertex is queued at most once; relaxing an edge to a queued vertex decreases its key in place,
+ * so the heap invariant always holds and the queue needs O(V) memory even on dense graphs.
+ * The heap array is displayed as the candidate list, and its arity can be configured.
+ */
+public class EagerDijkstra extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(EagerDijkstra.class);
+
+    // Visualizers for the heap, visited nodes, and distance list
+    private final GraphNodeIndexedHeap candidateNodeHeap;
+    private final GraphNodeVisualizer visitedNodeList;
+    private final GraphNodeVisualizer distanceNodeList;
+
+    private int heapArity = 4;
+
+    /**
+     * Constructor to initialize the EagerDijkstra algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public EagerDijkstra(VBox algorithmTab,
+                         ListView<String> pseudocodeList,
+                         SimpleObjectProperty<GraphNode> startNode,
+                         SimpleObjectProperty<GraphNode> destinationNode,
+                         AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        candidateNodeHeap = (GraphNodeIndexedHeap) initializeGraphNodeVisualizer(ViewType.CANDIDATE_NODES,
+                                                                                 DataStructureType.INDEXED_HEAP);
+        visitedNodeList = initializeGraphNodeVisualizer(ViewType.VISITED, DataStructureType.STACK);
+        distanceNodeList = initializeGraphNodeVisualizer(ViewType.DISTANCE, DataStructureType.LIST);
+
+        logger.debug("EagerDijkstra algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    /**
+     * Sets the number of children of every heap node used by the next execution.
+     *
+     * @param heapArity The heap arity, at least 2.
+     */
+    public void setHeapArity(int heapArity) {
+        this.heapArity = heapArity;
+    }
+
+    /**
+     * Executes Dijkstra's algorithm with eager decrease-key updates.
+     */
+    @Override
+    public void executeAlgorithm() {
+        logger.info("Starting Eager Dijkstra execution with a {}-ary heap.", heapArity);
+
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        int n = graph.vertexCount();
+        for (int v = 0; v < n; v++) {
+            distanceNodeList.addNode(snapshot.node(v));
+            if (hasNegativeArc(graph, v)) {
+                logger.warn("Node {} has a negative outgoing edge, Dijkstra's distances may be wrong.", snapshot.node(v).getId());
+            }
+        }
+
+        DistanceList distance = resetDistances(n);
+        boolean[] settled = new boolean[n];
+        candidateNodeHeap.setArity(heapArity);
+
+        int start = startNode.get().getIndex();
+        int destination = destinationNode.get() == null ? -1 : snapshot.indexOf(destinationNode.get());
+
+        // Initialization steps
+        pauseAtStep(1);  // Step: Initialize
+        pauseAtStep(2);  // Step: Set distance to zero
+        distance.set(start, 0.0);
+        startNode.get().setDistance(0.0);
+        startNode.get().setParentNode(null);
+
+        pauseAtStep(3);  // Step: Insert start node into the heap
+        candidateNodeHeap.addNodeAndVisualize(startNode.get());
+
+        int settledCount = 0;
+
+        // Main loop
+        pauseAtStep(4);
+        while (!candidateNodeHeap.isEmpty()) {
+            pauseAtStep(5);  // Step: Poll the node with the smallest key
+            setCurrentNode(candidateNodeHeap.removeNode());
+            int current = getCurrentNode().getIndex();
+            settled[current] = true;
+            settledCount++;
+
+            pauseAtStep(6);  // Step: Mark node as settled
+            visitedNodeList.addNodeAndVisualize(getCurrentNode());
+
+            pauseAtStep(7);  // Step: Check if destination
+            if (current == destination) {
+                pauseAtStep(8);
+                logger.info("Destination settled after {} of {} nodes.", settledCount, n);
+                shortestPath(distance.get(current));
+                return;
+            }
+
+            pauseAtStep(9);  // Step: Explore outgoing edges
+            for (int arc = graph.firstArc(current); arc < graph.endArc(current); arc++) {
+                int neighbor = graph.target(arc);
+                setNeighborNode(snapshot.node(neighbor));
+
+                pauseAtStep(10);  // Step: Skip settled neighbors
+                if (settled[neighbor]) {
+                    continue;
+                }
+
+                pauseAtStep(11);  // Step: Calculate new distance
+                double newDistance = distance.get(current) + graph.weight(arc);
+
+                pauseAtStep(12);  // Step: Relaxation
+                if (newDistance < distance.get(neighbor)) {
+                    pauseAtStep(13);
+                    distance.set(neighbor, newDistance);
+                    getNeighborNode().setParentNode(getCurrentNode());
+                    getNeighborNode().setDistance(newDistance);
+
+                    // Inserts the neighbor or decreases its key
+                    pauseAtStep(14);
+                    candidateNodeHeap.addNodeAndVisualize(getNeighborNode());
+                }
+            }
+            setNeighborNode(null);
+        }
+
+        logger.info("Settled all {} reachable nodes.", settledCount);
+        shortestPath(destination < 0 ? Double.POSITIVE_INFINITY : distance.get(destination));
+    }
+
+    private static boolean hasNegativeArc(CsrGraph graph, int vertex) {
+        for (int arc = graph.firstArc(vertex); arc < graph.endArc(vertex); arc++) {
+            if (graph.weight(arc) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Visualizes the shortest path once it has been found.
+     *
+     * @param distance The distance of the shortest path.
+     */
+    private void shortestPath(double distance) {
+        pauseAtStep(15);
+
+        pauseAtStep(16);
+        if (Double.isInfinite(distance)) {
+            logger.info("No path found to the destination.");
+            return;
+        }
+
+        logger.info("Shortest path found with distance: {}", distance);
+
+        pauseAtStep(17);
+        for (GraphNode node = destinationNode.get(); node != null; node = node.getParentNode()) {
+            addToPath(node);
+            pauseAtStep(18);
+        }
+
+        pauseAtStep(19);
+        visualizePath();
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "EagerDijkstra(start, end):",
+                "\tinitialize distances with Double.POSITIVE_INFINITY",
+                "\tset distance[start] = 0",
+                "\theap.insert(start, 0)",
+
+                "\twhile the heap is not empty do:",
+                "\t\tnode = heap.poll()",
+                "\t\tmark node as settled",
+
+                "\t\tif node == end then:",
+                "\t\t\treconstructPath() and return",
+
+                "\t\tfor each edge (node, neighbor) do:",
+                "\t\t\tif neighbor is settled then: continue",
+
+                "\t\t\tnewDistance = distance[node] + edge.weight",
+                "\t\t\tif newDistance < distance[neighbor] then:",
+                "\t\t\t\tdistance[neighbor] = newDistance, parent[neighbor] = node",
+                "\t\t\t\theap.insert or heap.decreaseKey(neighbor, newDistance)",
+
+                "\nShortestPath(distance):",
+                "\tif distance is infinite then: return",
+                "\tfor N = destination; N != null; N = N.parent:",
+                "\t\tadd N to path",
+                "\tvisualize path"
+        );
+    }
+}
@@ -0,0 +1,218 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Visualization of the Floyd-Warshall all-pairs shortest path algorithm in the blocked loop order of
+ * {@link BlockedFloydWarshall}. The distance matrix is drawn as a heatmap after every block, the tiles of the
+ * second and third phase of each block run in parallel on the common {@link ForkJoinPool}, and the row of the
+ * start node is shown in the distance list. With the next-hop matrix enabled, the path from the start node to
+ * the destination is reconstructed from it.
+ */
+public class FloydWarshall extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(FloydWarshall.class);
+
+    // Heatmap of the distance matrix and visualizer for the distances from the start node
+    private final Canvas heatmap;
+    private final GraphNodeVisualizer distanceNodeList;
+
+    // Edge length of a tile and whether the next-hop matrix is maintained
+    private int tileSize = 4;
+    private boolean nextHops = true;
+
+    /**
+     * Constructor to initialize the FloydWarshall algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public FloydWarshall(VBox algorithmTab,
+                         ListView<String> pseudocodeList,
+                         SimpleObjectProperty<GraphNode> startNode,
+                         SimpleObjectProperty<GraphNode> destinationNode,
+                         AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        heatmap = initializeCanvasView("Distance Matrix", 300);
+        distanceNodeList = initializeGraphNodeVisualizer(ViewType.DISTANCE, DataStructureType.LIST);
+
+        logger.debug("FloydWarshall algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    /**
+     * Sets the edge length of the tiles used by the next execution.
+     *
+     * @param tileSize The number of rows and columns of a tile.
+     */
+    public void setTileSize(int tileSize) {
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Sets whether the next execution maintains the next-hop matrix for path reconstruction.
+     *
+     * @param nextHops True to maintain the next-hop matrix.
+     */
+    public void setNextHops(boolean nextHops) {
+        this.nextHops = nextHops;
+    }
+
+    /**
+     * Includes whether the next-hop matrix is kept, without it no path is reconstructed.
+     */
+    @Override
+    protected String queryCacheName() {
+        return super.queryCacheName() + "/" + nextHops;
+    }
+
+    /**
+     * Executes Floyd-Warshall on the whole graph.
+     */
+    @Override
+    public void executeAlgorithm() {
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        int n = graph.vertexCount();
+        int start = snapshot.indexOf(startNode.get());
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        logger.info("Starting Floyd-Warshall execution with {} x {} tiles on {} threads.", tileSize, tileSize, pool.getParallelism());
+
+        for (int v = 0; v < n; v++) {
+            distanceNodeList.addNode(snapshot.node(v));
+        }
+
+        // Initialization step
+        pauseAtStep(1);
+        BlockedFloydWarshall search = new BlockedFloydWarshall(graph, tileSize, nextHops, pool);
+        showDistances(snapshot, search, start);
+        showMatrix(search);
+
+        // Main loop over the blocks of intermediate vertices
+        pauseAtStep(2);
+        for (int block = 0; block < search.blockCount(); block++) {
+            pauseAtStep(3);  // Step: Diagonal tile
+            search.diagonalPhase(block);
+            showDistances(snapshot, search, start);
+
+            pauseAtStep(4);  // Step: Tiles of the row and the column of the block
+            search.crossPhase(block);
+            showDistances(snapshot, search, start);
+
+            pauseAtStep(5);  // Step: Remaining tiles
+            search.remainingPhase(block);
+            showDistances(snapshot, search, start);
+            showMatrix(search);
+            pauseAtStep(2);
+        }
+
+        pauseAtStep(6);
+        if (search.hasNegativeCycle()) {
+            for (int v = 0; v < n; v++) {
+                if (search.distance(v, v) < 0) {
+                    GraphNode node = snapshot.node(v);
+                    node.setDistance(Double.NEGATIVE_INFINITY);
+                    Platform.runLater(() -> node.setPrimaryClass("negative-cycle"));
+                }
+            }
+            reportStatistic("negative cycle detected, distances through it are not shortest paths");
+            return;
+        }
+
+        reportStatistic(String.format("%d vertices, %d x %d blocks of %d x %d entries",
+                                      n, search.blockCount(), search.blockCount(), tileSize, tileSize));
+
+        shortestPath(snapshot, search, start);
+    }
+
+    /**
+     * Copies the row of the start node to the nodes.
+     */
+    private void showDistances(GraphSnapshot snapshot, BlockedFloydWarshall search, int start) {
+        for (int v = 0; v < search.vertexCount(); v++) {
+            snapshot.node(v).setDistance(search.distance(start, v));
+        }
+    }
+
+    /**
+     * Draws a copy of the matrix sampled down to the size of the canvas.
+     */
+    private void showMatrix(BlockedFloydWarshall search) {
+        int n = search.vertexCount();
+        int cells = Math.min(n, (int) heatmap.getWidth());
+        double[] matrix = MatrixHeatmap.sample(search.matrix(), n, cells);
+        Platform.runLater(() -> MatrixHeatmap.draw(heatmap, matrix, cells));
+    }
+
+    /**
+     * Reconstructs the path from the start node to the destination by following the next-hop matrix.
+     */
+    private void shortestPath(GraphSnapshot snapshot, BlockedFloydWarshall search, int start) {
+        pauseAtStep(8);
+        if (destinationNode.get() == null) {
+            return;
+        }
+
+        int destination = snapshot.indexOf(destinationNode.get());
+        pauseAtStep(9);
+        if (Double.isInfinite(search.distance(start, destination))) {
+            logger.info("No path found to the destination.");
+            return;
+        }
+        if (!nextHops) {
+            reportStatistic("next-hop matrix disabled, the path is not reconstructed");
+            return;
+        }
+
+        logger.info("Shortest path found with distance: {}", search.distance(start, destination));
+
+        pauseAtStep(10);
+        int[] path = search.path(start, destination);
+        snapshot.node(path[0]).setParentNode(null);
+        for (int i = 1; i < path.length; i++) {
+            snapshot.node(path[i]).setParentNode(snapshot.node(path[i - 1]));
+        }
+
+        for (GraphNode node = destinationNode.get(); node != null; node = node.getParentNode()) {
+            addToPath(node);
+        }
+
+        pauseAtStep(11);
+        visualizePath();
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "FloydWarshall(tileSize):",
+                "\tdist[i][j] = w(i, j), dist[i][i] = 0, next[i][j] = j",
+                "\tfor each block K of tileSize vertices do:",
+                "\t\tupdate tile (K, K) through K",
+                "\t\tparallel for each tile (K, J) and (I, K): update it through K",
+                "\t\tparallel for each other tile (I, J): update it through K",
+                "\tif some dist[i][i] < 0 then: report negative cycle",
+
+                "\nupdate tile (I, J) through K: for k in K, i in I, j in J: if dist[i][k] + dist[k][j] < dist[i][j] then:"
+                        + " dist[i][j] = dist[i][k] + dist[k][j], next[i][j] = next[i][k]",
+
+                "\nShortestPath():",
+                "\tif dist[start][destination] is infinite then: return",
+                "\tfollow next[v][destination] from the start",
+                "\tvisualize path"
+        );
+    }
+}
@@ -0,0 +1,209 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Visualization of Johnson's all-pairs shortest path algorithm for sparse graphs with negative weights, see
+ * {@link JohnsonSearch}. The potentials come from Bellman-Ford in the mode selected for {@link BellmanFord}, which
+ * also reports negative cycles; with the reduced weights, one Dijkstra search per source runs as its own task
+ * on the common {@link ForkJoinPool}. Sources are processed in batches of the pool's parallelism, and the distance
+ * matrix heatmap is updated after each batch.
+ */
+public class Johnson extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(Johnson.class);
+
+    // Heatmap, potentials, finished sources and distances from the start node
+    private final Canvas heatmap;
+    private final ObservableList<String> potentialLines;
+    private final GraphNodeVisualizer visitedNodeList;
+    private final GraphNodeVisualizer distanceNodeList;
+
+    private BellmanFordMode bellmanFordMode = BellmanFordMode.ROUNDS;
+
+    /**
+     * Constructor to initialize Johnson's algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public Johnson(VBox algorithmTab,
+                   ListView<String> pseudocodeList,
+                   SimpleObjectProperty<GraphNode> startNode,
+                   SimpleObjectProperty<GraphNode> destinationNode,
+                   AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        heatmap = initializeCanvasView("Distance Matrix", 300);
+        potentialLines = initializeTextView("Potentials");
+        visitedNodeList = initializeGraphNodeVisualizer(ViewType.VISITED, DataStructureType.LIST);
+        distanceNodeList = initializeGraphNodeVisualizer(ViewType.DISTANCE, DataStructureType.LIST);
+
+        logger.debug("Johnson algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    /**
+     * Sets the relaxation strategy of the Bellman-Ford run computing the potentials.
+     *
+     * @param bellmanFordMode The relaxation strategy.
+     */
+    public void setBellmanFordMode(BellmanFordMode bellmanFordMode) {
+        this.bellmanFordMode = bellmanFordMode;
+    }
+
+    /**
+     * Executes Johnson's algorithm on the whole graph.
+     */
+    @Override
+    public void executeAlgorithm() {
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        int n = graph.vertexCount();
+        int start = snapshot.indexOf(startNode.get());
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        logger.info("Starting Johnson execution with Bellman-Ford mode {} on {} threads.", bellmanFordMode, pool.getParallelism());
+
+        for (int v = 0; v < n; v++) {
+            distanceNodeList.addNode(snapshot.node(v));
+        }
+
+        // Potentials from the virtual source
+        pauseAtStep(1);
+        JohnsonSearch search = new JohnsonSearch(graph, pool);
+        pauseAtStep(2);
+        boolean feasible = search.computePotentials(bellmanFordMode);
+        BellmanFordSearch.Result potentials = search.potentialSearch();
+        reportStatistic(String.format("potentials (%s): %d rounds, %d relaxations", bellmanFordMode,
+                                      potentials.rounds(), potentials.relaxations()));
+
+        pauseAtStep(3);
+        if (!feasible) {
+            boolean[] affected = search.negativeCycleVertices();
+            for (int v = 0; v < n; v++) {
+                if (affected[v]) {
+                    GraphNode node = snapshot.node(v);
+                    node.setDistance(Double.NEGATIVE_INFINITY);
+                    Platform.runLater(() -> node.setPrimaryClass("negative-cycle"));
+                }
+            }
+            reportStatistic("negative cycle detected, all-pairs distances are undefined");
+            return;
+        }
+
+        pauseAtStep(4);  // Step: Reweight the edges
+        showPotentials(snapshot, search.potential());
+
+        // One Dijkstra task per source, in batches so that the matrix can be shown between them
+        int batch = Math.max(1, pool.getParallelism());
+        pauseAtStep(5);
+        for (int from = 0; from < n; from += batch) {
+            int to = Math.min(n, from + batch);
+            pauseAtStep(6);
+            search.solveSources(from, to);
+
+            pauseAtStep(7);
+            for (int source = from; source < to; source++) {
+                visitedNodeList.addNodeAndVisualize(snapshot.node(source));
+            }
+            showMatrix(snapshot, search, start);
+            pauseAtStep(5);
+        }
+
+        shortestPath(snapshot, search, start);
+    }
+
+    /**
+     * Lists the potential of every node.
+     */
+    private void showPotentials(GraphSnapshot snapshot, double[] potential) {
+        List<String> lines = new ArrayList<>();
+        for (int v = 0; v < potential.length; v++) {
+            lines.add(String.format("h(%s) = %.2f", snapshot.node(v).getId(), potential[v]));
+        }
+        Platform.runLater(() -> potentialLines.setAll(lines));
+    }
+
+    /**
+     * Copies the row of the start node to the nodes and draws a copy of the matrix sampled down to the size of
+     * the canvas.
+     */
+    private void showMatrix(GraphSnapshot snapshot, JohnsonSearch search, int start) {
+        int n = snapshot.csr().vertexCount();
+        for (int v = 0; v < n; v++) {
+            snapshot.node(v).setDistance(search.distance(start, v));
+        }
+
+        int cells = Math.min(n, (int) heatmap.getWidth());
+        double[] matrix = MatrixHeatmap.sample(search.matrix(), n, cells);
+        Platform.runLater(() -> MatrixHeatmap.draw(heatmap, matrix, cells));
+    }
+
+    /**
+     * Reconstructs the path from the start node to the destination with a Dijkstra search on the reduced weights.
+     */
+    private void shortestPath(GraphSnapshot snapshot, JohnsonSearch search, int start) {
+        pauseAtStep(8);
+        if (destinationNode.get() == null) {
+            return;
+        }
+
+        int destination = snapshot.indexOf(destinationNode.get());
+        pauseAtStep(9);
+        if (Double.isInfinite(search.distance(start, destination))) {
+            logger.info("No path found to the destination.");
+            return;
+        }
+
+        logger.info("Shortest path found with distance: {}", search.distance(start, destination));
+
+        pauseAtStep(10);
+        int[] parent = search.parentsFrom(start);
+        startNode.get().setParentNode(null);
+        for (int v = destination; v != start; v = parent[v]) {
+            snapshot.node(v).setParentNode(snapshot.node(parent[v]));
+        }
+
+        for (GraphNode node = destinationNode.get(); node != null; node = node.getParentNode()) {
+            addToPath(node);
+        }
+
+        pauseAtStep(11);
+        visualizePath();
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "Johnson():",
+                "\tadd a virtual source q with an arc (q, v) of weight 0 to every vertex v",
+                "\th = BellmanFord(q)",
+                "\tif BellmanFord found a negative cycle then: report it and return",
+                "\tw'(u, v) = w(u, v) + h(u) - h(v) for every arc (u, v)",
+                "\tparallel for each source s, one task per source:",
+                "\t\td' = Dijkstra(s) on w'",
+                "\t\td(s, v) = d'(v) - h(s) + h(v) for every vertex v",
+
+                "\nShortestPath():",
+                "\tif d(start, destination) is infinite then: return",
+                "\tfollow the parents of Dijkstra(start) on w' from the destination",
+                "\tvisualize path"
+        );
+    }
+}
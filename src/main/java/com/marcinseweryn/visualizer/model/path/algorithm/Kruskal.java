@@ -0,0 +1,66 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.SpanningForest;
+import com.marcinseweryn.visualizer.model.path.SpanningTreeAlgorithm;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Visualization of Kruskal's minimum spanning tree algorithm, see {@link SpanningForest#kruskal()}.
+ * The edges are scanned by increasing weight and every edge joining two trees of the union-find is accepted.
+ */
+public class Kruskal extends SpanningTreeAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(Kruskal.class);
+
+    /**
+     * Constructor to initialize the Kruskal algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public Kruskal(VBox algorithmTab,
+                   ListView<String> pseudocodeList,
+                   SimpleObjectProperty<GraphNode> startNode,
+                   SimpleObjectProperty<GraphNode> destinationNode,
+                   AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        logger.debug("Kruskal algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    @Override
+    protected SpanningForest.Result computeForest(SpanningForest forest, int root) {
+        return forest.kruskal();
+    }
+
+    @Override
+    protected int acceptStep() {
+        return 4;
+    }
+
+    @Override
+    protected int rejectStep() {
+        return 5;
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "Kruskal(graph):",
+                "\tsort the edges by weight (radix sort), make a set for every node",
+                "\tfor each edge (u, v) in sorted order do:",
+                "\t\tif find(u) != find(v) then:",
+                "\t\t\tunion(u, v), accept (u, v)",
+                "\t\telse: reject (u, v), it closes a cycle"
+        );
+    }
+}
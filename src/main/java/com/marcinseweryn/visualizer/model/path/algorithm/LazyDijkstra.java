@@ -17,8 +17,8 @@ public class LazyDijkstra extends GraphAlgorithm {
 
     private static final Logger logger = LogManager.getLogger(LazyDijkstra.class);
 
-    // List to store distances for each node in the graph
-    private final DistanceList distance = new DistanceList();
+    // Distances of the nodes by vertex index, assigned when the graph snapshot is built
+    private DistanceList distance;
 
     // Visualizers for candidate nodes, visited nodes, and distance list
     private final GraphNodeVisualizer visitedNodeList;
@@ -65,7 +65,11 @@ public class LazyDijkstra extends GraphAlgorithm {
     public void dijkstra() {
         logger.debug("Initializing Dijkstra's algorithm.");
 
-        getGraph().forEach(distanceNodeList::addNode);
+        GraphSnapshot snapshot = getGraphSnapshot();
+        this.distance = resetDistances(snapshot.csr().vertexCount());
+        for (int v = 0; v < snapshot.csr().vertexCount(); v++) {
+            distanceNodeList.addNode(snapshot.node(v));
+        }
 
         // Initialization steps
         pauseAtStep(1);  // Step: Initialize
@@ -74,7 +78,7 @@ public class LazyDijkstra extends GraphAlgorithm {
         this.startNode.get().setDistance(0.0);
         pauseAtStep(3);  // Step: Add start node to the candidate list
         candidateNodeList.addNodeAndVisualize(this.startNode.get());
-        this.distance.set(0, 0.0);
+        this.distance.set(this.startNode.get().getIndex(), 0.0);
         distanceNodeList.addNode(this.startNode.get());
 
         // Main loop
@@ -91,13 +95,13 @@ public class LazyDijkstra extends GraphAlgorithm {
             pauseAtStep(7);  // Step: Check if destination
             if (this.getCurrentNode().getId().equals(this.destinationNode.get().getId())) {
                 pauseAtStep(8);  // Step: Destination reached
-                shortestPath(this.distance.get(Integer.parseInt(this.getCurrentNode().getId())));
+                shortestPath(this.distance.get(this.getCurrentNode().getIndex()));
                 return;
             }
 
             // Lazy delete check
             pauseAtStep(9);  // Step: Lazy delete check
-            if (this.distance.get(Integer.parseInt(getCurrentNode().getId())) < getCurrentNode().getDistance()) {
+            if (this.distance.get(getCurrentNode().getIndex()) < getCurrentNode().getDistance()) {
                 logger.debug("Skipping outdated node: {}", getCurrentNode());
                 continue;  // Skip outdated nodes
             }
@@ -117,10 +121,10 @@ public class LazyDijkstra extends GraphAlgorithm {
 
                 // Relaxation step
                 pauseAtStep(13);  // Step: Relaxation
-                if (newDistance < this.distance.get(Integer.parseInt(getNeighborNode().getId()))) {
+                if (newDistance < this.distance.get(getNeighborNode().getIndex())) {
 
                     pauseAtStep(14);  // Step: Update distance
-                    this.distance.set(Integer.parseInt(getNeighborNode().getId()), newDistance);
+                    this.distance.set(getNeighborNode().getIndex(), newDistance);
                     getNeighborNode().setParentNode(getCurrentNode());
                     getNeighborNode().setDistance(newDistance);
 
@@ -141,7 +145,7 @@ public class LazyDijkstra extends GraphAlgorithm {
      *
      * @param distance The distance of the shortest path.
      */
-    private void shortestPath(Double distance) {
+    private void shortestPath(double distance) {
         logger.info("Visualizing the shortest path.");
         pauseAtStep(20);
 
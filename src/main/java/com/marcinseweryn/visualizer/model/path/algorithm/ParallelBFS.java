@@ -0,0 +1,133 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Visualization of the parallel level-synchronous Breadth-First Search, see {@link ParallelBfsSearch}.
+ * Every level is expanded by the tasks of the common ForkJoinPool at once; the frontier size, the number of tasks
+ * and the time of every level are listed and charted.
+ */
+public class ParallelBFS extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(ParallelBFS.class);
+
+    // Levels with their frontier size and time, and the nodes in the order of their discovery
+    private final ObservableList<String> levelLines;
+    private final Canvas levelChart;
+    private final GraphNodeVisualizer visitedNodeList;
+
+    /**
+     * Constructor to initialize the ParallelBFS algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public ParallelBFS(VBox algorithmTab,
+                       ListView<String> pseudocodeList,
+                       SimpleObjectProperty<GraphNode> startNode,
+                       SimpleObjectProperty<GraphNode> destinationNode,
+                       AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        levelLines = initializeTextView("Levels");
+        levelChart = initializeCanvasView("Frontier size (bars) and time (line) per level", 200);
+        visitedNodeList = initializeGraphNodeVisualizer(ViewType.VISITED, DataStructureType.LIST);
+
+        logger.debug("ParallelBFS algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    /**
+     * Executes the parallel Breadth-First Search from the start node.
+     */
+    @Override
+    public void executeAlgorithm() {
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        int start = snapshot.indexOf(startNode.get());
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        logger.info("Starting Parallel Breadth-First Search execution on {} threads.", pool.getParallelism());
+
+        pauseAtStep(1);
+        ParallelBfsSearch search = new ParallelBfsSearch(graph, start, pool);
+        startNode.get().setParentNode(null);
+        startNode.get().setDistance(0.0);
+        visitedNodeList.addNodeAndVisualize(startNode.get());
+
+        List<ParallelBfsSearch.Level> levels = new ArrayList<>();
+        pauseAtStep(2);
+        for (ParallelBfsSearch.Level level = search.step(); level != null; level = search.step()) {
+            pauseAtStep(3);
+            levels.add(level);
+            List<ParallelBfsSearch.Level> chartLevels = List.copyOf(levels);
+            String line = String.format("level %d: frontier %d, %d discovered, %.3f ms, %d tasks", level.depth(),
+                                        level.frontier(), level.discovered(), level.nanos() / 1e6, level.tasks());
+            logger.debug(line);
+            Platform.runLater(() -> {
+                levelLines.add(line);
+                LevelChart.draw(levelChart, chartLevels);
+            });
+
+            pauseAtStep(6);
+            for (int v : search.frontier()) {
+                GraphNode node = snapshot.node(v);
+                node.setParentNode(snapshot.node(search.parent(v)));
+                node.setDistance(level.depth());
+                visitedNodeList.addNodeAndVisualize(node);
+            }
+            pauseAtStep(2);
+        }
+
+        shortestPath(snapshot, search);
+    }
+
+    /**
+     * Visualizes the path from the start node to the destination along the discovery parents.
+     */
+    private void shortestPath(GraphSnapshot snapshot, ParallelBfsSearch search) {
+        pauseAtStep(7);
+        if (destinationNode.get() == null || search.level(snapshot.indexOf(destinationNode.get())) < 0) {
+            logger.info("No path found to the destination.");
+            return;
+        }
+
+        logger.info("Shortest path found with {} edges", search.level(snapshot.indexOf(destinationNode.get())));
+
+        pauseAtStep(8);
+        for (GraphNode node = destinationNode.get(); node != null; node = node.getParentNode()) {
+            addToPath(node);
+        }
+        visualizePath();
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "ParallelBFS(start):",
+                "\tfrontier = [start], parent[start] = start",
+                "\twhile frontier is not empty do:",
+                "\t\tin parallel for each slice of the frontier, with a local buffer:",
+                "\t\t\tfor each u in the slice, for each arc (u, v): if CAS(parent[v], -1, u) then: append v to the buffer",
+                "\t\toffsets = prefix sum of the buffer sizes, copy every buffer to its offset in parallel",
+                "\t\tfrontier = the merged buffers",
+                "\tif the destination was not discovered then: return",
+                "\tfollow the parents from the destination and visualize the path"
+        );
+    }
+}
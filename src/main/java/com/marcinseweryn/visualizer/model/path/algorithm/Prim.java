@@ -0,0 +1,80 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.SpanningForest;
+import com.marcinseweryn.visualizer.model.path.SpanningTreeAlgorithm;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Visualization of Prim's minimum spanning tree algorithm, see {@link SpanningForest#prim(int, int)}.
+ * The tree grows from the start node by the cheapest edge into it, kept per node in an indexed d-ary heap
+ * whose arity is selectable in the Settings tab.
+ */
+public class Prim extends SpanningTreeAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(Prim.class);
+
+    private int heapArity = 4;
+
+    /**
+     * Constructor to initialize the Prim algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public Prim(VBox algorithmTab,
+                ListView<String> pseudocodeList,
+                SimpleObjectProperty<GraphNode> startNode,
+                SimpleObjectProperty<GraphNode> destinationNode,
+                AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        logger.debug("Prim algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    /**
+     * Sets the arity of the heap used by the next execution.
+     *
+     * @param heapArity The number of children per heap node, at least 2.
+     */
+    public void setHeapArity(int heapArity) {
+        this.heapArity = heapArity;
+    }
+
+    @Override
+    protected SpanningForest.Result computeForest(SpanningForest forest, int root) {
+        return forest.prim(heapArity, root);
+    }
+
+    @Override
+    protected int acceptStep() {
+        return 4;
+    }
+
+    @Override
+    protected int rejectStep() {
+        return 6;
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "Prim(graph, start):",
+                "\theap = {start: 0}, for every node not spanned yet, start a new tree",
+                "\twhile heap is not empty do:",
+                "\t\tu = heap.poll()",
+                "\t\taccept the edge u was reached by",
+                "\t\tfor each edge (u, v) do:",
+                "\t\t\tif v is spanned then: reject (u, v), it closes a cycle",
+                "\t\t\telse if w(u, v) < key(v) then: heap.insertOrDecrease(v, w(u, v))"
+        );
+    }
+}
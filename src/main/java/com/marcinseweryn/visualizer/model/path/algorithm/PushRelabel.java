@@ -0,0 +1,98 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.FlowNetwork;
+import com.marcinseweryn.visualizer.model.path.GraphSnapshot;
+import com.marcinseweryn.visualizer.model.path.MaxFlowAlgorithm;
+import com.marcinseweryn.visualizer.model.path.PushRelabelSearch;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Visualization of the FIFO push-relabel maximum flow algorithm with the gap heuristic, see
+ * {@link PushRelabelSearch}. Every discharged node is highlighted, its height is shown as its distance and the flow
+ * of every edge is updated after the discharge.
+ */
+public class PushRelabel extends MaxFlowAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(PushRelabel.class);
+
+    /**
+     * Constructor to initialize the PushRelabel algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public PushRelabel(VBox algorithmTab,
+                       ListView<String> pseudocodeList,
+                       SimpleObjectProperty<GraphNode> startNode,
+                       SimpleObjectProperty<GraphNode> destinationNode,
+                       AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace, "Discharges");
+
+        logger.debug("PushRelabel algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    @Override
+    protected double computeFlow(GraphSnapshot snapshot, FlowNetwork network, int source, int sink) {
+        pauseAtStep(1);
+        PushRelabelSearch search = new PushRelabelSearch(network, source, sink);
+        for (int v = 0; v < network.vertexCount(); v++) {
+            snapshot.node(v).setDistance(search.height(v));
+        }
+        showFlow(snapshot, network);
+
+        pauseAtStep(2);
+        for (PushRelabelSearch.Discharge discharge = search.discharge(); discharge != null; discharge = search.discharge()) {
+            GraphNode node = snapshot.node(discharge.vertex());
+            setCurrentNode(node);
+            pauseAtStep(4);
+            if (discharge.relabels() > 0) {
+                pauseAtStep(5);
+            }
+            if (discharge.lifted() > 0) {
+                pauseAtStep(6);
+                for (int v = 0; v < network.vertexCount(); v++) {
+                    snapshot.node(v).setDistance(search.height(v));
+                }
+            }
+            node.setDistance(discharge.height());
+            addStepLine(String.format("discharge %s: %d pushes, %d relabels, height %d%s", node.getId(),
+                                      discharge.pushes(), discharge.relabels(), discharge.height(),
+                                      discharge.lifted() > 0 ? ", gap lifted " + discharge.lifted() + " nodes" : ""));
+            showFlow(snapshot, network);
+            pauseAtStep(3);
+        }
+        resetCurrentNodeStyle();
+
+        logger.info("Maximum flow {} found with {} pushes, {} relabels and {} gaps",
+                    search.flow(), search.pushes(), search.relabels(), search.gaps());
+        return search.flow();
+    }
+
+    @Override
+    protected int cutStep() {
+        return 7;
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "PushRelabel(source, sink):",
+                "\tsaturate the arcs of the source, height = residual distance to the sink, height[source] = n",
+                "\tqueue = the nodes with excess",
+                "\twhile queue is not empty do: u = queue.dequeue()",
+                "\t\tpush min(excess[u], residual) along arcs (u, v) with height[u] = height[v] + 1, enqueue v",
+                "\t\tif excess remains: height[u] = 1 + min height of its residual neighbours",
+                "\t\tgap: if no node is left at the old height h < n, lift every node above h to n + 1",
+                "\tminimum cut: the nodes reachable from the source in the residual network"
+        );
+    }
+}
@@ -0,0 +1,153 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Visualization of Tarjan's strongly connected components algorithm, see {@link StronglyConnectedComponents}.
+ * The search is iterative, so long chains of imported graphs cannot overflow the stack. Every component is
+ * colored as soon as it is completed, and the condensation is listed in Kahn's topological order and drawn
+ * with every component at the centroid of its nodes. Edges count in the direction of their arrow heads.
+ */
+public class TarjanSCC extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(TarjanSCC.class);
+
+    // Components with their nodes, and the arcs of the condensation in topological order
+    private final ObservableList<String> componentLines;
+    private final ObservableList<String> condensationLines;
+    private final Canvas condensationChart;
+
+    /**
+     * Constructor to initialize the TarjanSCC algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public TarjanSCC(VBox algorithmTab,
+                     ListView<String> pseudocodeList,
+                     SimpleObjectProperty<GraphNode> startNode,
+                     SimpleObjectProperty<GraphNode> destinationNode,
+                     AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        componentLines = initializeTextView("Components");
+        condensationLines = initializeTextView("Condensation (topological order)");
+        condensationChart = initializeCanvasView("Condensation DAG", 200);
+
+        logger.debug("TarjanSCC algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    @Override
+    protected boolean isQueryCacheable() {
+        return false;
+    }
+
+    /**
+     * Finds and colors the strongly connected components, then shows the condensation.
+     */
+    @Override
+    public void executeAlgorithm() {
+        logger.info("Starting Tarjan's strongly connected components execution.");
+
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        int n = graph.vertexCount();
+
+        pauseAtStep(1);
+        long begin = System.nanoTime();
+        StronglyConnectedComponents components = StronglyConnectedComponents.tarjan(graph);
+        long elapsed = System.nanoTime() - begin;
+
+        List<List<GraphNode>> members = new ArrayList<>();
+        for (int c = 0; c < components.count(); c++) {
+            members.add(new ArrayList<>());
+        }
+        for (int v = 0; v < n; v++) {
+            members.get(components.component(v)).add(snapshot.node(v));
+        }
+
+        // Components are completed in the order of their numbers
+        for (int c = 0; c < components.count(); c++) {
+            pauseAtStep(5);
+            List<GraphNode> nodes = members.get(c);
+            StringJoiner ids = new StringJoiner(", ", "C" + c + ": {", "}");
+            nodes.forEach(node -> ids.add(node.getId()));
+            String styleClass = CondensationChart.styleClass(c);
+            logger.debug(ids.toString());
+            Platform.runLater(() -> {
+                componentLines.add(ids.toString());
+                nodes.forEach(node -> node.setPrimaryClass(styleClass));
+            });
+        }
+
+        pauseAtStep(7);
+        CsrGraph condensation = components.condensation(graph);
+        showCondensation(condensation, TopologicalOrder.kahn(condensation), components.sizes(), members);
+
+        int largest = 0;
+        for (int size : components.sizes()) {
+            largest = Math.max(largest, size);
+        }
+        reportStatistic(String.format("components: %d (largest %d nodes), condensation arcs: %d, Tarjan %.3f ms",
+                                      components.count(), largest, condensation.arcCount(), elapsed / 1e6));
+    }
+
+    private void showCondensation(CsrGraph condensation, TopologicalOrder order, int[] sizes,
+                                  List<List<GraphNode>> members) {
+        int count = condensation.vertexCount();
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < order.sorted(); i++) {
+            int c = order.order()[i];
+            StringJoiner targets = new StringJoiner(", ", "C" + c + " -> ", "");
+            targets.setEmptyValue("C" + c);
+            for (int arc = condensation.firstArc(c); arc < condensation.endArc(c); arc++) {
+                targets.add("C" + condensation.target(arc));
+            }
+            lines.add(targets.toString());
+        }
+
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int c = 0; c < count; c++) {
+            for (GraphNode node : members.get(c)) {
+                x[c] += node.getLayoutX() / sizes[c];
+                y[c] += node.getLayoutY() / sizes[c];
+            }
+        }
+        Platform.runLater(() -> {
+            condensationLines.setAll(lines);
+            CondensationChart.draw(condensationChart, condensation, sizes, x, y);
+        });
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "TarjanSCC(graph):",
+                "\tindex[v] = -1 for every node, stack = [], callStack = []",
+                "\tfor each node r without index do: push r on callStack",
+                "\t\twhile callStack is not empty do: v = top of callStack",
+                "\t\t\tif v has an unscanned arc (v, w): index w and push it on both stacks, or low[v] = min(low[v], index[w]) if w is on stack",
+                "\t\t\telse: pop v, if low[v] == index[v] then: pop the stack down to v as a new component",
+                "\t\t\t\tlow[caller] = min(low[caller], low[v])",
+                "\tcondensation: one node per component, listed in Kahn's topological order"
+        );
+    }
+}
@@ -0,0 +1,131 @@
+package com.marcinseweryn.visualizer.model.path.algorithm;
+
+import com.marcinseweryn.visualizer.model.path.*;
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.VBox;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Visualization of Kahn's topological sort, see {@link TopologicalOrder#kahn(CsrGraph)}. Nodes without incoming
+ * arcs wait in the queue, and every node taken from it is appended to the order, which frees the nodes whose last
+ * incoming arc it was. Nodes on or behind a cycle are never freed; they are highlighted at the end.
+ * Edges count in the direction of their arrow heads.
+ */
+public class TopologicalSort extends GraphAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(TopologicalSort.class);
+
+    // Free nodes waiting to be sorted, and the topological order
+    private final GraphNodeVisualizer freeNodeQueue;
+    private final GraphNodeVisualizer orderList;
+
+    /**
+     * Constructor to initialize the TopologicalSort algorithm with the necessary components.
+     *
+     * @param algorithmTab    The VBox for displaying the algorithm's visual elements.
+     * @param pseudocodeList  The ListView for displaying the algorithm pseudocode.
+     * @param startNode       The starting node for the algorithm.
+     * @param destinationNode The destination node for the algorithm.
+     * @param algorithmSpace  The pane for visualizing the algorithm's execution.
+     */
+    public TopologicalSort(VBox algorithmTab,
+                           ListView<String> pseudocodeList,
+                           SimpleObjectProperty<GraphNode> startNode,
+                           SimpleObjectProperty<GraphNode> destinationNode,
+                           AnchorPane algorithmSpace) {
+        super(algorithmTab, pseudocodeList, startNode, destinationNode, algorithmSpace);
+
+        freeNodeQueue = initializeGraphNodeVisualizer(ViewType.CANDIDATE_NODES, DataStructureType.QUEUE);
+        orderList = initializeGraphNodeVisualizer(ViewType.VISITED, DataStructureType.LIST);
+
+        logger.debug("TopologicalSort algorithm initialized with start node: {} and destination node: {}", startNode, destinationNode);
+    }
+
+    @Override
+    protected boolean isQueryCacheable() {
+        return false;
+    }
+
+    /**
+     * Executes Kahn's topological sort on the whole graph.
+     */
+    @Override
+    public void executeAlgorithm() {
+        logger.info("Starting Kahn's topological sort execution.");
+
+        GraphSnapshot snapshot = getGraphSnapshot();
+        CsrGraph graph = snapshot.csr();
+        int n = graph.vertexCount();
+
+        pauseAtStep(1);
+        int[] inDegree = new int[n];
+        for (int arc = 0; arc < graph.arcCount(); arc++) {
+            inDegree[graph.target(arc)]++;
+        }
+
+        pauseAtStep(2);
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                freeNodeQueue.addNodeAndVisualize(snapshot.node(v));
+            }
+        }
+
+        int sorted = 0;
+        pauseAtStep(3);
+        while (!freeNodeQueue.isEmpty()) {
+            pauseAtStep(4);
+            GraphNode node = freeNodeQueue.removeNode();
+            setCurrentNode(node);
+            orderList.addNodeAndVisualize(node);
+            sorted++;
+
+            int u = snapshot.indexOf(node);
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                int v = graph.target(arc);
+                pauseAtStep(5);
+                setNeighborNode(snapshot.node(v));
+                if (--inDegree[v] == 0) {
+                    pauseAtStep(6);
+                    freeNodeQueue.addNodeAndVisualize(snapshot.node(v));
+                }
+            }
+            pauseAtStep(3);
+        }
+        setNeighborNode(null);
+        resetCurrentNodeStyle();
+
+        pauseAtStep(7);
+        if (sorted < n) {
+            for (int v = 0; v < n; v++) {
+                if (inDegree[v] > 0) {
+                    GraphNode node = snapshot.node(v);
+                    Platform.runLater(() -> node.setPrimaryClass("cyclic"));
+                }
+            }
+            logger.info("The graph has a cycle, {} of {} nodes sorted.", sorted, n);
+            reportStatistic(String.format("cycle: %d of %d nodes sorted, the rest lie on or behind a cycle (see TarjanSCC)",
+                                          sorted, n));
+        } else {
+            reportStatistic(String.format("acyclic: all %d nodes sorted", n));
+        }
+    }
+
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "TopologicalSort(graph):",
+                "\tinDegree[v] = number of arcs (u, v) for every node v",
+                "\tqueue = all nodes with inDegree 0",
+                "\twhile queue is not empty do:",
+                "\t\tu = queue.dequeue(), append u to the order",
+                "\t\tfor each arc (u, v) do: inDegree[v] = inDegree[v] - 1",
+                "\t\t\tif inDegree[v] == 0 then: queue.enqueue(v)",
+                "\tif some node is not sorted then: the graph has a cycle"
+        );
+    }
+}
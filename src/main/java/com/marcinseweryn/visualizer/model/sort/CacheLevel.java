@@ -0,0 +1,85 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import java.util.Arrays;
+
+/**
+ * A single level of a set-associative cache with least-recently-used replacement.
+ * Only the tags are modelled, no data is stored. Lines are mapped to sets by their line number modulo the
+ * number of sets, and every set keeps the timestamp of the last use of each of its ways.
+ */
+final class CacheLevel {
+
+    private static final long EMPTY = -1;
+
+    private final int lineSize;
+    private final int associativity;
+    private final int sets;
+
+    // tags[set * associativity + way] holds the line number cached in that way, or EMPTY
+    private final long[] tags;
+    private final long[] lastUse;
+    private long clock;
+
+    private long accesses;
+    private long misses;
+
+    /**
+     * @param size          Total capacity in bytes.
+     * @param lineSize      Size of a cache line in bytes.
+     * @param associativity Number of ways per set.
+     */
+    CacheLevel(int size, int lineSize, int associativity) {
+        if (lineSize <= 0 || associativity <= 0 || size < lineSize * associativity) {
+            throw new IllegalArgumentException("Cache of " + size + " bytes cannot hold " + associativity
+                                                       + " ways of " + lineSize + " byte lines");
+        }
+        this.lineSize = lineSize;
+        this.associativity = associativity;
+        this.sets = size / (lineSize * associativity);
+        this.tags = new long[sets * associativity];
+        this.lastUse = new long[sets * associativity];
+        Arrays.fill(tags, EMPTY);
+    }
+
+    /**
+     * Looks up the line containing the given address and loads it on a miss, evicting the least recently
+     * used way of its set.
+     *
+     * @param address The byte address accessed.
+     * @return True on a hit, false on a miss.
+     */
+    boolean access(long address) {
+        long line = address / lineSize;
+        int base = (int) (line % sets) * associativity;
+        accesses++;
+        clock++;
+
+        int victim = base;
+        for (int way = base; way < base + associativity; way++) {
+            if (tags[way] == line) {
+                lastUse[way] = clock;
+                return true;
+            }
+            if (lastUse[way] < lastUse[victim]) {
+                victim = way;
+            }
+        }
+
+        misses++;
+        tags[victim] = line;
+        lastUse[victim] = clock;
+        return false;
+    }
+
+    long getAccesses() {
+        return accesses;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    int getLineSize() {
+        return lineSize;
+    }
+}
@@ -0,0 +1,116 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+/**
+ * Simulates a two level cache hierarchy (L1 backed by L2) for the memory accesses of a sorting algorithm.
+ * The sorted array is laid out as 4 byte ints starting at address 0, and an auxiliary array of the same
+ * length (e.g. the merge buffer of merge sort) directly after it. L1 misses are attributed to the element
+ * that caused them so that the hotspots can be shown on the rectangles.
+ */
+public final class CacheSimulator {
+
+    private static final int ELEMENT_SIZE = Integer.BYTES;
+
+    private final CacheLevel l1;
+    private final CacheLevel l2;
+
+    // L1 misses caused by accesses to each element of the sorted array
+    private final int[] missesByIndex;
+    private final int length;
+
+    private long reads;
+    private long writes;
+
+    /**
+     * @param length        The number of elements being sorted.
+     * @param l1Size        L1 capacity in bytes.
+     * @param l2Size        L2 capacity in bytes.
+     * @param lineSize      Line size in bytes, shared by both levels.
+     * @param associativity Number of ways per set, shared by both levels.
+     * @throws IllegalArgumentException If a level is too small for a single set.
+     */
+    public CacheSimulator(int length, int l1Size, int l2Size, int lineSize, int associativity) {
+        this.l1 = new CacheLevel(l1Size, lineSize, associativity);
+        this.l2 = new CacheLevel(l2Size, lineSize, associativity);
+        this.length = length;
+        this.missesByIndex = new int[length];
+    }
+
+    /**
+     * Records a read of an element of the sorted array.
+     *
+     * @param index The index of the element.
+     */
+    public void read(int index) {
+        reads++;
+        access((long) index * ELEMENT_SIZE, index);
+    }
+
+    /**
+     * Records a write of an element of the sorted array. Writes allocate lines like reads do.
+     *
+     * @param index The index of the element.
+     */
+    public void write(int index) {
+        writes++;
+        access((long) index * ELEMENT_SIZE, index);
+    }
+
+    /**
+     * Records an access to the auxiliary array placed after the sorted array.
+     *
+     * @param index The index in the auxiliary array.
+     * @param write True for a write, false for a read.
+     */
+    public void auxiliary(int index, boolean write) {
+        if (write) {
+            writes++;
+        } else {
+            reads++;
+        }
+        access((long) (length + index) * ELEMENT_SIZE, -1);
+    }
+
+    private void access(long address, int index) {
+        if (!l1.access(address)) {
+            if (index >= 0) {
+                missesByIndex[index]++;
+            }
+            l2.access(address);
+        }
+    }
+
+    /**
+     * @param index The index of an element of the sorted array.
+     * @return The number of L1 misses caused by accesses to that element.
+     */
+    public int getMisses(int index) {
+        return missesByIndex[index];
+    }
+
+    /**
+     * @return The highest number of L1 misses caused by a single element.
+     */
+    public int getMaxMisses() {
+        int max = 0;
+        for (int misses : missesByIndex) {
+            max = Math.max(max, misses);
+        }
+        return max;
+    }
+
+    /**
+     * @return A one line summary of the accesses and misses of both levels.
+     */
+    public String summary() {
+        long accesses = l1.getAccesses();
+        return String.format("cache: %d reads, %d writes, L1 misses %d (%.1f%%), L2 misses %d (%.1f%%), %d byte lines",
+                             reads, writes,
+                             l1.getMisses(), percent(l1.getMisses(), accesses),
+                             l2.getMisses(), percent(l2.getMisses(), l2.getAccesses()),
+                             l1.getLineSize());
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0 : 100.0 * part / total;
+    }
+}
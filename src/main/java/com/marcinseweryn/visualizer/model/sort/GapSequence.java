@@ -0,0 +1,129 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import java.util.Arrays;
+
+/**
+ * Gap sequences available for Shell sort. Each constant generates the gaps smaller than the input length
+ * in descending order, always ending with a gap of 1 so that the last pass is a plain insertion sort.
+ */
+public enum GapSequence {
+
+    // n/2, n/4, ..., 1 (Shell, 1959)
+    SHELL("Shell") {
+        @Override
+        int[] ascendingGaps(int n) {
+            int[] gaps = new int[32];
+            int count = 0;
+            for (int gap = n / 2; gap > 0; gap /= 2) {
+                gaps[count++] = gap;
+            }
+            int[] ascending = new int[count];
+            for (int i = 0; i < count; i++) {
+                ascending[i] = gaps[count - 1 - i];
+            }
+            return ascending;
+        }
+    },
+
+    // 1, 4, 13, 40, ... (3^k - 1) / 2, not greater than n / 3 (Knuth, 1973)
+    KNUTH("Knuth") {
+        @Override
+        int[] ascendingGaps(int n) {
+            int[] gaps = new int[32];
+            int count = 0;
+            for (long gap = 1; gap == 1 || gap <= n / 3; gap = 3 * gap + 1) {
+                gaps[count++] = (int) gap;
+            }
+            return Arrays.copyOf(gaps, count);
+        }
+    },
+
+    // 1, 8, 23, 77, 281, ... 4^k + 3 * 2^(k-1) + 1 (Sedgewick, 1982)
+    SEDGEWICK("Sedgewick") {
+        @Override
+        int[] ascendingGaps(int n) {
+            int[] gaps = new int[32];
+            int count = 0;
+            gaps[count++] = 1;
+            for (int k = 1; ; k++) {
+                long gap = (1L << (2 * k)) + 3L * (1L << (k - 1)) + 1;
+                if (gap >= n) {
+                    break;
+                }
+                gaps[count++] = (int) gap;
+            }
+            return Arrays.copyOf(gaps, count);
+        }
+    },
+
+    // 1, 4, 10, 23, 57, 132, 301, 701, then extended by a factor of 2.25 (Ciura, 2001)
+    CIURA("Ciura") {
+        @Override
+        int[] ascendingGaps(int n) {
+            int[] known = {1, 4, 10, 23, 57, 132, 301, 701};
+            int[] gaps = new int[48];
+            int count = 0;
+            for (int gap : known) {
+                if (count > 0 && gap >= n) {
+                    return Arrays.copyOf(gaps, count);
+                }
+                gaps[count++] = gap;
+            }
+            for (long gap = (long) (known[known.length - 1] * 2.25); gap < n; gap = (long) (gap * 2.25)) {
+                gaps[count++] = (int) gap;
+            }
+            return Arrays.copyOf(gaps, count);
+        }
+    },
+
+    // 1, 4, 9, 20, 46, 103, ... ceil((9 * (9/4)^k - 4) / 5) (Tokuda, 1992)
+    TOKUDA("Tokuda") {
+        @Override
+        int[] ascendingGaps(int n) {
+            int[] gaps = new int[48];
+            int count = 0;
+            for (int k = 0; ; k++) {
+                long gap = (long) Math.ceil((9 * Math.pow(9.0 / 4.0, k) - 4) / 5);
+                if (count > 0 && gap >= n) {
+                    break;
+                }
+                gaps[count++] = (int) gap;
+            }
+            return Arrays.copyOf(gaps, count);
+        }
+    };
+
+    private final String displayName;
+
+    GapSequence(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Generates the gaps used to sort an input of the given length, starting with 1.
+     *
+     * @param n The length of the input.
+     * @return The gaps in ascending order.
+     */
+    abstract int[] ascendingGaps(int n);
+
+    /**
+     * Returns the gaps used to sort an input of the given length, largest first.
+     *
+     * @param n The length of the input.
+     * @return The gaps in descending order, the last gap is always 1.
+     */
+    public int[] gaps(int n) {
+        int[] ascending = ascendingGaps(Math.max(n, 2));
+        int[] descending = new int[ascending.length];
+        for (int i = 0; i < ascending.length; i++) {
+            descending[i] = ascending[ascending.length - 1 - i];
+        }
+        return descending;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
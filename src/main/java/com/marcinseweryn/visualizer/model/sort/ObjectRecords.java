@@ -0,0 +1,67 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import java.util.Comparator;
+
+/**
+ * Array-of-objects record layout: one {@link SortRecord} per element, ordered by a {@link Comparator}.
+ * Every comparison dereferences two records and goes through the comparator call site.
+ *
+ * @param <T> The type of the payload.
+ */
+final class ObjectRecords<T> implements RecordArray<T> {
+
+    private final SortRecord<T>[] records;
+    private final Comparator<? super SortRecord<T>> comparator;
+
+    ObjectRecords(SortRecord<T>[] records, Comparator<? super SortRecord<T>> comparator) {
+        this.records = records;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public int size() {
+        return records.length;
+    }
+
+    @Override
+    public int keyAt(int index) {
+        return records[index].key();
+    }
+
+    @Override
+    public T payloadAt(int index) {
+        return records[index].payload();
+    }
+
+    @Override
+    public void sort() {
+        int n = records.length;
+        SortRecord<T>[] from = records;
+        SortRecord<T>[] to = records.clone();
+
+        for (int width = 1; width < n; width <<= 1) {
+            for (int left = 0; left < n; left += width << 1) {
+                int mid = Math.min(left + width, n);
+                int right = Math.min(left + (width << 1), n);
+
+                int i = left;
+                int j = mid;
+                int k = left;
+                while (i < mid && j < right) {
+                    // Taking from the left run on ties keeps the sort stable
+                    to[k++] = comparator.compare(from[i], from[j]) <= 0 ? from[i++] : from[j++];
+                }
+                System.arraycopy(from, i, to, k, mid - i);
+                System.arraycopy(from, j, to, k + mid - i, right - j);
+            }
+
+            SortRecord<T>[] swap = from;
+            from = to;
+            to = swap;
+        }
+
+        if (from != records) {
+            System.arraycopy(from, 0, records, 0, n);
+        }
+    }
+}
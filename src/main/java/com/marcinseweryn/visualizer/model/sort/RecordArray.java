@@ -0,0 +1,65 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import java.util.Comparator;
+
+/**
+ * An array of key/payload records that can be sorted stably by key.
+ * Two storage layouts are available so that their cost can be compared on the same algorithm:
+ * <ul>
+ *     <li>{@link #structOfArrays(int[], Object[])} keeps the keys in a primitive int[] next to a parallel payload
+ *     array, so comparisons read contiguous ints and never dereference a record.</li>
+ *     <li>{@link #objects(SortRecord[], Comparator)} keeps one {@link SortRecord} object per element and compares
+ *     them through a {@link Comparator}, which is how records are usually sorted in object oriented code.</li>
+ * </ul>
+ * Both layouts are sorted with the same bottom-up merge sort, so measured differences come from the layout alone.
+ *
+ * @param <T> The type of the payload.
+ */
+public interface RecordArray<T> {
+
+    /**
+     * Creates a structure-of-arrays layout over the given arrays, which are sorted in place.
+     *
+     * @param keys     The keys.
+     * @param payloads The payloads, payloads[i] belongs to keys[i].
+     * @param <T>      The type of the payload.
+     * @return The record array.
+     */
+    static <T> RecordArray<T> structOfArrays(int[] keys, T[] payloads) {
+        return new StructOfArraysRecords<>(keys, payloads);
+    }
+
+    /**
+     * Creates an array-of-objects layout over the given records, which are sorted in place.
+     *
+     * @param records    The records.
+     * @param comparator The order of the records, expected to compare by key.
+     * @param <T>        The type of the payload.
+     * @return The record array.
+     */
+    static <T> RecordArray<T> objects(SortRecord<T>[] records, Comparator<? super SortRecord<T>> comparator) {
+        return new ObjectRecords<>(records, comparator);
+    }
+
+    /**
+     * @return The number of records.
+     */
+    int size();
+
+    /**
+     * @param index The index of a record.
+     * @return The key of the record.
+     */
+    int keyAt(int index);
+
+    /**
+     * @param index The index of a record.
+     * @return The payload of the record.
+     */
+    T payloadAt(int index);
+
+    /**
+     * Sorts the records stably by key.
+     */
+    void sort();
+}
@@ -0,0 +1,168 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Loads sorting input from files without materializing intermediate Strings or boxed Integers.
+ * Text files (comma, semicolon or whitespace separated) are streamed through a direct {@link ByteBuffer}
+ * and parsed byte by byte, while raw little-endian int32 files are memory-mapped and read as an {@link IntBuffer}.
+ */
+public final class SortInputLoader {
+
+    private static final Logger logger = LogManager.getLogger(SortInputLoader.class);
+
+    // File extensions treated as raw little-endian int32 dumps, everything else is parsed as text
+    private static final String[] BINARY_EXTENSIONS = {".i32", ".bin"};
+
+    // Size of the read buffer used while streaming text files
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private SortInputLoader() {
+    }
+
+    /**
+     * Loads integers from the given file, choosing the binary or text format based on the file extension.
+     *
+     * @param path The file to load.
+     * @return The loaded values in file order.
+     * @throws IOException If the file cannot be read.
+     */
+    public static int[] load(Path path) throws IOException {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        for (String extension : BINARY_EXTENSIONS) {
+            if (fileName.endsWith(extension)) {
+                return loadInt32(path);
+            }
+        }
+        return loadCsv(path);
+    }
+
+    /**
+     * Parses a text file of integers separated by commas, semicolons or whitespace.
+     * Consecutive separators are collapsed, so trailing commas and blank lines are accepted.
+     *
+     * @param path The text file to parse.
+     * @return The parsed values in file order.
+     * @throws IOException           If the file cannot be read.
+     * @throws NumberFormatException If the file contains a malformed or out-of-range number.
+     */
+    public static int[] loadCsv(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // Rough guess of a few bytes per value, the array grows if the file is denser than that
+            long estimate = channel.size() / 4 + 16;
+            int[] values = new int[(int) Math.min(estimate, Integer.MAX_VALUE - 8)];
+            int count = 0;
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+            long offset = 0;       // absolute byte offset, used for error reporting
+            long value = 0;        // magnitude of the number being parsed
+            boolean negative = false;
+            boolean inNumber = false;
+            int digits = 0;
+
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+
+                    if (b >= '0' && b <= '9') {
+                        value = value * 10 + (b - '0');
+                        digits++;
+                        inNumber = true;
+                        if (value > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+                            throw new NumberFormatException("Value out of int range at byte " + offset);
+                        }
+                    } else if (b == '-' && !inNumber) {
+                        negative = true;
+                        inNumber = true;
+                    } else if (isSeparator(b)) {
+                        if (inNumber) {
+                            if (digits == 0) {
+                                throw new NumberFormatException("Missing digits at byte " + offset);
+                            }
+                            if (count == values.length) {
+                                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+                            }
+                            values[count++] = (int) (negative ? -value : value);
+                            value = 0;
+                            negative = false;
+                            inNumber = false;
+                            digits = 0;
+                        }
+                    } else {
+                        throw new NumberFormatException("Unexpected character '" + (char) b + "' at byte " + offset);
+                    }
+                    offset++;
+                }
+                buffer.clear();
+            }
+
+            // The last value does not have to be followed by a separator
+            if (inNumber) {
+                if (digits == 0) {
+                    throw new NumberFormatException("Missing digits at byte " + offset);
+                }
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, count + 1);
+                }
+                values[count++] = (int) (negative ? -value : value);
+            }
+
+            logger.info("Parsed {} values from text file {} ({} bytes).", count, path, offset);
+            return count == values.length ? values : Arrays.copyOf(values, count);
+        }
+    }
+
+    /**
+     * Loads a raw little-endian int32 file into an array through a memory-mapped view.
+     *
+     * @param path The binary file to load.
+     * @return The values stored in the file.
+     * @throws IOException If the file cannot be read or mapped.
+     */
+    public static int[] loadInt32(Path path) throws IOException {
+        IntBuffer view = mapInt32(path);
+        int[] values = new int[view.remaining()];
+        view.get(values);
+        logger.info("Loaded {} values from binary file {}.", values.length, path);
+        return values;
+    }
+
+    /**
+     * Maps a raw little-endian int32 file into memory and exposes it as a read-only {@link IntBuffer}.
+     * The mapping stays valid after this method returns, the backing channel is closed immediately.
+     *
+     * @param path The binary file to map.
+     * @return A read-only int view over the file contents.
+     * @throws IOException If the file cannot be opened or mapped.
+     */
+    public static IntBuffer mapInt32(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("Binary input size " + size + " is not a multiple of 4 bytes: " + path);
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Binary input is too large to be mapped at once: " + path);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asIntBuffer();
+        }
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ',' || b == ';' || b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+}
@@ -0,0 +1,170 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import java.util.Arrays;
+
+/**
+ * Reusable, allocation-light parser for the comma separated sort input typed by the user.
+ * The input is scanned character by character into an internal int buffer that is reused between calls,
+ * so parsing a keystroke does not create a String or a boxed Integer per token. Malformed tokens are not
+ * thrown as exceptions, they are skipped and their positions are recorded so the UI can report them inline.
+ */
+public final class SortInputParser {
+
+    // Only the first few malformed tokens are described, the rest are just counted
+    private static final int MAX_REPORTED_ERRORS = 3;
+
+    // Parsed values of the last call to parse, only the first size entries are meaningful
+    private int[] values = new int[16];
+    private int size;
+
+    // Positions [start, end) of the first malformed tokens and the total number of malformed tokens
+    private final int[] errorStarts = new int[MAX_REPORTED_ERRORS];
+    private final int[] errorEnds = new int[MAX_REPORTED_ERRORS];
+    private int errorCount;
+
+    /**
+     * Creates a parser with an empty result, the buffers grow on demand and are kept between calls.
+     */
+    public SortInputParser() {
+    }
+
+    /**
+     * Parses the given input, replacing the result of the previous call.
+     * Tokens are separated by commas or whitespace, empty tokens are ignored.
+     *
+     * @param input The text to parse.
+     * @return The number of valid values parsed.
+     */
+    public int parse(CharSequence input) {
+        size = 0;
+        errorCount = 0;
+
+        int length = input.length();
+        int i = 0;
+        while (i < length) {
+            // Skip separators
+            while (i < length && isSeparator(input.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+
+            int tokenStart = i;
+            while (i < length && !isSeparator(input.charAt(i))) {
+                i++;
+            }
+            parseToken(input, tokenStart, i);
+        }
+
+        return size;
+    }
+
+    /**
+     * Parses a single token and either appends its value or records it as malformed.
+     */
+    private void parseToken(CharSequence input, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        char first = input.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+
+        if (i == end) {
+            recordError(start, end);
+            return;
+        }
+
+        long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (; i < end; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                recordError(start, end);
+                return;
+            }
+            value = value * 10 + (c - '0');
+            if (value > limit) {
+                recordError(start, end);
+                return;
+            }
+        }
+
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = (int) (negative ? -value : value);
+    }
+
+    private void recordError(int start, int end) {
+        if (errorCount < MAX_REPORTED_ERRORS) {
+            errorStarts[errorCount] = start;
+            errorEnds[errorCount] = end;
+        }
+        errorCount++;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ',' || Character.isWhitespace(c);
+    }
+
+    /**
+     * Returns the value at the given position of the last parse.
+     *
+     * @param index The index of the value.
+     * @return The parsed value.
+     */
+    public int get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return The number of valid values produced by the last parse.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return A copy of the valid values produced by the last parse, trimmed to their count.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * @return True if the last parse encountered at least one malformed token.
+     */
+    public boolean hasErrors() {
+        return errorCount > 0;
+    }
+
+    /**
+     * Builds a short, human readable description of the malformed tokens found by the last parse.
+     * The description is only built on demand, so error-free keystrokes never allocate it.
+     *
+     * @param input The same input that was passed to {@link #parse(CharSequence)}.
+     * @return The description, or an empty String if there were no malformed tokens.
+     */
+    public String describeErrors(CharSequence input) {
+        if (errorCount == 0) {
+            return "";
+        }
+
+        StringBuilder description = new StringBuilder("Ignored invalid ");
+        description.append(errorCount == 1 ? "number: " : "numbers: ");
+        for (int e = 0; e < Math.min(errorCount, MAX_REPORTED_ERRORS); e++) {
+            if (e > 0) {
+                description.append(", ");
+            }
+            description.append('\'').append(input, errorStarts[e], errorEnds[e])
+                    .append("' at ").append(errorStarts[e]);
+        }
+        if (errorCount > MAX_REPORTED_ERRORS) {
+            description.append(" and ").append(errorCount - MAX_REPORTED_ERRORS).append(" more");
+        }
+        return description.toString();
+    }
+}
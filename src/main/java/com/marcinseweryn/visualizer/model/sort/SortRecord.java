@@ -0,0 +1,11 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+/**
+ * A record to be sorted: an int key and an arbitrary payload that travels with it.
+ *
+ * @param key     The sort key.
+ * @param payload The data carried along with the key.
+ * @param <T>     The type of the payload.
+ */
+public record SortRecord<T>(int key, T payload) {
+}
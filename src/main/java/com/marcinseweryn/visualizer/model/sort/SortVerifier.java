@@ -0,0 +1,168 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+/**
+ * Verifies the output of a sorting algorithm on primitive arrays only, so it can run headless on inputs of
+ * hundreds of millions of elements. The output is checked for sortedness, for being a permutation of the input
+ * and for stability in a single pass, using the origin tag (original index) of every output element.
+ * Independently of the output, the number of inversions of the input is counted in O(n log n) with a
+ * bottom-up merge, which relates the runtime of an algorithm to how presorted its input was.
+ */
+public final class SortVerifier {
+
+    private SortVerifier() {
+    }
+
+    /**
+     * Result of a verification.
+     *
+     * @param length            Number of verified elements.
+     * @param sorted            True if the output is in non-decreasing order.
+     * @param firstUnsorted     First index i with output[i - 1] > output[i], or -1.
+     * @param permutation       True if the origin tags describe a permutation of the input that yields the output.
+     * @param firstMismatch     First index whose value or origin does not match the input, or -1.
+     * @param stable            True if equal values kept their relative input order.
+     * @param firstUnstable     First index i where equal values at i - 1 and i are out of input order, or -1.
+     * @param inversions        Number of pairs i < j with input[i] > input[j].
+     */
+    public record Report(int length,
+                         boolean sorted, int firstUnsorted,
+                         boolean permutation, int firstMismatch,
+                         boolean stable, int firstUnstable,
+                         long inversions) {
+
+        /**
+         * @return The inversion count relative to the maximum n(n-1)/2, 0 for sorted and 1 for reversed input.
+         */
+        public double presortedness() {
+            long maxInversions = (long) length * (length - 1) / 2;
+            return maxInversions == 0 ? 0 : (double) inversions / maxInversions;
+        }
+    }
+
+    /**
+     * Verifies a sorted output against its input and counts the inversions of the input.
+     *
+     * @param input   The values before sorting, left unmodified.
+     * @param output  The values after sorting.
+     * @param origins For every output position, the index in the input the element came from.
+     * @return The verification report.
+     */
+    public static Report verify(int[] input, int[] output, int[] origins) {
+        if (input.length != output.length || output.length != origins.length) {
+            throw new IllegalArgumentException("Input, output and origins must have the same length");
+        }
+
+        int n = output.length;
+        int firstUnsorted = -1;
+        int firstMismatch = -1;
+        int firstUnstable = -1;
+
+        // Bitset of input positions already claimed by an output element
+        long[] seen = new long[(n + 63) >>> 6];
+
+        for (int i = 0; i < n; i++) {
+            int origin = origins[i];
+
+            if (firstMismatch == -1) {
+                if (origin < 0 || origin >= n || (seen[origin >>> 6] & (1L << origin)) != 0
+                        || input[origin] != output[i]) {
+                    firstMismatch = i;
+                } else {
+                    seen[origin >>> 6] |= 1L << origin;
+                }
+            }
+
+            if (i > 0) {
+                if (firstUnsorted == -1 && output[i - 1] > output[i]) {
+                    firstUnsorted = i;
+                }
+                if (firstUnstable == -1 && output[i - 1] == output[i] && origins[i - 1] > origin) {
+                    firstUnstable = i;
+                }
+            }
+        }
+
+        return new Report(n,
+                          firstUnsorted == -1, firstUnsorted,
+                          firstMismatch == -1, firstMismatch,
+                          firstUnstable == -1, firstUnstable,
+                          countInversions(input));
+    }
+
+    /**
+     * Returns the first index i with values[i - 1] > values[i], or -1 if the values are sorted.
+     *
+     * @param values The values to check.
+     * @return The first index violating the order, or -1.
+     */
+    public static int firstUnsortedIndex(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i - 1] > values[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Counts pairs i < j with values[i] > values[j] without modifying the given array.
+     *
+     * @param values The values to inspect.
+     * @return The number of inversions.
+     */
+    public static long countInversions(int[] values) {
+        int[] work = values.clone();
+        return countInversionsInPlace(work, new int[work.length]);
+    }
+
+    /**
+     * Counts the inversions of the work array with an iterative bottom-up merge sort, leaving it sorted.
+     * Useful when the caller can afford to destroy its copy and wants to control both allocations.
+     *
+     * @param work    The values to inspect, sorted on return.
+     * @param scratch A buffer at least as long as work.
+     * @return The number of inversions.
+     */
+    public static long countInversionsInPlace(int[] work, int[] scratch) {
+        int n = work.length;
+        long inversions = 0;
+
+        int[] from = work;
+        int[] to = scratch;
+
+        for (int width = 1; width < n; width <<= 1) {
+            for (int left = 0; left < n; left += width << 1) {
+                int mid = Math.min(left + width, n);
+                int right = Math.min(left + (width << 1), n);
+
+                int i = left;
+                int j = mid;
+                int k = left;
+                while (i < mid && j < right) {
+                    if (from[i] <= from[j]) {
+                        to[k++] = from[i++];
+                    } else {
+                        // Every remaining element of the left run is greater than from[j]
+                        inversions += mid - i;
+                        to[k++] = from[j++];
+                    }
+                }
+                while (i < mid) {
+                    to[k++] = from[i++];
+                }
+                while (j < right) {
+                    to[k++] = from[j++];
+                }
+            }
+
+            int[] swap = from;
+            from = to;
+            to = swap;
+        }
+
+        if (from != work) {
+            System.arraycopy(from, 0, work, 0, n);
+        }
+        return inversions;
+    }
+}
@@ -3,13 +3,14 @@ package com.marcinseweryn.visualizer.model.sort;
 import com.marcinseweryn.visualizer.model.Algorithm;
 import com.marcinseweryn.visualizer.view.SortingRectangles;
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.VBox;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -26,7 +27,19 @@ public abstract class SortingAlgorithm extends Algorithm {
     protected final SortingRectangles sortingRectangles;
 
     //  list that will be used to follow algorithm logic, original remain the same
-    protected final ArrayList<Integer> sortedList;
+    protected final int[] sortedList;
+
+    // Origin tag of every element in sortedList (its index in the input), used to verify stability
+    protected final int[] origins;
+
+    // Snapshot of the input, the rectangles may be edited while the algorithm runs
+    private final int[] input;
+
+    // Observable list of statistics lines reported by the algorithm (e.g. comparisons per pass)
+    protected final ObservableList<String> statistics = FXCollections.observableArrayList();
+
+    // Optional cache model fed with every read and write index, null when cache simulation is disabled
+    private CacheSimulator cacheSimulator;
 
     /**
      * Constructor for initializing a SortingAlgorithm instance with the pseudocode list and sorting rectangles.
@@ -37,10 +50,148 @@ public abstract class SortingAlgorithm extends Algorithm {
     protected SortingAlgorithm(ListView<String> pseudocodeList, SortingRectangles sortingRectangles) {
         super(pseudocodeList);
         this.sortingRectangles = sortingRectangles;
-        this.sortedList = new ArrayList<>(sortingRectangles.getUnsortedList());
+        int[] unsortedList = sortingRectangles.getUnsortedList();
+        this.input = unsortedList.clone();
+        this.sortedList = unsortedList.clone();
+        this.origins = new int[unsortedList.length];
+        for (int i = 0; i < unsortedList.length; i++) {
+            this.origins[i] = i;
+        }
         logger.debug("Initialized SortingAlgorithm with pseudocodeList and sortingRectangles.");
     }
 
+    /**
+     * Starts the algorithm and verifies its output once it has finished.
+     *
+     * @param continuousMode If true, the algorithm will run continuously without pauses.
+     */
+    @Override
+    public void start(boolean continuousMode) {
+        super.start(continuousMode);
+        if (Thread.currentThread().isInterrupted()) {
+            logger.debug("Execution was interrupted, skipping verification.");
+            return;
+        }
+
+        // The logical list is updated on the FX thread, verify after all pending updates were applied
+        Platform.runLater(this::verify);
+
+        if (cacheSimulator != null) {
+            reportStatistic(cacheSimulator.summary());
+            Platform.runLater(this::showCacheHotspots);
+        }
+    }
+
+    /**
+     * Enables the cache simulation for the next execution. Every index read or written through
+     * {@link #read(int)}, {@link #swapWithAnimation(int, int)}, {@link #setWithAnimation(int, int, int)}
+     * and {@link #recordAuxiliaryAccess(int, boolean)} is sent through the given cache model.
+     *
+     * @param cacheSimulator The cache model, or null to disable the simulation.
+     */
+    public void setCacheSimulator(CacheSimulator cacheSimulator) {
+        this.cacheSimulator = cacheSimulator;
+    }
+
+    /**
+     * Reads the element at the given index of the logical list, recording the access in the cache model.
+     *
+     * @param index The index to read.
+     * @return The value at the index.
+     */
+    protected int read(int index) {
+        if (cacheSimulator != null) {
+            cacheSimulator.read(index);
+        }
+        return sortedList[index];
+    }
+
+    /**
+     * Records an access to an auxiliary array of the same length as the sorted list, e.g. a merge buffer.
+     *
+     * @param index The index in the auxiliary array.
+     * @param write True for a write, false for a read.
+     */
+    protected void recordAuxiliaryAccess(int index, boolean write) {
+        if (cacheSimulator != null) {
+            cacheSimulator.auxiliary(index, write);
+        }
+    }
+
+    private void recordWrite(int index) {
+        if (cacheSimulator != null) {
+            cacheSimulator.write(index);
+        }
+    }
+
+    /**
+     * Colors every rectangle by the number of L1 misses its element caused, relative to the worst element.
+     */
+    private void showCacheHotspots() {
+        int maxMisses = cacheSimulator.getMaxMisses();
+        if (maxMisses == 0) {
+            return;
+        }
+
+        for (int i = 0; i < sortedList.length; i++) {
+            double heat = (double) cacheSimulator.getMisses(i) / maxMisses;
+            setRectangleStyle(i, heat > 0.66 ? "cache-miss-high" : heat > 0.33 ? "cache-miss-medium" : "cache-miss-low");
+        }
+    }
+
+    /**
+     * The sampled view is only redrawn once the algorithm has finished, so its steps are not delayed.
+     */
+    @Override
+    protected boolean isAnimated() {
+        return !sortingRectangles.isSampled();
+    }
+
+    /**
+     * Verifies that the output is a sorted, stable permutation of the input and reports the result
+     * together with the inversion count of the input.
+     */
+    protected void verify() {
+        SortVerifier.Report report = SortVerifier.verify(input, sortedList, origins);
+        if (sortingRectangles.isSampled()) {
+            // The sampled view is not updated per step, show the final order at once
+            sortingRectangles.redraw(sortedList);
+        }
+
+        if (!report.permutation()) {
+            logger.error("Output is not a permutation of the input, first mismatch at index {}", report.firstMismatch());
+            reportStatistic("verification: output does not match input at index " + report.firstMismatch());
+        } else if (!report.sorted()) {
+            logger.error("Output is not sorted, first violation at index {}", report.firstUnsorted());
+            reportStatistic("verification: not sorted at index " + report.firstUnsorted());
+        } else {
+            reportStatistic("verification: sorted, " + (report.stable()
+                    ? "stable"
+                    : "not stable (first at index " + report.firstUnstable() + ")"));
+        }
+        reportStatistic(String.format("input inversions: %d (%.1f%% of maximum)",
+                                      report.inversions(), report.presortedness() * 100));
+    }
+
+    /**
+     * Binds the given ListView to the statistics reported by this algorithm.
+     *
+     * @param statisticsList The ListView displaying algorithm statistics.
+     */
+    public void bindStatisticsList(ListView<String> statisticsList) {
+        Platform.runLater(() -> statisticsList.setItems(statistics));
+    }
+
+    /**
+     * Appends a line to the statistics displayed for this algorithm.
+     *
+     * @param line The statistics line to display.
+     */
+    protected void reportStatistic(String line) {
+        logger.info("{}: {}", getClass().getSimpleName(), line);
+        Platform.runLater(() -> statistics.add(line));
+    }
+
     /**
      * Performs a swap animation between two elements at specified indices.
      *
@@ -49,6 +200,12 @@ public abstract class SortingAlgorithm extends Algorithm {
      */
     protected void swapWithAnimation(int i, int j) {
         logger.debug("Executing swap animation between elements at indices {} and {}", i, j);
+        if (cacheSimulator != null) {
+            cacheSimulator.read(i);
+            cacheSimulator.read(j);
+            cacheSimulator.write(i);
+            cacheSimulator.write(j);
+        }
         Platform.runLater(() -> swap(sortingRectangles.getChildren(), i, j));
     }
 
@@ -76,6 +233,31 @@ public abstract class SortingAlgorithm extends Algorithm {
         });
     }
 
+    /**
+     * Colors the rectangles by the interleaved sub-sequence they belong to for the given gap,
+     * alternating between two styles so that neighbouring sub-sequences can be told apart.
+     *
+     * @param gap The distance between elements of the same sub-sequence.
+     */
+    protected void setInterleavedStyle(int gap) {
+        int size = sortedList.length;
+        Platform.runLater(() -> {
+            for (int i = 0; i < size; i++) {
+                setRectangleStyle(i, (i % gap) % 2 == 0 ? "left" : "right");
+            }
+        });
+    }
+
+    /**
+     * Restores the interleaved sub-sequence style of a single rectangle, see {@link #setInterleavedStyle(int)}.
+     *
+     * @param index The index of the rectangle.
+     * @param gap   The distance between elements of the same sub-sequence.
+     */
+    protected void setInterleavedStyle(int index, int gap) {
+        Platform.runLater(() -> setRectangleStyle(index, (index % gap) % 2 == 0 ? "left" : "right"));
+    }
+
     /**
      * Resets the style of a rectangle at the specified index.
      *
@@ -103,6 +285,9 @@ public abstract class SortingAlgorithm extends Algorithm {
      * @param style The CSS style class to apply.
      */
     public void setRectangleStyle(int index, String style) {
+        if (sortingRectangles.isSampled()) {
+            return;
+        }
         sortingRectangles.removeStyles(index);
         sortingRectangles.getChildren().get(index).getStyleClass().add(style);
 
@@ -118,26 +303,52 @@ public abstract class SortingAlgorithm extends Algorithm {
      */
     private void swap(List<Node> sortedList, int i, int j) {
         logger.debug("Swapping elements at indices {} and {}", i, j);
-        Node tempI = sortedList.get(i);
-        Node tempJ = sortedList.get(j);
-        sortedList.set(i, new VBox());  // Temporary VBox used to hold the position
-        sortedList.set(j, new VBox());
-        sortedList.set(i, tempJ);
-        sortedList.set(j, tempI);
+        if (!sortingRectangles.isSampled()) {
+            Node tempI = sortedList.get(i);
+            Node tempJ = sortedList.get(j);
+            sortedList.set(i, new VBox());  // Temporary VBox used to hold the position
+            sortedList.set(j, new VBox());
+            sortedList.set(i, tempJ);
+            sortedList.set(j, tempI);
+        }
 
         // swap in logical list
-        Integer temp = this.sortedList.get(i);
-        this.sortedList.set(i, this.sortedList.get(j));
-        this.sortedList.set(j, temp);
+        int temp = this.sortedList[i];
+        this.sortedList[i] = this.sortedList[j];
+        this.sortedList[j] = temp;
+
+        int tempOrigin = this.origins[i];
+        this.origins[i] = this.origins[j];
+        this.origins[j] = tempOrigin;
 
         logger.debug("Swap completed between indices {} and {}", i, j);
     }
 
-    protected void setWithAnimation(int k, int value) {
+    /**
+     * Writes a value to the specified index and replaces its rectangle.
+     *
+     * @param k      The index to write.
+     * @param value  The value to write.
+     * @param origin The origin tag of the written element, see {@link #originAt(int)}.
+     */
+    protected void setWithAnimation(int k, int value, int origin) {
+        recordWrite(k);
         Platform.runLater(() -> {
-            sortedList.set(k, value);
+            sortedList[k] = value;
+            origins[k] = origin;
             sortingRectangles.setRectangle(k, value);
         });
     }
 
+    /**
+     * Returns the origin tag of the element currently at the given index, i.e. its index in the input.
+     * Algorithms that move elements with {@link #setWithAnimation(int, int, int)} carry this tag along.
+     *
+     * @param index The index of the element.
+     * @return The index of the element in the input.
+     */
+    protected int originAt(int index) {
+        return origins[index];
+    }
+
 }
@@ -0,0 +1,81 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+/**
+ * Structure-of-arrays record layout: primitive keys with a parallel payload array.
+ * The merge compares ints directly and only moves the payload references along with them.
+ *
+ * @param <T> The type of the payload.
+ */
+final class StructOfArraysRecords<T> implements RecordArray<T> {
+
+    private final int[] keys;
+    private final Object[] payloads;
+
+    StructOfArraysRecords(int[] keys, T[] payloads) {
+        if (keys.length != payloads.length) {
+            throw new IllegalArgumentException("Keys and payloads must have the same length");
+        }
+        this.keys = keys;
+        this.payloads = payloads;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public int keyAt(int index) {
+        return keys[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T payloadAt(int index) {
+        return (T) payloads[index];
+    }
+
+    @Override
+    public void sort() {
+        int n = keys.length;
+        int[] fromKeys = keys;
+        Object[] fromPayloads = payloads;
+        int[] toKeys = new int[n];
+        Object[] toPayloads = new Object[n];
+
+        for (int width = 1; width < n; width <<= 1) {
+            for (int left = 0; left < n; left += width << 1) {
+                int mid = Math.min(left + width, n);
+                int right = Math.min(left + (width << 1), n);
+
+                int i = left;
+                int j = mid;
+                int k = left;
+                while (i < mid && j < right) {
+                    // Taking from the left run on ties keeps the sort stable
+                    int from = fromKeys[i] <= fromKeys[j] ? i++ : j++;
+                    toKeys[k] = fromKeys[from];
+                    toPayloads[k++] = fromPayloads[from];
+                }
+                int remaining = mid - i;
+                System.arraycopy(fromKeys, i, toKeys, k, remaining);
+                System.arraycopy(fromPayloads, i, toPayloads, k, remaining);
+                k += remaining;
+                System.arraycopy(fromKeys, j, toKeys, k, right - j);
+                System.arraycopy(fromPayloads, j, toPayloads, k, right - j);
+            }
+
+            int[] swapKeys = fromKeys;
+            fromKeys = toKeys;
+            toKeys = swapKeys;
+            Object[] swapPayloads = fromPayloads;
+            fromPayloads = toPayloads;
+            toPayloads = swapPayloads;
+        }
+
+        if (fromKeys != keys) {
+            System.arraycopy(fromKeys, 0, keys, 0, n);
+            System.arraycopy(fromPayloads, 0, payloads, 0, n);
+        }
+    }
+}
@@ -36,17 +36,17 @@ public class BubbleSort extends SortingAlgorithm {
         pauseAtStep(0);  // Initial step, visual preparation
         pauseAtStep(1);  // Beginning of the outer loop
 
-        for (int i = 0; i < sortedList.size() - 1; i++) {
+        for (int i = 0; i < sortedList.length - 1; i++) {
             logger.debug("Outer loop iteration i = {}", i);
             pauseAtStep(2);  // Outer loop logic
 
-            for (int j = 0; j < sortedList.size() - i - 1; j++) {
+            for (int j = 0; j < sortedList.length - i - 1; j++) {
                 logger.debug("Comparing elements at indices {} and {}", j, j + 1);
                 setComparisonStyle(j);
                 setComparisonStyle(j + 1);
                 pauseAtStep(3);  // Comparison step
 
-                if (sortedList.get(j) > sortedList.get(j + 1)) {
+                if (read(j) > read(j + 1)) {
                     logger.debug("Swapping elements at indices {} and {}", j, j + 1);
                     pauseAtStep(4);  // Swap step
                     swapWithAnimation(j, j + 1);  // Perform the swap with animation
@@ -58,8 +58,8 @@ public class BubbleSort extends SortingAlgorithm {
             }
 
             // Mark the element at the end of the current pass as sorted
-            setSorted(sortedList.size() - i - 1);
-            logger.debug("Element at index {} marked as sorted.", sortedList.size() - i - 1);
+            setSorted(sortedList.length - i - 1);
+            logger.debug("Element at index {} marked as sorted.", sortedList.length - i - 1);
         }
 
         // Mark the first element as sorted after the final pass
@@ -36,11 +36,12 @@ public class InsertionSort extends SortingAlgorithm {
         pauseAtStep(0); // Initial step, visual preparation
 
         pauseAtStep(1); // Outer loop iterating through the unsorted portion of the array
-        for (int i = 1; i < sortedList.size(); i++) {
+        for (int i = 1; i < sortedList.length; i++) {
             pauseAtStep(2);
             setComparisonStyle(i);  // Highlight the current element being compared
 
-            int key = sortedList.get(i);  // Store the key value to be inserted
+            int key = read(i);  // Store the key value to be inserted
+            int keyOrigin = originAt(i);
             logger.debug("Outer loop iteration i = {}, key = {}", i, key);
             pauseAtStep(3);
 
@@ -48,12 +49,12 @@ public class InsertionSort extends SortingAlgorithm {
 
             // Shifting elements greater than key to the right
             pauseAtStep(4);
-            while (j >= 0 && sortedList.get(j) > key) {
+            while (j >= 0 && read(j) > key) {
                 logger.debug("Shifting element at index {} to index {}", j, j + 1);
                 setComparisonStyle(j);  // Highlight the element being shifted
 
                 pauseAtStep(5);
-                setWithAnimation(j + 1, sortedList.get(j));  // Visualize the shift
+                setWithAnimation(j + 1, read(j), originAt(j));  // Visualize the shift
                 resetRectangleStyle(j);  // Reset the style for the current comparison
 
                 pauseAtStep(6);
@@ -62,13 +63,13 @@ public class InsertionSort extends SortingAlgorithm {
 
             // Insert the key at its correct position
             pauseAtStep(7);
-            setWithAnimation(j + 1, key);  // Place the key in its correct position
+            setWithAnimation(j + 1, key, keyOrigin);  // Place the key in its correct position
             logger.debug("Inserting key = {} at index {}", key, j + 1);
             resetRectangleStyle(i);  // Reset the style of the inserted key for the next iteration
         }
 
         // After sorting is complete, mark all elements as sorted
-        for (int k = 0; k < sortedList.size(); k++) {
+        for (int k = 0; k < sortedList.length; k++) {
             setSorted(k);
         }
 
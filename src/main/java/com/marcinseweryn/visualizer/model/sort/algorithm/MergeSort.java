@@ -19,7 +19,7 @@ public class MergeSort extends SortingAlgorithm {
     public void executeAlgorithm() {
         logger.info("Starting MergeSort execution.");
         pauseAtStep(0);
-        sort(0, sortedList.size() - 1);
+        sort(0, sortedList.length - 1);
         logger.info("MergeSort execution completed.");
     }
 
@@ -52,6 +52,8 @@ public class MergeSort extends SortingAlgorithm {
 
         int[] leftArr = new int[length1];
         int[] rightArr = new int[length2];
+        int[] leftOrigins = new int[length1];
+        int[] rightOrigins = new int[length2];
 
         setComparisonStyle(left, mid, right);  // Animate the division
 
@@ -59,14 +61,18 @@ public class MergeSort extends SortingAlgorithm {
 
         // Copy data to temporary arrays
         for (int i = 0; i < length1; i++) {
-            leftArr[i] = sortedList.get(left + i);
+            leftArr[i] = read(left + i);
+            recordAuxiliaryAccess(left + i, true);
+            leftOrigins[i] = originAt(left + i);
             logger.trace("Copied element to leftArr[{}] = {}", i, leftArr[i]);
         }
 
         pauseAtStep(10);
 
         for (int i = 0; i < length2; i++) {
-            rightArr[i] = sortedList.get(mid + 1 + i);
+            rightArr[i] = read(mid + 1 + i);
+            recordAuxiliaryAccess(mid + 1 + i, true);
+            rightOrigins[i] = originAt(mid + 1 + i);
             logger.trace("Copied element to rightArr[{}] = {}", i, rightArr[i]);
         }
 
@@ -77,17 +83,19 @@ public class MergeSort extends SortingAlgorithm {
         // Merge the temporary arrays back into the original array
         while (i < length1 && j < length2) {
             pauseAtStep(13);
+            recordAuxiliaryAccess(left + i, false);
+            recordAuxiliaryAccess(mid + 1 + j, false);
             if (leftArr[i] <= rightArr[j]) {
                 logger.debug("Placing leftArr[{}] = {} into sortedList[{}]", i, leftArr[i], k);
                 pauseAtStep(15);
-                setWithAnimation(k, leftArr[i]);
+                setWithAnimation(k, leftArr[i], leftOrigins[i]);
                 setSorted(k);
                 pauseAtStep(16);
                 i++;
             } else {
                 logger.debug("Placing rightArr[{}] = {} into sortedList[{}]", j, rightArr[j], k);
                 pauseAtStep(18);
-                setWithAnimation(k, rightArr[j]);
+                setWithAnimation(k, rightArr[j], rightOrigins[j]);
                 setSorted(k);
                 pauseAtStep(19);
                 j++;
@@ -101,7 +109,8 @@ public class MergeSort extends SortingAlgorithm {
         while (i < length1) {
             logger.debug("Copying remaining leftArr[{}] = {} into sortedList[{}]", i, leftArr[i], k);
             pauseAtStep(22);
-            setWithAnimation(k, leftArr[i]);
+            recordAuxiliaryAccess(left + i, false);
+            setWithAnimation(k, leftArr[i], leftOrigins[i]);
             setSorted(k);
             pauseAtStep(23);
             i++;
@@ -113,7 +122,8 @@ public class MergeSort extends SortingAlgorithm {
         while (j < length2) {
             logger.debug("Copying remaining rightArr[{}] = {} into sortedList[{}]", j, rightArr[j], k);
             pauseAtStep(25);
-            setWithAnimation(k, rightArr[j]);
+            recordAuxiliaryAccess(mid + 1 + j, false);
+            setWithAnimation(k, rightArr[j], rightOrigins[j]);
             setSorted(k);
             pauseAtStep(26);
             j++;
@@ -34,11 +34,11 @@ public class QuickSort extends SortingAlgorithm {
     public void executeAlgorithm() {
         logger.info("Executing QuickSort algorithm.");
         pauseAtStep(0);  // Initial step
-        sort(0, sortedList.size() - 1);
+        sort(0, sortedList.length - 1);
 
         // Mark all rectangles as sorted after the algorithm finishes
         logger.debug("Marking all elements as sorted.");
-        for (int i = 0; i < sortedList.size(); i++) {
+        for (int i = 0; i < sortedList.length; i++) {
             setSorted(i);
         }
         logger.info("QuickSort execution completed.");
@@ -84,7 +84,7 @@ public class QuickSort extends SortingAlgorithm {
         pauseAtStep(6);
 
         // Set the pivot as the last element in the array
-        int pivot = sortedList.get(right);
+        int pivot = read(right);
         logger.debug("Pivot selected: {} at index {}", pivot, right);
         setRectangleStyle(right, "pivot");
 
@@ -100,8 +100,8 @@ public class QuickSort extends SortingAlgorithm {
 
             // If current element is smaller than or equal to pivot, swap it with the element at i
             pauseAtStep(9);
-            if (sortedList.get(j) < pivot) {
-                logger.debug("Element {} at index {} is less than pivot, swapping with index {}", sortedList.get(j), j, i + 1);
+            if (read(j) < pivot) {
+                logger.debug("Element {} at index {} is less than pivot, swapping with index {}", sortedList[j], j, i + 1);
                 pauseAtStep(10);
 
                 i++;  // Increment index of smaller element
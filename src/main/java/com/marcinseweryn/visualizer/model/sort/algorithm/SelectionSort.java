@@ -36,18 +36,18 @@ public class SelectionSort extends SortingAlgorithm {
         pauseAtStep(0);  // Initial step, visual preparation
         pauseAtStep(1);  // Beginning of the outer loop
 
-        for (int i = 0; i < sortedList.size() - 1; i++) {
+        for (int i = 0; i < sortedList.length - 1; i++) {
             logger.debug("Outer loop iteration i = {}", i);
             pauseAtStep(2);  // Outer loop logic
 
             int minIndex = i;
-            for (int j = i + 1; j < sortedList.size(); j++) {
+            for (int j = i + 1; j < sortedList.length; j++) {
                 setComparisonStyle(minIndex);
                 setComparisonStyle(j);
                 logger.debug("Comparing elements at indices {} and {}", minIndex, j);
                 pauseAtStep(3);  // Comparison step
 
-                if (sortedList.get(j) < sortedList.get(minIndex)) {
+                if (read(j) < read(minIndex)) {
                     logger.debug("New minimum found at index {}", j);
                     resetRectangleStyle(minIndex);
                     minIndex = j;
@@ -68,7 +68,7 @@ public class SelectionSort extends SortingAlgorithm {
             logger.debug("Element at index {} marked as sorted.", i);
         }
 
-        setSorted(sortedList.size() - 1);
+        setSorted(sortedList.length - 1);
         logger.debug("All elements sorted.");
     }
 
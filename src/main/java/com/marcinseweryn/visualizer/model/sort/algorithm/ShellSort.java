@@ -0,0 +1,161 @@
+package com.marcinseweryn.visualizer.model.sort.algorithm;
+
+import com.marcinseweryn.visualizer.model.sort.GapSequence;
+import com.marcinseweryn.visualizer.model.sort.SortingAlgorithm;
+import com.marcinseweryn.visualizer.view.SortingRectangles;
+import javafx.scene.control.ListView;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of the Shell Sort algorithm with a selectable {@link GapSequence}.
+ * This class extends {@link SortingAlgorithm} and visualizes every gap pass as interleaved sub-sequences
+ * that are insertion sorted independently. Comparisons and moves are counted per pass and reported as statistics.
+ */
+public class ShellSort extends SortingAlgorithm {
+
+    private static final Logger logger = LogManager.getLogger(ShellSort.class);
+
+    // Gap sequence used to split the array into interleaved sub-sequences
+    private GapSequence gapSequence = GapSequence.CIURA;
+
+    /**
+     * Constructor for initializing the ShellSort algorithm with the necessary UI components.
+     *
+     * @param pseudocodeList    ListView for displaying the pseudocode steps.
+     * @param sortingRectangles Visual representation of the sorting rectangles.
+     */
+    public ShellSort(ListView<String> pseudocodeList, SortingRectangles sortingRectangles) {
+        super(pseudocodeList, sortingRectangles);
+        logger.debug("ShellSort algorithm initialized.");
+    }
+
+    /**
+     * Sets the gap sequence used by the next execution.
+     *
+     * @param gapSequence The gap sequence to use.
+     */
+    public void setGapSequence(GapSequence gapSequence) {
+        this.gapSequence = gapSequence;
+    }
+
+    /**
+     * Executes the Shell Sort algorithm with step-by-step visualization.
+     * Each gap pass insertion sorts the sub-sequences of elements that are gap positions apart.
+     */
+    @Override
+    public void executeAlgorithm() {
+        int[] gaps = gapSequence.gaps(sortedList.length);
+        logger.info("Executing ShellSort algorithm with {} gaps {}.", gapSequence, Arrays.toString(gaps));
+        reportStatistic(gapSequence + " gaps: " + Arrays.toString(gaps));
+
+        long totalComparisons = 0;
+        long totalMoves = 0;
+
+        pauseAtStep(0);  // Initial step, visual preparation
+        for (int gap : gaps) {
+            pauseAtStep(1);  // Next gap pass
+            setInterleavedStyle(gap);
+            logger.debug("Starting pass with gap {}", gap);
+
+            long comparisons = 0;
+            long moves = 0;
+
+            pauseAtStep(2);
+            for (int i = gap; i < sortedList.length; i++) {
+                pauseAtStep(3);
+                setComparisonStyle(i);  // Highlight the element being inserted into its sub-sequence
+                int temp = read(i);
+                int tempOrigin = originAt(i);
+
+                pauseAtStep(4);
+                int j = i;
+
+                pauseAtStep(5);
+                while (j >= gap) {
+                    comparisons++;
+                    if (read(j - gap) <= temp) {
+                        break;
+                    }
+
+                    logger.debug("Moving element at index {} to index {}", j - gap, j);
+                    setComparisonStyle(j - gap);
+
+                    pauseAtStep(6);
+                    setWithAnimation(j, read(j - gap), originAt(j - gap));
+                    setInterleavedStyle(j - gap, gap);
+                    moves++;
+
+                    pauseAtStep(7);
+                    j -= gap;
+                }
+
+                pauseAtStep(8);
+                if (j != i) {
+                    setWithAnimation(j, temp, tempOrigin);
+                    moves++;
+                }
+                logger.debug("Inserted {} at index {} for gap {}", temp, j, gap);
+                setInterleavedStyle(i, gap);
+            }
+
+            totalComparisons += comparisons;
+            totalMoves += moves;
+            reportStatistic("gap " + gap + ": " + comparisons + " comparisons, " + moves + " moves");
+
+            for (int k = 0; k < sortedList.length; k++) {
+                resetRectangleStyle(k);
+            }
+        }
+
+        reportStatistic("total: " + totalComparisons + " comparisons, " + totalMoves + " moves");
+
+        // After sorting is complete, mark all elements as sorted
+        for (int k = 0; k < sortedList.length; k++) {
+            setSorted(k);
+        }
+
+        logger.debug("All elements sorted.");
+    }
+
+    /**
+     * Sorts the given array in place with the same gap passes as {@link #executeAlgorithm()}, without visualization.
+     *
+     * @param values      The array to sort.
+     * @param gapSequence The gap sequence to use.
+     */
+    public static void sort(int[] values, GapSequence gapSequence) {
+        for (int gap : gapSequence.gaps(values.length)) {
+            for (int i = gap; i < values.length; i++) {
+                int temp = values[i];
+                int j = i;
+                while (j >= gap && values[j - gap] > temp) {
+                    values[j] = values[j - gap];
+                    j -= gap;
+                }
+                values[j] = temp;
+            }
+        }
+    }
+
+    /**
+     * Sets the pseudocode for the Shell Sort algorithm.
+     * The pseudocode outlines the steps of the algorithm for display in the UI.
+     */
+    @Override
+    public void setPseudocode() {
+        this.pseudocode.addAll(
+                "shellSort(arr[], gaps[]):",
+                "\tfor each gap in gaps, largest first:",
+                "\t\tfor i from gap to length of arr:",
+                "\t\t\ttemp = arr[i]",
+                "\t\t\tj = i",
+                "\t\t\twhile j >= gap and arr[j - gap] > temp:",
+                "\t\t\t\tarr[j] = arr[j - gap]",
+                "\t\t\t\tj -= gap",
+                "\t\t\tarr[j] = temp"
+        );
+    }
+}
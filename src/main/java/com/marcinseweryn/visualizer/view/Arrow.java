@@ -1,5 +1,6 @@
 package com.marcinseweryn.visualizer.view;
 
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.scene.Group;
 import javafx.scene.shape.Polyline;
@@ -150,6 +151,14 @@ public class Arrow extends Group {
         this.headB.setVisible(headBVisible);
     }
 
+    public BooleanProperty headAVisibleProperty() {
+        return this.headA.visibleProperty();
+    }
+
+    public BooleanProperty headBVisibleProperty() {
+        return this.headB.visibleProperty();
+    }
+
     // Getters and property methods for the coordinates
     public double getX1() {
         return x1.get();
@@ -12,6 +12,9 @@ import javafx.scene.layout.HBox;
  */
 public class Edge extends PaneArrow {
 
+    // Style classes describing the state of the edge in an algorithm
+    private static final String[] STATE_CLASSES = {"path", "mst-accepted", "mst-rejected", "flow", "saturated", "min-cut"};
+
     // The two nodes that this edge connects
     private final GraphNode nodeA;
     private final GraphNode nodeB;
@@ -24,6 +27,9 @@ public class Edge extends PaneArrow {
     private final BooleanProperty weightVisible = new SimpleBooleanProperty(true);
     private final BooleanProperty distanceVisible = new SimpleBooleanProperty(false);
 
+    // Flow shown by flow algorithms, the label is hidden while it is empty
+    private final StringProperty flow = new SimpleStringProperty("");
+
     /**
      * Constructs an Edge between two vertices.
      * Automatically binds the arrow's coordinates to the positions of the vertices.
@@ -83,8 +89,14 @@ public class Edge extends PaneArrow {
         );
         distanceLabel.textProperty().bind(Bindings.concat("d:[", distance.asString(), "]"));
 
-        // Add the weight and distance labels to the content of the PaneArrow
-        addContent(new HBox(5, weightLabel, distanceLabel));
+        // Label for displaying the flow through the edge
+        Label flowLabel = new Label();
+        flowLabel.textProperty().bind(this.flow);
+        flowLabel.visibleProperty().bind(this.flow.isNotEmpty());
+        flowLabel.managedProperty().bind(flowLabel.visibleProperty());
+
+        // Add the weight, distance and flow labels to the content of the PaneArrow
+        addContent(new HBox(5, weightLabel, distanceLabel, flowLabel));
     }
 
     public GraphNode getNeighbour(GraphNode vertex) {
@@ -192,6 +204,25 @@ public class Edge extends PaneArrow {
         return distanceVisible;
     }
 
+    /**
+     * Clears all algorithm state styles and the flow label from the edge, resetting it to its base appearance.
+     */
+    public void clearStyle() {
+        for (String clazz : STATE_CLASSES) {
+            removeStyleClass(clazz);
+        }
+        flow.set("");
+    }
+
+    /**
+     * Sets the flow label of the edge, e.g. "f:[3/5]", or hides it if the text is empty.
+     *
+     * @param text The text of the flow label.
+     */
+    public void setFlowText(String text) {
+        this.flow.set(text);
+    }
+
     public GraphNode getNodeA() {
         return this.nodeA;
     }
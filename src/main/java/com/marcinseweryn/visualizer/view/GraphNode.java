@@ -1,15 +1,21 @@
 package com.marcinseweryn.visualizer.view;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Button;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a node (vertex) in a graph. The node is visualized as a button and
@@ -20,12 +26,30 @@ public class GraphNode extends Button {
 
     private static final Logger logger = LogManager.getLogger(GraphNode.class);
 
+    // Style classes describing the state of the node in an algorithm, only one of them is applied at a time
+    private static final String[] STATE_CLASSES = {
+            "start", "destination", "visited", "candidate-nodes", "path", "negative-cycle",
+            "backward-visited", "backward-candidate-nodes", "repaired", "cyclic",
+            "component-0", "component-1", "component-2", "component-3",
+            "component-4", "component-5", "component-6", "component-7"
+    };
+
     // Static counter to generate unique IDs for each node
     private static int count = 0;
 
     // List of edges connecting this node to other nodes
     private final ObservableList<Edge> edges = FXCollections.observableArrayList();
 
+    // Adjacency index: edges keyed by the neighbour they lead to, kept in sync with the edge list
+    private final Map<GraphNode, Edge> connections = new IdentityHashMap<>();
+
+    // Neighbours reachable through a visible arrow head, rebuilt on the next access after an edge or arrow head change.
+    // Volatile so that an algorithm thread sees the whole list built by another thread; the flag is marked valid before
+    // the rebuild so that a change made meanwhile invalidates the new list again.
+    private volatile List<GraphNode> neighbors = List.of();
+    private volatile boolean neighborsValid = true;
+    private final InvalidationListener arrowHeadListener = observable -> neighborsValid = false;
+
     // The parent node in graph traversal algorithms
     private final SimpleObjectProperty<GraphNode> parent = new SimpleObjectProperty<>(null);
 
@@ -35,9 +59,13 @@ public class GraphNode extends Button {
 
     private double distance = Double.POSITIVE_INFINITY;
 
+    // Dense vertex index assigned when a graph snapshot is built, -1 before that
+    private int index = -1;
+
     public GraphNode() {
         getStyleClass().add("vertex");
         setText("   ");
+        edges.addListener(this::onEdgesChanged);
     }
 
     public GraphNode(String styleClass) {
@@ -83,6 +111,7 @@ public class GraphNode extends Button {
      * @param vertex The node to copy.
      */
     public GraphNode(GraphNode vertex) {
+        edges.addListener(this::onEdgesChanged);
         textProperty().bind(vertex.textProperty());
         getStyleClass().setAll(vertex.getStyleClass());
     }
@@ -116,11 +145,62 @@ public class GraphNode extends Button {
     
     /**
      * Returns a list of neighbor nodes connected to this node via edges.
+     * The list is cached and only rebuilt after the edges or their arrow heads changed.
      *
-     * @return A list of neighboring GraphNodes.
+     * @return An unmodifiable list of neighboring GraphNodes.
      */
     public List<GraphNode> getNeighbors() {
-        return this.edges.stream().filter(e -> e.isOppositeArrowHeadVisible(this)).map(e -> e.getNeighbor(this)).toList();
+        if (!neighborsValid) {
+            neighborsValid = true;
+            List<GraphNode> reachable = new ArrayList<>(edges.size());
+            for (Edge edge : edges) {
+                if (edge.isOppositeArrowHeadVisible(this)) {
+                    reachable.add(edge.getNeighbor(this));
+                }
+            }
+            neighbors = Collections.unmodifiableList(reachable);
+        }
+        return neighbors;
+    }
+
+    /**
+     * Keeps the adjacency index in sync with the edge list, which is also modified directly through
+     * {@link #getAllEdges()}.
+     */
+    private void onEdgesChanged(ListChangeListener.Change<? extends Edge> change) {
+        while (change.next()) {
+            for (Edge edge : change.getRemoved()) {
+                unindexEdge(edge);
+            }
+            for (Edge edge : change.getAddedSubList()) {
+                indexEdge(edge);
+            }
+        }
+        neighborsValid = false;
+    }
+
+    private void indexEdge(Edge edge) {
+        connections.putIfAbsent(edge.getNeighbor(this), edge);
+        edge.headAVisibleProperty().addListener(arrowHeadListener);
+        edge.headBVisibleProperty().addListener(arrowHeadListener);
+    }
+
+    private void unindexEdge(Edge edge) {
+        edge.headAVisibleProperty().removeListener(arrowHeadListener);
+        edge.headBVisibleProperty().removeListener(arrowHeadListener);
+
+        GraphNode neighbour = edge.getNeighbor(this);
+        if (connections.get(neighbour) == edge) {
+            connections.remove(neighbour);
+
+            // Fall back to another edge leading to the same neighbour, if there is one
+            for (Edge other : edges) {
+                if (other.getNeighbor(this) == neighbour) {
+                    connections.put(neighbour, other);
+                    break;
+                }
+            }
+        }
     }
 
     /**
@@ -158,7 +238,7 @@ public class GraphNode extends Button {
      * @return The edge connecting this node to the neighbor, or null if none exists.
      */
     public Edge getConnection(GraphNode neighbour) {
-        return edges.stream().filter(edge -> edge.getNeighbor(this) == neighbour).findFirst().orElse(null);
+        return connections.get(neighbour);
     }
 
 
@@ -175,11 +255,11 @@ public class GraphNode extends Button {
      * Clears all applied styles from the node, resetting it to its base appearance.
      */
     public void clearStyle() {
-        this.getStyleClass().removeAll("start", "destination", "visited", "candidate-nodes", "path", "negative-cycle");
+        this.getStyleClass().removeAll(STATE_CLASSES);
     }
 
     public void setPrimaryClass(String clazz) {
-        this.getStyleClass().removeAll("start", "destination", "visited", "candidate-nodes", "path", "negative-cycle");
+        this.getStyleClass().removeAll(STATE_CLASSES);
         this.getStyleClass().add(clazz);
     }
 
@@ -192,6 +272,19 @@ public class GraphNode extends Button {
         this.distance = distance;
     }
 
+    /**
+     * Returns the dense vertex index assigned by the last graph snapshot containing this node.
+     *
+     * @return The vertex index, or -1 if no snapshot was built yet.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
     public SimpleStringProperty getDistanceInfo() {
         return this.distanceInfo;
     }
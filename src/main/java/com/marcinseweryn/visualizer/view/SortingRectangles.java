@@ -1,20 +1,41 @@
 package com.marcinseweryn.visualizer.view;
 
+import javafx.collections.ObservableList;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Renders the values to sort as rectangles, one node per value. Above {@link #SAMPLED_THRESHOLD} values, e.g. for
+ * inputs loaded from files, one node per value would stall the FX thread, so a single canvas is drawn instead with
+ * one bar per pixel column showing the largest value of the values sampled into it. The sampled view is not
+ * animated per step, it is redrawn with {@link #redraw(int[])} once the values changed.
+ */
 public class SortingRectangles extends HBox {
 
-    private final List<Integer> unsortedList;
-    private final Integer max;
-    private final Integer min;
+    // Largest number of values rendered as one node each
+    public static final int SAMPLED_THRESHOLD = 2_000;
+
+    // Fill of the sampled bars, the color of the "sorting-rectangle" style class
+    private static final Color SAMPLED_FILL = Color.web("#1e293b");
+
+    private int[] unsortedList;
+    private int max;
+    private int min;
     private final double containerHeight;
     private final double containerWidth;
 
-    public SortingRectangles(List<Integer> unsortedList, Integer max, Integer min, double containerHeight, double containerWidth) {
+    // Canvas of the sampled view, null while one node is rendered per value
+    private Canvas sampledView;
+
+    public SortingRectangles(int[] unsortedList, int max, int min, double containerHeight, double containerWidth) {
         this.unsortedList = unsortedList;
         this.max = max;
         this.min = min;
@@ -25,70 +46,189 @@ public class SortingRectangles extends HBox {
     }
 
     private void initializeSortingRectangles() {
-        double calculatedWidth = containerWidth / unsortedList.size();
-        double rectangleWidth = Math.min(calculatedWidth, 20);
-
-        for (Integer i : unsortedList) {
-            double scaledHeight = getScaledHeight(i);
-            VBox rectangle = new VBox();
-            rectangle.setPrefWidth(rectangleWidth); // Set the calculated width
-            rectangle.setMaxHeight(scaledHeight);
-            rectangle.setPrefHeight(scaledHeight);
-            rectangle.getStyleClass().addAll("rectangle", "sorting-rectangle");
-            getChildren().add(rectangle);
+        setAlignment(Pos.TOP_CENTER);
+        if (unsortedList.length > SAMPLED_THRESHOLD) {
+            sampledView = new Canvas(Math.max(1, containerWidth), Math.max(1, containerHeight * 1.5));
+            getChildren().setAll(sampledView);
+            drawSampled();
+            return;
         }
 
-        setAlignment(Pos.TOP_CENTER);
+        List<VBox> rectangles = new ArrayList<>(unsortedList.length);
+        for (int i : unsortedList) {
+            rectangles.add(createRectangle(i));
+        }
+        getChildren().setAll(rectangles);
+    }
+
+    /**
+     * @return True if the values are drawn on a sampled canvas instead of one node per value.
+     */
+    public boolean isSampled() {
+        return sampledView != null;
+    }
+
+    /**
+     * Redraws the sampled view with a copy of the given values, which have the same length and range as the
+     * rendered ones.
+     *
+     * @param values The values in their current order.
+     */
+    public void redraw(int[] values) {
+        this.unsortedList = values.clone();
+        if (isSampled()) {
+            drawSampled();
+        }
+    }
+
+    private void drawSampled() {
+        GraphicsContext graphics = sampledView.getGraphicsContext2D();
+        int columns = (int) sampledView.getWidth();
+        int n = unsortedList.length;
+        graphics.clearRect(0, 0, sampledView.getWidth(), sampledView.getHeight());
+        graphics.setFill(SAMPLED_FILL);
+
+        // Every column covers a contiguous range of values, at least one value wide
+        int bars = Math.min(columns, n);
+        double barWidth = (double) columns / bars;
+        for (int bar = 0; bar < bars; bar++) {
+            int from = (int) ((long) bar * n / bars);
+            int to = (int) ((long) (bar + 1) * n / bars);
+            int largest = Integer.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                largest = Math.max(largest, unsortedList[i]);
+            }
+            graphics.fillRect(bar * barWidth, 0, Math.max(1, barWidth - 0.5), getScaledHeight(largest));
+        }
+    }
+
+    private VBox createRectangle(int value) {
+        VBox rectangle = new VBox();
+        resizeRectangle(rectangle, value);
+        rectangle.getStyleClass().addAll("rectangle", "sorting-rectangle");
+        return rectangle;
+    }
+
+    private void resizeRectangle(VBox rectangle, int value) {
+        double scaledHeight = getScaledHeight(value);
+        rectangle.setPrefWidth(getRectangleWidth()); // Set the calculated width
+        rectangle.setMaxHeight(scaledHeight);
+        rectangle.setPrefHeight(scaledHeight);
+    }
+
+    private double getRectangleWidth() {
+        double calculatedWidth = containerWidth / unsortedList.length;
+        return Math.min(calculatedWidth, 20);
     }
 
-    private double getScaledHeight(Integer value) {
+    private double getScaledHeight(int value) {
         // If max equals min, all values are the same, so return a fixed height
-        if (max.equals(min)) {
+        if (max == min) {
             return containerHeight / 2;
         }
 
         // Scale the height of the rectangle based on the value, ensuring that the minimum value gets a proportionally small height
-        double scaledHeight = ((double) (value - min) / (max - min)) * containerHeight;
+        double scaledHeight = ((double) value - min) / ((double) max - min) * containerHeight;
 
         // To ensure that no rectangle has a height of zero, introduce a small offset
         double minHeightOffset = 0.1 * containerHeight;
         return Math.max(scaledHeight + minHeightOffset, minHeightOffset); // Ensure each rectangle has a non-zero height
     }
 
-    public List<Integer> getUnsortedList() {
+    public int[] getUnsortedList() {
         return unsortedList;
     }
 
+    /**
+     * Applies an edit of the input to the rendered rectangles. Only the rectangles in the changed range are
+     * resized, added or removed; the others keep their nodes and are merely resized in place when the number
+     * of rectangles or the value range changed.
+     *
+     * @param values The complete new list of values.
+     * @param from   The first index that differs between the old and the new list.
+     * @param oldEnd The end (exclusive) of the changed range in the old list.
+     * @param newEnd The end (exclusive) of the changed range in the new list.
+     */
+    public void replaceRange(int[] values, int from, int oldEnd, int newEnd) {
+        int newMax = Integer.MIN_VALUE;
+        int newMin = Integer.MAX_VALUE;
+        for (int value : values) {
+            newMax = Math.max(newMax, value);
+            newMin = Math.min(newMin, value);
+        }
+
+        boolean rescaleAll = newMax != max || newMin != min || values.length != unsortedList.length;
+        boolean wasSampled = isSampled();
+        this.unsortedList = values;
+        this.max = newMax;
+        this.min = newMin;
+
+        // Crossing the threshold changes the kind of view, render it from scratch
+        if (wasSampled || values.length > SAMPLED_THRESHOLD) {
+            sampledView = null;
+            initializeSortingRectangles();
+            return;
+        }
+
+        ObservableList<Node> children = getChildren();
+
+        // Rectangles present in both versions are reused
+        int reusedEnd = Math.min(oldEnd, newEnd);
+        for (int i = from; i < reusedEnd; i++) {
+            resizeRectangle((VBox) children.get(i), values[i]);
+        }
+
+        if (oldEnd > newEnd) {
+            children.remove(newEnd, oldEnd);
+        } else if (newEnd > oldEnd) {
+            List<VBox> added = new ArrayList<>(newEnd - oldEnd);
+            for (int i = oldEnd; i < newEnd; i++) {
+                added.add(createRectangle(values[i]));
+            }
+            children.addAll(oldEnd, added);
+        }
+
+        if (rescaleAll) {
+            for (int i = 0; i < from; i++) {
+                resizeRectangle((VBox) children.get(i), values[i]);
+            }
+            for (int i = newEnd; i < values.length; i++) {
+                resizeRectangle((VBox) children.get(i), values[i]);
+            }
+        }
+    }
+
     public void removeStyles(int index) {
+        if (isSampled()) {
+            return;
+        }
         getChildren().get(index).getStyleClass().removeAll(
                 "sorting-rectangle",
                 "sorted-rectangle",
                 "comparing-rectangle",
                 "left",
                 "right",
-                "pivot"
+                "pivot",
+                "cache-miss-low",
+                "cache-miss-medium",
+                "cache-miss-high"
         );
     }
 
     public void resetStyles(int index) {
+        if (isSampled()) {
+            return;
+        }
         removeStyles(index);
         getChildren().get(index).getStyleClass().add("sorting-rectangle");
     }
 
     public void setRectangle(int k, int value) {
-        double scaledHeight = getScaledHeight(value);
-
-        double calculatedWidth = containerWidth / unsortedList.size();
-        double rectangleWidth = Math.min(calculatedWidth, 20);
-
-        VBox rectangle = new VBox();
-        rectangle.setPrefWidth(rectangleWidth);
-        rectangle.setMaxHeight(scaledHeight);
-        rectangle.setPrefHeight(scaledHeight);
-        rectangle.getStyleClass().addAll("rectangle", "sorting-rectangle");
-
         // Replace the old rectangle at index k with the new one
-        getChildren().set(k, rectangle);
+        if (isSampled()) {
+            return;
+        }
+        getChildren().set(k, createRectangle(value));
     }
 
 }
@@ -0,0 +1,91 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BellmanFordSearchTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void everyModeMatchesDijkstra() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            int n = 1 + random.nextInt(50);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(4 * n + 1), 5, random);
+            int source = random.nextInt(n);
+            double[] expected = ShortestPaths.distancesFrom(graph, source);
+            for (BellmanFordMode mode : BellmanFordMode.values()) {
+                BellmanFordSearch.Result result = BellmanFordSearch.run(graph, source, mode, pool);
+                assertFalse(result.negativeCycle());
+                assertArrayEquals(expected, result.distance(), mode + " on graph " + i);
+                assertParentTree(graph, source, result);
+            }
+        }
+    }
+
+    @Test
+    void parentsOfZeroWeightCycleFormATree() {
+        // 3 -> 0 with weight 1 and the cycle 0 -> 1 -> 2 -> 0 of weight 0, scanned before the source
+        CsrGraph graph = CsrGraph.fromArcs(4, new int[]{3, 0, 1, 2}, new int[]{0, 1, 2, 0}, new double[]{1, 0, 0, 0});
+        for (BellmanFordMode mode : BellmanFordMode.values()) {
+            assertParentTree(graph, 3, BellmanFordSearch.run(graph, 3, mode, pool));
+        }
+    }
+
+    @Test
+    void negativeCycleIsDetectedByEveryMode() {
+        // 0 -> 1 -> 2 -> 1 is a negative cycle, 3 is reachable from it and 4 is not
+        CsrGraph graph = CsrGraph.fromArcs(5, new int[]{0, 1, 2, 2, 0}, new int[]{1, 2, 1, 3, 4},
+                                           new double[]{1, 1, -3, 1, 2});
+        for (BellmanFordMode mode : BellmanFordMode.values()) {
+            BellmanFordSearch.Result result = BellmanFordSearch.run(graph, 0, mode, pool);
+            assertTrue(result.negativeCycle(), mode::toString);
+            assertEquals(Double.NEGATIVE_INFINITY, result.distance()[1], mode::toString);
+            assertEquals(Double.NEGATIVE_INFINITY, result.distance()[3], mode::toString);
+            assertEquals(2, result.distance()[4], mode::toString);
+        }
+    }
+
+    /**
+     * Following the parents from every finitely reachable vertex must end at the source within n steps, along
+     * arcs adding up to its distance. Random graphs may have parallel arcs, the lightest one counts.
+     */
+    private static void assertParentTree(CsrGraph graph, int source, BellmanFordSearch.Result result) {
+        int n = graph.vertexCount();
+        for (int v = 0; v < n; v++) {
+            if (!Double.isFinite(result.distance()[v])) {
+                continue;
+            }
+            double length = 0;
+            int current = v;
+            for (int steps = 0; current != source; steps++) {
+                assertTrue(steps < n, "parent pointers of " + v + " contain a cycle");
+                int parent = result.parent()[current];
+                assertTrue(parent >= 0, "vertex " + current + " has no parent");
+                length += TestGraphs.lightestArc(graph, parent, current);
+                current = parent;
+            }
+            assertEquals(result.distance()[v], length, 1e-9);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockedFloydWarshallTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void everyRowMatchesDijkstra() {
+        Random random = new Random(1);
+        for (int i = 0; i < 50; i++) {
+            int n = 1 + random.nextInt(40);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(4 * n + 1), 10, random);
+            for (int tileSize : new int[]{1, 3, 8, n}) {
+                BlockedFloydWarshall search = new BlockedFloydWarshall(graph, tileSize, true, pool);
+                search.solve();
+                assertFalse(search.hasNegativeCycle());
+                for (int source = 0; source < n; source++) {
+                    double[] expected = ShortestPaths.distancesFrom(graph, source);
+                    for (int target = 0; target < n; target++) {
+                        assertEquals(expected[target], search.distance(source, target),
+                                     "graph " + i + ", tile " + tileSize + ", " + source + " -> " + target);
+                        assertPath(graph, search, source, target);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void blockedMatchesUnblockedWithNegativeWeights() {
+        Random random = new Random(2);
+        for (int i = 0; i < 50; i++) {
+            int n = 1 + random.nextInt(40);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(2 * n + 1), -2, 10, random);
+            BlockedFloydWarshall search = new BlockedFloydWarshall(graph, 1 + random.nextInt(8), false, pool);
+            search.solve();
+            // With a negative cycle the values depend on the loop order, only its detection is compared
+            double[] expected = BlockedFloydWarshall.unblocked(graph);
+            boolean negativeCycle = false;
+            for (int v = 0; v < n; v++) {
+                negativeCycle |= expected[v * n + v] < 0;
+            }
+            assertEquals(negativeCycle, search.hasNegativeCycle(), "graph " + i);
+            if (!negativeCycle) {
+                assertArrayEquals(expected, search.matrix(), "graph " + i);
+            }
+        }
+    }
+
+    @Test
+    void negativeCycleIsReported() {
+        CsrGraph graph = CsrGraph.fromArcs(3, new int[]{0, 1, 2}, new int[]{1, 2, 0}, new double[]{1, 1, -3});
+        BlockedFloydWarshall search = new BlockedFloydWarshall(graph, 2, true, pool);
+        search.solve();
+        assertTrue(search.hasNegativeCycle());
+        assertEquals(0, search.path(0, 2).length);
+    }
+
+    private static void assertPath(CsrGraph graph, BlockedFloydWarshall search, int source, int target) {
+        int[] path = search.path(source, target);
+        if (search.distance(source, target) == Double.POSITIVE_INFINITY) {
+            assertEquals(0, path.length);
+            return;
+        }
+        assertEquals(source, path[0]);
+        assertEquals(target, path[path.length - 1]);
+        double length = 0;
+        for (int i = 1; i < path.length; i++) {
+            length += TestGraphs.lightestArc(graph, path[i - 1], path[i]);
+        }
+        assertEquals(search.distance(source, target), length);
+    }
+}
@@ -0,0 +1,107 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Random;
+
+/**
+ * Headless benchmark comparing {@link ContractionHierarchy} queries with Dijkstra's algorithm stopped at the
+ * target, on a road-like grid graph: every vertex is connected in both directions to its right and lower
+ * neighbour with random integer weights in [1, 20]. The preprocessing time, the average query time and the
+ * average number of settled vertices are reported, and every query distance is checked against Dijkstra.
+ * <p>
+ * Usage: {@code ContractionHierarchyBenchmark [side] [queries] [seed]}, defaults to a 200 x 200 grid
+ * (40000 vertices) and 1000 random queries.
+ */
+public final class ContractionHierarchyBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(ContractionHierarchyBenchmark.class);
+
+    private ContractionHierarchyBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+        Random random = new Random(seed);
+        CsrGraph graph = gridGraph(side, random);
+        logger.info("Generated {}", graph);
+
+        long start = System.nanoTime();
+        ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+        long preprocessing = System.nanoTime() - start;
+        logger.info("Preprocessing: {} ms, {} shortcuts, {} hierarchy arcs",
+                    preprocessing / 1_000_000.0, hierarchy.shortcutCount(), hierarchy.arcCount());
+
+        int n = graph.vertexCount();
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            sources[i] = random.nextInt(n);
+            targets[i] = random.nextInt(n);
+        }
+
+        double[] distance = new double[n];
+        double[] expected = new double[queries];
+        long dijkstraSettled = 0;
+        long hierarchySettled = 0;
+        long dijkstra = 0;
+        long contracted = 0;
+
+        // The first round is a warm-up and not counted
+        for (int round = 0; round < 2; round++) {
+            dijkstraSettled = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                dijkstraSettled += ShortestPaths.dijkstra(graph, sources[i], targets[i], distance, null);
+                expected[i] = distance[targets[i]];
+            }
+            dijkstra = System.nanoTime() - start;
+
+            hierarchySettled = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                ContractionHierarchy.Query query = hierarchy.query(sources[i], targets[i]);
+                hierarchySettled += query.settled();
+                if (query.distance() != expected[i]) {
+                    throw new IllegalStateException("Query " + sources[i] + " -> " + targets[i] + " returned "
+                                                            + query.distance() + ", expected " + expected[i]);
+                }
+            }
+            contracted = System.nanoTime() - start;
+        }
+
+        logger.info("Dijkstra:               {} us per query, {} settled vertices on average",
+                    dijkstra / 1000.0 / queries, (double) dijkstraSettled / queries);
+        logger.info("Contraction hierarchy:  {} us per query, {} settled vertices on average",
+                    contracted / 1000.0 / queries, (double) hierarchySettled / queries);
+        logger.info("speedup: {}", (double) dijkstra / contracted);
+    }
+
+    static CsrGraph gridGraph(int side, Random random) {
+        int n = side * side;
+        int arcs = 4 * side * (side - 1);
+        int[] sources = new int[arcs];
+        int[] targets = new int[arcs];
+        double[] weights = new double[arcs];
+        int next = 0;
+        for (int v = 0; v < n; v++) {
+            int[] neighbours = {v % side + 1 < side ? v + 1 : -1, v + side < n ? v + side : -1};
+            for (int w : neighbours) {
+                if (w >= 0) {
+                    double weight = 1 + random.nextInt(20);
+                    sources[next] = v;
+                    targets[next] = w;
+                    weights[next++] = weight;
+                    sources[next] = w;
+                    targets[next] = v;
+                    weights[next++] = weight;
+                }
+            }
+        }
+        return CsrGraph.fromArcs(n, sources, targets, weights);
+    }
+}
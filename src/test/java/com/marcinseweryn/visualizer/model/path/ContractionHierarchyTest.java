@@ -0,0 +1,105 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContractionHierarchyTest {
+
+    @Test
+    void randomGraphQueriesMatchDijkstra() {
+        Random random = new Random(1);
+        for (int i = 0; i < 40; i++) {
+            int n = 1 + random.nextInt(40);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(4 * n + 1), 10, random);
+            assertQueriesMatchDijkstra(graph, ContractionHierarchy.build(graph), "graph " + i);
+        }
+    }
+
+    @Test
+    void gridQueriesMatchDijkstra() {
+        CsrGraph graph = ContractionHierarchyBenchmark.gridGraph(15, new Random(2));
+        ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+        assertTrue(hierarchy.shortcutCount() > 0);
+        assertQueriesMatchDijkstra(graph, hierarchy, "grid");
+    }
+
+    @Test
+    void listenerSeesEverySettledVertex() {
+        CsrGraph graph = ContractionHierarchyBenchmark.gridGraph(10, new Random(3));
+        ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+        int[] settled = new int[1];
+        int[] scanned = new int[1];
+        ContractionHierarchy.Query query = hierarchy.newSearch().query(0, 99, new ContractionHierarchy.Listener() {
+            @Override
+            public void settled(int vertex, boolean forward) {
+                settled[0]++;
+            }
+
+            @Override
+            public void scanned(int vertex, boolean forward) {
+                scanned[0]++;
+            }
+        });
+        assertEquals(query.settled(), settled[0]);
+        assertEquals(query.settled(), scanned[0]);
+        assertEquals(hierarchy.query(0, 99).distance(), query.distance());
+    }
+
+    @Test
+    void writtenHierarchyIsReadBackForTheSameGraphOnly() throws IOException {
+        Random random = new Random(4);
+        CsrGraph graph = TestGraphs.random(30, 90, 10, random);
+        ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+        String[] ids = new String[graph.vertexCount()];
+        Map<String, Integer> indexOfId = new HashMap<>();
+        for (int v = 0; v < ids.length; v++) {
+            ids[v] = String.valueOf(100 + v);
+            indexOfId.put(ids[v], v);
+        }
+        long fingerprint = ContractionHierarchy.fingerprint(graph, ids);
+        StringWriter writer = new StringWriter();
+        hierarchy.write(writer, ids, fingerprint);
+
+        ContractionHierarchy read = ContractionHierarchy.read(new StringReader(writer.toString()), indexOfId, fingerprint);
+        assertEquals(hierarchy.shortcutCount(), read.shortcutCount());
+        assertQueriesMatchDijkstra(graph, read, "read hierarchy");
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> ContractionHierarchy.read(new StringReader(writer.toString()), indexOfId, fingerprint + 1));
+    }
+
+    private static void assertQueriesMatchDijkstra(CsrGraph graph, ContractionHierarchy hierarchy, String name) {
+        int n = graph.vertexCount();
+        for (int source = 0; source < n; source++) {
+            double[] expected = ShortestPaths.distancesFrom(graph, source);
+            for (int target = 0; target < n; target++) {
+                String query = name + ", " + source + " -> " + target;
+                ContractionHierarchy.Query result = hierarchy.query(source, target);
+                assertEquals(expected[target], result.distance(), query);
+
+                int[] path = result.path();
+                if (expected[target] == Double.POSITIVE_INFINITY) {
+                    assertEquals(0, path.length, query);
+                    continue;
+                }
+                assertEquals(source, path[0], query);
+                assertEquals(target, path[path.length - 1], query);
+                double length = 0;
+                for (int i = 1; i < path.length; i++) {
+                    length += TestGraphs.lightestArc(graph, path[i - 1], path[i]);
+                }
+                assertEquals(expected[target], length, query);
+            }
+        }
+    }
+}
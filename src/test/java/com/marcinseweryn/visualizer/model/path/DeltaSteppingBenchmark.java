@@ -0,0 +1,100 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless benchmark comparing {@link DeltaSteppingSearch} with Dijkstra's algorithm on a random graph.
+ * Every vertex gets the given number of outgoing arcs to uniformly random targets with weights in [0, 1),
+ * and delta-stepping is run with one thread and with the given number of threads, so both the speedup over
+ * Dijkstra and the self-relative speedup are reported. All distances are checked against Dijkstra.
+ * <p>
+ * Usage: {@code DeltaSteppingBenchmark [vertices] [degree] [threads] [rounds] [seed]}, defaults to
+ * 250000 vertices with 8 arcs each (2 million arcs), all available processors and 5 rounds.
+ */
+public final class DeltaSteppingBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(DeltaSteppingBenchmark.class);
+
+    private DeltaSteppingBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 250_000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+
+        CsrGraph graph = randomGraph(n, degree, new Random(seed));
+        double delta = DeltaSteppingSearch.defaultDelta(graph);
+        logger.info("Generated {}, delta = {}", graph, delta);
+
+        ForkJoinPool sequential = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(threads);
+        try {
+            double[] expected = ShortestPaths.distancesFrom(graph, 0);
+            long dijkstra = 0;
+            long oneThread = 0;
+            long allThreads = 0;
+
+            // The first round is a warm-up and not counted
+            for (int round = 0; round <= rounds; round++) {
+                long start = System.nanoTime();
+                ShortestPaths.distancesFrom(graph, 0);
+                long d = System.nanoTime() - start;
+
+                long s = measure(graph, delta, sequential, expected);
+                long p = measure(graph, delta, parallel, expected);
+                if (round > 0) {
+                    dijkstra += d;
+                    oneThread += s;
+                    allThreads += p;
+                }
+            }
+
+            logger.info("Dijkstra:                   {} ms per run", dijkstra / rounds / 1_000_000.0);
+            logger.info("delta-stepping, 1 thread:   {} ms per run", oneThread / rounds / 1_000_000.0);
+            logger.info("delta-stepping, {} threads: {} ms per run", threads, allThreads / rounds / 1_000_000.0);
+            logger.info("speedup over Dijkstra: {}, self-relative speedup: {}",
+                        (double) dijkstra / allThreads, (double) oneThread / allThreads);
+        } finally {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    private static CsrGraph randomGraph(int n, int degree, Random random) {
+        int arcs = n * degree;
+        int[] sources = new int[arcs];
+        int[] targets = new int[arcs];
+        double[] weights = new double[arcs];
+        for (int i = 0; i < arcs; i++) {
+            sources[i] = i / degree;
+            targets[i] = random.nextInt(n);
+            weights[i] = random.nextDouble();
+        }
+        return CsrGraph.fromArcs(n, sources, targets, weights);
+    }
+
+    /**
+     * Runs delta-stepping from vertex 0 and verifies the distances.
+     *
+     * @return The duration of the run in nanoseconds.
+     */
+    private static long measure(CsrGraph graph, double delta, ForkJoinPool pool, double[] expected) {
+        long start = System.nanoTime();
+        double[] distances = new DeltaSteppingSearch(graph, 0, delta, pool).solve();
+        long duration = System.nanoTime() - start;
+
+        for (int v = 0; v < expected.length; v++) {
+            if (Math.abs(distances[v] - expected[v]) > 1e-9 && distances[v] != expected[v]) {
+                throw new IllegalStateException("Distance of vertex " + v + " is " + distances[v] + ", expected " + expected[v]);
+            }
+        }
+        return duration;
+    }
+}
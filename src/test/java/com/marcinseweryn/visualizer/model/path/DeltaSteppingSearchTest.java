@@ -0,0 +1,60 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class DeltaSteppingSearchTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void distancesMatchDijkstra() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            int n = 1 + random.nextInt(60);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(4 * n + 1), 10, random);
+            int source = random.nextInt(n);
+            double[] expected = ShortestPaths.distancesFrom(graph, source);
+            for (double delta : new double[]{0.5, 3, DeltaSteppingSearch.defaultDelta(graph), 100}) {
+                assertArrayEquals(expected, new DeltaSteppingSearch(graph, source, delta, pool).solve(),
+                                  "graph " + i + ", delta " + delta);
+            }
+        }
+    }
+
+    @Test
+    void largeGraphSplitsPhasesAcrossTasks() {
+        CsrGraph graph = TestGraphs.random(20_000, 100_000, 100, new Random(2));
+        assertArrayEquals(ShortestPaths.distancesFrom(graph, 0),
+                          new DeltaSteppingSearch(graph, 0, DeltaSteppingSearch.defaultDelta(graph), pool).solve());
+    }
+
+    @Test
+    void phaseByPhaseMatchesSolve() {
+        CsrGraph graph = TestGraphs.random(500, 2000, 20, new Random(3));
+        DeltaSteppingSearch search = new DeltaSteppingSearch(graph, 0, 5, pool);
+        while (search.nextBucket()) {
+            while (search.hasCurrentVertices()) {
+                search.relaxLightEdges();
+            }
+            search.relaxHeavyEdges();
+        }
+        assertArrayEquals(new DeltaSteppingSearch(graph, 0, 5, pool).solve(), search.distances());
+    }
+}
@@ -0,0 +1,126 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Random;
+
+/**
+ * Headless benchmark comparing {@link DirectionOptimizingSearch} with a queue based top-down breadth-first search
+ * on a scale-free graph grown by preferential attachment (Barabasi-Albert): every new vertex is connected in both
+ * directions to m earlier vertices picked with probability proportional to their degree.
+ * The levels of every search are checked against the top-down search, and the arcs inspected and the time per
+ * search are reported; the directions chosen for the levels of the first search are logged.
+ * <p>
+ * Usage: {@code DirectionOptimizingBenchmark [vertices] [m] [searches] [seed]}, defaults to 200000 vertices,
+ * m = 8 and 20 searches from random sources.
+ */
+public final class DirectionOptimizingBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(DirectionOptimizingBenchmark.class);
+
+    private DirectionOptimizingBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int vertices = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int searches = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42;
+
+        Random random = new Random(seed);
+        CsrGraph graph = scaleFreeGraph(vertices, m, random);
+        CsrGraph transpose = graph.transpose();
+        logger.info("Generated {}", graph);
+
+        int[] sources = new int[searches];
+        for (int i = 0; i < searches; i++) {
+            sources[i] = random.nextInt(vertices);
+        }
+
+        int[] levels = new int[vertices];
+        long topDownInspected = 0;
+        long optimizedInspected = 0;
+        long topDown = 0;
+        long optimized = 0;
+
+        // The first round is a warm-up and not counted
+        for (int round = 0; round < 2; round++) {
+            topDownInspected = 0;
+            optimizedInspected = 0;
+            topDown = 0;
+            optimized = 0;
+            for (int i = 0; i < searches; i++) {
+                long start = System.nanoTime();
+                ShortestPaths.breadthFirstSearch(graph, sources[i], -1, levels);
+                topDown += System.nanoTime() - start;
+                topDownInspected += DirectionOptimizingSearch.topDownInspections(graph, sources[i]);
+
+                start = System.nanoTime();
+                DirectionOptimizingSearch search = new DirectionOptimizingSearch(
+                        graph, transpose, sources[i],
+                        DirectionOptimizingSearch.DEFAULT_ALPHA, DirectionOptimizingSearch.DEFAULT_BETA
+                );
+                if (round == 1 && i == 0) {
+                    for (DirectionOptimizingSearch.Level level = search.step(); level != null; level = search.step()) {
+                        logger.info("Level {}: {}, {} discovered, {} arcs inspected",
+                                    level.depth(), level.direction(), level.discovered(), level.inspected());
+                    }
+                } else {
+                    search.run();
+                }
+                optimized += System.nanoTime() - start;
+                optimizedInspected += search.inspected();
+
+                for (int v = 0; v < vertices; v++) {
+                    if (search.level(v) != levels[v]) {
+                        throw new IllegalStateException("Level of " + v + " from " + sources[i] + " is "
+                                                                + search.level(v) + ", expected " + levels[v]);
+                    }
+                }
+            }
+        }
+
+        logger.info("Top-down:             {} ms per search, {} arcs inspected on average",
+                    topDown / 1e6 / searches, (double) topDownInspected / searches);
+        logger.info("Direction-optimizing: {} ms per search, {} arcs inspected on average",
+                    optimized / 1e6 / searches, (double) optimizedInspected / searches);
+        logger.info("inspection ratio: {}, speedup: {}",
+                    (double) topDownInspected / optimizedInspected, (double) topDown / optimized);
+    }
+
+    static CsrGraph scaleFreeGraph(int vertices, int m, Random random) {
+        // Every arc end point is listed once, so a uniform pick from the list is proportional to the degree
+        int[] endPoints = new int[2 * m * vertices];
+        int endPointCount = 0;
+        int arcs = 2 * m * (vertices - m - 1) + (m + 1) * m;
+        int[] sources = new int[arcs];
+        int[] targets = new int[arcs];
+        int next = 0;
+
+        // The first m + 1 vertices form a clique
+        for (int u = 0; u <= m; u++) {
+            for (int v = u + 1; v <= m; v++) {
+                sources[next] = u;
+                targets[next++] = v;
+                sources[next] = v;
+                targets[next++] = u;
+                endPoints[endPointCount++] = u;
+                endPoints[endPointCount++] = v;
+            }
+        }
+        for (int u = m + 1; u < vertices; u++) {
+            int added = endPointCount;
+            for (int i = 0; i < m; i++) {
+                int v = endPoints[random.nextInt(added)];
+                sources[next] = u;
+                targets[next++] = v;
+                sources[next] = v;
+                targets[next++] = u;
+                endPoints[endPointCount++] = u;
+                endPoints[endPointCount++] = v;
+            }
+        }
+        return CsrGraph.fromArcs(vertices, sources, targets, new double[arcs]);
+    }
+}
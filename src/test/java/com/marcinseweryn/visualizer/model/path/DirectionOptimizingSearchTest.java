@@ -0,0 +1,75 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectionOptimizingSearchTest {
+
+    @Test
+    void randomGraphsMatchBreadthFirstSearchForAnyThresholds() {
+        Random random = new Random(1);
+        int[][] thresholds = {{1, 1}, {DirectionOptimizingSearch.DEFAULT_ALPHA, DirectionOptimizingSearch.DEFAULT_BETA},
+                {1_000_000, 1}, {1, 1_000_000}};
+        for (int i = 0; i < 50; i++) {
+            // Up to 140 vertices, so that the bitmaps span several words with a partly used last one
+            int n = 1 + random.nextInt(140);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(3 * n + 1), 1, random);
+            CsrGraph transpose = graph.transpose();
+            int source = random.nextInt(n);
+            for (int[] threshold : thresholds) {
+                DirectionOptimizingSearch search = new DirectionOptimizingSearch(graph, transpose, source,
+                                                                                 threshold[0], threshold[1]);
+                search.run();
+                assertMatchesBreadthFirstSearch(graph, search, source,
+                                                "graph " + i + ", alpha " + threshold[0] + ", beta " + threshold[1]);
+            }
+        }
+    }
+
+    @Test
+    void scaleFreeGraphSwitchesDirectionsAndInspectsFewerArcs() {
+        Random random = new Random(2);
+        CsrGraph graph = DirectionOptimizingBenchmark.scaleFreeGraph(20_000, 8, random);
+        CsrGraph transpose = graph.transpose();
+        int source = random.nextInt(graph.vertexCount());
+        DirectionOptimizingSearch search = new DirectionOptimizingSearch(
+                graph, transpose, source, DirectionOptimizingSearch.DEFAULT_ALPHA, DirectionOptimizingSearch.DEFAULT_BETA);
+        Set<BfsDirection> directions = EnumSet.noneOf(BfsDirection.class);
+        for (DirectionOptimizingSearch.Level level = search.step(); level != null; level = search.step()) {
+            directions.add(level.direction());
+        }
+        assertEquals(EnumSet.allOf(BfsDirection.class), directions);
+        assertTrue(search.inspected() < DirectionOptimizingSearch.topDownInspections(graph, source));
+        assertMatchesBreadthFirstSearch(graph, search, source, "scale-free");
+    }
+
+    @Test
+    void thresholdsMustBePositive() {
+        CsrGraph graph = TestGraphs.random(3, 3, 1, new Random(3));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new DirectionOptimizingSearch(graph, graph.transpose(), 0, 0, 1));
+    }
+
+    private static void assertMatchesBreadthFirstSearch(CsrGraph graph, DirectionOptimizingSearch search, int source,
+                                                        String name) {
+        int[] levels = new int[graph.vertexCount()];
+        ShortestPaths.breadthFirstSearch(graph, source, -1, levels);
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            assertEquals(levels[v], search.level(v), name + ": level of " + v);
+            int parent = search.parent(v);
+            if (v == source || levels[v] < 0) {
+                assertEquals(-1, parent, name + ": parent of " + v);
+            } else {
+                assertEquals(levels[v] - 1, levels[parent], name + ": parent of " + v);
+                assertTrue(graph.findArc(parent, v) >= 0, name + ": no arc from the parent of " + v);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DistanceListTest {
+
+    @Test
+    void resetForgetsDistancesOfEarlierGenerations() {
+        DistanceList distances = new DistanceList(8);
+        for (int v = 0; v < 8; v++) {
+            assertEquals(Double.POSITIVE_INFINITY, distances.get(v));
+            distances.set(v, v * 1.5);
+        }
+        assertEquals(3.0, distances.get(2));
+
+        distances.reset(8);
+        for (int v = 0; v < 8; v++) {
+            assertEquals(Double.POSITIVE_INFINITY, distances.get(v), "vertex " + v);
+        }
+
+        // Only the vertices set in the current generation have a distance
+        distances.set(5, -2.0);
+        distances.reset(4);
+        assertEquals(4, distances.size());
+        distances.set(1, 7.0);
+        assertEquals(7.0, distances.get(1));
+        assertEquals(Double.POSITIVE_INFINITY, distances.get(5));
+    }
+
+    @Test
+    void resetGrowsForLargerGraphs() {
+        DistanceList distances = new DistanceList();
+        assertEquals(0, distances.size());
+
+        distances.reset(3);
+        distances.set(2, 1.0);
+        distances.reset(1000);
+        assertEquals(1000, distances.size());
+        assertEquals(Double.POSITIVE_INFINITY, distances.get(2));
+        distances.set(999, 4.0);
+        assertEquals(4.0, distances.get(999));
+    }
+
+    @Test
+    void poolReusesReleasedList() {
+        DistanceListPool pool = new DistanceListPool();
+        DistanceList first = pool.acquire(10);
+        first.set(3, 2.0);
+        pool.release(first);
+
+        DistanceList second = pool.acquire(10);
+        assertSame(first, second);
+        assertEquals(Double.POSITIVE_INFINITY, second.get(3));
+    }
+
+    @Test
+    void poolHandsOutNewListWhileHeld() {
+        DistanceListPool pool = new DistanceListPool();
+        DistanceList abandoned = pool.acquire(10);
+        DistanceList current = pool.acquire(10);
+        assertNotSame(abandoned, current);
+
+        // Writes of the abandoned run do not reach the current one
+        abandoned.set(4, 1.0);
+        assertEquals(Double.POSITIVE_INFINITY, current.get(4));
+
+        // Only one idle list is kept
+        pool.release(current);
+        pool.release(abandoned);
+        assertSame(current, pool.acquire(10));
+        assertNotSame(abandoned, pool.acquire(10));
+    }
+}
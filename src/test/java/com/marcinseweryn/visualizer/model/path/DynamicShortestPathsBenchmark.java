@@ -0,0 +1,76 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Random;
+
+/**
+ * Headless benchmark comparing {@link DynamicShortestPaths} repairs with a full Dijkstra rerun after every
+ * single-edge change, on the grid graph of {@link ContractionHierarchyBenchmark}. Every change picks a random
+ * arc and either deletes it, doubles its weight or halves it; after every change, the repaired distances are
+ * checked against the rerun.
+ * <p>
+ * Usage: {@code DynamicShortestPathsBenchmark [side] [changes] [seed]}, defaults to a 200 x 200 grid
+ * (40000 vertices) and 1000 changes.
+ */
+public final class DynamicShortestPathsBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(DynamicShortestPathsBenchmark.class);
+
+    private DynamicShortestPathsBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int changes = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+        Random random = new Random(seed);
+        CsrGraph graph = ContractionHierarchyBenchmark.gridGraph(side, random);
+        logger.info("Generated {}", graph);
+
+        int n = graph.vertexCount();
+        DynamicShortestPaths paths = new DynamicShortestPaths(graph, random.nextInt(n));
+        double[] expected = new double[n];
+        long repair = 0;
+        long rerun = 0;
+        long repairSettled = 0;
+        long rerunSettled = 0;
+        long changedVertices = 0;
+
+        for (int i = 0; i < changes; i++) {
+            int arc = random.nextInt(graph.arcCount());
+            double weight = paths.weight(arc);
+            double newWeight = switch (random.nextInt(3)) {
+                case 0 -> Double.POSITIVE_INFINITY;
+                case 1 -> Double.isInfinite(weight) ? graph.weight(arc) : 2 * weight;
+                default -> Double.isInfinite(weight) ? graph.weight(arc) / 2 : weight / 2;
+            };
+
+            long start = System.nanoTime();
+            DynamicShortestPaths.Update update = paths.setEdgeWeight(graph.edgeId(arc), newWeight);
+            repair += System.nanoTime() - start;
+            repairSettled += update.settled();
+            changedVertices += update.changed().length;
+
+            CsrGraph current = paths.currentGraph();
+            start = System.nanoTime();
+            rerunSettled += ShortestPaths.dijkstra(current, paths.source(), -1, expected, null);
+            rerun += System.nanoTime() - start;
+
+            for (int v = 0; v < n; v++) {
+                if (paths.distance(v) != expected[v]) {
+                    throw new IllegalStateException("Change " + i + ": distance of " + v + " is " + paths.distance(v)
+                                                            + ", expected " + expected[v]);
+                }
+            }
+        }
+
+        logger.info("Full rerun: {} us per change, {} settled vertices on average",
+                    rerun / 1000.0 / changes, (double) rerunSettled / changes);
+        logger.info("Repair:     {} us per change, {} settled vertices, {} changed vertices on average",
+                    repair / 1000.0 / changes, (double) repairSettled / changes, (double) changedVertices / changes);
+        logger.info("speedup: {}", (double) rerun / repair);
+    }
+}
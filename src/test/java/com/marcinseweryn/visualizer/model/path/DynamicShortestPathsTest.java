@@ -0,0 +1,86 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DynamicShortestPathsTest {
+
+    @Test
+    void randomChangesMatchRerun() {
+        Random random = new Random(1);
+        for (int i = 0; i < 30; i++) {
+            int n = 1 + random.nextInt(40);
+            CsrGraph graph = TestGraphs.random(n, 1 + random.nextInt(4 * n), 10, random);
+            assertRepairsMatchRerun(graph, new DynamicShortestPaths(graph, random.nextInt(n)), 50, random, "graph " + i);
+        }
+    }
+
+    @Test
+    void gridChangesMatchRerun() {
+        Random random = new Random(2);
+        CsrGraph graph = ContractionHierarchyBenchmark.gridGraph(12, random);
+        assertRepairsMatchRerun(graph, new DynamicShortestPaths(graph, 0), 300, random, "grid");
+    }
+
+    @Test
+    void negativeWeightIsRejected() {
+        CsrGraph graph = TestGraphs.random(5, 10, 10, new Random(3));
+        DynamicShortestPaths paths = new DynamicShortestPaths(graph, 0);
+        assertThrows(IllegalArgumentException.class, () -> paths.setEdgeWeight(0, -1));
+    }
+
+    /**
+     * Deletes, doubles or halves random edges, restoring deleted ones later, and checks every repair.
+     */
+    private static void assertRepairsMatchRerun(CsrGraph graph, DynamicShortestPaths paths, int changes,
+                                                Random random, String name) {
+        int n = graph.vertexCount();
+        double[] before = new double[n];
+        for (int i = 0; i < changes; i++) {
+            int arc = random.nextInt(graph.arcCount());
+            double weight = paths.weight(arc);
+            double newWeight = switch (random.nextInt(3)) {
+                case 0 -> Double.POSITIVE_INFINITY;
+                case 1 -> Double.isInfinite(weight) ? graph.weight(arc) : 2 * weight;
+                default -> Double.isInfinite(weight) ? graph.weight(arc) / 2 : weight / 2;
+            };
+            for (int v = 0; v < n; v++) {
+                before[v] = paths.distance(v);
+            }
+            DynamicShortestPaths.Update update = paths.setEdgeWeight(graph.edgeId(arc), newWeight);
+
+            String change = name + ", change " + i;
+            CsrGraph current = paths.currentGraph();
+            double[] expected = ShortestPaths.distancesFrom(current, paths.source());
+            double[] actual = new double[n];
+            boolean[] changed = new boolean[n];
+            for (int v : update.changed()) {
+                changed[v] = true;
+            }
+            for (int v = 0; v < n; v++) {
+                actual[v] = paths.distance(v);
+                assertTrue(changed[v] || before[v] == actual[v], change + ": vertex " + v + " changed unreported");
+            }
+            assertArrayEquals(expected, actual, change);
+            assertParentsAreTight(current, paths, change);
+        }
+    }
+
+    private static void assertParentsAreTight(CsrGraph graph, DynamicShortestPaths paths, String change) {
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            int parent = paths.parent(v);
+            if (v == paths.source() || paths.distance(v) == Double.POSITIVE_INFINITY) {
+                assertEquals(-1, parent, change + ": vertex " + v);
+                continue;
+            }
+            assertEquals(paths.distance(v), paths.distance(parent) + TestGraphs.lightestArc(graph, parent, v),
+                         change + ": parent of " + v);
+        }
+    }
+}
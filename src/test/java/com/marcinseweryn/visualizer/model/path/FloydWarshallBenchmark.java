@@ -0,0 +1,97 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless benchmark comparing the textbook Floyd-Warshall loop with {@link BlockedFloydWarshall} on a dense
+ * random graph. Every ordered pair of distinct vertices is connected with the given probability by an arc with
+ * an integer weight in [1, 20], like the generated dense graphs of the pathfinding tab. The blocked version is
+ * run with one thread and with the given number of threads, and both results are checked against the
+ * textbook loop.
+ * <p>
+ * Usage: {@code FloydWarshallBenchmark [vertices] [tileSize] [threads] [density] [seed]}, defaults to
+ * 2000 vertices, tiles of 64 x 64 entries, all available processors and a density of 0.5.
+ */
+public final class FloydWarshallBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(FloydWarshallBenchmark.class);
+
+    private FloydWarshallBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int tileSize = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        double density = args.length > 3 ? Double.parseDouble(args[3]) : 0.5;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+
+        CsrGraph graph = denseGraph(n, density, new Random(seed));
+        logger.info("Generated {}", graph);
+
+        ForkJoinPool sequential = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            double[] expected = BlockedFloydWarshall.unblocked(graph);
+            long unblocked = System.nanoTime() - start;
+
+            long oneThread = measure(graph, tileSize, sequential, expected);
+            long allThreads = measure(graph, tileSize, parallel, expected);
+
+            logger.info("unblocked:                     {} ms", unblocked / 1_000_000.0);
+            logger.info("blocked ({}), 1 thread:        {} ms", tileSize, oneThread / 1_000_000.0);
+            logger.info("blocked ({}), {} threads:      {} ms", tileSize, threads, allThreads / 1_000_000.0);
+            logger.info("blocking speedup: {}, parallel speedup: {}",
+                        (double) unblocked / oneThread, (double) oneThread / allThreads);
+        } finally {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    private static CsrGraph denseGraph(int n, double density, Random random) {
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, (long) (density * n * (n - 1)) + n);
+        int[] sources = new int[capacity];
+        int[] targets = new int[capacity];
+        double[] weights = new double[capacity];
+        int arcs = 0;
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                if (u != v && arcs < capacity && random.nextDouble() < density) {
+                    sources[arcs] = u;
+                    targets[arcs] = v;
+                    weights[arcs] = 1 + random.nextInt(20);
+                    arcs++;
+                }
+            }
+        }
+        return CsrGraph.fromArcs(n, Arrays.copyOf(sources, arcs), Arrays.copyOf(targets, arcs),
+                                 Arrays.copyOf(weights, arcs));
+    }
+
+    /**
+     * Runs the blocked version and verifies the distances.
+     *
+     * @return The duration of the run in nanoseconds.
+     */
+    private static long measure(CsrGraph graph, int tileSize, ForkJoinPool pool, double[] expected) {
+        long start = System.nanoTime();
+        BlockedFloydWarshall search = new BlockedFloydWarshall(graph, tileSize, true, pool);
+        search.solve();
+        long duration = System.nanoTime() - start;
+
+        double[] distances = search.matrix();
+        for (int i = 0; i < expected.length; i++) {
+            if (distances[i] != expected[i]) {
+                throw new IllegalStateException("Distance of entry " + i + " is " + distances[i] + ", expected " + expected[i]);
+            }
+        }
+        return duration;
+    }
+}
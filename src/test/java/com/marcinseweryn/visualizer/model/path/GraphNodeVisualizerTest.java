@@ -0,0 +1,129 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import com.marcinseweryn.visualizer.view.GraphNode;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.scene.control.ListView;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Membership checks of the node structures. Graph nodes are controls and the structures post their list updates
+ * to the FX thread, so these tests are skipped where the toolkit cannot start, e.g. on Linux without a display.
+ */
+class GraphNodeVisualizerTest {
+
+    @BeforeAll
+    static void startToolkit() throws InterruptedException {
+        boolean display = !System.getProperty("os.name").startsWith("Linux")
+                || System.getenv("DISPLAY") != null || System.getenv("WAYLAND_DISPLAY") != null;
+        assumeTrue(display, "no display for the JavaFX toolkit");
+
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException alreadyStarted) {
+            started.countDown();
+        }
+        assumeTrue(started.await(10, TimeUnit.SECONDS), "JavaFX toolkit did not start");
+    }
+
+    private static GraphNode[] nodes(int count) {
+        GraphNode[] nodes = new GraphNode[count];
+        for (int i = 0; i < count; i++) {
+            nodes[i] = new GraphNode();
+            nodes[i].setIndex(i);
+            nodes[i].setDistance(count - i);
+        }
+        return nodes;
+    }
+
+    // Removes every node in the order of the structure and checks that only the remaining ones are members
+    private static void assertMembershipWhileDraining(GraphNodeVisualizer structure, GraphNode[] nodes,
+                                                      GraphNode[] expectedOrder) {
+        for (GraphNode node : nodes) {
+            assertTrue(structure.containsNode(node));
+        }
+        for (int removed = 0; removed < expectedOrder.length; removed++) {
+            assertSame(expectedOrder[removed], structure.removeNode());
+            for (int i = 0; i < expectedOrder.length; i++) {
+                assertTrue(structure.containsNode(expectedOrder[i]) == (i > removed), "after " + (removed + 1));
+            }
+        }
+        assertTrue(structure.isEmpty());
+    }
+
+    @Test
+    void queueTracksMembership() {
+        GraphNode[] nodes = nodes(5);
+        GraphNodeQueue queue = new GraphNodeQueue(ViewType.CANDIDATE_NODES, new ListView<>());
+        for (GraphNode node : nodes) {
+            queue.addNode(node);
+        }
+        assertFalse(queue.containsNode(new GraphNode()));
+        assertMembershipWhileDraining(queue, nodes, nodes);
+    }
+
+    @Test
+    void stackTracksMembership() {
+        GraphNode[] nodes = nodes(5);
+        GraphNodeStack stack = new GraphNodeStack(ViewType.CANDIDATE_NODES, new ListView<>());
+        for (GraphNode node : nodes) {
+            stack.addNode(node);
+        }
+        GraphNode[] popped = new GraphNode[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            popped[i] = nodes[nodes.length - 1 - i];
+        }
+        assertMembershipWhileDraining(stack, nodes, popped);
+    }
+
+    @Test
+    void priorityQueueCountsRepeatedInsertions() {
+        GraphNode[] nodes = nodes(5);
+        GraphNodePriorityQueue queue = new GraphNodePriorityQueue(ViewType.CANDIDATE_NODES, new ListView<>());
+        for (GraphNode node : nodes) {
+            queue.addNode(node);
+        }
+
+        // A lazy Dijkstra queues a node again when its distance improves, it stays a member until both are polled
+        queue.addNode(nodes[0]);
+        GraphNode[] polled = new GraphNode[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            polled[i] = nodes[nodes.length - 1 - i];
+        }
+        for (int i = 0; i < polled.length - 1; i++) {
+            assertSame(polled[i], queue.removeNode());
+            assertFalse(queue.containsNode(polled[i]));
+        }
+        assertSame(nodes[0], queue.removeNode());
+        assertTrue(queue.containsNode(nodes[0]));
+        assertSame(nodes[0], queue.removeNode());
+        assertFalse(queue.containsNode(nodes[0]));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void listTracksMembership() {
+        GraphNode[] nodes = nodes(5);
+        GraphNodeList list = new GraphNodeList(ViewType.VISITED, new ListView<SimpleStringProperty>());
+        for (int i = 0; i < 3; i++) {
+            list.addNode(nodes[i]);
+        }
+
+        for (int i = 0; i < nodes.length; i++) {
+            assertTrue(list.containsNode(nodes[i]) == (i < 3), "node " + i);
+        }
+        assertSame(nodes[1], list.get(nodes[1]));
+        assertThrows(UnsupportedOperationException.class, list::removeNode);
+    }
+}
@@ -0,0 +1,50 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IndexedDaryHeapTest {
+
+    @Test
+    void updatedKeysPollInOrder() {
+        Random random = new Random(1);
+        for (int arity : new int[]{2, 4, 8}) {
+            int n = 200;
+            IndexedDaryHeap heap = new IndexedDaryHeap(arity, n);
+            double[] keys = new double[n];
+            for (int v = 0; v < n; v++) {
+                keys[v] = random.nextInt(1000);
+                heap.insert(v, keys[v]);
+            }
+            // Raise and lower keys at random
+            for (int i = 0; i < 1000; i++) {
+                int v = random.nextInt(n);
+                keys[v] = random.nextInt(1000);
+                heap.updateKey(v, keys[v]);
+                assertEquals(keys[v], heap.keyOf(v));
+            }
+
+            double[] polled = new double[n];
+            for (int i = 0; i < n; i++) {
+                polled[i] = keys[heap.poll()];
+            }
+            double[] expected = keys.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, polled, "arity " + arity);
+        }
+    }
+
+    @Test
+    void decreaseKeyRejectsIncrease() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(4, 2);
+        heap.insert(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, 2));
+        assertThrows(IllegalStateException.class, () -> heap.updateKey(1, 2));
+    }
+}
@@ -0,0 +1,98 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless benchmark comparing {@link JohnsonSearch} with {@link BlockedFloydWarshall} on a sparse random graph
+ * with negative weights. Every vertex gets the given number of outgoing arcs to random targets; the weight of
+ * arc (u, v) is a random integer in [1, 20] plus p(v) - p(u) for random integer vertex prices p, so many arcs
+ * are negative but every cycle keeps a positive weight. Johnson is run with one thread and with the given number
+ * of threads, and the matrices of both algorithms are compared.
+ * <p>
+ * Usage: {@code JohnsonBenchmark [vertices] [degree] [threads] [tileSize] [seed]}, defaults to 3000 vertices
+ * with 4 arcs each, all available processors and tiles of 64 x 64 entries.
+ */
+public final class JohnsonBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(JohnsonBenchmark.class);
+
+    private JohnsonBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 3_000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int tileSize = args.length > 3 ? Integer.parseInt(args[3]) : 64;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+
+        CsrGraph graph = randomGraph(n, degree, new Random(seed));
+        logger.info("Generated {}", graph);
+
+        ForkJoinPool sequential = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            BlockedFloydWarshall floydWarshall = new BlockedFloydWarshall(graph, tileSize, false, parallel);
+            floydWarshall.solve();
+            long blocked = System.nanoTime() - start;
+
+            long oneThread = measure(graph, sequential, floydWarshall.matrix());
+            long allThreads = measure(graph, parallel, floydWarshall.matrix());
+
+            logger.info("Floyd-Warshall, {} threads: {} ms", threads, blocked / 1_000_000.0);
+            logger.info("Johnson, 1 thread:          {} ms", oneThread / 1_000_000.0);
+            logger.info("Johnson, {} threads:        {} ms", threads, allThreads / 1_000_000.0);
+            logger.info("speedup over Floyd-Warshall: {}, self-relative speedup: {}",
+                        (double) blocked / allThreads, (double) oneThread / allThreads);
+        } finally {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    private static CsrGraph randomGraph(int n, int degree, Random random) {
+        int[] prices = new int[n];
+        for (int v = 0; v < n; v++) {
+            prices[v] = random.nextInt(50);
+        }
+
+        int arcs = n * degree;
+        int[] sources = new int[arcs];
+        int[] targets = new int[arcs];
+        double[] weights = new double[arcs];
+        for (int i = 0; i < arcs; i++) {
+            sources[i] = i / degree;
+            targets[i] = random.nextInt(n);
+            weights[i] = 1 + random.nextInt(20) + prices[targets[i]] - prices[sources[i]];
+        }
+        return CsrGraph.fromArcs(n, sources, targets, weights);
+    }
+
+    /**
+     * Runs Johnson's algorithm and verifies the distances.
+     *
+     * @return The duration of the run in nanoseconds.
+     */
+    private static long measure(CsrGraph graph, ForkJoinPool pool, double[] expected) {
+        long start = System.nanoTime();
+        JohnsonSearch search = new JohnsonSearch(graph, pool);
+        if (!search.computePotentials(BellmanFordMode.QUEUE_SLF_LLL)) {
+            throw new IllegalStateException("Generated graph contains a negative cycle");
+        }
+        search.solve();
+        long duration = System.nanoTime() - start;
+
+        double[] distances = search.matrix();
+        for (int i = 0; i < expected.length; i++) {
+            if (distances[i] != expected[i]) {
+                throw new IllegalStateException("Distance of entry " + i + " is " + distances[i] + ", expected " + expected[i]);
+            }
+        }
+        return duration;
+    }
+}
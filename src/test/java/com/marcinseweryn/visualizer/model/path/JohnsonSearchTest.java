@@ -0,0 +1,91 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JohnsonSearchTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void nonNegativeWeightsMatchDijkstra() {
+        Random random = new Random(1);
+        for (int i = 0; i < 50; i++) {
+            int n = 1 + random.nextInt(40);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(4 * n + 1), 10, random);
+            JohnsonSearch search = new JohnsonSearch(graph, pool);
+            assertTrue(search.computePotentials(BellmanFordMode.QUEUE));
+            search.solve();
+            for (int source = 0; source < n; source++) {
+                double[] row = new double[n];
+                System.arraycopy(search.matrix(), source * n, row, 0, n);
+                assertArrayEquals(ShortestPaths.distancesFrom(graph, source), row, "graph " + i + ", source " + source);
+            }
+        }
+    }
+
+    @Test
+    void negativeWeightsMatchBellmanFordFromEverySource() {
+        Random random = new Random(2);
+        int checked = 0;
+        for (int i = 0; i < 200; i++) {
+            int n = 1 + random.nextInt(30);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(2 * n + 1), -2, 10, random);
+            BellmanFordMode mode = BellmanFordMode.values()[i % BellmanFordMode.values().length];
+            JohnsonSearch search = new JohnsonSearch(graph, pool);
+            boolean hasPotentials = search.computePotentials(mode);
+
+            boolean negativeCycle = false;
+            for (int source = 0; source < n; source++) {
+                negativeCycle |= BellmanFordSearch.run(graph, source, BellmanFordMode.ROUNDS, pool).negativeCycle();
+            }
+            assertEquals(!negativeCycle, hasPotentials, "graph " + i);
+            if (negativeCycle) {
+                continue;
+            }
+
+            for (int v = 0; v < n; v++) {
+                assertTrue(search.potential()[v] <= 0);
+            }
+            search.solve();
+            for (int source = 0; source < n; source++) {
+                double[] expected = BellmanFordSearch.run(graph, source, BellmanFordMode.ROUNDS, pool).distance();
+                for (int target = 0; target < n; target++) {
+                    assertEquals(expected[target], search.distance(source, target), 1e-9,
+                                 "graph " + i + ", " + source + " -> " + target);
+                }
+            }
+            checked++;
+        }
+        assertTrue(checked > 50, "too few graphs without negative cycles: " + checked);
+    }
+
+    @Test
+    void negativeCycleVerticesAreReported() {
+        // 0 -> 1 -> 2 -> 1 is a negative cycle, 3 is reachable from it and 4 is not
+        CsrGraph graph = CsrGraph.fromArcs(5, new int[]{0, 1, 2, 2, 0}, new int[]{1, 2, 1, 3, 4},
+                                           new double[]{1, 1, -3, 1, 2});
+        JohnsonSearch search = new JohnsonSearch(graph, pool);
+        assertFalse(search.computePotentials(BellmanFordMode.ROUNDS));
+        assertArrayEquals(new boolean[]{false, true, true, true, false}, search.negativeCycleVertices());
+    }
+}
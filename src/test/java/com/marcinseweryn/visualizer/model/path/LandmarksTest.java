@@ -0,0 +1,72 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LandmarksTest {
+
+    @Test
+    void estimateIsAdmissible() {
+        Random random = new Random(17);
+        for (int round = 0; round < 5; round++) {
+            // Sparse enough that some vertices cannot reach each other
+            CsrGraph graph = TestGraphs.random(200, 500 + round * 200, 20, random);
+            Landmarks landmarks = Landmarks.select(graph, 4);
+
+            for (int target = 0; target < graph.vertexCount(); target++) {
+                double[] toTarget = ShortestPaths.distancesFrom(graph.transpose(), target);
+                for (int v = 0; v < graph.vertexCount(); v++) {
+                    double estimate = landmarks.estimate(v, target);
+                    assertTrue(estimate >= 0 && estimate <= toTarget[v],
+                               "estimate " + estimate + " > d(" + v + ", " + target + ") = " + toTarget[v]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void estimateIsConsistent() {
+        CsrGraph graph = TestGraphs.random(500, 3000, 50, new Random(19));
+        Landmarks landmarks = Landmarks.select(graph, 6);
+
+        for (int target = 0; target < graph.vertexCount(); target += 7) {
+            double[] toTarget = ShortestPaths.distancesFrom(graph.transpose(), target);
+            for (int u = 0; u < graph.vertexCount(); u++) {
+                for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                    int v = graph.target(arc);
+                    // A vertex that cannot reach the target is estimated as 0, it never lies on the shortest path
+                    if (Double.isInfinite(toTarget[v])) {
+                        continue;
+                    }
+                    assertTrue(landmarks.estimate(u, target) <= graph.weight(arc) + landmarks.estimate(v, target),
+                               "arc " + u + " -> " + v + " towards " + target);
+                }
+            }
+        }
+    }
+
+    @Test
+    void estimateTowardsLandmarkIsExact() {
+        CsrGraph graph = TestGraphs.random(300, 2400, 1, 30, new Random(23));
+        Landmarks landmarks = Landmarks.select(graph, 3);
+
+        for (int landmark : landmarks.vertices()) {
+            double[] toLandmark = ShortestPaths.distancesFrom(graph.transpose(), landmark);
+            for (int v = 0; v < graph.vertexCount(); v++) {
+                if (Double.isFinite(toLandmark[v])) {
+                    assertEquals(toLandmark[v], landmarks.estimate(v, landmark), "vertex " + v);
+                }
+            }
+        }
+    }
+
+    @Test
+    void selectsAtMostOneLandmarkPerVertex() {
+        CsrGraph graph = TestGraphs.random(5, 20, 10, new Random(29));
+        assertEquals(5, Landmarks.select(graph, 10).vertices().length);
+    }
+}
@@ -0,0 +1,89 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Random;
+
+/**
+ * Headless benchmark comparing {@link DinicSearch} with {@link PushRelabelSearch} on a grid with random capacities,
+ * from a corner to the opposite corner, and on a random sparse digraph between random vertices. Both flows must
+ * have the same value, equal to the capacity of the minimum cut found in the residual network.
+ * <p>
+ * Usage: {@code MaxFlowBenchmark [grid side] [vertices] [degree] [seed]}, defaults to a 300 x 300 grid and a
+ * random digraph of 100000 vertices with average degree 8.
+ */
+public final class MaxFlowBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(MaxFlowBenchmark.class);
+
+    private MaxFlowBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        int vertices = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int degree = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42;
+
+        Random random = new Random(seed);
+        run("grid", ContractionHierarchyBenchmark.gridGraph(side, random), 0, side * side - 1);
+        run("random digraph", randomGraph(vertices, degree, random), 0, vertices - 1);
+    }
+
+    private static void run(String name, CsrGraph graph, int source, int sink) {
+        long dinic = 0;
+        long pushRelabel = 0;
+        double dinicFlow = 0;
+        double pushRelabelFlow = 0;
+        DinicSearch dinicSearch = null;
+        PushRelabelSearch pushRelabelSearch = null;
+        FlowNetwork network = null;
+
+        // The first round is a warm-up and not counted
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            network = FlowNetwork.of(graph);
+            dinicSearch = new DinicSearch(network, source, sink);
+            dinicFlow = dinicSearch.run();
+            dinic = System.nanoTime() - start;
+            verify(network, source, dinicFlow, "Dinic");
+
+            start = System.nanoTime();
+            network = FlowNetwork.of(graph);
+            pushRelabelSearch = new PushRelabelSearch(network, source, sink);
+            pushRelabelFlow = pushRelabelSearch.run();
+            pushRelabel = System.nanoTime() - start;
+            verify(network, source, pushRelabelFlow, "Push-relabel");
+        }
+
+        if (Math.abs(dinicFlow - pushRelabelFlow) > 1e-6 * Math.max(1, dinicFlow)) {
+            throw new IllegalStateException("Dinic found " + dinicFlow + ", push-relabel " + pushRelabelFlow);
+        }
+        logger.info("{}: {}, maximum flow {}", name, graph, dinicFlow);
+        logger.info("  Dinic: {} ms in {} phases", dinic / 1e6, dinicSearch.phases());
+        logger.info("  Push-relabel: {} ms, {} pushes, {} relabels, {} gaps", pushRelabel / 1e6,
+                    pushRelabelSearch.pushes(), pushRelabelSearch.relabels(), pushRelabelSearch.gaps());
+    }
+
+    private static void verify(FlowNetwork network, int source, double flow, String algorithm) {
+        double cut = network.cutCapacity(network.minCutSourceSide(source));
+        if (Math.abs(cut - flow) > 1e-6 * Math.max(1, flow) || Math.abs(network.outflow(source) - flow) > 1e-6 * Math.max(1, flow)) {
+            throw new IllegalStateException(algorithm + " flow " + flow + " differs from the cut capacity " + cut
+                                                    + " or the outflow of the source " + network.outflow(source));
+        }
+    }
+
+    private static CsrGraph randomGraph(int vertices, int degree, Random random) {
+        int arcs = vertices * degree;
+        int[] sources = new int[arcs];
+        int[] targets = new int[arcs];
+        double[] capacities = new double[arcs];
+        for (int i = 0; i < arcs; i++) {
+            sources[i] = random.nextInt(vertices);
+            targets[i] = random.nextInt(vertices);
+            capacities[i] = 1 + random.nextInt(100);
+        }
+        return CsrGraph.fromArcs(vertices, sources, targets, capacities);
+    }
+}
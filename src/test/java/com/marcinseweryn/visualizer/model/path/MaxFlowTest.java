@@ -0,0 +1,117 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MaxFlowTest {
+
+    @Test
+    void smallGraphsMatchExhaustiveMinimumCut() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            int n = 2 + random.nextInt(7);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(3 * n + 1), 10, random);
+            int source = random.nextInt(n);
+            int sink = (source + 1 + random.nextInt(n - 1)) % n;
+            double flow = assertFlowsAgree(graph, source, sink, "graph " + i);
+            assertEquals(lightestCut(graph, source, sink), flow, "graph " + i);
+        }
+    }
+
+    @Test
+    void randomGraphsAgree() {
+        Random random = new Random(2);
+        for (int i = 0; i < 50; i++) {
+            int n = 2 + random.nextInt(300);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(6 * n + 1), 100, random);
+            assertFlowsAgree(graph, 0, n - 1, "graph " + i);
+        }
+    }
+
+    @Test
+    void gridCornersAgree() {
+        int side = 30;
+        CsrGraph graph = ContractionHierarchyBenchmark.gridGraph(side, new Random(3));
+        assertTrue(assertFlowsAgree(graph, 0, side * side - 1, "grid") > 0);
+    }
+
+    @Test
+    void invalidInputIsRejected() {
+        CsrGraph graph = CsrGraph.fromArcs(2, new int[]{0}, new int[]{1}, new double[]{-1});
+        assertThrows(IllegalArgumentException.class, () -> FlowNetwork.of(graph));
+
+        FlowNetwork network = FlowNetwork.of(CsrGraph.fromArcs(2, new int[]{0}, new int[]{1}, new double[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> new DinicSearch(network, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PushRelabelSearch(network, 0, 0));
+    }
+
+    /**
+     * Runs both algorithms and checks that each leaves a valid flow whose value is the capacity of the minimum
+     * cut of its residual network.
+     *
+     * @return The value of the maximum flow.
+     */
+    private static double assertFlowsAgree(CsrGraph graph, int source, int sink, String name) {
+        FlowNetwork dinicNetwork = FlowNetwork.of(graph);
+        double dinic = new DinicSearch(dinicNetwork, source, sink).run();
+        assertValidMaximumFlow(dinicNetwork, source, sink, dinic, name + ", Dinic");
+
+        FlowNetwork pushRelabelNetwork = FlowNetwork.of(graph);
+        double pushRelabel = new PushRelabelSearch(pushRelabelNetwork, source, sink).run();
+        assertValidMaximumFlow(pushRelabelNetwork, source, sink, pushRelabel, name + ", push-relabel");
+
+        assertEquals(dinic, pushRelabel, 1e-9 * Math.max(1, dinic), name);
+        return dinic;
+    }
+
+    private static void assertValidMaximumFlow(FlowNetwork network, int source, int sink, double flow, String name) {
+        CsrGraph graph = network.graph();
+        double[] balance = new double[graph.vertexCount()];
+        for (int u = 0; u < graph.vertexCount(); u++) {
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                double f = network.flow(arc);
+                assertTrue(f >= -FlowNetwork.EPSILON && f <= graph.weight(arc) + FlowNetwork.EPSILON,
+                           name + ": flow " + f + " on arc " + arc);
+                balance[u] -= f;
+                balance[graph.target(arc)] += f;
+            }
+        }
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            if (v != source && v != sink) {
+                assertEquals(0, balance[v], 1e-9, name + ": flow is not conserved at " + v);
+            }
+        }
+        assertEquals(flow, balance[sink], 1e-9, name);
+        assertEquals(flow, network.outflow(source), 1e-9, name);
+
+        boolean[] sourceSide = network.minCutSourceSide(source);
+        assertTrue(sourceSide[source], name);
+        assertFalse(sourceSide[sink], name + ": the sink is still reachable");
+        assertEquals(flow, network.cutCapacity(sourceSide), 1e-9, name);
+    }
+
+    /**
+     * Tries every cut separating the source from the sink and returns the smallest capacity.
+     */
+    private static double lightestCut(CsrGraph graph, int source, int sink) {
+        int n = graph.vertexCount();
+        double lightest = Double.POSITIVE_INFINITY;
+        for (int subset = 0; subset < 1 << n; subset++) {
+            if ((subset & 1 << source) == 0 || (subset & 1 << sink) != 0) {
+                continue;
+            }
+            boolean[] sourceSide = new boolean[n];
+            for (int v = 0; v < n; v++) {
+                sourceSide[v] = (subset & 1 << v) != 0;
+            }
+            lightest = Math.min(lightest, FlowNetwork.of(graph).cutCapacity(sourceSide));
+        }
+        return lightest;
+    }
+}
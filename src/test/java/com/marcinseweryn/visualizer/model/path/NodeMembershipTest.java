@@ -0,0 +1,101 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NodeMembershipTest {
+
+    // Stands in for a graph node, whose index is reassigned by every snapshot
+    private static final class Node {
+        private final int index;
+
+        Node(int index) {
+            this.index = index;
+        }
+    }
+
+    private static NodeMembership<Node> membership() {
+        return new NodeMembership<>(node -> node.index);
+    }
+
+    @Test
+    void containsAddedNodesUntilRemoved() {
+        NodeMembership<Node> members = membership();
+        Node[] nodes = new Node[100];
+        for (int i = 0; i < nodes.length; i++) {
+            // Added in descending order so that the arrays grow several times
+            nodes[i] = new Node(nodes.length - 1 - i);
+            members.add(nodes[i]);
+        }
+        for (Node node : nodes) {
+            assertTrue(members.contains(node));
+        }
+        assertFalse(members.contains(new Node(5)));
+        assertFalse(members.contains(new Node(1000)));
+
+        for (int i = 0; i < nodes.length; i += 2) {
+            members.remove(nodes[i]);
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            assertTrue(members.contains(nodes[i]) == (i % 2 == 1), "node " + i);
+        }
+    }
+
+    @Test
+    void countsDuplicates() {
+        NodeMembership<Node> members = membership();
+        Node indexed = new Node(3);
+        Node unindexed = new Node(-1);
+        for (Node node : new Node[]{indexed, unindexed}) {
+            members.add(node);
+            members.add(node);
+            members.remove(node);
+            assertTrue(members.contains(node));
+            members.remove(node);
+            assertFalse(members.contains(node));
+
+            // Removing a node that is not a member does not make the next addition vanish early
+            members.remove(node);
+            members.add(node);
+            assertTrue(members.contains(node));
+            members.remove(node);
+            assertFalse(members.contains(node));
+        }
+    }
+
+    @Test
+    void separatesNodesSharingAnIndex() {
+        // A node left over from an older snapshot may carry the index of a current node
+        NodeMembership<Node> members = membership();
+        Node current = new Node(7);
+        Node stale = new Node(7);
+        members.add(current);
+        members.add(stale);
+        assertTrue(members.contains(current));
+        assertTrue(members.contains(stale));
+
+        members.remove(current);
+        assertFalse(members.contains(current));
+        assertTrue(members.contains(stale));
+
+        members.remove(stale);
+        assertFalse(members.contains(stale));
+    }
+
+    @Test
+    void reusesIndexOnceItsNodeWasRemoved() {
+        NodeMembership<Node> members = membership();
+        Node first = new Node(2);
+        Node second = new Node(2);
+        members.add(first);
+        members.remove(first);
+        members.add(second);
+
+        assertTrue(members.contains(second));
+        assertFalse(members.contains(first));
+        members.remove(second);
+        assertFalse(members.contains(second));
+    }
+}
@@ -0,0 +1,89 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless benchmark comparing {@link ParallelBfsSearch} with the sequential queue based breadth-first search on
+ * the scale-free graph of {@link DirectionOptimizingBenchmark}, by default with 10^7 arcs. The levels and parents
+ * of every search are checked against the sequential search, and the time per level of the first parallel search
+ * is logged.
+ * <p>
+ * Usage: {@code ParallelBfsBenchmark [vertices] [m] [threads] [searches] [seed]}, defaults to 625000 vertices,
+ * m = 8, the available processors and 5 searches from random sources.
+ */
+public final class ParallelBfsBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(ParallelBfsBenchmark.class);
+
+    private ParallelBfsBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int vertices = args.length > 0 ? Integer.parseInt(args[0]) : 625_000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int searches = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+
+        Random random = new Random(seed);
+        CsrGraph graph = DirectionOptimizingBenchmark.scaleFreeGraph(vertices, m, random);
+        logger.info("Generated {} ({} MB)", graph, graph.sizeInBytes() >> 20);
+
+        int[] sources = new int[searches];
+        for (int i = 0; i < searches; i++) {
+            sources[i] = random.nextInt(vertices);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        int[] levels = new int[vertices];
+        long sequential = 0;
+        long parallel = 0;
+
+        // The first round is a warm-up and not counted
+        for (int round = 0; round < 2; round++) {
+            sequential = 0;
+            parallel = 0;
+            for (int i = 0; i < searches; i++) {
+                long start = System.nanoTime();
+                ShortestPaths.breadthFirstSearch(graph, sources[i], -1, levels);
+                sequential += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                ParallelBfsSearch search = new ParallelBfsSearch(graph, sources[i], pool);
+                if (round == 1 && i == 0) {
+                    for (ParallelBfsSearch.Level level = search.step(); level != null; level = search.step()) {
+                        logger.info("Level {}: frontier {}, {} discovered, {} tasks, {} ms", level.depth(),
+                                    level.frontier(), level.discovered(), level.tasks(), level.nanos() / 1e6);
+                    }
+                } else {
+                    search.run();
+                }
+                parallel += System.nanoTime() - start;
+
+                verify(graph, search, sources[i], levels);
+            }
+        }
+        pool.shutdown();
+
+        logger.info("Sequential BFS: {} ms per search", sequential / 1e6 / searches);
+        logger.info("Parallel BFS:   {} ms per search on {} threads", parallel / 1e6 / searches, threads);
+        logger.info("speedup: {}", (double) sequential / parallel);
+    }
+
+    private static void verify(CsrGraph graph, ParallelBfsSearch search, int source, int[] levels) {
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            if (search.level(v) != levels[v]) {
+                throw new IllegalStateException("Level of " + v + " from " + source + " is " + search.level(v)
+                                                        + ", expected " + levels[v]);
+            }
+            int parent = search.parent(v);
+            if (v != source && levels[v] >= 0 && (levels[parent] != levels[v] - 1 || graph.findArc(parent, v) < 0)) {
+                throw new IllegalStateException("Parent " + parent + " of " + v + " is not on a shortest path");
+            }
+        }
+    }
+}
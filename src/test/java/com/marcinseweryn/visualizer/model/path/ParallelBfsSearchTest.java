@@ -0,0 +1,71 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelBfsSearchTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void randomGraphsMatchBreadthFirstSearch() {
+        Random random = new Random(1);
+        for (int i = 0; i < 50; i++) {
+            int n = 1 + random.nextInt(60);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(3 * n + 1), 1, random);
+            int source = random.nextInt(n);
+            ParallelBfsSearch search = new ParallelBfsSearch(graph, source, pool);
+            search.run();
+            assertMatchesBreadthFirstSearch(graph, search, source, "graph " + i);
+        }
+    }
+
+    @Test
+    void largeFrontiersAreSplitAndMatchBreadthFirstSearch() {
+        Random random = new Random(2);
+        CsrGraph graph = DirectionOptimizingBenchmark.scaleFreeGraph(50_000, 4, random);
+        for (int i = 0; i < 3; i++) {
+            int source = random.nextInt(graph.vertexCount());
+            ParallelBfsSearch search = new ParallelBfsSearch(graph, source, pool);
+            int maxTasks = 0;
+            for (ParallelBfsSearch.Level level = search.step(); level != null; level = search.step()) {
+                maxTasks = Math.max(maxTasks, level.tasks());
+            }
+            assertTrue(maxTasks > 1, "no level was split into tasks");
+            assertMatchesBreadthFirstSearch(graph, search, source, "source " + source);
+        }
+    }
+
+    private static void assertMatchesBreadthFirstSearch(CsrGraph graph, ParallelBfsSearch search, int source,
+                                                        String name) {
+        int[] levels = new int[graph.vertexCount()];
+        ShortestPaths.breadthFirstSearch(graph, source, -1, levels);
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            assertEquals(levels[v], search.level(v), name + ": level of " + v);
+            int parent = search.parent(v);
+            if (v == source || levels[v] < 0) {
+                assertEquals(-1, parent, name + ": parent of " + v);
+            } else {
+                assertEquals(levels[v] - 1, levels[parent], name + ": parent of " + v);
+                assertTrue(graph.findArc(parent, v) >= 0, name + ": no arc from the parent of " + v);
+            }
+        }
+    }
+}
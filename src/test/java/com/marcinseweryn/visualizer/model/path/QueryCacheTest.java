@@ -0,0 +1,53 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class QueryCacheTest {
+
+    private static QueryCache.Result result(double distance) {
+        return new QueryCache.Result(new double[]{0, distance}, new int[]{-1, 0});
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedAtCapacity() {
+        QueryCache cache = new QueryCache(3);
+        QueryCache.Key[] keys = new QueryCache.Key[4];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new QueryCache.Key(1, "Dijkstra", "1", String.valueOf(i));
+        }
+        cache.put(keys[0], result(0));
+        cache.put(keys[1], result(1));
+        cache.put(keys[2], result(2));
+
+        // Reading the oldest entry makes the second one the least recently used
+        assertNotNull(cache.get(keys[0]));
+        cache.put(keys[3], result(3));
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get(keys[1]));
+        assertNotNull(cache.get(keys[0]));
+        assertNotNull(cache.get(keys[2]));
+        assertNotNull(cache.get(keys[3]));
+        assertEquals(4, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void versionBumpMakesEntriesMiss() {
+        QueryCache cache = new QueryCache(8);
+        GraphVersion version = new GraphVersion();
+        QueryCache.Result stored = result(5);
+        cache.put(new QueryCache.Key(version.get(), "AStar", "1", "2"), stored);
+        assertSame(stored, cache.get(new QueryCache.Key(version.get(), "AStar", "1", "2")));
+
+        version.increment();
+        assertNull(cache.get(new QueryCache.Key(version.get(), "AStar", "1", "2")));
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+}
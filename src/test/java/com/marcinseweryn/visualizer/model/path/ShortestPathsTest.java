@@ -0,0 +1,95 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShortestPathsTest {
+
+    @Test
+    void aStarMatchesDijkstraAtScaleOne() {
+        Random random = new Random(31);
+        for (int round = 0; round < 5; round++) {
+            CsrGraph graph = TestGraphs.random(1000, 2000 + round * 1000, 100, random);
+            Landmarks landmarks = Landmarks.select(graph, 8);
+            int n = graph.vertexCount();
+            double[] expected = new double[n];
+            double[] actual = new double[n];
+
+            long dijkstraSettled = 0;
+            long aStarSettled = 0;
+            for (int query = 0; query < 50; query++) {
+                int source = random.nextInt(n);
+                int target = random.nextInt(n);
+                dijkstraSettled += ShortestPaths.dijkstra(graph, source, target, expected, null);
+                aStarSettled += ShortestPaths.aStar(graph, source, target, landmarks, 1.0, actual);
+
+                assertEquals(expected[target], actual[target], source + " -> " + target);
+            }
+            assertTrue(aStarSettled <= dijkstraSettled, aStarSettled + " > " + dijkstraSettled);
+        }
+    }
+
+    @Test
+    void scaledAStarNeverUnderestimates() {
+        Random random = new Random(37);
+        CsrGraph graph = TestGraphs.random(1000, 5000, 100, random);
+        Landmarks landmarks = Landmarks.select(graph, 4);
+        double[] expected = new double[graph.vertexCount()];
+        double[] actual = new double[graph.vertexCount()];
+
+        for (int query = 0; query < 50; query++) {
+            int source = random.nextInt(graph.vertexCount());
+            int target = random.nextInt(graph.vertexCount());
+            ShortestPaths.dijkstra(graph, source, target, expected, null);
+            ShortestPaths.aStar(graph, source, target, landmarks, 3.0, actual);
+
+            // An overestimating heuristic may return a longer path, but never a shorter or a missing one
+            assertEquals(Double.isFinite(expected[target]), Double.isFinite(actual[target]));
+            assertTrue(actual[target] >= expected[target], source + " -> " + target);
+        }
+    }
+
+    @Test
+    void bidirectionalDijkstraMatchesDijkstra() {
+        Random random = new Random(41);
+        for (int round = 0; round < 5; round++) {
+            // From mostly disconnected to dense, with zero weights and parallel arcs
+            CsrGraph graph = TestGraphs.random(500, 300 + round * 1500, 20, random);
+            CsrGraph reverse = graph.transpose();
+            double[] expected = new double[graph.vertexCount()];
+
+            for (int query = 0; query < 200; query++) {
+                int source = random.nextInt(graph.vertexCount());
+                int target = query % 20 == 0 ? source : random.nextInt(graph.vertexCount());
+                ShortestPaths.dijkstra(graph, source, target, expected, null);
+
+                assertEquals(expected[target], ShortestPaths.bidirectionalDijkstra(graph, reverse, source, target),
+                             source + " -> " + target);
+            }
+        }
+    }
+
+    @Test
+    void bidirectionalBreadthFirstSearchMatchesBreadthFirstSearch() {
+        Random random = new Random(43);
+        for (int round = 0; round < 5; round++) {
+            CsrGraph graph = TestGraphs.random(500, 300 + round * 1500, 1, random);
+            CsrGraph reverse = graph.transpose();
+            int[] expected = new int[graph.vertexCount()];
+
+            for (int query = 0; query < 200; query++) {
+                int source = random.nextInt(graph.vertexCount());
+                int target = query % 20 == 0 ? source : random.nextInt(graph.vertexCount());
+                ShortestPaths.breadthFirstSearch(graph, source, target, expected);
+
+                assertEquals(expected[target],
+                             ShortestPaths.bidirectionalBreadthFirstSearch(graph, reverse, source, target),
+                             source + " -> " + target);
+            }
+        }
+    }
+}
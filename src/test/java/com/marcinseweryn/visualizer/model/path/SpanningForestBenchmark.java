@@ -0,0 +1,88 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless benchmark comparing how Kruskal's, Prim's and Borůvka's algorithms of {@link SpanningForest} scale on
+ * random sparse graphs of growing size, every vertex joined to a random vertex by an edge of random weight
+ * {@code degree / 2} times. The three forests are checked to have the same weight and number of edges.
+ * <p>
+ * Usage: {@code SpanningForestBenchmark [max vertices] [degree] [threads] [seed]}, defaults to 10^6 vertices,
+ * degree 8 and the available processors; the sizes grow tenfold from 10^4 vertices.
+ */
+public final class SpanningForestBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(SpanningForestBenchmark.class);
+
+    private SpanningForestBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int maxVertices = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42;
+
+        Random random = new Random(seed);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        for (int vertices = 10_000; vertices <= maxVertices; vertices *= 10) {
+            SpanningForest forest = SpanningForest.of(randomGraph(vertices, degree, random));
+
+            long kruskal = 0;
+            long prim = 0;
+            long boruvka = 0;
+            SpanningForest.Result kruskalResult = null;
+            SpanningForest.Result primResult = null;
+            SpanningForest.Result boruvkaResult = null;
+
+            // The first round is a warm-up and not counted
+            for (int round = 0; round < 2; round++) {
+                long start = System.nanoTime();
+                kruskalResult = forest.kruskal();
+                kruskal = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                primResult = forest.prim(4, 0);
+                prim = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                boruvkaResult = forest.boruvka(pool);
+                boruvka = System.nanoTime() - start;
+            }
+
+            verify(kruskalResult, primResult, "Prim");
+            verify(kruskalResult, boruvkaResult, "Boruvka");
+            logger.info("{} vertices, {} edges, {} trees of weight {}", vertices, forest.edgeCount(),
+                        kruskalResult.trees(), kruskalResult.weight());
+            logger.info("  Kruskal: {} ms, Prim: {} ms, Boruvka: {} ms in {} rounds on {} threads",
+                        kruskal / 1e6, prim / 1e6, boruvka / 1e6, boruvkaResult.roundEnds().length, threads);
+        }
+        pool.shutdown();
+    }
+
+    private static void verify(SpanningForest.Result expected, SpanningForest.Result actual, String algorithm) {
+        if (actual.treeEdges() != expected.treeEdges()
+                || Math.abs(actual.weight() - expected.weight()) > 1e-6 * Math.abs(expected.weight())) {
+            throw new IllegalStateException(algorithm + " found " + actual.treeEdges() + " edges of weight "
+                                                    + actual.weight() + ", Kruskal " + expected.treeEdges()
+                                                    + " edges of weight " + expected.weight());
+        }
+    }
+
+    private static CsrGraph randomGraph(int vertices, int degree, Random random) {
+        int arcs = vertices * (degree / 2);
+        int[] sources = new int[arcs];
+        int[] targets = new int[arcs];
+        double[] weights = new double[arcs];
+        for (int i = 0; i < arcs; i++) {
+            sources[i] = i % vertices;
+            targets[i] = random.nextInt(vertices);
+            weights[i] = 1 + random.nextInt(1000);
+        }
+        return CsrGraph.fromArcs(vertices, sources, targets, weights);
+    }
+}
@@ -0,0 +1,138 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpanningForestTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void smallGraphsMatchExhaustiveSearch() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            int n = 1 + random.nextInt(6);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(11), 5, random);
+            SpanningForest forest = SpanningForest.of(graph);
+            double expected = lightestForest(forest, n);
+            for (SpanningForest.Result result : results(forest, random.nextInt(n))) {
+                assertEquals(expected, result.weight(), "graph " + i);
+                assertIsSpanningForest(forest, n, result, "graph " + i);
+            }
+        }
+    }
+
+    @Test
+    void algorithmsAgreeOnRandomGraphs() {
+        Random random = new Random(2);
+        for (int i = 0; i < 50; i++) {
+            int n = 1 + random.nextInt(200);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(3 * n + 1), 20, random);
+            assertAlgorithmsAgree(graph, random, "graph " + i);
+        }
+    }
+
+    @Test
+    void algorithmsAgreeWhenBoruvkaSplitsTheEdges() {
+        Random random = new Random(3);
+        CsrGraph graph = TestGraphs.random(20_000, 60_000, 1000, random);
+        assertAlgorithmsAgree(graph, random, "large graph");
+    }
+
+    private static void assertAlgorithmsAgree(CsrGraph graph, Random random, String name) {
+        int n = graph.vertexCount();
+        SpanningForest forest = SpanningForest.of(graph);
+        SpanningForest.Result[] results = results(forest, random.nextInt(n));
+        for (SpanningForest.Result result : results) {
+            assertEquals(results[0].weight(), result.weight(), name);
+            assertIsSpanningForest(forest, n, result, name);
+        }
+
+        // Kruskal and Borůvka break ties by the edge index, so they find the same forest
+        assertArrayEquals(acceptedEdges(results[0]), acceptedEdges(results[results.length - 1]), name);
+    }
+
+    private static SpanningForest.Result[] results(SpanningForest forest, int root) {
+        return new SpanningForest.Result[]{forest.kruskal(), forest.prim(2, root), forest.prim(4, 0),
+                forest.boruvka(pool)};
+    }
+
+    /**
+     * Checks that the accepted edges are acyclic, one tree per connected component, and add up to the weight.
+     */
+    private static void assertIsSpanningForest(SpanningForest forest, int n, SpanningForest.Result result,
+                                               String name) {
+        UnionFind components = new UnionFind(n);
+        for (int e = 0; e < forest.edgeCount(); e++) {
+            components.union(forest.from(e), forest.to(e));
+        }
+
+        UnionFind trees = new UnionFind(n);
+        double weight = 0;
+        int[] accepted = acceptedEdges(result);
+        for (int e : accepted) {
+            assertTrue(trees.union(forest.from(e), forest.to(e)), name + ": edge " + e + " closes a cycle");
+            weight += forest.weight(e);
+        }
+        assertEquals(components.sets(), result.trees(), name);
+        assertEquals(n - components.sets(), accepted.length, name);
+        assertEquals(accepted.length, result.treeEdges(), name);
+        assertEquals(result.weight(), weight, 1e-9, name);
+    }
+
+    private static int[] acceptedEdges(SpanningForest.Result result) {
+        int[] accepted = Arrays.stream(result.steps()).filter(step -> step >= 0).toArray();
+        Arrays.sort(accepted);
+        return accepted;
+    }
+
+    /**
+     * Tries every subset of the edges and returns the lightest one that spans every component without a cycle.
+     */
+    private static double lightestForest(SpanningForest forest, int n) {
+        UnionFind components = new UnionFind(n);
+        for (int e = 0; e < forest.edgeCount(); e++) {
+            components.union(forest.from(e), forest.to(e));
+        }
+        int size = n - components.sets();
+
+        double lightest = Double.POSITIVE_INFINITY;
+        for (int subset = 0; subset < 1 << forest.edgeCount(); subset++) {
+            if (Integer.bitCount(subset) != size) {
+                continue;
+            }
+            UnionFind trees = new UnionFind(n);
+            boolean acyclic = true;
+            double weight = 0;
+            for (int e = 0; e < forest.edgeCount() && acyclic; e++) {
+                if ((subset & 1 << e) != 0) {
+                    acyclic = trees.union(forest.from(e), forest.to(e));
+                    weight += forest.weight(e);
+                }
+            }
+            if (acyclic) {
+                lightest = Math.min(lightest, weight);
+            }
+        }
+        return lightest;
+    }
+}
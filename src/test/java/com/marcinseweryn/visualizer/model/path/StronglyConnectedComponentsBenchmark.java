@@ -0,0 +1,188 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Headless benchmark of the iterative Tarjan search of {@link StronglyConnectedComponents} on a single directed
+ * path, a single cycle and a random sparse digraph, each with the given number of vertices. A plain recursive
+ * Tarjan search is run on the path first to show the depth at which it overflows the thread stack.
+ * Every result is verified: each component must be strongly connected, every arc must lead to a component with
+ * a lower or equal number and {@link TopologicalOrder#kahn(CsrGraph)} must sort the whole condensation.
+ * <p>
+ * Usage: {@code StronglyConnectedComponentsBenchmark [vertices] [degree] [seed]}, defaults to 2000000 vertices
+ * and average degree 2.
+ */
+public final class StronglyConnectedComponentsBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(StronglyConnectedComponentsBenchmark.class);
+
+    private StronglyConnectedComponentsBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int vertices = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+        CsrGraph path = chain(vertices, false);
+        RecursiveTarjan recursive = new RecursiveTarjan(path);
+        try {
+            recursive.run();
+            logger.info("Recursive Tarjan finished the path of {} vertices", vertices);
+        } catch (StackOverflowError e) {
+            logger.info("Recursive Tarjan overflowed the stack at depth {} on the path of {} vertices",
+                        recursive.depth, vertices);
+        }
+
+        run("path", path);
+        run("cycle", chain(vertices, true));
+        run("random digraph", randomGraph(vertices, degree, new Random(seed)));
+    }
+
+    private static void run(String name, CsrGraph graph) {
+        // The first round is a warm-up and not counted
+        StronglyConnectedComponents components = StronglyConnectedComponents.tarjan(graph);
+        long start = System.nanoTime();
+        components = StronglyConnectedComponents.tarjan(graph);
+        long tarjan = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        CsrGraph condensation = components.condensation(graph);
+        TopologicalOrder order = TopologicalOrder.kahn(condensation);
+        long sort = System.nanoTime() - start;
+
+        verify(graph, components, order);
+        int largest = Arrays.stream(components.sizes()).max().orElse(0);
+        logger.info("{}: {}, {} components (largest {}), condensation with {} arcs", name, graph,
+                    components.count(), largest, condensation.arcCount());
+        logger.info("  Tarjan: {} ms, condensation and Kahn: {} ms", tarjan / 1e6, sort / 1e6);
+    }
+
+    private static void verify(CsrGraph graph, StronglyConnectedComponents components, TopologicalOrder order) {
+        if (!order.isComplete()) {
+            throw new IllegalStateException("The condensation has a cycle");
+        }
+        for (int u = 0; u < graph.vertexCount(); u++) {
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                if (components.component(graph.target(arc)) > components.component(u)) {
+                    throw new IllegalStateException("Arc " + u + " -> " + graph.target(arc) + " leads to a later component");
+                }
+            }
+        }
+
+        // Every member must reach and be reached from the first member of its component within the component
+        int[] first = new int[components.count()];
+        Arrays.fill(first, -1);
+        for (int v = 0; v < graph.vertexCount(); v++) {
+            if (first[components.component(v)] < 0) {
+                first[components.component(v)] = v;
+            }
+        }
+        for (CsrGraph direction : new CsrGraph[]{graph, graph.transpose()}) {
+            boolean[] reached = new boolean[graph.vertexCount()];
+            int[] queue = new int[graph.vertexCount()];
+            for (int root : first) {
+                int tail = 0;
+                queue[tail++] = root;
+                reached[root] = true;
+                for (int head = 0; head < tail; head++) {
+                    int u = queue[head];
+                    for (int arc = direction.firstArc(u); arc < direction.endArc(u); arc++) {
+                        int v = direction.target(arc);
+                        if (!reached[v] && components.component(v) == components.component(root)) {
+                            reached[v] = true;
+                            queue[tail++] = v;
+                        }
+                    }
+                }
+            }
+            for (int v = 0; v < graph.vertexCount(); v++) {
+                if (!reached[v]) {
+                    throw new IllegalStateException("Vertex " + v + " is not strongly connected to its component");
+                }
+            }
+        }
+    }
+
+    static CsrGraph chain(int vertices, boolean closed) {
+        int arcs = closed ? vertices : vertices - 1;
+        int[] sources = new int[arcs];
+        int[] targets = new int[arcs];
+        for (int i = 0; i < arcs; i++) {
+            sources[i] = i;
+            targets[i] = (i + 1) % vertices;
+        }
+        return CsrGraph.fromArcs(vertices, sources, targets, new double[arcs]);
+    }
+
+    private static CsrGraph randomGraph(int vertices, int degree, Random random) {
+        int arcs = vertices * degree;
+        int[] sources = new int[arcs];
+        int[] targets = new int[arcs];
+        for (int i = 0; i < arcs; i++) {
+            sources[i] = random.nextInt(vertices);
+            targets[i] = random.nextInt(vertices);
+        }
+        return CsrGraph.fromArcs(vertices, sources, targets, new double[arcs]);
+    }
+
+    /**
+     * The textbook recursive Tarjan search, only used to find the depth at which recursion fails.
+     */
+    private static final class RecursiveTarjan {
+
+        private final CsrGraph graph;
+        private final int[] index;
+        private final int[] low;
+        private final boolean[] onStack;
+        private final int[] stack;
+        private int stackSize;
+        private int counter;
+        private int depth;
+
+        RecursiveTarjan(CsrGraph graph) {
+            this.graph = graph;
+            index = new int[graph.vertexCount()];
+            low = new int[graph.vertexCount()];
+            onStack = new boolean[graph.vertexCount()];
+            stack = new int[graph.vertexCount()];
+            Arrays.fill(index, -1);
+        }
+
+        void run() {
+            for (int v = 0; v < graph.vertexCount(); v++) {
+                if (index[v] < 0) {
+                    visit(v);
+                }
+            }
+        }
+
+        private void visit(int v) {
+            depth++;
+            index[v] = low[v] = counter++;
+            stack[stackSize++] = v;
+            onStack[v] = true;
+            for (int arc = graph.firstArc(v); arc < graph.endArc(v); arc++) {
+                int w = graph.target(arc);
+                if (index[w] < 0) {
+                    visit(w);
+                    low[v] = Math.min(low[v], low[w]);
+                } else if (onStack[w]) {
+                    low[v] = Math.min(low[v], index[w]);
+                }
+            }
+            if (low[v] == index[v]) {
+                int w;
+                do {
+                    w = stack[--stackSize];
+                    onStack[w] = false;
+                } while (w != v);
+            }
+            depth--;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StronglyConnectedComponentsTest {
+
+    @Test
+    void componentsMatchMutualReachability() {
+        Random random = new Random(1);
+        for (int i = 0; i < 100; i++) {
+            int n = 1 + random.nextInt(40);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(2 * n + 1), 1, random);
+            StronglyConnectedComponents components = StronglyConnectedComponents.tarjan(graph);
+            String name = "graph " + i;
+
+            boolean[][] reaches = new boolean[n][];
+            for (int v = 0; v < n; v++) {
+                int[] levels = new int[n];
+                ShortestPaths.breadthFirstSearch(graph, v, -1, levels);
+                reaches[v] = new boolean[n];
+                for (int w = 0; w < n; w++) {
+                    reaches[v][w] = levels[w] >= 0;
+                }
+            }
+            for (int u = 0; u < n; u++) {
+                for (int v = 0; v < n; v++) {
+                    assertEquals(reaches[u][v] && reaches[v][u],
+                                 components.component(u) == components.component(v), name + ": " + u + ", " + v);
+                }
+            }
+            assertEquals(n, Arrays.stream(components.sizes()).sum(), name);
+            assertArcsLeadToLowerComponents(graph, components, name);
+        }
+    }
+
+    @Test
+    void condensationIsSortedTopologically() {
+        Random random = new Random(2);
+        for (int i = 0; i < 100; i++) {
+            int n = 1 + random.nextInt(60);
+            CsrGraph graph = TestGraphs.random(n, random.nextInt(2 * n + 1), 1, random);
+            StronglyConnectedComponents components = StronglyConnectedComponents.tarjan(graph);
+            CsrGraph condensation = components.condensation(graph);
+            assertEquals(components.count(), condensation.vertexCount());
+
+            // Every arc between two components is in the condensation
+            for (int u = 0; u < n; u++) {
+                for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                    int c = components.component(u);
+                    int d = components.component(graph.target(arc));
+                    assertTrue(c == d || condensation.findArc(c, d) >= 0, "graph " + i + ": arc " + c + " -> " + d);
+                }
+            }
+            assertSorted(condensation, TopologicalOrder.kahn(condensation), "graph " + i);
+        }
+    }
+
+    @Test
+    void kahnLeavesCyclesUnsorted() {
+        // 0 -> 1 -> 2 -> 1, 3 -> 0, so only 3 and 0 can be sorted
+        CsrGraph graph = CsrGraph.fromArcs(4, new int[]{0, 1, 2, 3}, new int[]{1, 2, 1, 0}, new double[4]);
+        TopologicalOrder order = TopologicalOrder.kahn(graph);
+        assertFalse(order.isComplete());
+        assertEquals(2, order.sorted());
+        assertArrayEquals(new int[]{3, 0}, Arrays.copyOf(order.order(), order.sorted()));
+    }
+
+    @Test
+    void longPathAndCycleNeedNoRecursion() {
+        int n = 1_000_000;
+        StronglyConnectedComponents path = StronglyConnectedComponents.tarjan(StronglyConnectedComponentsBenchmark.chain(n, false));
+        assertEquals(n, path.count());
+        StronglyConnectedComponents cycle = StronglyConnectedComponents.tarjan(StronglyConnectedComponentsBenchmark.chain(n, true));
+        assertEquals(1, cycle.count());
+    }
+
+    private static void assertArcsLeadToLowerComponents(CsrGraph graph, StronglyConnectedComponents components,
+                                                        String name) {
+        for (int u = 0; u < graph.vertexCount(); u++) {
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                assertTrue(components.component(graph.target(arc)) <= components.component(u),
+                           name + ": arc " + u + " -> " + graph.target(arc));
+            }
+        }
+    }
+
+    private static void assertSorted(CsrGraph graph, TopologicalOrder order, String name) {
+        assertTrue(order.isComplete(), name);
+        int[] position = new int[graph.vertexCount()];
+        Arrays.fill(position, -1);
+        for (int i = 0; i < order.sorted(); i++) {
+            position[order.order()[i]] = i;
+        }
+        for (int u = 0; u < graph.vertexCount(); u++) {
+            assertTrue(position[u] >= 0, name + ": vertex " + u + " is not sorted");
+            for (int arc = graph.firstArc(u); arc < graph.endArc(u); arc++) {
+                assertTrue(position[u] < position[graph.target(arc)], name + ": arc " + u + " -> " + graph.target(arc));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.marcinseweryn.visualizer.model.path;
+
+import java.util.Random;
+
+/**
+ * Random graphs shared by the tests of the graph algorithms.
+ */
+final class TestGraphs {
+
+    private TestGraphs() {
+    }
+
+    /**
+     * Creates a directed graph with uniformly random arcs and non-negative weights.
+     *
+     * @param vertices  The number of vertices.
+     * @param arcs      The number of arcs.
+     * @param maxWeight Weights are drawn from [0, maxWeight), rounded to integers so that ties occur.
+     * @param random    The source of randomness.
+     * @return The graph.
+     */
+    static CsrGraph random(int vertices, int arcs, int maxWeight, Random random) {
+        return random(vertices, arcs, 0, maxWeight, random);
+    }
+
+    /**
+     * Creates a directed graph with uniformly random arcs.
+     *
+     * @param vertices  The number of vertices.
+     * @param arcs      The number of arcs.
+     * @param minWeight The smallest weight, may be negative.
+     * @param maxWeight Weights are drawn from [minWeight, maxWeight), rounded to integers so that ties occur.
+     * @param random    The source of randomness.
+     * @return The graph.
+     */
+    static CsrGraph random(int vertices, int arcs, int minWeight, int maxWeight, Random random) {
+        int[] sources = new int[arcs];
+        int[] targets = new int[arcs];
+        double[] weights = new double[arcs];
+        for (int i = 0; i < arcs; i++) {
+            sources[i] = random.nextInt(vertices);
+            targets[i] = random.nextInt(vertices);
+            weights[i] = minWeight + random.nextInt(maxWeight - minWeight);
+        }
+        return CsrGraph.fromArcs(vertices, sources, targets, weights);
+    }
+
+    /**
+     * @param graph The graph.
+     * @param from  The tail of the arc.
+     * @param to    The head of the arc.
+     * @return The weight of the lightest arc from one vertex to the other, Double.POSITIVE_INFINITY if there is none.
+     */
+    static double lightestArc(CsrGraph graph, int from, int to) {
+        double lightest = Double.POSITIVE_INFINITY;
+        for (int arc = graph.firstArc(from); arc < graph.endArc(from); arc++) {
+            if (graph.target(arc) == to) {
+                lightest = Math.min(lightest, graph.weight(arc));
+            }
+        }
+        return lightest;
+    }
+}
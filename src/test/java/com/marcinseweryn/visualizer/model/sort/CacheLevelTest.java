@@ -0,0 +1,77 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheLevelTest {
+
+    private static final int LINE_SIZE = 64;
+
+    @Test
+    void sequentialAccessMissesOncePerLine() {
+        CacheLevel cache = new CacheLevel(4096, LINE_SIZE, 4);
+        int bytes = 64 * 1024;
+        for (long address = 0; address < bytes; address += Integer.BYTES) {
+            cache.access(address);
+        }
+
+        assertEquals(bytes / Integer.BYTES, cache.getAccesses());
+        assertEquals(bytes / LINE_SIZE, cache.getMisses());
+    }
+
+    @Test
+    void stridedAccessMissesEveryTime() {
+        CacheLevel cache = new CacheLevel(4096, LINE_SIZE, 4);
+        for (long address = 0; address < 64 * 1024; address += LINE_SIZE) {
+            assertFalse(cache.access(address));
+        }
+        assertEquals(cache.getAccesses(), cache.getMisses());
+
+        // Within one line every access hits once it was loaded
+        assertTrue(cache.access(64 * 1024 - Integer.BYTES));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWayAtAssociativity() {
+        // A single set of four ways
+        CacheLevel cache = new CacheLevel(4 * LINE_SIZE, LINE_SIZE, 4);
+        for (int line = 0; line < 4; line++) {
+            assertFalse(cache.access(line * LINE_SIZE));
+        }
+        assertTrue(cache.access(0));
+
+        // Line 1 is now the least recently used and makes room for line 4
+        assertFalse(cache.access(4 * LINE_SIZE));
+        assertTrue(cache.access(0));
+        assertTrue(cache.access(2 * LINE_SIZE));
+        assertTrue(cache.access(3 * LINE_SIZE));
+        assertTrue(cache.access(4 * LINE_SIZE));
+        assertFalse(cache.access(LINE_SIZE));
+        assertEquals(6, cache.getMisses());
+    }
+
+    @Test
+    void conflictsWithinOneSetEvictBeforeCapacity() {
+        // Two sets of two ways, even lines map to set 0
+        CacheLevel cache = new CacheLevel(4 * LINE_SIZE, LINE_SIZE, 2);
+        assertFalse(cache.access(0));
+        assertFalse(cache.access(2 * LINE_SIZE));
+        assertFalse(cache.access(LINE_SIZE));
+        assertFalse(cache.access(4 * LINE_SIZE));
+
+        // Line 0 was evicted although set 1 still has a free way
+        assertFalse(cache.access(0));
+        assertTrue(cache.access(LINE_SIZE));
+    }
+
+    @Test
+    void rejectsCacheSmallerThanOneSet() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheLevel(128, LINE_SIZE, 4));
+        assertThrows(IllegalArgumentException.class, () -> new CacheLevel(4096, 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new CacheLevel(4096, LINE_SIZE, 0));
+    }
+}
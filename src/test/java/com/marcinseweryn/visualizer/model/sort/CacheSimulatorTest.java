@@ -0,0 +1,63 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheSimulatorTest {
+
+    // 16 KiB of ints, larger than L1 and smaller than L2
+    private static final int LENGTH = 4096;
+    private static final int INTS_PER_LINE = 64 / Integer.BYTES;
+
+    private static CacheSimulator simulator() {
+        return new CacheSimulator(LENGTH, 4 * 1024, 32 * 1024, 64, 4);
+    }
+
+    @Test
+    void sequentialPassesMissInL1AndHitInL2() {
+        CacheSimulator cache = simulator();
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < LENGTH; i++) {
+                cache.read(i);
+            }
+        }
+
+        // Only the first element of every line misses, the second pass is served by L2
+        for (int i = 0; i < LENGTH; i++) {
+            assertEquals(i % INTS_PER_LINE == 0 ? 2 : 0, cache.getMisses(i), "index " + i);
+        }
+        assertEquals(2, cache.getMaxMisses());
+        String summary = cache.summary();
+        assertTrue(summary.contains(2 * LENGTH + " reads, 0 writes"), summary);
+        assertTrue(summary.contains("L1 misses " + 2 * LENGTH / INTS_PER_LINE + " ("), summary);
+        assertTrue(summary.contains("L2 misses " + LENGTH / INTS_PER_LINE + " ("), summary);
+    }
+
+    @Test
+    void stridedReadsMissEveryTime() {
+        CacheSimulator cache = simulator();
+        for (int i = 0; i < LENGTH; i += INTS_PER_LINE) {
+            cache.read(i);
+        }
+
+        String summary = cache.summary();
+        assertTrue(summary.contains("L1 misses " + LENGTH / INTS_PER_LINE + " (100"), summary);
+        assertEquals(1, cache.getMaxMisses());
+    }
+
+    @Test
+    void auxiliaryAccessesAreNotAttributedToElements() {
+        CacheSimulator cache = simulator();
+        cache.write(LENGTH - 1);
+        cache.auxiliary(0, false);
+        cache.auxiliary(0, true);
+
+        // The auxiliary array starts on the line after the sorted array, its first access misses
+        assertEquals(1, cache.getMisses(LENGTH - 1));
+        assertEquals(1, cache.getMaxMisses());
+        String summary = cache.summary();
+        assertTrue(summary.contains("1 reads, 2 writes, L1 misses 2 ("), summary);
+    }
+}
@@ -0,0 +1,39 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GapSequenceTest {
+
+    private static final int[] LENGTHS = {0, 1, 2, 3, 4, 5, 8, 9, 10, 23, 24, 100, 701, 702, 1000, 100_000,
+                                          1 << 20, Integer.MAX_VALUE};
+
+    @Test
+    void gapsDecreaseStrictlyAndEndWithOne() {
+        for (GapSequence sequence : GapSequence.values()) {
+            for (int n : LENGTHS) {
+                int[] gaps = sequence.gaps(n);
+                String message = sequence + " for n = " + n;
+
+                assertTrue(gaps.length > 0, message);
+                assertEquals(1, gaps[gaps.length - 1], message);
+                assertTrue(gaps[0] < Math.max(n, 2), message);
+                for (int i = 1; i < gaps.length; i++) {
+                    assertTrue(gaps[i] < gaps[i - 1], message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void generatesPublishedSequences() {
+        assertArrayEquals(new int[]{50, 25, 12, 6, 3, 1}, GapSequence.SHELL.gaps(100));
+        assertArrayEquals(new int[]{121, 40, 13, 4, 1}, GapSequence.KNUTH.gaps(400));
+        assertArrayEquals(new int[]{281, 77, 23, 8, 1}, GapSequence.SEDGEWICK.gaps(1000));
+        assertArrayEquals(new int[]{3548, 1577, 701, 301, 132, 57, 23, 10, 4, 1}, GapSequence.CIURA.gaps(5000));
+        assertArrayEquals(new int[]{103, 46, 20, 9, 4, 1}, GapSequence.TOKUDA.gaps(200));
+    }
+}
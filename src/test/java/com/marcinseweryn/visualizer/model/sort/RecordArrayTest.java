@@ -0,0 +1,66 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordArrayTest {
+
+    private static final Comparator<SortRecord<Integer>> BY_KEY = Comparator.comparingInt(SortRecord::key);
+
+    @Test
+    void structOfArraysSortsStably() {
+        for (int n : new int[]{0, 1, 2, 7, 100, 1000}) {
+            int[] input = randomKeys(n, new Random(n));
+            Integer[] payloads = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                payloads[i] = i;
+            }
+            assertSortedStably(input, RecordArray.structOfArrays(input.clone(), payloads));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void objectsSortStably() {
+        for (int n : new int[]{0, 1, 2, 7, 100, 1000}) {
+            int[] input = randomKeys(n, new Random(n));
+            SortRecord<Integer>[] records = (SortRecord<Integer>[]) new SortRecord<?>[n];
+            for (int i = 0; i < n; i++) {
+                records[i] = new SortRecord<>(input[i], i);
+            }
+            assertSortedStably(input, RecordArray.objects(records, BY_KEY));
+        }
+    }
+
+    private static void assertSortedStably(int[] input, RecordArray<Integer> records) {
+        records.sort();
+
+        int[] keys = new int[records.size()];
+        int[] origins = new int[records.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = records.keyAt(i);
+            origins[i] = records.payloadAt(i);
+        }
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, keys);
+
+        SortVerifier.Report report = SortVerifier.verify(input, keys, origins);
+        assertTrue(report.permutation() && report.stable(), report::toString);
+    }
+
+    // Few distinct keys, so that stability is actually exercised
+    private static int[] randomKeys(int n, Random random) {
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt(Math.max(1, n / 4));
+        }
+        return keys;
+    }
+}
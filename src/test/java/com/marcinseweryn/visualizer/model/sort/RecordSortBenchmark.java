@@ -0,0 +1,118 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Headless benchmark comparing the {@link RecordArray} layouts on the same input.
+ * The payload of every record is its index in the input, so each sorted result is also checked for
+ * stability with {@link SortVerifier}. The object layout is measured with three comparator classes in turn,
+ * so that the comparator call site in the merge loop sees more receiver types than the JIT inlines and stays
+ * megamorphic, as it is in applications sorting many record types.
+ * <p>
+ * Usage: {@code RecordSortBenchmark [records] [rounds] [seed]}, defaults to 1000000 records and 10 rounds.
+ */
+public final class RecordSortBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(RecordSortBenchmark.class);
+
+    private static final Comparator<SortRecord<Integer>> BY_KEY = Comparator.comparingInt(SortRecord::key);
+    private static final Comparator<SortRecord<Integer>> BY_KEY_LAMBDA = (a, b) -> Integer.compare(a.key(), b.key());
+    private static final Comparator<SortRecord<Integer>> BY_KEY_CLASS = new KeyComparator();
+
+    private RecordSortBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+        // Few distinct keys, so that stability is actually exercised
+        Random random = new Random(seed);
+        int[] input = new int[n];
+        for (int i = 0; i < n; i++) {
+            input[i] = random.nextInt(Math.max(1, n / 4));
+        }
+
+        long structOfArrays = 0;
+        long objectsComparingInt = 0;
+        long objectsLambda = 0;
+        long objectsClass = 0;
+
+        // The first round is a warm-up and not counted
+        for (int round = 0; round <= rounds; round++) {
+            long soa = measure(structOfArraysCopy(input), input);
+            long comparingInt = measure(objectsCopy(input, BY_KEY), input);
+            long lambda = measure(objectsCopy(input, BY_KEY_LAMBDA), input);
+            long named = measure(objectsCopy(input, BY_KEY_CLASS), input);
+            if (round > 0) {
+                structOfArrays += soa;
+                objectsComparingInt += comparingInt;
+                objectsLambda += lambda;
+                objectsClass += named;
+            }
+        }
+
+        logger.info("Sorted {} records {} times", n, rounds);
+        logger.info("struct of arrays:             {} ms per sort", structOfArrays / rounds / 1_000_000.0);
+        logger.info("objects, comparingInt:        {} ms per sort", objectsComparingInt / rounds / 1_000_000.0);
+        logger.info("objects, lambda comparator:   {} ms per sort", objectsLambda / rounds / 1_000_000.0);
+        logger.info("objects, comparator class:    {} ms per sort", objectsClass / rounds / 1_000_000.0);
+    }
+
+    private static RecordArray<Integer> structOfArraysCopy(int[] input) {
+        Integer[] payloads = new Integer[input.length];
+        for (int i = 0; i < input.length; i++) {
+            payloads[i] = i;
+        }
+        return RecordArray.structOfArrays(input.clone(), payloads);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RecordArray<Integer> objectsCopy(int[] input, Comparator<SortRecord<Integer>> comparator) {
+        SortRecord<Integer>[] records = (SortRecord<Integer>[]) new SortRecord<?>[input.length];
+        for (int i = 0; i < input.length; i++) {
+            records[i] = new SortRecord<>(input[i], i);
+        }
+        return RecordArray.objects(records, comparator);
+    }
+
+    /**
+     * Sorts the records and verifies the result.
+     *
+     * @return The duration of the sort in nanoseconds.
+     */
+    private static long measure(RecordArray<Integer> records, int[] input) {
+        long start = System.nanoTime();
+        records.sort();
+        long duration = System.nanoTime() - start;
+
+        int[] keys = new int[records.size()];
+        int[] origins = new int[records.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = records.keyAt(i);
+            origins[i] = records.payloadAt(i);
+        }
+
+        SortVerifier.Report report = SortVerifier.verify(input, keys, origins);
+        if (!report.sorted() || !report.permutation() || !report.stable()) {
+            throw new IllegalStateException("Record sort produced an invalid result: " + report);
+        }
+        return duration;
+    }
+
+    /**
+     * Comparator as a named class, the third receiver type of the comparator call site.
+     */
+    private static final class KeyComparator implements Comparator<SortRecord<Integer>> {
+
+        @Override
+        public int compare(SortRecord<Integer> a, SortRecord<Integer> b) {
+            return Integer.compare(a.key(), b.key());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SortInputLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void parsesSeparatedText() throws IOException {
+        Path file = directory.resolve("input.csv");
+        Files.writeString(file, "5, -3;12\n\n 0\t2147483647,-2147483648,,\r\n7");
+
+        assertArrayEquals(new int[]{5, -3, 12, 0, Integer.MAX_VALUE, Integer.MIN_VALUE, 7}, SortInputLoader.load(file));
+    }
+
+    @Test
+    void parsesTextAcrossReadBuffers() throws IOException {
+        // Far more than one read buffer, so numbers are split between two reads
+        Random random = new Random(3);
+        int[] expected = new int[100_000];
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt();
+            text.append(expected[i]).append(i % 10 == 9 ? "\n" : ",");
+        }
+        Path file = directory.resolve("large.txt");
+        Files.writeString(file, text);
+
+        assertArrayEquals(expected, SortInputLoader.load(file));
+    }
+
+    @Test
+    void readsLittleEndianInt32() throws IOException {
+        int[] expected = {1, -1, 256, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        ByteBuffer bytes = ByteBuffer.allocate(expected.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int value : expected) {
+            bytes.putInt(value);
+        }
+        for (String name : new String[]{"input.i32", "INPUT.BIN"}) {
+            Path file = directory.resolve(name);
+            Files.write(file, bytes.array());
+
+            assertArrayEquals(expected, SortInputLoader.load(file), name);
+        }
+    }
+
+    @Test
+    void rejectsMalformedText() throws IOException {
+        for (String text : new String[]{"1,2,x", "1,-,2", "4,5,-", "1.5", "2147483648", "-2147483649"}) {
+            Path file = directory.resolve("malformed.csv");
+            Files.writeString(file, text);
+
+            assertThrows(NumberFormatException.class, () -> SortInputLoader.load(file), text);
+        }
+    }
+
+    @Test
+    void rejectsTruncatedInt32() throws IOException {
+        Path file = directory.resolve("truncated.i32");
+        Files.write(file, new byte[]{1, 0, 0, 0, 2, 0});
+
+        assertThrows(IllegalArgumentException.class, () -> SortInputLoader.load(file));
+    }
+}
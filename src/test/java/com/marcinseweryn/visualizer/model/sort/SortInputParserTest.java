@@ -0,0 +1,75 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortInputParserTest {
+
+    @Test
+    void parsesSeparatedValues() {
+        SortInputParser parser = new SortInputParser();
+
+        assertEquals(6, parser.parse(" 3,-1,, +4\n2147483647\t-2147483648 0,"));
+        assertArrayEquals(new int[]{3, -1, 4, Integer.MAX_VALUE, Integer.MIN_VALUE, 0}, parser.toArray());
+        assertFalse(parser.hasErrors());
+        assertEquals("", parser.describeErrors(""));
+    }
+
+    @Test
+    void skipsBadTokens() {
+        SortInputParser parser = new SortInputParser();
+        String input = "1,x,-,2147483648,-2147483649,2";
+
+        assertEquals(2, parser.parse(input));
+        assertArrayEquals(new int[]{1, 2}, parser.toArray());
+        assertTrue(parser.hasErrors());
+    }
+
+    @Test
+    void describesErrorSpans() {
+        SortInputParser parser = new SortInputParser();
+        String input = "1, ab ,3,1.5";
+        parser.parse(input);
+
+        assertEquals("Ignored invalid numbers: 'ab' at 3, '1.5' at 9", parser.describeErrors(input));
+
+        // Only the first three tokens are quoted, the rest are counted
+        input = "a,b,c,d,e";
+        assertEquals(0, parser.parse(input));
+        assertEquals("Ignored invalid numbers: 'a' at 0, 'b' at 2, 'c' at 4 and 2 more", parser.describeErrors(input));
+
+        input = "7 +";
+        parser.parse(input);
+        assertEquals("Ignored invalid number: '+' at 2", parser.describeErrors(input));
+    }
+
+    @Test
+    void reusesBuffersBetweenCalls() {
+        SortInputParser parser = new SortInputParser();
+        StringBuilder input = new StringBuilder();
+        int[] expected = new int[1000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i * 7 - 3000;
+            input.append(expected[i]).append(',');
+        }
+        input.append("oops");
+
+        assertEquals(expected.length, parser.parse(input));
+        assertArrayEquals(expected, parser.toArray());
+        assertTrue(parser.hasErrors());
+
+        // A shorter input afterwards only exposes its own values, and the previous errors are forgotten
+        assertEquals(2, parser.parse("9 8"));
+        assertArrayEquals(new int[]{9, 8}, parser.toArray());
+        assertEquals(8, parser.get(1));
+        assertEquals(2, parser.size());
+        assertFalse(parser.hasErrors());
+
+        assertEquals(0, parser.parse(""));
+        assertArrayEquals(new int[0], parser.toArray());
+    }
+}
@@ -0,0 +1,158 @@
+package com.marcinseweryn.visualizer.model.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortVerifierTest {
+
+    @Test
+    void acceptsStableSortedPermutation() {
+        int[] input = randomValues(10_000, 50, new Random(1));
+        int[][] sorted = stableSort(input);
+
+        SortVerifier.Report report = SortVerifier.verify(input, sorted[0], sorted[1]);
+        assertTrue(report.sorted() && report.permutation() && report.stable(), report::toString);
+        assertEquals(-1, report.firstUnsorted());
+        assertEquals(-1, report.firstMismatch());
+        assertEquals(-1, report.firstUnstable());
+        assertEquals(input.length, report.length());
+    }
+
+    @Test
+    void detectsUnstableOutput() {
+        int[] input = {1, 1, 0};
+        SortVerifier.Report report = SortVerifier.verify(input, new int[]{0, 1, 1}, new int[]{2, 1, 0});
+        assertTrue(report.sorted() && report.permutation());
+        assertFalse(report.stable());
+        assertEquals(2, report.firstUnstable());
+    }
+
+    @Test
+    void detectsUnsortedOutput() {
+        int[] input = {3, 1, 2};
+        SortVerifier.Report report = SortVerifier.verify(input, new int[]{1, 3, 2}, new int[]{1, 0, 2});
+        assertTrue(report.permutation());
+        assertFalse(report.sorted());
+        assertEquals(2, report.firstUnsorted());
+    }
+
+    @Test
+    void detectsLostAndDuplicatedElements() {
+        int[] input = {5, 7, 9, 11};
+
+        // The 9 is lost and the 7 appears twice, the second copy claims an input position already taken
+        SortVerifier.Report duplicated = SortVerifier.verify(input, new int[]{5, 7, 7, 11}, new int[]{0, 1, 1, 3});
+        assertTrue(duplicated.sorted());
+        assertFalse(duplicated.permutation());
+        assertEquals(2, duplicated.firstMismatch());
+
+        // A value that does not match the input at its claimed origin
+        SortVerifier.Report changed = SortVerifier.verify(input, new int[]{5, 7, 8, 11}, new int[]{0, 1, 2, 3});
+        assertFalse(changed.permutation());
+        assertEquals(2, changed.firstMismatch());
+
+        // An origin outside the input
+        SortVerifier.Report outside = SortVerifier.verify(input, new int[]{5, 7, 9, 11}, new int[]{0, 1, 2, 4});
+        assertFalse(outside.permutation());
+        assertEquals(3, outside.firstMismatch());
+    }
+
+    @Test
+    void rejectsDifferentLengths() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> SortVerifier.verify(new int[]{1, 2}, new int[]{1}, new int[]{0}));
+    }
+
+    @Test
+    void countsInversionsOfReversedAndSortedInput() {
+        int n = 200_000;
+        int[] reversed = new int[n];
+        for (int i = 0; i < n; i++) {
+            reversed[i] = n - i;
+        }
+        assertEquals((long) n * (n - 1) / 2, SortVerifier.countInversions(reversed));
+
+        int[] sorted = reversed.clone();
+        Arrays.sort(sorted);
+        assertEquals(0, SortVerifier.countInversions(sorted));
+
+        SortVerifier.Report report = SortVerifier.verify(reversed, sorted, reversedOrigins(n));
+        assertEquals(1.0, report.presortedness());
+    }
+
+    @Test
+    void countsInversionsLikeBruteForce() {
+        Random random = new Random(7);
+        for (int n : new int[]{0, 1, 2, 63, 64, 65, 1000, 4097}) {
+            // Few distinct values, so that equal pairs must not be counted
+            int[] values = randomValues(n, Math.max(1, n / 8), random);
+            int[] copy = values.clone();
+
+            assertEquals(bruteForceInversions(values), SortVerifier.countInversions(values), "n = " + n);
+            assertArrayEquals(copy, values, "input modified for n = " + n);
+        }
+    }
+
+    @Test
+    void countsInversionsInPlaceAndSorts() {
+        int[] values = randomValues(5000, 1000, new Random(11));
+        long expected = bruteForceInversions(values);
+        int[] work = values.clone();
+
+        assertEquals(expected, SortVerifier.countInversionsInPlace(work, new int[work.length]));
+        Arrays.sort(values);
+        assertArrayEquals(values, work);
+    }
+
+    private static long bruteForceInversions(int[] values) {
+        long inversions = 0;
+        for (int i = 0; i < values.length; i++) {
+            for (int j = i + 1; j < values.length; j++) {
+                if (values[i] > values[j]) {
+                    inversions++;
+                }
+            }
+        }
+        return inversions;
+    }
+
+    private static int[] randomValues(int n, int bound, Random random) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(bound);
+        }
+        return values;
+    }
+
+    private static int[] reversedOrigins(int n) {
+        int[] origins = new int[n];
+        for (int i = 0; i < n; i++) {
+            origins[i] = n - 1 - i;
+        }
+        return origins;
+    }
+
+    // Values and origins of a stable sort, ordering by value and then by input position
+    private static int[][] stableSort(int[] input) {
+        long[] keyed = new long[input.length];
+        for (int i = 0; i < input.length; i++) {
+            keyed[i] = ((long) input[i] << 32) | i;
+        }
+        Arrays.sort(keyed);
+        int[] values = new int[input.length];
+        int[] origins = new int[input.length];
+        for (int i = 0; i < input.length; i++) {
+            values[i] = (int) (keyed[i] >> 32);
+            origins[i] = (int) keyed[i];
+        }
+        return new int[][]{values, origins};
+    }
+}
@@ -0,0 +1,44 @@
+package com.marcinseweryn.visualizer.model.sort.algorithm;
+
+import com.marcinseweryn.visualizer.model.sort.GapSequence;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class ShellSortTest {
+
+    @Test
+    void sortsWithEverySequence() {
+        Random random = new Random(5);
+        for (GapSequence sequence : GapSequence.values()) {
+            for (int n : new int[]{0, 1, 2, 3, 10, 57, 100, 1000, 50_000}) {
+                for (int[] input : inputs(n, random)) {
+                    int[] expected = input.clone();
+                    Arrays.sort(expected);
+
+                    int[] values = input.clone();
+                    ShellSort.sort(values, sequence);
+                    assertArrayEquals(expected, values, sequence + " for n = " + n);
+                }
+            }
+        }
+    }
+
+    // Random, few distinct, sorted and reversed values of the given length
+    private static int[][] inputs(int n, Random random) {
+        int[] randomValues = new int[n];
+        int[] fewDistinct = new int[n];
+        int[] sorted = new int[n];
+        int[] reversed = new int[n];
+        for (int i = 0; i < n; i++) {
+            randomValues[i] = random.nextInt();
+            fewDistinct[i] = random.nextInt(4);
+            sorted[i] = i;
+            reversed[i] = n - i;
+        }
+        return new int[][]{randomValues, fewDistinct, sorted, reversed};
+    }
+}